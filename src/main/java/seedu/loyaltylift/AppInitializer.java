@@ -0,0 +1,205 @@
+package seedu.loyaltylift;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.Config;
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.exceptions.DataConversionException;
+import seedu.loyaltylift.commons.util.ConfigUtil;
+import seedu.loyaltylift.commons.util.StringUtil;
+import seedu.loyaltylift.logic.Logic;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.AddressBook;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.ReadOnlyAddressBook;
+import seedu.loyaltylift.model.ReadOnlyUserPrefs;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.util.SampleDataUtil;
+import seedu.loyaltylift.storage.AddressBookStorage;
+import seedu.loyaltylift.storage.JsonAddressBookStorage;
+import seedu.loyaltylift.storage.JsonPointsLedgerStorage;
+import seedu.loyaltylift.storage.PointsLedgerStorage;
+import seedu.loyaltylift.storage.Storage;
+import seedu.loyaltylift.storage.StorageManager;
+import seedu.loyaltylift.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, user prefs, address book and points ledger the application starts with, for both the desktop
+ * application and the server.
+ */
+class AppInitializer {
+
+    public static final String POINTS_LEDGER_FILE_NAME = "pointsledger.jsonl";
+    public static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns the {@code Storage} of the user prefs in {@code userPrefsStorage}, and of the address book and
+     * points ledger in the files named by {@code userPrefs}.
+     */
+    Storage initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        PointsLedgerStorage pointsLedgerStorage = new JsonPointsLedgerStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(POINTS_LEDGER_FILE_NAME));
+        return new StorageManager(addressBookStorage, userPrefsStorage, pointsLedgerStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and points ledger,
+     * and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            initialData = new AddressBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs, initPointsLedger(storage));
+    }
+
+    /**
+     * Returns the points ledger from {@code storage}, or an empty points ledger if it is not found
+     * or errors occur when reading it.
+     * A points ledger file not in the correct format is moved aside, as the entries appended to it would not be
+     * read on the next startup either.
+     */
+    PointsLedger initPointsLedger(Storage storage) {
+        try {
+            Optional<PointsLedger> pointsLedgerOptional = storage.readPointsLedger();
+            if (!pointsLedgerOptional.isPresent()) {
+                logger.info("Points ledger file not found. Will be starting with an empty points ledger");
+            }
+            return pointsLedgerOptional.orElseGet(PointsLedger::new);
+        } catch (DataConversionException e) {
+            logger.warning("Points ledger file not in the correct format. "
+                    + "Will be starting with an empty points ledger");
+            moveCorruptFile(storage.getPointsLedgerFilePath());
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the points ledger file. "
+                    + "Will be starting with an empty points ledger");
+        }
+        return new PointsLedger();
+    }
+
+    /**
+     * Renames the file at {@code filePath} with {@code CORRUPT_FILE_SUFFIX}, and a number if a file was already
+     * renamed so, keeping it for the user to recover by hand.
+     */
+    private void moveCorruptFile(Path filePath) {
+        Path corruptFilePath = filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
+        for (int i = 1; Files.exists(corruptFilePath); i++) {
+            corruptFilePath = filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX + "." + i);
+        }
+        try {
+            Files.move(filePath, corruptFilePath);
+            logger.warning("Moved the file not in the correct format to " + corruptFilePath);
+        } catch (IOException e) {
+            logger.severe("Problem while moving " + filePath + " to " + corruptFilePath
+                    + ". The changes saved to it will not be read on the next startup: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Expires the points that became due while the application was closed.
+     */
+    void initPointsExpiry(Logic logic) {
+        try {
+            int expiredCount = logic.expireDuePoints();
+            logger.info("Expired points of " + expiredCount + " customers on startup");
+        } catch (CommandException e) {
+            logger.warning("Problem while saving expired points: " + StringUtil.getDetails(e));
+        }
+    }
+
+    void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.loyaltylift;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,7 +18,13 @@ import seedu.loyaltylift.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    public static final String SERVER_FLAG = "--server";
+    public static final int DEFAULT_SERVER_PORT = 8080;
+
     private Path configPath;
+    private boolean isServerMode;
+    private int serverPort = DEFAULT_SERVER_PORT;
+    private Path importFile;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +34,74 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean isServerMode() {
+        return isServerMode;
+    }
+
+    public void setServerMode(boolean isServerMode) {
+        this.isServerMode = isServerMode;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(int serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    public Path getImportFile() {
+        return importFile;
+    }
+
+    public void setImportFile(Path importFile) {
+        this.importFile = importFile;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parseNamed(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to the application before JavaFX is launched, in which
+     * {@code --name=value} is a named parameter and {@code --server} starts the server instead of the desktop
+     * application. {@code --import=FILE} imports the file instead of starting the application.
+     */
+    public static AppParameters parse(List<String> args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int equalsIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && equalsIndex > 2) {
+                namedParameters.put(arg.substring(2, equalsIndex), arg.substring(equalsIndex + 1));
+            }
+        }
+
+        AppParameters appParameters = parseNamed(namedParameters);
+        appParameters.setServerMode(args.contains(SERVER_FLAG));
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null) {
+            try {
+                appParameters.setServerPort(Integer.parseInt(portParameter));
+            } catch (NumberFormatException nfe) {
+                logger.warning("Invalid port " + portParameter + ". Using default port.");
+            }
+        }
+        String importFileParameter = namedParameters.get("import");
+        if (importFileParameter != null && !importFileParameter.isEmpty()) {
+            if (FileUtil.isValidPath(importFileParameter)) {
+                appParameters.setImportFile(Paths.get(importFileParameter));
+            } else {
+                logger.warning("Invalid import file " + importFileParameter + ". Not importing.");
+            }
+        }
+        return appParameters;
+    }
+
+    private static AppParameters parseNamed(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -54,11 +124,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isServerMode == otherAppParameters.isServerMode
+                && serverPort == otherAppParameters.serverPort
+                && Objects.equals(importFile, otherAppParameters.importFile);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isServerMode, serverPort, importFile);
     }
 }
@@ -0,0 +1,59 @@
+package seedu.loyaltylift;
+
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.Config;
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.logic.Logic;
+import seedu.loyaltylift.logic.LogicManager;
+import seedu.loyaltylift.logic.commands.CommandResult;
+import seedu.loyaltylift.logic.commands.ImportCommand;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.storage.JsonUserPrefsStorage;
+import seedu.loyaltylift.storage.Storage;
+import seedu.loyaltylift.storage.UserPrefsStorage;
+
+/**
+ * Imports a CSV file of customers or orders into the data of the application, without the desktop UI, as the
+ * {@code import} command would.
+ */
+public class ImportApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportApp.class);
+
+    /**
+     * Imports the file given by {@code appParameters}, and prints the outcome.
+     * Returns the exit status of the application, which is {@link #EXIT_FAILURE} if the file could not be imported.
+     */
+    public static int run(AppParameters appParameters) {
+        logger.info("=============================[ Initializing Import ]===========================");
+        AppInitializer initializer = new AppInitializer();
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        Storage storage = initializer.initStorage(userPrefsStorage, userPrefs);
+
+        initializer.initLogging(config);
+
+        Model model = initializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        initializer.initPointsExpiry(logic);
+
+        try {
+            CommandResult commandResult = logic.execute(ImportCommand.COMMAND_WORD + " "
+                    + appParameters.getImportFile());
+            System.out.println(commandResult.getFeedbackToUser());
+            return EXIT_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+}
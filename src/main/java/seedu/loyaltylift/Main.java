@@ -1,5 +1,8 @@
 package seedu.loyaltylift;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +20,20 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * With the {@code --server} argument, the application runs as a server instead, without launching JavaFX.
+ * With the {@code --import=FILE} argument, the application imports the file and exits, without launching JavaFX.
  */
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        if (appParameters.getImportFile() != null) {
+            System.exit(ImportApp.run(appParameters));
+        }
+        if (appParameters.isServerMode()) {
+            ServerApp.run(appParameters);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,32 +1,24 @@
 package seedu.loyaltylift;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.loyaltylift.commons.core.Config;
 import seedu.loyaltylift.commons.core.LogsCenter;
 import seedu.loyaltylift.commons.core.Version;
-import seedu.loyaltylift.commons.exceptions.DataConversionException;
-import seedu.loyaltylift.commons.util.ConfigUtil;
 import seedu.loyaltylift.commons.util.StringUtil;
 import seedu.loyaltylift.logic.Logic;
 import seedu.loyaltylift.logic.LogicManager;
-import seedu.loyaltylift.model.AddressBook;
+import seedu.loyaltylift.logic.SingleWriterExecutor;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
 import seedu.loyaltylift.model.Model;
-import seedu.loyaltylift.model.ModelManager;
-import seedu.loyaltylift.model.ReadOnlyAddressBook;
-import seedu.loyaltylift.model.ReadOnlyUserPrefs;
 import seedu.loyaltylift.model.UserPrefs;
-import seedu.loyaltylift.model.util.SampleDataUtil;
-import seedu.loyaltylift.storage.AddressBookStorage;
-import seedu.loyaltylift.storage.JsonAddressBookStorage;
 import seedu.loyaltylift.storage.JsonUserPrefsStorage;
 import seedu.loyaltylift.storage.Storage;
-import seedu.loyaltylift.storage.StorageManager;
 import seedu.loyaltylift.storage.UserPrefsStorage;
 import seedu.loyaltylift.ui.Ui;
 import seedu.loyaltylift.ui.UiManager;
@@ -45,6 +37,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected SingleWriterExecutor writer;
 
     @Override
     public void init() throws Exception {
@@ -52,119 +45,25 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        AppInitializer initializer = new AppInitializer();
+        config = initializer.initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        storage = initializer.initStorage(userPrefsStorage, userPrefs);
 
-        initLogging(config);
+        initializer.initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initializer.initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        // commands are run on a writer thread, and their changes are displayed on the JavaFX application thread
+        writer = SingleWriterExecutor.withNewThread(LogicManager.WRITER_THREAD_NAME);
+        logic = new LogicManager(model, storage, writer, Platform::runLater);
+        initializer.initPointsExpiry(logic);
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -174,9 +73,17 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // saved on the writer, after the commands still running, as they also change and save the user prefs
         try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
+            writer.run(() -> {
+                try {
+                    storage.saveUserPrefs(model.getUserPrefs());
+                } catch (IOException e) {
+                    logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+                }
+                return null;
+            });
+        } catch (CommandException | ParseException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
@@ -0,0 +1,65 @@
+package seedu.loyaltylift;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.Config;
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.util.StringUtil;
+import seedu.loyaltylift.logic.BackgroundSaver;
+import seedu.loyaltylift.logic.Logic;
+import seedu.loyaltylift.logic.LogicManager;
+import seedu.loyaltylift.logic.SingleWriterExecutor;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.server.ApiServer;
+import seedu.loyaltylift.storage.JsonUserPrefsStorage;
+import seedu.loyaltylift.storage.Storage;
+import seedu.loyaltylift.storage.UserPrefsStorage;
+
+/**
+ * Runs the application as an {@code ApiServer} on the local machine, without the desktop UI.
+ * The data is saved in the background, coalescing the saves of commands executed close together.
+ */
+public class ServerApp {
+
+    public static final int WORKER_COUNT = 8;
+    public static final long SAVE_DELAY_MILLIS = 200;
+    public static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    /**
+     * Starts the server with {@code appParameters}, which keeps running until the application is stopped.
+     * @throws IOException If the port of the server cannot be bound.
+     */
+    public static void run(AppParameters appParameters) throws IOException {
+        logger.info("=============================[ Initializing Server ]===========================");
+        AppInitializer initializer = new AppInitializer();
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        Storage storage = initializer.initStorage(userPrefsStorage, userPrefs);
+
+        initializer.initLogging(config);
+
+        Model model = initializer.initModelManager(storage, userPrefs);
+        BackgroundSaver backgroundSaver = new BackgroundSaver(storage, SAVE_DELAY_MILLIS);
+        Logic logic = new LogicManager(model, storage,
+                SingleWriterExecutor.withNewThread(LogicManager.WRITER_THREAD_NAME), backgroundSaver);
+        initializer.initPointsExpiry(logic);
+
+        ApiServer server = new ApiServer(logic, appParameters.getServerPort(), WORKER_COUNT);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping Server ] =============================");
+            server.stop(STOP_DELAY_SECONDS);
+            try {
+                backgroundSaver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }));
+        server.start();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the records of a CSV file one at a time, so that a file of any size is read in bounded memory.
+ * Fields are separated by commas and records by line breaks. A field may be quoted with double quotes to contain
+ * commas, line breaks and double quotes, which are doubled inside the quotes.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END_OF_INPUT = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+    private boolean isStartOfInput = true;
+
+    /**
+     * Creates a {@code CsvReader} of the records read from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or an empty {@code Optional} at the end of the input.
+     * @throws IOException if the input cannot be read, or ends inside a quoted field.
+     */
+    public Optional<List<String>> readRecord() throws IOException {
+        int c = reader.read();
+        if (isStartOfInput) {
+            // spreadsheets often start their files with a byte order mark, which is not part of the first field
+            isStartOfInput = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        if (c == END_OF_INPUT) {
+            return Optional.empty();
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_INPUT) {
+                    throw new IOException("The quoted field starting on line " + recordLineNumber + " is not closed");
+                } else if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        isQuoted = false;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(takeField());
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == '\n' || c == END_OF_INPUT) {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                fields.add(takeField());
+                return Optional.of(fields);
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Returns the line of the input on which the record last read starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes records to a CSV file, in the format read by {@link CsvReader}.
+ * Fields containing commas, line breaks or double quotes are quoted.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} of records written to {@code writer}.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * Writes a record of {@code fields}.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quoteIfNeeded(fields.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Returns {@code field} as it is written in a record.
+     */
+    static String quoteIfNeeded(String field) {
+        boolean isQuoteNeeded = field.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+        return isQuoteNeeded ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
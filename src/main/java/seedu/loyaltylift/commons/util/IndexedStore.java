@@ -0,0 +1,372 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A collection of elements with distinct keys, kept in an array together with a hash map from each key to the
+ * position of its element.
+ * Elements are found by key, added, replaced and removed in constant time. An element is removed by moving the
+ * last element into its position, so the order of the elements is only kept until an element is removed.
+ * Changes are reported to the {@code Listener}s of the store.
+ * The store does not depend on JavaFX; {@code ObservableStoreList} presents it as an {@code ObservableList}.
+ *
+ * <p>The array is split into chunks of {@code CHUNK_SIZE} elements, which are shared with the snapshots of the
+ * store. Taking a snapshot takes constant time: the store only copies a shared chunk when it next changes it,
+ * and copies the directory of chunks on its first change after the snapshot. A snapshot never changes, so it
+ * can be read by other threads while the store keeps changing.
+ *
+ * @param <K> the type of the keys of the elements
+ * @param <E> the type of elements in the store
+ */
+public class IndexedStore<K, E> implements Iterable<E> {
+
+    static final int CHUNK_SIZE = 64;
+    private static final int CHUNK_SHIFT = 6;
+
+    private final Function<? super E, ? extends K> keyFunction;
+    private final List<E> unmodifiableElements = new LiveView();
+    private final Map<K, Integer> indexesByKey = new HashMap<>();
+    private final List<Listener<E>> listeners = new ArrayList<>();
+
+    private Object[][] chunks = new Object[0][];
+    private int size = 0;
+
+    // a chunk may only be changed in place if it was created or copied since the latest snapshot,
+    // and the directory of chunks only if no snapshot was taken since it was created
+    private int[] chunkGenerations = new int[0];
+    private int generation = 0;
+    private boolean isDirectoryShared = false;
+
+    /**
+     * Creates an empty {@code IndexedStore} whose elements are keyed by {@code keyFunction}.
+     */
+    public IndexedStore(Function<? super E, ? extends K> keyFunction) {
+        requireNonNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the number of elements in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at position {@code index}.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(chunks, index);
+    }
+
+    /**
+     * Returns true if the store contains an element with {@code key}.
+     */
+    public boolean containsKey(K key) {
+        requireNonNull(key);
+        return indexesByKey.containsKey(key);
+    }
+
+    /**
+     * Returns the element with {@code key}, or null if there is none.
+     */
+    public E getByKey(K key) {
+        requireNonNull(key);
+        Integer index = indexesByKey.get(key);
+        return index == null ? null : elementAt(chunks, index);
+    }
+
+    /**
+     * Returns the position of an element equal to {@code element}, or -1 if there is none.
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        Integer index = indexesByKey.get(keyFunction.apply(element));
+        return index == null || !elementAt(chunks, index).equals(element) ? -1 : index;
+    }
+
+    /**
+     * Adds {@code element} after the last element.
+     * Returns false, leaving the store unchanged, if the store already contains an element with the same key.
+     */
+    public boolean add(E element) {
+        requireNonNull(element);
+        K key = keyFunction.apply(element);
+        if (indexesByKey.containsKey(key)) {
+            return false;
+        }
+        int index = size;
+        write(index, element);
+        size++;
+        indexesByKey.put(key, index);
+        listeners.forEach(listener -> listener.onAdded(index, index + 1));
+        return true;
+    }
+
+    /**
+     * Returns true if {@code elements} can be added by {@link #addAll(List)}, that is if no two of the elements,
+     * and no element and element of the store, have the same key.
+     */
+    public boolean canAddAll(List<? extends E> elements) {
+        requireAllNonNull(elements);
+        Set<K> distinctKeys = new HashSet<>();
+        for (E element : elements) {
+            K key = keyFunction.apply(element);
+            if (indexesByKey.containsKey(key) || !distinctKeys.add(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds {@code elements} after the last element, in order, reporting them to the listeners as one change.
+     * Returns false, leaving the store unchanged, if any two of the elements, or an element and an element of the
+     * store, have the same key.
+     */
+    public boolean addAll(List<? extends E> elements) {
+        if (!canAddAll(elements)) {
+            return false;
+        }
+        if (elements.isEmpty()) {
+            return true;
+        }
+
+        int fromIndex = size;
+        for (E element : elements) {
+            write(size, element);
+            indexesByKey.put(keyFunction.apply(element), size);
+            size++;
+        }
+        listeners.forEach(listener -> listener.onAdded(fromIndex, size));
+        return true;
+    }
+
+    /**
+     * Replaces the element at position {@code index} with {@code element}.
+     * No other element may have the same key as {@code element}.
+     */
+    public void set(int index, E element) {
+        requireNonNull(element);
+        K key = keyFunction.apply(element);
+        E oldElement = get(index);
+        K oldKey = keyFunction.apply(oldElement);
+        Integer existingIndex = indexesByKey.get(key);
+        if (existingIndex != null && existingIndex != index) {
+            throw new IllegalArgumentException("Another element has the key " + key);
+        }
+
+        write(index, element);
+        indexesByKey.remove(oldKey);
+        indexesByKey.put(key, index);
+        listeners.forEach(listener -> listener.onReplaced(index, oldElement));
+    }
+
+    /**
+     * Removes the element at position {@code index}, moving the last element into its position.
+     */
+    public E remove(int index) {
+        E removed = get(index);
+        int lastIndex = size - 1;
+        E last = elementAt(chunks, lastIndex);
+        write(lastIndex, null);
+        size--;
+        if (index != lastIndex) {
+            write(index, last);
+            indexesByKey.put(keyFunction.apply(last), index);
+        }
+        indexesByKey.remove(keyFunction.apply(removed));
+        listeners.forEach(listener -> listener.onRemoved(index, removed));
+        return removed;
+    }
+
+    /**
+     * Replaces the elements of the store with {@code newElements}, in order.
+     * Returns false, leaving the store unchanged, if two of {@code newElements} have the same key.
+     */
+    public boolean setAll(List<? extends E> newElements) {
+        requireAllNonNull(newElements);
+        Map<K, Integer> newIndexesByKey = new HashMap<>();
+        for (int i = 0; i < newElements.size(); i++) {
+            if (newIndexesByKey.put(keyFunction.apply(newElements.get(i)), i) != null) {
+                return false;
+            }
+        }
+
+        // the new elements are placed in new chunks, as they may be a view of this store
+        List<E> oldElements = snapshot();
+        int chunkCount = (newElements.size() + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+        Object[][] newChunks = new Object[chunkCount][];
+        for (int i = 0; i < chunkCount; i++) {
+            newChunks[i] = new Object[CHUNK_SIZE];
+        }
+        for (int i = 0; i < newElements.size(); i++) {
+            newChunks[i >>> CHUNK_SHIFT][i & (CHUNK_SIZE - 1)] = newElements.get(i);
+        }
+        chunks = newChunks;
+        chunkGenerations = new int[chunkCount];
+        Arrays.fill(chunkGenerations, generation);
+        isDirectoryShared = false;
+        size = newElements.size();
+        indexesByKey.clear();
+        indexesByKey.putAll(newIndexesByKey);
+        listeners.forEach(listener -> listener.onReset(oldElements));
+        return true;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements, in their positions in the store.
+     */
+    public List<E> asUnmodifiableList() {
+        return unmodifiableElements;
+    }
+
+    /**
+     * Returns an immutable copy of the elements, in their current positions in the store, in constant time.
+     * Later changes to the store do not change the copy.
+     */
+    public List<E> snapshot() {
+        generation++;
+        isDirectoryShared = true;
+        return new Snapshot<>(chunks, size);
+    }
+
+    /**
+     * Registers {@code listener} to be told of every later change to the store.
+     */
+    public void addListener(Listener<E> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return unmodifiableElements.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedStore // instanceof handles nulls
+                && unmodifiableElements.equals(((IndexedStore<?, ?>) other).unmodifiableElements));
+    }
+
+    @Override
+    public int hashCode() {
+        return unmodifiableElements.hashCode();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[][] chunks, int index) {
+        return (E) chunks[index >>> CHUNK_SHIFT][index & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Writes {@code element} at position {@code index}, which is within the store or just after its last element,
+     * first copying the chunk, and the directory of chunks, if they are shared with a snapshot.
+     */
+    private void write(int index, E element) {
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        if (chunkIndex == chunks.length) {
+            int newLength = Math.max(4, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, newLength);
+            chunkGenerations = Arrays.copyOf(chunkGenerations, newLength);
+            isDirectoryShared = false;
+        } else if (isDirectoryShared) {
+            chunks = chunks.clone();
+            isDirectoryShared = false;
+        }
+
+        if (chunks[chunkIndex] == null) {
+            chunks[chunkIndex] = new Object[CHUNK_SIZE];
+            chunkGenerations[chunkIndex] = generation;
+        } else if (chunkGenerations[chunkIndex] != generation) {
+            chunks[chunkIndex] = chunks[chunkIndex].clone();
+            chunkGenerations[chunkIndex] = generation;
+        }
+        chunks[chunkIndex][index & (CHUNK_SIZE - 1)] = element;
+    }
+
+    /**
+     * An unmodifiable view of the current elements of the store.
+     */
+    private class LiveView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return IndexedStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * An immutable list of the elements of a store at the time the snapshot was taken.
+     * The chunks it refers to are never changed by the store.
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[][] chunks;
+        private final int size;
+
+        Snapshot(Object[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return elementAt(chunks, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Is told of the changes to an {@code IndexedStore}, after each change is made.
+     */
+    public interface Listener<E> {
+
+        /**
+         * Called after elements are added at positions {@code fromIndex} (inclusive) to {@code toIndex} (exclusive),
+         * which are the last positions.
+         */
+        void onAdded(int fromIndex, int toIndex);
+
+        /**
+         * Called after {@code oldElement} at position {@code index} is replaced.
+         */
+        void onReplaced(int index, E oldElement);
+
+        /**
+         * Called after {@code removed} is removed from position {@code index}.
+         * If {@code index} is still within the store, the former last element was moved into that position.
+         */
+        void onRemoved(int index, E removed);
+
+        /**
+         * Called after all the elements of the store, which were {@code oldElements}, are replaced.
+         */
+        void onReset(List<E> oldElements);
+    }
+}
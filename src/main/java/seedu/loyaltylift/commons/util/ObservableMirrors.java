@@ -0,0 +1,85 @@
+package seedu.loyaltylift.commons.util;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+/**
+ * Creates copies of observable lists, maps and values that are changed on another thread, such as the JavaFX
+ * application thread, so that a source changed by one thread can be displayed by another.
+ * Each change to a source is copied as it is made, and then applied to the mirror by the {@code Executor} of the
+ * other thread, which must run the changes in the order they are given.
+ * A mirror must be created on the thread that changes its source, or before the source is changed by any thread.
+ */
+public class ObservableMirrors {
+
+    /**
+     * Returns an unmodifiable copy of {@code source} that is changed by {@code target}.
+     */
+    public static <E> ObservableList<E> mirrorList(ObservableList<E> source, Executor target) {
+        requireAllNonNull(source, target);
+        ObservableList<E> mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<E>) change -> {
+            List<Runnable> steps = new ArrayList<>();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<E> permuted = new ArrayList<>(source.subList(from, change.getTo()));
+                    steps.add(() -> replace(mirror, from, permuted.size(), permuted));
+                } else if (change.wasAdded() || change.wasRemoved()) {
+                    int removedSize = change.getRemovedSize();
+                    List<E> added = new ArrayList<>(change.getAddedSubList());
+                    steps.add(() -> replace(mirror, from, removedSize, added));
+                }
+            }
+            if (!steps.isEmpty()) {
+                target.execute(() -> steps.forEach(Runnable::run));
+            }
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code source} that is changed by {@code target}.
+     */
+    public static <K, V> ObservableMap<K, V> mirrorMap(ObservableMap<K, V> source, Executor target) {
+        requireAllNonNull(source, target);
+        ObservableMap<K, V> mirror = FXCollections.observableMap(new HashMap<>(source));
+        source.addListener((MapChangeListener<K, V>) change -> {
+            K key = change.getKey();
+            if (change.wasAdded()) {
+                V value = change.getValueAdded();
+                target.execute(() -> mirror.put(key, value));
+            } else {
+                target.execute(() -> mirror.remove(key));
+            }
+        });
+        return FXCollections.unmodifiableObservableMap(mirror);
+    }
+
+    /**
+     * Returns a copy of {@code source} that is changed by {@code target}.
+     */
+    public static <T> ObservableValue<T> mirrorValue(ObservableValue<T> source, Executor target) {
+        requireAllNonNull(source, target);
+        SimpleObjectProperty<T> mirror = new SimpleObjectProperty<>(source.getValue());
+        source.addListener((observable, oldValue, newValue) -> target.execute(() -> mirror.set(newValue)));
+        return mirror;
+    }
+
+    private static <E> void replace(List<E> list, int from, int removedSize, List<E> added) {
+        list.subList(from, from + removedSize).clear();
+        list.addAll(from, added);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} view of an {@code IndexedStore}, for the parts of the app that display the
+ * store with JavaFX.
+ * The view reads the store directly and reports every change to the store as a change to the list.
+ *
+ * @param <E> the type of elements in the list
+ */
+public class ObservableStoreList<E> extends ObservableListBase<E> implements IndexedStore.Listener<E> {
+
+    private final IndexedStore<?, E> store;
+
+    /**
+     * Creates a view of {@code store}, which follows later changes to the store.
+     */
+    public ObservableStoreList(IndexedStore<?, E> store) {
+        requireNonNull(store);
+        this.store = store;
+        store.addListener(this);
+    }
+
+    @Override
+    public E get(int index) {
+        return store.get(index);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public void onAdded(int fromIndex, int toIndex) {
+        beginChange();
+        nextAdd(fromIndex, toIndex);
+        endChange();
+    }
+
+    @Override
+    public void onReplaced(int index, E oldElement) {
+        beginChange();
+        nextSet(index, oldElement);
+        endChange();
+    }
+
+    @Override
+    public void onRemoved(int index, E removed) {
+        beginChange();
+        if (index < size()) {
+            // the last element replaced the removed element, then was removed from the end
+            nextSet(index, removed);
+            nextRemove(size(), get(index));
+        } else {
+            nextRemove(index, removed);
+        }
+        endChange();
+    }
+
+    @Override
+    public void onReset(List<E> oldElements) {
+        beginChange();
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A sorted collection of distinct elements that can also be accessed by their position in the ordering.
+ * Adding, removing, finding the position of an element and finding the element at a position all take
+ * logarithmic time.
+ * Two elements are considered the same if the comparator of the tree returns 0 for them.
+ *
+ * @param <E> the type of elements in the tree
+ */
+public class OrderStatisticTree<E> {
+
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+
+    /**
+     * Creates an empty {@code OrderStatisticTree} ordered by {@code comparator}.
+     */
+    public OrderStatisticTree(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the number of elements in the tree.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Removes all elements from the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Adds {@code element} to the tree.
+     * Returns false if the tree already contains the same element.
+     */
+    public boolean add(E element) {
+        requireNonNull(element);
+        int sizeBefore = size();
+        root = insert(root, element);
+        return size() != sizeBefore;
+    }
+
+    /**
+     * Removes {@code element} from the tree.
+     * Returns false if the tree does not contain the element.
+     */
+    public boolean remove(E element) {
+        requireNonNull(element);
+        int sizeBefore = size();
+        root = delete(root, element);
+        return size() != sizeBefore;
+    }
+
+    /**
+     * Returns true if the tree contains {@code element}.
+     */
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns the zero-based position of {@code element} in the ordering, or -1 if it is not in the tree.
+     */
+    public int indexOf(E element) {
+        requireNonNull(element);
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the zero-based position {@code index} in the ordering.
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size of the tree.
+     */
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of leading elements in the ordering that satisfy {@code predicate}.
+     * The predicate must hold for every element before the first element it fails for,
+     * so that the count can be found without testing every element.
+     */
+    public int countWhile(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (predicate.test(node.element)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the elements from position {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, in order.
+     * @throws IndexOutOfBoundsException if the range is not within the tree.
+     */
+    public List<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds");
+        }
+        List<E> elements = new ArrayList<>(toIndex - fromIndex);
+        collect(root, 0, fromIndex, toIndex, elements);
+        return elements;
+    }
+
+    //// helpers
+
+    private void collect(Node<E> node, int offset, int fromIndex, int toIndex, List<E> elements) {
+        if (node == null || offset >= toIndex || offset + node.size <= fromIndex) {
+            return;
+        }
+        int index = offset + size(node.left);
+        collect(node.left, offset, fromIndex, toIndex, elements);
+        if (index >= fromIndex && index < toIndex) {
+            elements.add(node.element);
+        }
+        collect(node.right, index + 1, fromIndex, toIndex, elements);
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node<E> delete(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = delete(node.left, element);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, element);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.element = successor.element;
+            node.right = delete(node.right, successor.element);
+        }
+        return rebalance(node);
+    }
+
+    private Node<E> rebalance(Node<E> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which records the size and height of its subtree.
+     */
+    private static class Node<E> {
+        private E element;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+        private int height = 1;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+        void update() {
+            size = size(left) + size(right) + 1;
+            height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.loyaltylift.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree of words, which finds the words starting with a prefix.
+ * Every node keeps the first words below it in alphabetical order, up to a maximum, so finding the words starting
+ * with a prefix only walks the characters of the prefix, however many words there are.
+ */
+public class Trie {
+
+    private final int maximumWordsPerPrefix;
+    private final Node root = new Node();
+
+    /**
+     * Creates an empty {@code Trie} that finds at most {@code maximumWordsPerPrefix} words starting with a prefix.
+     */
+    public Trie(int maximumWordsPerPrefix) {
+        checkArgument(maximumWordsPerPrefix > 0, "At least one word must be found per prefix");
+        this.maximumWordsPerPrefix = maximumWordsPerPrefix;
+    }
+
+    /**
+     * Adds {@code word} to the trie, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        List<Node> path = new ArrayList<>();
+        path.add(node);
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+            path.add(node);
+        }
+        if (node.isWord) {
+            return;
+        }
+
+        node.isWord = true;
+        for (Node nodeOnPath : path) {
+            nodeOnPath.addWord(word, maximumWordsPerPrefix);
+        }
+    }
+
+    /**
+     * Returns the first words starting with {@code prefix} in alphabetical order, including {@code prefix} itself
+     * if it is a word, up to the maximum number of words per prefix.
+     */
+    public List<String> getWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node == null ? Collections.emptyList() : Collections.unmodifiableList(node.words);
+    }
+
+    /**
+     * A character of a word, and the first words passing through it.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private boolean isWord;
+
+        void addWord(String word, int maximumWords) {
+            int insertionPoint = -Collections.binarySearch(words, word) - 1;
+            if (insertionPoint >= maximumWords) {
+                return;
+            }
+            words.add(insertionPoint, word);
+            if (words.size() > maximumWords) {
+                words.remove(words.size() - 1);
+            }
+        }
+    }
+}
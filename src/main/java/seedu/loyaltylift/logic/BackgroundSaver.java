@@ -0,0 +1,194 @@
+package seedu.loyaltylift.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.util.StringUtil;
+import seedu.loyaltylift.model.ReadOnlyAddressBook;
+import seedu.loyaltylift.model.ReadOnlyUserPrefs;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.storage.Storage;
+
+/**
+ * Saves the data on a background thread, so that commands do not wait for the data to be written.
+ * The saves requested within {@code delayMillis} of each other are coalesced into one, which appends every new
+ * points ledger entry and writes only the latest snapshot of the address book and of the user prefs.
+ * Data that could not be saved is kept and saved again with the next save, which is scheduled after a failed
+ * background save even if no save is requested, waiting twice as long after each failure in a row.
+ */
+public class BackgroundSaver {
+
+    public static final String SAVER_THREAD_NAME = "LoyaltyLift saver";
+    public static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+    public static final long MAXIMUM_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long delayMillis;
+    private final long initialRetryDelayMillis;
+    private final ScheduledExecutorService scheduler;
+
+    // held while saving, so that the ledger entries are appended in order
+    private final Object saveLock = new Object();
+
+    private final List<PointsLedgerEntry> pendingPointsLedgerEntries = new ArrayList<>();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyUserPrefs pendingUserPrefs;
+    private boolean isSaveScheduled = false;
+    private long retryDelayMillis = 0;
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage} at most {@code delayMillis} after a save is
+     * requested.
+     */
+    public BackgroundSaver(Storage storage, long delayMillis) {
+        this(storage, delayMillis, INITIAL_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code BackgroundSaver} that saves to {@code storage} at most {@code delayMillis} after a save is
+     * requested, and first saves again {@code initialRetryDelayMillis} after a background save fails.
+     */
+    BackgroundSaver(Storage storage, long delayMillis, long initialRetryDelayMillis) {
+        requireNonNull(storage);
+        checkArgument(delayMillis >= 0, "The delay must not be negative");
+        checkArgument(initialRetryDelayMillis > 0, "The retry delay must be positive");
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, SAVER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that {@code newPointsLedgerEntries} be appended to the points ledger and {@code addressBook}, which
+     * must be immutable, be saved.
+     */
+    public synchronized void requestSave(List<PointsLedgerEntry> newPointsLedgerEntries,
+            ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(newPointsLedgerEntries, addressBook);
+        pendingPointsLedgerEntries.addAll(newPointsLedgerEntries);
+        pendingAddressBook = addressBook;
+        scheduleSave();
+    }
+
+    /**
+     * Requests that {@code userPrefs}, which must not be changed afterwards, be saved.
+     */
+    public synchronized void requestSave(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        pendingUserPrefs = userPrefs;
+        scheduleSave();
+    }
+
+    private synchronized void scheduleSave() {
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            scheduler.schedule(this::saveInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the data requested to be saved, if any, on the calling thread.
+     * @throws IOException If the data could not be saved, in which case it is kept to be saved again.
+     */
+    public void flush() throws IOException {
+        synchronized (saveLock) {
+            List<PointsLedgerEntry> pointsLedgerEntries;
+            ReadOnlyAddressBook addressBook;
+            ReadOnlyUserPrefs userPrefs;
+            synchronized (this) {
+                pointsLedgerEntries = new ArrayList<>(pendingPointsLedgerEntries);
+                addressBook = pendingAddressBook;
+                userPrefs = pendingUserPrefs;
+                pendingPointsLedgerEntries.clear();
+                pendingAddressBook = null;
+                pendingUserPrefs = null;
+                isSaveScheduled = false;
+            }
+
+            try {
+                // the ledger is saved first, as the points in the address book are recovered from it on startup
+                if (!pointsLedgerEntries.isEmpty()) {
+                    storage.appendPointsLedgerEntries(pointsLedgerEntries);
+                    pointsLedgerEntries.clear();
+                }
+                if (addressBook != null) {
+                    storage.saveAddressBook(addressBook);
+                    addressBook = null;
+                }
+                if (userPrefs != null) {
+                    storage.saveUserPrefs(userPrefs);
+                }
+            } catch (IOException ioe) {
+                keepUnsaved(pointsLedgerEntries, addressBook, userPrefs);
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * Saves the data requested to be saved and stops the background thread.
+     * @throws IOException If the data could not be saved.
+     */
+    public void close() throws IOException {
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void saveInBackground() {
+        try {
+            flush();
+            synchronized (this) {
+                retryDelayMillis = 0;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Problem while saving data in the background: " + StringUtil.getDetails(ioe));
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Schedules the data that could not be saved to be saved again, unless a save is already scheduled, so that it
+     * is saved even if no more saves are requested.
+     */
+    private synchronized void scheduleRetry() {
+        retryDelayMillis = retryDelayMillis == 0
+                ? initialRetryDelayMillis
+                : Math.min(retryDelayMillis * 2, MAXIMUM_RETRY_DELAY_MILLIS);
+        if (isSaveScheduled || scheduler.isShutdown()) {
+            return;
+        }
+        isSaveScheduled = true;
+        scheduler.schedule(this::saveInBackground, retryDelayMillis, TimeUnit.MILLISECONDS);
+        logger.info("Saving the data again in " + retryDelayMillis + " ms");
+    }
+
+    /**
+     * Puts back the data that could not be saved before the data requested since, to be saved with the next save.
+     */
+    private synchronized void keepUnsaved(List<PointsLedgerEntry> pointsLedgerEntries,
+            ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        pendingPointsLedgerEntries.addAll(0, pointsLedgerEntries);
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingUserPrefs == null) {
+            pendingUserPrefs = userPrefs;
+        }
+    }
+}
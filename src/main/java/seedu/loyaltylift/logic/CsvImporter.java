@@ -0,0 +1,434 @@
+package seedu.loyaltylift.logic;
+
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import seedu.loyaltylift.commons.util.CsvReader;
+import seedu.loyaltylift.commons.util.CsvWriter;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.logic.parser.ParserUtil;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.attribute.Address;
+import seedu.loyaltylift.model.attribute.Name;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.UniqueCustomerList;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.Quantity;
+import seedu.loyaltylift.model.order.UniqueOrderList;
+
+/**
+ * Imports the customers or orders in a CSV file into a {@code Model}, a batch of rows at a time, so that a file of
+ * any size is imported in bounded memory.
+ * The first row of the file names the columns, in any order. The file holds orders if it has a {@code customer}
+ * column, naming the customer of each order, and customers otherwise.
+ * The rows of a batch are validated in parallel, by the same checks as the commands adding customers and orders.
+ * The valid rows that are neither in the model nor earlier in the batch are added to the model together, and
+ * committed by a {@code BatchCommitter}. The rows not imported are written, with the reason, to a CSV file next to
+ * the imported file.
+ */
+public class CsvImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final String ERROR_REPORT_SUFFIX = ".errors.csv";
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TYPE = "type";
+    public static final String COLUMN_CUSTOMER = "customer";
+    public static final String COLUMN_QUANTITY = "quantity";
+    public static final String COLUMN_LINE = "line";
+    public static final String COLUMN_ERROR = "error";
+
+    public static final String MESSAGE_EMPTY_FILE = "The file has no header row";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row has no %1$s column";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "The row has %1$d fields instead of %2$d";
+    public static final String MESSAGE_DUPLICATE_CUSTOMER = "This customer already exists";
+    public static final String MESSAGE_DUPLICATE_ORDER = "This order already exists";
+    public static final String MESSAGE_UNKNOWN_CUSTOMER = "There is no customer named %1$s";
+
+    private static final List<String> CUSTOMER_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+            COLUMN_ADDRESS);
+    private static final List<String> ORDER_COLUMNS = List.of(COLUMN_CUSTOMER, COLUMN_NAME);
+
+    private final Model model;
+    private final BatchCommitter batchCommitter;
+    private final int batchSize;
+
+    /**
+     * Commits the changes made to the model by a batch of imported rows.
+     */
+    @FunctionalInterface
+    public interface BatchCommitter {
+        /**
+         * Makes {@code changes} to the model as one batch of changes, and saves them if the model is saved.
+         */
+        void commit(Runnable changes) throws CommandException;
+    }
+
+    /**
+     * Creates a {@code CsvImporter} into {@code model}, whose batches of at most {@code batchSize} rows are
+     * committed by {@code batchCommitter}.
+     */
+    public CsvImporter(Model model, BatchCommitter batchCommitter, int batchSize) {
+        requireAllNonNull(model, batchCommitter);
+        checkArgument(batchSize > 0, "A batch must have at least one row");
+        this.model = model;
+        this.batchCommitter = batchCommitter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a {@code CsvImporter} into {@code model}, whose batches are committed by {@code batchCommitter}.
+     */
+    public CsvImporter(Model model, BatchCommitter batchCommitter) {
+        this(model, batchCommitter, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the path of the file to which the rows of {@code csvFile} that are not imported are written.
+     */
+    public static Path getErrorReportPath(Path csvFile) {
+        return csvFile.resolveSibling(csvFile.getFileName() + ERROR_REPORT_SUFFIX);
+    }
+
+    /**
+     * Imports the customers or orders in {@code csvFile}, and writes the rows not imported to the file at
+     * {@link #getErrorReportPath(Path)}, which is deleted if every row is imported.
+     * The batches committed before an exception is thrown stay imported.
+     * @throws IOException if the file cannot be read, or the rows not imported cannot be written.
+     * @throws CommandException if the header row does not have the columns needed, or a batch cannot be committed.
+     */
+    public Result importFile(Path csvFile) throws IOException, CommandException {
+        Path errorReportFile = getErrorReportPath(csvFile);
+        Files.deleteIfExists(errorReportFile);
+
+        try (CsvReader csvReader = new CsvReader(Files.newBufferedReader(csvFile, StandardCharsets.UTF_8));
+                ErrorReport errorReport = new ErrorReport(errorReportFile)) {
+            Header header = new Header(csvReader.readRecord()
+                    .orElseThrow(() -> new CommandException(MESSAGE_EMPTY_FILE)));
+            errorReport.setHeader(header.columns);
+
+            if (header.hasColumn(COLUMN_CUSTOMER)) {
+                header.requireColumns(ORDER_COLUMNS);
+                return importRows(csvReader, header, CsvImporter::parseOrderRow, this::newOrderResolver,
+                        model::addOrders, errorReport);
+            }
+            header.requireColumns(CUSTOMER_COLUMNS);
+            return importRows(csvReader, header, CsvImporter::parseCustomer, this::newCustomerResolver,
+                    model::addCustomers, errorReport);
+        }
+    }
+
+    /**
+     * Imports the rest of the rows of {@code csvReader} a batch at a time.
+     * The rows of a batch are parsed in parallel by {@code rowParser}, and then turned one at a time into the
+     * entities added to the model by a resolver from {@code resolvers}, which is given the rows of one batch.
+     * The entities of a batch are added by {@code addition}.
+     */
+    private <V, T> Result importRows(CsvReader csvReader, Header header, RowParser<V> rowParser,
+            Supplier<RowResolver<V, T>> resolvers, Consumer<List<T>> addition, ErrorReport errorReport)
+            throws IOException, CommandException {
+        int importedCount = 0;
+        int rejectedCount = 0;
+        List<Row> batch = new ArrayList<>(batchSize);
+        while (readBatch(csvReader, batch)) {
+            List<ParsedRow<V>> parsedRows = batch.parallelStream()
+                    .map(row -> parse(row, header, rowParser))
+                    .collect(Collectors.toList());
+
+            RowResolver<V, T> resolver = resolvers.get();
+            List<T> entities = new ArrayList<>();
+            for (ParsedRow<V> parsedRow : parsedRows) {
+                try {
+                    if (parsedRow.error != null) {
+                        throw new CommandException(parsedRow.error);
+                    }
+                    entities.add(resolver.resolve(parsedRow.value));
+                } catch (CommandException e) {
+                    errorReport.add(parsedRow.row, e.getMessage());
+                    rejectedCount++;
+                }
+            }
+
+            if (!entities.isEmpty()) {
+                batchCommitter.commit(() -> addition.accept(entities));
+                importedCount += entities.size();
+            }
+            errorReport.flush();
+        }
+        return new Result(importedCount, rejectedCount);
+    }
+
+    /**
+     * Replaces the rows in {@code batch} with the next rows of {@code csvReader}, up to the batch size, skipping
+     * blank rows. Returns false if there are no more rows.
+     */
+    private boolean readBatch(CsvReader csvReader, List<Row> batch) throws IOException {
+        batch.clear();
+        while (batch.size() < batchSize) {
+            Optional<List<String>> fields = csvReader.readRecord();
+            if (fields.isEmpty()) {
+                break;
+            }
+            boolean isBlank = fields.get().stream().allMatch(String::isBlank);
+            if (!isBlank) {
+                batch.add(new Row(csvReader.getRecordLineNumber(), fields.get()));
+            }
+        }
+        return !batch.isEmpty();
+    }
+
+    private static <V> ParsedRow<V> parse(Row row, Header header, RowParser<V> rowParser) {
+        if (row.fields.size() != header.columns.size()) {
+            return new ParsedRow<>(row, null,
+                    String.format(MESSAGE_WRONG_FIELD_COUNT, row.fields.size(), header.columns.size()));
+        }
+        try {
+            return new ParsedRow<>(row, rowParser.parse(column -> header.getField(row.fields, column)), null);
+        } catch (ParseException pe) {
+            return new ParsedRow<>(row, null, pe.getMessage());
+        }
+    }
+
+    private static Customer parseCustomer(Fields fields) throws ParseException {
+        Name name = ParserUtil.parseName(fields.get(COLUMN_NAME));
+        String type = fields.get(COLUMN_TYPE);
+        return new Customer(
+                ParserUtil.parseCustomerType(type.isEmpty() ? CustomerType.INDIVIDUAL.name() : type),
+                name,
+                ParserUtil.parsePhone(fields.get(COLUMN_PHONE)),
+                ParserUtil.parseEmail(fields.get(COLUMN_EMAIL)),
+                ParserUtil.parseAddress(fields.get(COLUMN_ADDRESS)));
+    }
+
+    private static OrderRow parseOrderRow(Fields fields) throws ParseException {
+        String quantity = fields.get(COLUMN_QUANTITY);
+        String address = fields.get(COLUMN_ADDRESS);
+        return new OrderRow(
+                ParserUtil.parseName(fields.get(COLUMN_CUSTOMER)),
+                ParserUtil.parseName(fields.get(COLUMN_NAME)),
+                quantity.isEmpty() ? new Quantity(1) : ParserUtil.parseQuantity(quantity),
+                address.isEmpty() ? null : ParserUtil.parseAddress(address));
+    }
+
+    /**
+     * Returns a resolver of the customers of a batch, which rejects the customers in the model or earlier in
+     * the batch.
+     */
+    private RowResolver<Customer, Customer> newCustomerResolver() {
+        UniqueCustomerList batchCustomers = new UniqueCustomerList();
+        return customer -> {
+            if (model.hasCustomer(customer) || batchCustomers.contains(customer)) {
+                throw new CommandException(MESSAGE_DUPLICATE_CUSTOMER);
+            }
+            batchCustomers.add(customer);
+            return customer;
+        };
+    }
+
+    /**
+     * Returns a resolver of the orders of a batch, which finds the customer of each order in the model, and rejects
+     * the orders in the model or earlier in the batch.
+     */
+    private RowResolver<OrderRow, Order> newOrderResolver() {
+        UniqueOrderList batchOrders = new UniqueOrderList();
+        return orderRow -> {
+            Customer customer = model.findCustomer(orderRow.customerName.fullName).orElseThrow(() ->
+                    new CommandException(String.format(MESSAGE_UNKNOWN_CUSTOMER, orderRow.customerName)));
+            Address address = orderRow.address != null ? orderRow.address : customer.getAddress();
+            Order order = new Order(customer, orderRow.name, orderRow.quantity, address);
+            if (model.hasOrder(order) || batchOrders.contains(order)) {
+                throw new CommandException(MESSAGE_DUPLICATE_ORDER);
+            }
+            batchOrders.add(order);
+            return order;
+        };
+    }
+
+    /**
+     * The number of rows imported and not imported from a file.
+     */
+    public static class Result {
+        private final int importedCount;
+        private final int rejectedCount;
+
+        Result(int importedCount, int rejectedCount) {
+            this.importedCount = importedCount;
+            this.rejectedCount = rejectedCount;
+        }
+
+        public int getImportedCount() {
+            return importedCount;
+        }
+
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        public int getRowCount() {
+            return importedCount + rejectedCount;
+        }
+    }
+
+    /**
+     * Parses the fields of a row, which are looked up by column, into the values of an entity.
+     */
+    @FunctionalInterface
+    private interface RowParser<V> {
+        V parse(Fields fields) throws ParseException;
+    }
+
+    /**
+     * Returns the field of a row in a column, trimmed, or an empty string if the file has no such column.
+     */
+    @FunctionalInterface
+    private interface Fields {
+        String get(String column);
+    }
+
+    /**
+     * Turns the parsed values of a row into an entity to add to the model.
+     */
+    @FunctionalInterface
+    private interface RowResolver<V, T> {
+        T resolve(V value) throws CommandException;
+    }
+
+    /**
+     * A row of the file, and the line on which it starts.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final List<String> fields;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * The values parsed from a row, or the reason they could not be parsed.
+     */
+    private static class ParsedRow<V> {
+        private final Row row;
+        private final V value;
+        private final String error;
+
+        ParsedRow(Row row, V value, String error) {
+            this.row = row;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The values of an order row, whose customer is yet to be found.
+     */
+    private static class OrderRow {
+        private final Name customerName;
+        private final Name name;
+        private final Quantity quantity;
+        private final Address address;
+
+        OrderRow(Name customerName, Name name, Quantity quantity, Address address) {
+            this.customerName = customerName;
+            this.name = name;
+            this.quantity = quantity;
+            this.address = address;
+        }
+    }
+
+    /**
+     * The columns named by the header row, which are matched ignoring case and surrounding spaces.
+     */
+    private static class Header {
+        private final List<String> columns;
+        private final Map<String, Integer> indexesByColumn = new HashMap<>();
+
+        Header(List<String> columns) {
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                indexesByColumn.putIfAbsent(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        boolean hasColumn(String column) {
+            return indexesByColumn.containsKey(column);
+        }
+
+        void requireColumns(List<String> requiredColumns) throws CommandException {
+            for (String column : requiredColumns) {
+                if (!hasColumn(column)) {
+                    throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, column));
+                }
+            }
+        }
+
+        String getField(List<String> fields, String column) {
+            Integer index = indexesByColumn.get(column);
+            return index == null ? "" : fields.get(index).trim();
+        }
+    }
+
+    /**
+     * The rows not imported, each written with its line and the reason it was not imported, followed by its fields.
+     * The file is only created once a row is added.
+     */
+    private static class ErrorReport implements AutoCloseable {
+        private final Path file;
+        private List<String> header;
+        private CsvWriter csvWriter;
+
+        ErrorReport(Path file) {
+            this.file = file;
+        }
+
+        void setHeader(List<String> header) {
+            this.header = header;
+        }
+
+        void add(Row row, String error) throws IOException {
+            if (csvWriter == null) {
+                csvWriter = new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+                List<String> reportHeader = new ArrayList<>(List.of(COLUMN_LINE, COLUMN_ERROR));
+                reportHeader.addAll(header);
+                csvWriter.writeRecord(reportHeader);
+            }
+            List<String> record = new ArrayList<>(List.of(String.valueOf(row.lineNumber), error));
+            record.addAll(row.fields);
+            csvWriter.writeRecord(record);
+        }
+
+        void flush() throws IOException {
+            if (csvWriter != null) {
+                csvWriter.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (csvWriter != null) {
+                csvWriter.close();
+            }
+        }
+    }
+}
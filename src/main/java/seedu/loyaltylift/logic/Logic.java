@@ -1,15 +1,22 @@
 package seedu.loyaltylift.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.logic.commands.CommandResult;
+import seedu.loyaltylift.logic.commands.exceptions.BatchCommandException;
 import seedu.loyaltylift.logic.commands.exceptions.CommandException;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.DashboardStatistics;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.StatusValue;
 
 /**
  * API of the Logic component
@@ -17,6 +24,7 @@ import seedu.loyaltylift.model.order.Order;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * May be called from any thread; the commands of all threads are executed one at a time.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -24,6 +32,40 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order, with no command of another thread executed between them, and returns their
+     * results. The commands after a command that fails are not executed, while the commands before it stay executed.
+     * @param commandTexts The commands as entered by the user.
+     * @throws BatchCommandException If a command fails to parse or execute, with the results of the commands
+     *     executed before it and its index.
+     * @throws CommandException If the caller is interrupted before the batch is executed.
+     */
+    List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Expires the points due to expire by today, unless they were already expired today, and saves the data.
+     * @return the number of customers whose points expired.
+     * @throws CommandException If an error occurs when saving the data.
+     */
+    int expireDuePoints() throws CommandException;
+
+    /**
+     * Returns the names of at most {@code limit} customers or orders that {@code commandText} would find, if it is a
+     * {@code findc} or {@code findo} command with keywords, or an empty list otherwise.
+     * The last keyword also matches the names it is the start of, unless it is followed by whitespace, as it may
+     * still be being typed. The names are found with an index of the names, without filtering the lists.
+     * May be called from any thread; the names are found between the commands.
+     */
+    List<String> previewFind(String commandText, int limit);
+
+    /**
+     * Returns the completions of the word being typed at the end of {@code commandText}, each being the whole
+     * command text with the word completed: the command word, a prefix of the command, or the customer or order
+     * name given to {@code n/}.
+     * May be called from any thread; the names are found between the commands.
+     */
+    List<String> complete(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -31,6 +73,12 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book after the latest command.
+     * May be called from any thread, without waiting for the command being executed.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of customers */
     ObservableList<Customer> getFilteredCustomerList();
 
@@ -40,6 +88,18 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of orders belonging to a customer */
     ObservableList<Order> getFilteredCustomerOrderList();
 
+    /** Returns an unmodifiable view of the number of orders in each status */
+    ObservableMap<StatusValue, Integer> getOrderStatusCounts();
+
+    /** Returns the one-based rank of {@code customer} by points, or 0 if the customer is not ranked */
+    int getCustomerRank(Customer customer);
+
+    /** Returns the loyalty tier definitions, which can be observed for changes */
+    ObservableValue<TierDefinitions> getObservableTierDefinitions();
+
+    /** Returns the figures of the dashboard after the latest command, which can be observed for changes */
+    ObservableValue<DashboardStatistics> getObservableDashboardStatistics();
+
     /** Returns an unmodifiable view of the filtered list of orders belonging to a customer */
     void updateFilteredCustomerOrderList(Customer customer);
 
@@ -1,58 +1,332 @@
 package seedu.loyaltylift.logic;
 
+import static seedu.loyaltylift.commons.util.ObservableMirrors.mirrorList;
+import static seedu.loyaltylift.commons.util.ObservableMirrors.mirrorMap;
+import static seedu.loyaltylift.commons.util.ObservableMirrors.mirrorValue;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.commons.core.LogsCenter;
 import seedu.loyaltylift.logic.commands.Command;
 import seedu.loyaltylift.logic.commands.CommandResult;
+import seedu.loyaltylift.logic.commands.FindCustomerCommand;
+import seedu.loyaltylift.logic.commands.FindOrderCommand;
+import seedu.loyaltylift.logic.commands.ImportCommand;
+import seedu.loyaltylift.logic.commands.exceptions.BatchCommandException;
 import seedu.loyaltylift.logic.commands.exceptions.CommandException;
 import seedu.loyaltylift.logic.parser.AddressBookParser;
+import seedu.loyaltylift.logic.parser.CommandCompleter;
+import seedu.loyaltylift.logic.parser.CommandRegistry;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.DashboardStatistics;
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
+import seedu.loyaltylift.model.UserPrefs;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.event.ModelChangeBus;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.StatusValue;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
 import seedu.loyaltylift.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands may be executed from any thread: they are run one at a time by a {@code SingleWriterExecutor}, and the
+ * snapshot of the address book published after each command can be read from any thread without locking.
+ * The views of the model, such as the filtered lists, must only be read on the writer thread, unless the
+ * {@code LogicManager} is given the executor of a display thread, in which case the views are copies that are
+ * changed on the display thread, such as the JavaFX application thread, after each change to the model.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String WRITER_THREAD_NAME = "LoyaltyLift writer";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    private final SingleWriterExecutor writer;
+    private final BackgroundSaver backgroundSaver;
+    private int savedPointsLedgerSize;
+    private UserPrefs savedUserPrefs;
+    private LocalDate lastExpiryDate;
+    private volatile ReadOnlyAddressBook latestSnapshot;
+    // only changed on the writer thread
+    private final SimpleObjectProperty<DashboardStatistics> dashboardStatistics;
+
+    // the views of the model given to the display
+    private final ObservableList<Customer> filteredCustomerList;
+    private final ObservableList<Order> filteredOrderList;
+    private final ObservableList<Order> filteredCustomerOrderList;
+    private final ObservableMap<StatusValue, Integer> orderStatusCounts;
+    private final ObservableValue<TierDefinitions> observableTierDefinitions;
+    private final ObservableValue<DashboardStatistics> observableDashboardStatistics;
+    private volatile Customer customerToDisplay;
+    private volatile Order orderToDisplay;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands are run
+     * on the writer thread of {@code writer}.
+     * The data is saved by {@code backgroundSaver}, or after each command if it is null.
+     * The views of the model are copies changed by {@code displayExecutor}, or the model's own views if it is null.
      */
-    public LogicManager(Model model, Storage storage) {
+    private LogicManager(Model model, Storage storage, SingleWriterExecutor writer, BackgroundSaver backgroundSaver,
+            Executor displayExecutor) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.writer = writer;
+        this.backgroundSaver = backgroundSaver;
+        CommandRegistry commandRegistry = new CommandRegistry(model.getUserPrefs().getCommandAliases());
+        addressBookParser = new AddressBookParser(commandRegistry);
+        commandCompleter = new CommandCompleter(commandRegistry);
+        savedPointsLedgerSize = model.getPointsLedger().getEntries().size();
+        savedUserPrefs = new UserPrefs(model.getUserPrefs());
+        latestSnapshot = model.getAddressBookSnapshot();
+        customerToDisplay = model.getCustomerToDisplay();
+        orderToDisplay = model.getOrderToDisplay();
+        dashboardStatistics = new SimpleObjectProperty<>(model.getDashboardStatistics(LocalDate.now()));
+
+        if (displayExecutor == null) {
+            filteredCustomerList = model.getFilteredCustomerList();
+            filteredOrderList = model.getFilteredOrderList();
+            filteredCustomerOrderList = model.getFilteredCustomerOrderList();
+            orderStatusCounts = model.getOrderStatusCounts();
+            observableTierDefinitions = model.getObservableTierDefinitions();
+            observableDashboardStatistics = dashboardStatistics;
+        } else {
+            filteredCustomerList = mirrorList(model.getFilteredCustomerList(), displayExecutor);
+            filteredOrderList = mirrorList(model.getFilteredOrderList(), displayExecutor);
+            filteredCustomerOrderList = mirrorList(model.getFilteredCustomerOrderList(), displayExecutor);
+            orderStatusCounts = mirrorMap(model.getOrderStatusCounts(), displayExecutor);
+            observableTierDefinitions = mirrorValue(model.getObservableTierDefinitions(), displayExecutor);
+            observableDashboardStatistics = mirrorValue(dashboardStatistics, displayExecutor);
+        }
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands are run
+     * on the writer thread of {@code writer} and whose data is saved by {@code backgroundSaver}.
+     */
+    public LogicManager(Model model, Storage storage, SingleWriterExecutor writer, BackgroundSaver backgroundSaver) {
+        this(model, storage, writer, backgroundSaver, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands are run
+     * on the writer thread of {@code writer}, and whose views of the model are displayed on the thread of
+     * {@code displayExecutor}, which runs the changes to the views in order.
+     * Must be constructed before the writer changes the model.
+     */
+    public LogicManager(Model model, Storage storage, SingleWriterExecutor writer, Executor displayExecutor) {
+        this(model, storage, writer, null, displayExecutor);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands are run
+     * on the writer thread of {@code writer} and which saves the data after each command.
+     */
+    public LogicManager(Model model, Storage storage, SingleWriterExecutor writer) {
+        this(model, storage, writer, null, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose commands are run
+     * on a new writer thread.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this(model, storage, SingleWriterExecutor.withNewThread(WRITER_THREAD_NAME));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return writer.run(() -> executeOnWriter(commandText));
+    }
+
+    @Override
+    public List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException {
+        try {
+            return writer.run(() -> {
+                List<CommandResult> commandResults = new ArrayList<>();
+                for (String commandText : commandTexts) {
+                    try {
+                        commandResults.add(execute(commandText));
+                    } catch (CommandException | ParseException e) {
+                        // the commands before stay executed, so their results are returned with the failure
+                        throw new BatchCommandException(commandResults, commandResults.size(), e);
+                    }
+                }
+                return commandResults;
+            });
+        } catch (ParseException pe) {
+            throw new AssertionError("The parse errors of a batch are thrown as batch command errors", pe);
+        }
+    }
+
+    private CommandResult executeOnWriter(String commandText) throws CommandException, ParseException {
+        // points due to expire are expired before the command, so that the command sees today's points
+        expirePointsDueToday();
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command instanceof ImportCommand) {
+            // an import is committed and saved a batch of rows at a time, rather than as one command
+            return ((ImportCommand) command).execute(model, this::commitBatch);
+        }
 
+        // the changes made by the command, including the points it leads to, are published as one batch
+        ModelChangeBus changeBus = model.getChangeBus();
+        changeBus.beginBatch();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            commandResult = command.execute(model);
+
+            // orders completed by the command are credited together, before the points are saved
+            model.applyPendingAccruals();
+        } finally {
+            changeBus.endBatch();
+            publishChanges();
+        }
+
+        saveData();
+        return commandResult;
+    }
+
+    /**
+     * Makes {@code changes} to the model as one batch of changes, and saves them.
+     */
+    private void commitBatch(Runnable changes) throws CommandException {
+        ModelChangeBus changeBus = model.getChangeBus();
+        changeBus.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            changeBus.endBatch();
+            publishChanges();
+        }
+
+        saveData();
+    }
+
+    /**
+     * Publishes the snapshot and the displayed customer and order after a change to the model.
+     */
+    private void publishChanges() {
+        latestSnapshot = model.getAddressBookSnapshot();
+        customerToDisplay = model.getCustomerToDisplay();
+        orderToDisplay = model.getOrderToDisplay();
+        dashboardStatistics.set(model.getDashboardStatistics(LocalDate.now()));
+    }
+
+    @Override
+    public int expireDuePoints() throws CommandException {
+        try {
+            return writer.run(() -> {
+                int expiredCount = expirePointsDueToday();
+                if (expiredCount > 0) {
+                    saveData();
+                }
+                return expiredCount;
+            });
+        } catch (ParseException pe) {
+            throw new AssertionError("Expiring points does not parse a command", pe);
+        }
+    }
+
+    /**
+     * Expires the points due to expire by today, unless they were already expired today.
+     * Returns the number of customers whose points expired.
+     */
+    private int expirePointsDueToday() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(lastExpiryDate)) {
+            return 0;
+        }
+        lastExpiryDate = today;
+        int expiredCount = model.expirePoints(today);
+        if (expiredCount > 0) {
+            latestSnapshot = model.getAddressBookSnapshot();
+        }
+        // the figures depend on the date, such as the orders created today
+        dashboardStatistics.set(model.getDashboardStatistics(today));
+        return expiredCount;
+    }
+
+    private void saveData() throws CommandException {
+        List<PointsLedgerEntry> pointsLedgerEntries = model.getPointsLedger().getEntries();
+        List<PointsLedgerEntry> newPointsLedgerEntries =
+                pointsLedgerEntries.subList(savedPointsLedgerSize, pointsLedgerEntries.size());
+        // the user prefs are saved only after the commands that change them, such as settiers
+        UserPrefs changedUserPrefs = model.getUserPrefs().equals(savedUserPrefs)
+                ? null
+                : new UserPrefs(model.getUserPrefs());
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave(new ArrayList<>(newPointsLedgerEntries), latestSnapshot);
+            savedPointsLedgerSize = pointsLedgerEntries.size();
+            if (changedUserPrefs != null) {
+                backgroundSaver.requestSave(changedUserPrefs);
+                savedUserPrefs = changedUserPrefs;
+            }
+            return;
+        }
+
+        try {
+            // the ledger is saved first, as the points in the address book are recovered from it on startup
+            storage.appendPointsLedgerEntries(newPointsLedgerEntries);
+            savedPointsLedgerSize = pointsLedgerEntries.size();
+            storage.saveAddressBook(latestSnapshot);
+            if (changedUserPrefs != null) {
+                storage.saveUserPrefs(changedUserPrefs);
+                savedUserPrefs = changedUserPrefs;
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public List<String> previewFind(String commandText, int limit) {
+        String[] words = commandText.stripLeading().split("\\s+");
+        if (words.length < 2) {
+            return List.of();
+        }
+
+        List<String> keywords = Arrays.asList(words).subList(1, words.length);
+        boolean isLastKeywordPrefix = !Character.isWhitespace(commandText.charAt(commandText.length() - 1));
+        switch (words[0]) {
+        case FindCustomerCommand.COMMAND_WORD:
+            return runOnWriter(() -> model.findCustomersByName(keywords, isLastKeywordPrefix, limit)).stream()
+                    .map(customer -> customer.getName().fullName)
+                    .collect(Collectors.toList());
+        case FindOrderCommand.COMMAND_WORD:
+            return runOnWriter(() -> model.findOrdersByName(keywords, isLastKeywordPrefix, limit)).stream()
+                    .map(order -> order.getName().fullName)
+                    .collect(Collectors.toList());
+        default:
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<String> complete(String commandText) {
+        return commandCompleter.complete(commandText,
+                (prefix, limit) -> runOnWriter(() -> model.completeCustomerName(prefix, limit)),
+                (prefix, limit) -> runOnWriter(() -> model.completeOrderName(prefix, limit)));
     }
 
     @Override
@@ -60,32 +334,73 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return latestSnapshot;
+    }
+
     @Override
     public ObservableList<Customer> getFilteredCustomerList() {
-        return model.getFilteredCustomerList();
+        return filteredCustomerList;
     }
 
     @Override
     public ObservableList<Order> getFilteredOrderList() {
-        return model.getFilteredOrderList();
+        return filteredOrderList;
     }
 
     @Override
     public ObservableList<Order> getFilteredCustomerOrderList() {
-        return model.getFilteredCustomerOrderList();
+        return filteredCustomerOrderList;
+    }
+
+    @Override
+    public ObservableMap<StatusValue, Integer> getOrderStatusCounts() {
+        return orderStatusCounts;
+    }
+
+    @Override
+    public int getCustomerRank(Customer customer) {
+        return runOnWriter(() -> model.getCustomerRank(customer));
+    }
+
+    @Override
+    public ObservableValue<TierDefinitions> getObservableTierDefinitions() {
+        return observableTierDefinitions;
+    }
+
+    @Override
+    public ObservableValue<DashboardStatistics> getObservableDashboardStatistics() {
+        return observableDashboardStatistics;
     }
 
     @Override
     public void updateFilteredCustomerOrderList(Customer customer) {
-        model.updateFilteredCustomerOrderList(customer);
+        runOnWriter(() -> {
+            model.updateFilteredCustomerOrderList(customer);
+            return null;
+        });
     }
 
+    @Override
     public Customer getCustomerToDisplay() {
-        return model.getCustomerToDisplay();
+        return customerToDisplay;
     }
 
+    @Override
     public Order getOrderToDisplay() {
-        return model.getOrderToDisplay();
+        return orderToDisplay;
+    }
+
+    /**
+     * Returns the result of {@code query} of the model, which is run on the writer thread.
+     */
+    private <T> T runOnWriter(Supplier<T> query) {
+        try {
+            return writer.run(query::get);
+        } catch (CommandException | ParseException e) {
+            throw new IllegalStateException("Interrupted while querying the model", e);
+        }
     }
 
     @Override
@@ -95,11 +410,15 @@ public class LogicManager implements Logic {
 
     @Override
     public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
+        // the user prefs are also changed and saved by commands on the writer thread
+        return runOnWriter(model::getGuiSettings);
     }
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        runOnWriter(() -> {
+            model.setGuiSettings(guiSettings);
+            return null;
+        });
     }
 }
@@ -0,0 +1,103 @@
+package seedu.loyaltylift.logic;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the tasks that read or change the model one at a time on a single writer thread, so that clients on any
+ * thread can execute commands while the model, and the {@code FilteredList} and {@code SortedList} views of it,
+ * are only ever touched by the writer.
+ * A task run from the writer thread itself runs immediately, so that the writer can execute commands without
+ * waiting on itself.
+ */
+public class SingleWriterExecutor {
+
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to complete";
+
+    private final Executor writer;
+    private final BooleanSupplier isOnWriterThread;
+
+    /**
+     * Creates a {@code SingleWriterExecutor} that runs tasks on {@code writer}, which must run them one at a time
+     * and in order on the thread identified by {@code isOnWriterThread}, such as the JavaFX application thread.
+     */
+    public SingleWriterExecutor(Executor writer, BooleanSupplier isOnWriterThread) {
+        requireAllNonNull(writer, isOnWriterThread);
+        this.writer = writer;
+        this.isOnWriterThread = isOnWriterThread;
+    }
+
+    /**
+     * Creates a {@code SingleWriterExecutor} whose writer is a new daemon thread named {@code threadName},
+     * for clients without a UI thread.
+     */
+    public static SingleWriterExecutor withNewThread(String threadName) {
+        AtomicReference<Thread> writerThread = new AtomicReference<>();
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            writerThread.set(thread);
+            return thread;
+        });
+        return new SingleWriterExecutor(writer, () -> Thread.currentThread() == writerThread.get());
+    }
+
+    /**
+     * Runs {@code task} on the writer thread and returns its result, once every task submitted before it has run.
+     * The exceptions thrown by {@code task} are rethrown to the caller.
+     * @throws CommandException If {@code task} throws a {@code CommandException}, or the caller is interrupted
+     *     while waiting for it.
+     * @throws ParseException If {@code task} throws a {@code ParseException}.
+     */
+    public <T> T run(Task<T> task) throws CommandException, ParseException {
+        if (isOnWriterThread.getAsBoolean()) {
+            return task.run();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                result.complete(task.run());
+            } catch (Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+        });
+
+        try {
+            return result.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, ie);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * A task that reads or changes the model.
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        T run() throws CommandException, ParseException;
+    }
+}
@@ -22,6 +22,7 @@ import seedu.loyaltylift.model.order.CreatedDate;
 import seedu.loyaltylift.model.order.Order;
 import seedu.loyaltylift.model.order.Quantity;
 import seedu.loyaltylift.model.order.Status;
+import seedu.loyaltylift.model.points.PointsAccrualQueue;
 
 /**
  * Edits the details of an existing order in the address book.
@@ -46,6 +47,8 @@ public class EditOrderCommand extends Command {
     public static final String MESSAGE_EDIT_ORDER_SUCCESS = "Edited Order: \n%1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_ORDER = "This order already exists for the customer today";
+    public static final String MESSAGE_CREDITED_ORDER = "The name and quantity of this order cannot be edited, "
+            + "as the points it earned were credited to the customer";
 
     private final Index index;
     private final EditOrderDescriptor editOrderDescriptor;
@@ -78,6 +81,13 @@ public class EditOrderCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_ORDER);
         }
 
+        // credited orders are identified by their name and quantity, so they would be credited again once edited
+        String reference = PointsAccrualQueue.referenceOf(orderToEdit);
+        if (!reference.equals(PointsAccrualQueue.referenceOf(editedOrder))
+                && model.getPointsLedger().hasAccrued(orderToEdit.getCustomer().getUid(), reference)) {
+            throw new CommandException(MESSAGE_CREDITED_ORDER);
+        }
+
         model.setOrder(orderToEdit, editedOrder);
         model.setOrderToDisplay(editedOrder);
         return new CommandResult(String.format(MESSAGE_EDIT_ORDER_SUCCESS, editedOrder),
@@ -0,0 +1,103 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_ORDERS_ONLY;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.attribute.NoteMatch;
+import seedu.loyaltylift.model.attribute.NoteQuery;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.order.Order;
+
+/**
+ * Finds and lists all customers and orders whose note contains all the argument keywords and phrases.
+ * Keyword matching is case insensitive.
+ */
+public class FindNoteCommand extends Command {
+
+    public static final String COMMAND_WORD = "findnote";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all customers and orders whose notes contain "
+            + "all of the specified keywords and \"quoted phrases\" (case-insensitive) "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " \"no eggs\" birthday";
+
+    public static final String MESSAGE_NOTES_FOUND = "%1$d customers and %2$d orders with matching notes";
+    public static final String MESSAGE_CUSTOMER_SNIPPET = "\nCustomer %1$s: %2$s";
+    public static final String MESSAGE_ORDER_SNIPPET = "\nOrder %1$s (%2$s): %3$s";
+    public static final String MESSAGE_MORE_SNIPPETS = "\n...and %1$d more";
+
+    public static final int MAXIMUM_SNIPPETS_SHOWN = 10;
+
+    private final NoteQuery query;
+
+    public FindNoteCommand(NoteQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<NoteMatch<Customer>> customerMatches = model.findCustomerNotes(query);
+        List<NoteMatch<Order>> orderMatches = model.findOrderNotes(query);
+
+        Set<Customer> matchedCustomers = getEntities(customerMatches);
+        Set<Order> matchedOrders = getEntities(orderMatches);
+        model.sortFilteredCustomerList(Customer.SORT_NAME);
+        model.updateFilteredCustomerList(matchedCustomers::contains);
+        model.sortFilteredOrderList(Order.SORT_CREATED_DATE);
+        model.updateFilteredOrderList(matchedOrders::contains);
+
+        ListViewGuiAction listViewGuiAction = !customerMatches.isEmpty() || orderMatches.isEmpty()
+                ? LIST_CUSTOMERS_ONLY
+                : LIST_ORDERS_ONLY;
+        return new CommandResult(generateFeedback(customerMatches, orderMatches), listViewGuiAction);
+    }
+
+    private static <T> Set<T> getEntities(List<NoteMatch<T>> matches) {
+        return matches.stream().map(NoteMatch::getEntity).collect(Collectors.toSet());
+    }
+
+    /**
+     * Generates the feedback message, listing the matched snippets of up to {@code MAXIMUM_SNIPPETS_SHOWN} notes.
+     */
+    private static String generateFeedback(List<NoteMatch<Customer>> customerMatches,
+            List<NoteMatch<Order>> orderMatches) {
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_NOTES_FOUND, customerMatches.size(), orderMatches.size()));
+
+        int snippetsShown = appendSnippets(builder, customerMatches, MAXIMUM_SNIPPETS_SHOWN, match ->
+                String.format(MESSAGE_CUSTOMER_SNIPPET, match.getEntity().getName(), match.getSnippet()));
+        snippetsShown += appendSnippets(builder, orderMatches, MAXIMUM_SNIPPETS_SHOWN - snippetsShown, match ->
+                String.format(MESSAGE_ORDER_SNIPPET, match.getEntity().getName(),
+                        match.getEntity().getCustomer().getName(), match.getSnippet()));
+
+        int snippetsHidden = customerMatches.size() + orderMatches.size() - snippetsShown;
+        if (snippetsHidden > 0) {
+            builder.append(String.format(MESSAGE_MORE_SNIPPETS, snippetsHidden));
+        }
+        return builder.toString();
+    }
+
+    private static <T> int appendSnippets(StringBuilder builder, List<NoteMatch<T>> matches, int limit,
+            Function<NoteMatch<T>, String> formatter) {
+        int count = Math.min(Math.max(limit, 0), matches.size());
+        matches.subList(0, count).forEach(match -> builder.append(formatter.apply(match)));
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindNoteCommand // instanceof handles nulls
+                && query.equals(((FindNoteCommand) other).query)); // state check
+    }
+}
@@ -1,5 +1,11 @@
 package seedu.loyaltylift.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.loyaltylift.logic.parser.CommandRegistry;
 import seedu.loyaltylift.model.Model;
 
 /**
@@ -13,9 +19,24 @@ public class HelpCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
+    public static final String MESSAGE_COMMANDS = "Commands: %1$s";
+    public static final String MESSAGE_ALIASES = "Aliases: %1$s";
 
     @Override
     public CommandResult execute(Model model) {
-        return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
+        requireNonNull(model);
+        CommandRegistry commandRegistry = new CommandRegistry(model.getUserPrefs().getCommandAliases());
+        StringBuilder message = new StringBuilder(SHOWING_HELP_MESSAGE)
+                .append('\n')
+                .append(String.format(MESSAGE_COMMANDS, String.join(", ", CommandRegistry.getCommandWords())));
+
+        Map<String, String> aliases = commandRegistry.getAliases();
+        if (!aliases.isEmpty()) {
+            String aliasList = aliases.entrySet().stream()
+                    .map(alias -> alias.getKey() + " (" + alias.getValue() + ")")
+                    .collect(Collectors.joining(", "));
+            message.append('\n').append(String.format(MESSAGE_ALIASES, aliasList));
+        }
+        return new CommandResult(message.toString(), true, false);
     }
 }
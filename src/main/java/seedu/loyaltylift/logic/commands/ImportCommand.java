@@ -0,0 +1,76 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.loyaltylift.logic.CsvImporter;
+import seedu.loyaltylift.logic.CsvImporter.BatchCommitter;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+
+/**
+ * Imports the customers or orders in a CSV file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the customers or orders in a CSV file. "
+            + "The first row names the columns: " + CsvImporter.COLUMN_NAME + ", " + CsvImporter.COLUMN_PHONE + ", "
+            + CsvImporter.COLUMN_EMAIL + ", " + CsvImporter.COLUMN_ADDRESS + " and optionally "
+            + CsvImporter.COLUMN_TYPE + " for customers, or " + CsvImporter.COLUMN_CUSTOMER + ", "
+            + CsvImporter.COLUMN_NAME + " and optionally " + CsvImporter.COLUMN_QUANTITY + " and "
+            + CsvImporter.COLUMN_ADDRESS + " for orders.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/customers.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d rows from %3$s";
+    public static final String MESSAGE_REJECTED_ROWS = "%1$d rows were not imported, see %2$s";
+    public static final String MESSAGE_READ_ERROR = "Could not import %1$s: %2$s";
+
+    private final Path csvFile;
+
+    /**
+     * Creates an {@code ImportCommand} to import the customers or orders in {@code csvFile}.
+     */
+    public ImportCommand(Path csvFile) {
+        requireNonNull(csvFile);
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, changes -> changes.run());
+    }
+
+    /**
+     * Imports the file into {@code model}, committing each batch of rows with {@code batchCommitter}, such as to
+     * save the rows imported so far.
+     */
+    public CommandResult execute(Model model, BatchCommitter batchCommitter) throws CommandException {
+        requireAllNonNull(model, batchCommitter);
+        CsvImporter.Result result;
+        try {
+            result = new CsvImporter(model, batchCommitter).importFile(csvFile);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, csvFile, ioe.getMessage()), ioe);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, result.getImportedCount(), result.getRowCount(), csvFile);
+        if (result.getRejectedCount() > 0) {
+            message += "\n" + String.format(MESSAGE_REJECTED_ROWS, result.getRejectedCount(),
+                    CsvImporter.getErrorReportPath(csvFile));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && csvFile.equals(((ImportCommand) other).csvFile)); // state check
+    }
+}
@@ -4,13 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 
 import java.util.Comparator;
-import java.util.function.Predicate;
 
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
 
 /**
  * Lists all customers in the address book to the user.
@@ -21,36 +20,39 @@ public class ListCustomerCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all customers with an optional sort "
             + "(name by default) and filter option and displays them as a list with index numbers.\n"
-            + "Parameters: [" + PREFIX_SORT + "{name|points}] + [" + PREFIX_FILTER + "{marked|ind|ent}]\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_SORT + "points " + PREFIX_FILTER + "marked";
+            + "Parameters: [" + PREFIX_SORT + "{name|points}] + [" + PREFIX_FILTER + "FILTER]\n"
+            + "FILTER combines marked, ind, ent, pending, none, bronze, silver, gold and points comparisons "
+            + "such as pts>=500 using and, or, not and parentheses.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SORT + "points "
+            + PREFIX_FILTER + "marked and (gold or pts>=500)";
 
     public static final String MESSAGE_SUCCESS = "Listed all customers";
     public static final String MESSAGE_INVALID_SORT = "Unrecognized sort option";
     public static final String MESSAGE_INVALID_FILTER = "Unrecognized filter option";
 
     private final Comparator<Customer> comparator;
-    private final Predicate<Customer> predicate;
+    private final CustomerSegment segment;
 
     /**
      * Constructs a default {@code ListCustomerCommand}
      */
     public ListCustomerCommand() {
-        this(Customer.SORT_NAME, PREDICATE_SHOW_ALL_CUSTOMERS);
+        this(Customer.SORT_NAME, CustomerSegment.ALL);
     }
 
     /**
-     * Constructs a {@code ListCustomerCommand} with the given {@code comparator}
+     * Constructs a {@code ListCustomerCommand} with the given {@code comparator} and {@code segment}
      */
-    public ListCustomerCommand(Comparator<Customer> comparator, Predicate<Customer> predicate) {
+    public ListCustomerCommand(Comparator<Customer> comparator, CustomerSegment segment) {
         this.comparator = comparator;
-        this.predicate = predicate;
+        this.segment = segment;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.sortFilteredCustomerList(comparator);
-        model.updateFilteredCustomerList(predicate);
+        model.updateFilteredCustomerList(segment);
         return new CommandResult(MESSAGE_SUCCESS, false, false,
                 LIST_CUSTOMERS_ONLY);
     }
@@ -60,6 +62,6 @@ public class ListCustomerCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof ListCustomerCommand // instanceof handles nulls
                 && comparator.equals(((ListCustomerCommand) other).comparator)
-                && predicate.equals(((ListCustomerCommand) other).predicate)); // state check
+                && segment.equals(((ListCustomerCommand) other).segment)); // state check
     }
 }
@@ -3,14 +3,16 @@ package seedu.loyaltylift.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_ORDERS_ONLY;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_STAGE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.util.Comparator;
-import java.util.function.Predicate;
 
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
 
 /**
  * Lists all orders in LoyaltyLift to the user.
@@ -21,36 +23,42 @@ public class ListOrderCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all orders with an optional sort "
         + "(created date by default) and filter option and displays them as a list with index numbers.\n"
-        + "Parameters: [" + PREFIX_SORT + "{created|name|status}] + [" + PREFIX_FILTER + "STATUS]\n"
-        + "Example: " + COMMAND_WORD + " " + PREFIX_SORT + "name " + PREFIX_FILTER + "pending";
+        + "Orders can also be limited to those created, or that reached a STAGE, between two dates (yyyy/MM/dd).\n"
+        + "Parameters: [" + PREFIX_SORT + "{created|name|status}] + [" + PREFIX_FILTER + "STATUS] "
+        + "[" + PREFIX_STAGE + "STAGE] [" + PREFIX_FROM + "DATE] [" + PREFIX_TO + "DATE]\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_SORT + "name " + PREFIX_FILTER + "pending\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_STAGE + "shipped " + PREFIX_FROM + "2023/03/01 "
+        + PREFIX_TO + "2023/03/31";
 
     public static final String MESSAGE_SUCCESS = "Listed all orders";
     public static final String MESSAGE_INVALID_SORT = "Unrecognized sort option";
     public static final String MESSAGE_INVALID_FILTER = "Unrecognized filter option";
+    public static final String MESSAGE_INVALID_STAGE = "Unrecognized stage option";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format yyyy/MM/dd";
 
     private final Comparator<Order> comparator;
-    private final Predicate<Order> predicate;
+    private final OrderQuery query;
 
     /**
      * Constructs a default {@code ListOrderCommand}
      */
     public ListOrderCommand() {
-        this(Order.SORT_CREATED_DATE, PREDICATE_SHOW_ALL_ORDERS);
+        this(Order.SORT_CREATED_DATE, OrderQuery.ALL);
     }
 
     /**
-     * Constructs a {@code ListOrderCommand} with the given {@code comparator} and {@code predicate}
+     * Constructs a {@code ListOrderCommand} with the given {@code comparator} and {@code query}
      */
-    public ListOrderCommand(Comparator<Order> comparator, Predicate<Order> predicate) {
+    public ListOrderCommand(Comparator<Order> comparator, OrderQuery query) {
         this.comparator = comparator;
-        this.predicate = predicate;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.sortFilteredOrderList(comparator);
-        model.updateFilteredOrderList(predicate);
+        model.updateFilteredOrderList(query);
         return new CommandResult(MESSAGE_SUCCESS, false, false,
                 LIST_ORDERS_ONLY);
     }
@@ -60,6 +68,6 @@ public class ListOrderCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof ListOrderCommand // instanceof handles nulls
                 && comparator.equals(((ListOrderCommand) other).comparator)
-                && predicate.equals(((ListOrderCommand) other).predicate)); // state check
+                && query.equals(((ListOrderCommand) other).query)); // state check
     }
 }
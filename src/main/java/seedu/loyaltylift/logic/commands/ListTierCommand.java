@@ -0,0 +1,45 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
+
+/**
+ * Shows the number of customers and their total points in each loyalty tier.
+ */
+public class ListTierCommand extends Command {
+
+    public static final String COMMAND_WORD = "tiers";
+
+    public static final String MESSAGE_SUCCESS = "Customers in each loyalty tier:";
+    public static final String MESSAGE_TIER = "\n%1$s: %2$d customers (%3$d individuals, %4$d enterprises), "
+            + "%5$d points";
+    public static final String MESSAGE_TOTAL = "\nTotal: %1$d customers, %2$d points";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyLoyaltyTierAggregate aggregate = model.getAddressBookSnapshot().getLoyaltyTierAggregate();
+
+        StringBuilder message = new StringBuilder(MESSAGE_SUCCESS);
+        int totalCount = 0;
+        long totalPoints = 0;
+        List<Tier> tiers = aggregate.getTierDefinitions().getTiers();
+        for (int i = tiers.size() - 1; i >= 0; i--) {
+            Tier tier = tiers.get(i);
+            message.append(String.format(MESSAGE_TIER, tier, aggregate.getCount(tier),
+                    aggregate.getCount(tier, CustomerType.INDIVIDUAL),
+                    aggregate.getCount(tier, CustomerType.ENTERPRISE),
+                    aggregate.getTotalPoints(tier)));
+            totalCount += aggregate.getCount(tier);
+            totalPoints += aggregate.getTotalPoints(tier);
+        }
+        message.append(String.format(MESSAGE_TOTAL, totalCount, totalPoints));
+        return new CommandResult(message.toString());
+    }
+}
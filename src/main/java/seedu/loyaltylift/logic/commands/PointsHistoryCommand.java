@@ -0,0 +1,95 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.loyaltylift.commons.core.index.Index;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.order.CreatedDate;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.ReadOnlyPointsLedger;
+
+/**
+ * Shows the points of a customer as of a date, with the latest changes to them up to that date.
+ */
+public class PointsHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "pointshistory";
+
+    public static final int MAXIMUM_ENTRIES_SHOWN = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the points of the customer identified by "
+            + "the index number used in the displayed customer list as of the end of a date (today by default), "
+            + "with the latest " + MAXIMUM_ENTRIES_SHOWN + " changes to them.\n"
+            + "Parameters: INDEX (must be a positive integer) [" + PREFIX_TO + "DATE (yyyy/MM/dd)]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_TO + "2023/03/01";
+
+    public static final String MESSAGE_SUCCESS = "Points of %1$s as of %2$s: %3$s";
+    public static final String MESSAGE_NO_HISTORY = "No points changes have been recorded for %1$s";
+
+    private final Index index;
+    private final LocalDate asOf;
+
+    /**
+     * Constructs a {@code PointsHistoryCommand} showing the points as of the end of {@code asOf},
+     * or as of now if {@code asOf} is null.
+     */
+    public PointsHistoryCommand(Index index, LocalDate asOf) {
+        requireNonNull(index);
+        this.index = index;
+        this.asOf = asOf;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Customer> lastShownList = model.getFilteredCustomerList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX, MESSAGE_USAGE));
+        }
+
+        Customer customer = lastShownList.get(index.getZeroBased());
+        ReadOnlyPointsLedger pointsLedger = model.getPointsLedger();
+        if (!pointsLedger.hasHistory(customer.getUid())) {
+            return new CommandResult(String.format(MESSAGE_NO_HISTORY, customer.getName()));
+        }
+
+        LocalDateTime time = asOf == null ? LocalDateTime.now() : asOf.atTime(LocalTime.MAX);
+        List<PointsLedgerEntry> history = pointsLedger.getHistoryAsOf(customer.getUid(), time);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, customer.getName(),
+                asOf == null ? "now" : asOf.format(CreatedDate.DATE_FORMATTER),
+                pointsLedger.getBalanceAsOf(customer.getUid(), time)));
+        for (int i = history.size() - 1; i >= Math.max(0, history.size() - MAXIMUM_ENTRIES_SHOWN); i--) {
+            message.append('\n').append(history.get(i));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PointsHistoryCommand)) {
+            return false;
+        }
+
+        // state check
+        PointsHistoryCommand otherCommand = (PointsHistoryCommand) other;
+        return index.equals(otherCommand.index)
+                && Objects.equals(asOf, otherCommand.asOf);
+    }
+}
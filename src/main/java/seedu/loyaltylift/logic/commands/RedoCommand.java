@@ -0,0 +1,28 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+
+/**
+ * Redoes the changes to the customers and orders that were last undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS, UndoCommand.getDisplayAction(model));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_CUSTOMER_TYPE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.points.AccrualRules;
+
+/**
+ * Sets the points customers of a type earn for each unit of an order they complete.
+ */
+public class SetAccrualCommand extends Command {
+
+    public static final String COMMAND_WORD = "setaccrual";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the points customers of a type earn for each "
+            + "unit of an order, which are added when the order is completed. 0 means no points are earned.\n"
+            + "Parameters: "
+            + PREFIX_CUSTOMER_TYPE + "CUSTOMER_TYPE "
+            + PREFIX_POINTS + "POINTS_PER_UNIT (0 to " + AccrualRules.MAXIMUM_POINTS_PER_UNIT + ")\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CUSTOMER_TYPE + "ind "
+            + PREFIX_POINTS + "10";
+
+    public static final String MESSAGE_SUCCESS = "Customers of type %1$s now earn %2$d points per unit ordered\n"
+            + "Points earned: %3$s";
+
+    private final CustomerType customerType;
+    private final int pointsPerUnit;
+
+    /**
+     * Creates a {@code SetAccrualCommand} for customers of type {@code customerType} to earn {@code pointsPerUnit}
+     * points per unit ordered.
+     */
+    public SetAccrualCommand(CustomerType customerType, int pointsPerUnit) {
+        requireNonNull(customerType);
+        this.customerType = customerType;
+        this.pointsPerUnit = pointsPerUnit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AccrualRules newRules = model.getAccrualRules().withPointsPerUnit(customerType, pointsPerUnit);
+        model.setAccrualRules(newRules);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, customerType, pointsPerUnit, newRules));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SetAccrualCommand)) {
+            return false;
+        }
+
+        SetAccrualCommand otherCommand = (SetAccrualCommand) other;
+        return customerType == otherCommand.customerType
+                && pointsPerUnit == otherCommand.pointsPerUnit;
+    }
+}
@@ -19,6 +19,7 @@ import seedu.loyaltylift.model.customer.Email;
 import seedu.loyaltylift.model.customer.Marked;
 import seedu.loyaltylift.model.customer.Phone;
 import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
 
 /**
  * Sets the reward points of a customer
@@ -66,7 +67,7 @@ public class SetPointsCommand extends Command {
         Customer customerToEdit = lastShownList.get(index.getZeroBased());
         Customer editedCustomerWithPoints = createEditedCustomer(customerToEdit);
 
-        model.setCustomer(customerToEdit, editedCustomerWithPoints);
+        model.recordPointsChange(customerToEdit, editedCustomerWithPoints, Reason.SET_POINTS);
         model.setCustomerToDisplay(editedCustomerWithPoints);
         return new CommandResult(generateSuccessMessage(editedCustomerWithPoints),
                 LIST_AND_SHOW_CUSTOMER);
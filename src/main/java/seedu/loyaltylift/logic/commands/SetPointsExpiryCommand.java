@@ -0,0 +1,57 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.points.PointsExpirySchedule;
+
+/**
+ * Sets the number of days after which points granted to customers expire.
+ */
+public class SetPointsExpiryCommand extends Command {
+
+    public static final String COMMAND_WORD = "setexpiry";
+
+    public static final int MAXIMUM_EXPIRY_DAYS = 3650;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the number of days after which points "
+            + "added to customers expire, unless they are spent first. Points already added expire that many days "
+            + "after they were added. 0 means points never expire.\n"
+            + "Parameters: DAYS (0 to " + MAXIMUM_EXPIRY_DAYS + ")\n"
+            + "Example: " + COMMAND_WORD + " 365";
+
+    public static final String MESSAGE_SUCCESS = "Points now expire %1$d days after they are added\n"
+            + "%2$d customers had points expire";
+    public static final String MESSAGE_SUCCESS_NO_EXPIRY = "Points no longer expire";
+
+    private final int expiryDays;
+
+    /**
+     * Creates a {@code SetPointsExpiryCommand} to expire points {@code expiryDays} days after they are granted.
+     */
+    public SetPointsExpiryCommand(int expiryDays) {
+        this.expiryDays = expiryDays;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setPointsExpiryDays(expiryDays);
+        if (expiryDays == PointsExpirySchedule.NO_EXPIRY) {
+            return new CommandResult(MESSAGE_SUCCESS_NO_EXPIRY);
+        }
+
+        // points granted long enough ago are now due
+        int expiredCount = model.expirePoints(LocalDate.now());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, expiryDays, expiredCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SetPointsExpiryCommand // instanceof handles nulls
+                && expiryDays == ((SetPointsExpiryCommand) other).expiryDays); // state check
+    }
+}
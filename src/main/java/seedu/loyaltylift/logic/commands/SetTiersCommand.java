@@ -0,0 +1,45 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+
+/**
+ * Replaces the loyalty tiers customers are placed in by their cumulative points.
+ */
+public class SetTiersCommand extends Command {
+
+    public static final String COMMAND_WORD = "settiers";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces the loyalty tiers with the given tiers. "
+            + "Customers are placed in the highest tier whose minimum cumulative points they have.\n"
+            + "Parameters: NAME:MINIMUM_CUMULATIVE_POINTS [NAME:MINIMUM_CUMULATIVE_POINTS]...\n"
+            + "Example: " + COMMAND_WORD + " Bronze:1000 Silver:5000 Gold:10000 Platinum:50000";
+
+    public static final String MESSAGE_SUCCESS = "Loyalty tiers set to: %1$s\n%2$d customers changed tier";
+
+    private final TierDefinitions tierDefinitions;
+
+    /**
+     * Creates a {@code SetTiersCommand} to replace the loyalty tiers with {@code tierDefinitions}.
+     */
+    public SetTiersCommand(TierDefinitions tierDefinitions) {
+        requireNonNull(tierDefinitions);
+        this.tierDefinitions = tierDefinitions;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int changedCount = model.setTierDefinitions(tierDefinitions);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tierDefinitions, changedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SetTiersCommand // instanceof handles nulls
+                && tierDefinitions.equals(((SetTiersCommand) other).tierDefinitions)); // state check
+    }
+}
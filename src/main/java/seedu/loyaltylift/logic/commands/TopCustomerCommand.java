@@ -0,0 +1,69 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Lists the customers with the most points, optionally out of those within a range of points.
+ */
+public class TopCustomerCommand extends Command {
+
+    public static final String COMMAND_WORD = "topc";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the customers with the most points, "
+            + "ranked from the most points, and displays them as a list with index numbers.\n"
+            + "Only customers with at least " + PREFIX_FROM + " and at most " + PREFIX_TO + " points are ranked, "
+            + "if given.\n"
+            + "Parameters: [COUNT (must be a positive integer, " + DEFAULT_COUNT + " by default)] "
+            + "[" + PREFIX_FROM + "POINTS] [" + PREFIX_TO + "POINTS]\n"
+            + "Example: " + COMMAND_WORD + " 5 " + PREFIX_FROM + "500 " + PREFIX_TO + "2000";
+
+    public static final String MESSAGE_SUCCESS = "Listed the top %1$d customers by points";
+
+    private final int count;
+    private final int minPoints;
+    private final int maxPoints;
+
+    /**
+     * Constructs a {@code TopCustomerCommand} listing the top {@code count} customers out of all customers.
+     */
+    public TopCustomerCommand(int count) {
+        this(count, Points.MINIMUM_POINTS, Points.MAXIMUM_POINTS);
+    }
+
+    /**
+     * Constructs a {@code TopCustomerCommand} listing the top {@code count} customers out of those with
+     * between {@code minPoints} and {@code maxPoints} points.
+     */
+    public TopCustomerCommand(int count, int minPoints, int maxPoints) {
+        this.count = count;
+        this.minPoints = minPoints;
+        this.maxPoints = maxPoints;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredCustomerList(Customer.SORT_POINTS);
+        model.updateFilteredCustomerListToTop(count, minPoints, maxPoints);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredCustomerList().size()),
+                LIST_CUSTOMERS_ONLY);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TopCustomerCommand // instanceof handles nulls
+                && count == ((TopCustomerCommand) other).count
+                && minPoints == ((TopCustomerCommand) other).minPoints
+                && maxPoints == ((TopCustomerCommand) other).maxPoints); // state check
+    }
+}
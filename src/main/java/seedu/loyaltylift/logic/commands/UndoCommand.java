@@ -0,0 +1,46 @@
+package seedu.loyaltylift.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_AND_SHOW_CUSTOMER;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_AND_SHOW_ORDER;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.REMOVE_INFO_FROM_VIEW;
+
+import seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+
+/**
+ * Undoes the changes made to the customers and orders by the latest command that changed them.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the latest change";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        model.undo();
+        return new CommandResult(MESSAGE_SUCCESS, getDisplayAction(model));
+    }
+
+    /**
+     * Returns the action that shows the customer or order the model displays, or clears the information panel
+     * if it displays neither.
+     */
+    static ListViewGuiAction getDisplayAction(Model model) {
+        if (model.getCustomerToDisplay() != null) {
+            return LIST_AND_SHOW_CUSTOMER;
+        } else if (model.getOrderToDisplay() != null) {
+            return LIST_AND_SHOW_ORDER;
+        } else {
+            return REMOVE_INFO_FROM_VIEW;
+        }
+    }
+}
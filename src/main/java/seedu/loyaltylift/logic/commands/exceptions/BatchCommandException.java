@@ -0,0 +1,41 @@
+package seedu.loyaltylift.logic.commands.exceptions;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.loyaltylift.logic.commands.CommandResult;
+
+/**
+ * Represents a command of a batch that failed, after the commands before it in the batch were executed.
+ */
+public class BatchCommandException extends CommandException {
+    private final List<CommandResult> results;
+    private final int failedIndex;
+
+    /**
+     * Constructs a {@code BatchCommandException} for the command at zero-based {@code failedIndex} of a batch, which
+     * failed with {@code cause}, after the commands before it returned {@code results}.
+     */
+    public BatchCommandException(List<CommandResult> results, int failedIndex, Exception cause) {
+        super(cause.getMessage(), cause);
+        requireAllNonNull(results);
+        this.results = Collections.unmodifiableList(results);
+        this.failedIndex = failedIndex;
+    }
+
+    /**
+     * Returns the results of the commands executed before the failed command, in order.
+     */
+    public List<CommandResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the zero-based index of the failed command in its batch.
+     */
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
@@ -1,9 +1,9 @@
 package seedu.loyaltylift.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +12,21 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ *
+ * The arguments string is scanned once for all the prefixes, with an automaton of the prefixes that is compiled
+ * the first time they are tokenized with, so that parsing many commands does not search the string once per prefix.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    // the automatons of the sets of prefixes tokenized with so far
+    private static final Map<List<Prefix>, PrefixAutomaton> automatons = new ConcurrentHashMap<>();
+
+    // the positions of the prefixes found, reused by the tokenizations on each thread
+    private static final ThreadLocal<PrefixPositions> prefixPositionsBuffer =
+            ThreadLocal.withInitial(PrefixPositions::new);
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,55 +36,21 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        PrefixPositions prefixPositions = prefixPositionsBuffer.get();
+        prefixPositions.clear();
+        getAutomaton(prefixes).findAll(argsString, prefixPositions);
+        return extractArguments(argsString, prefixPositions);
     }
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    private static PrefixAutomaton getAutomaton(Prefix... prefixes) {
+        List<Prefix> prefixList = Arrays.asList(prefixes);
+        PrefixAutomaton automaton = automatons.get(prefixList);
+        if (automaton == null) {
+            // the key is copied, as the array of prefixes belongs to the caller
+            automaton = new PrefixAutomaton(prefixList);
+            automatons.putIfAbsent(List.copyOf(prefixList), automaton);
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return automaton;
     }
 
     /**
@@ -81,67 +59,126 @@ public class ArgumentTokenizer {
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, in ascending order
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, PrefixPositions prefixPositions) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        // the preamble is the value of an empty prefix at the start of the string
+        Prefix argPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        for (int i = 0; i < prefixPositions.size; i++) {
+            int nextPrefixPos = prefixPositions.startPositions[i];
+            argMultimap.put(argPrefix, argsString.substring(valueStartPos, nextPrefixPos).trim());
+            argPrefix = prefixPositions.prefixes[i];
+            valueStartPos = nextPrefixPos + argPrefix.getPrefix().length();
         }
+        argMultimap.put(argPrefix, argsString.substring(valueStartPos).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Recognizes a set of prefixes, one character at a time.
+     * Each state is the part of a prefix read so far, and a state that completes a prefix accepts the prefix.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
+    private static class PrefixAutomaton {
+        private final State start = new State();
+
+        PrefixAutomaton(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                State state = start;
+                String prefixString = prefix.getPrefix();
+                for (int i = 0; i < prefixString.length(); i++) {
+                    state = state.getOrAddTransition(prefixString.charAt(i));
+                }
+                state.acceptedPrefix = prefix;
+            }
+        }
 
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+        /**
+         * Adds the positions of the prefixes in {@code argsString} to {@code prefixPositions}, in ascending order.
+         * A prefix is only recognized after a space, e.g. {@code p/} is not recognized in {@code e/hip/900} but
+         * is recognized at 5 in {@code e/hi p/900}. If several prefixes start at the same position, the longest
+         * is recognized.
+         */
+        void findAll(String argsString, PrefixPositions prefixPositions) {
+            int length = argsString.length();
+            for (int position = 1; position <= length; position++) {
+                if (argsString.charAt(position - 1) != ' ') {
+                    continue;
+                }
+
+                State state = start;
+                Prefix prefix = start.acceptedPrefix;
+                for (int i = position; i < length; i++) {
+                    state = state.getTransition(argsString.charAt(i));
+                    if (state == null) {
+                        break;
+                    }
+                    if (state.acceptedPrefix != null) {
+                        prefix = state.acceptedPrefix;
+                    }
+                }
+                if (prefix != null) {
+                    prefixPositions.add(prefix, position);
+                }
+            }
+        }
 
-        return value.trim();
+        /**
+         * A state of the automaton, with a transition for each character that can follow it.
+         */
+        private static class State {
+            private char[] characters = new char[0];
+            private State[] targets = new State[0];
+            private Prefix acceptedPrefix;
+
+            State getTransition(char c) {
+                for (int i = 0; i < characters.length; i++) {
+                    if (characters[i] == c) {
+                        return targets[i];
+                    }
+                }
+                return null;
+            }
+
+            State getOrAddTransition(char c) {
+                State target = getTransition(c);
+                if (target == null) {
+                    target = new State();
+                    characters = Arrays.copyOf(characters, characters.length + 1);
+                    targets = Arrays.copyOf(targets, targets.length + 1);
+                    characters[characters.length - 1] = c;
+                    targets[targets.length - 1] = target;
+                }
+                return target;
+            }
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * The prefixes found in an arguments string and their zero-based positions, in the order they were found.
+     * The arrays are kept between uses, and only grow when more prefixes are found than ever before.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class PrefixPositions {
+        private int[] startPositions = new int[8];
+        private Prefix[] prefixes = new Prefix[8];
+        private int size;
+
+        void add(Prefix prefix, int startPosition) {
+            if (size == startPositions.length) {
+                startPositions = Arrays.copyOf(startPositions, size * 2);
+                prefixes = Arrays.copyOf(prefixes, size * 2);
+            }
+            startPositions[size] = startPosition;
+            prefixes[size] = prefix;
+            size++;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        void clear() {
+            size = 0;
         }
     }
 
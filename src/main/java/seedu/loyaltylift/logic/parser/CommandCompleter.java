@@ -0,0 +1,146 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import seedu.loyaltylift.commons.util.Trie;
+import seedu.loyaltylift.logic.commands.AddOrderCommand;
+import seedu.loyaltylift.logic.commands.EditOrderCommand;
+
+/**
+ * Completes the word being typed at the end of a command: the command word, a prefix accepted by the command, or
+ * the name given to the {@code n/} prefix, which is completed with the names of the customers or orders.
+ * The command words and prefixes are kept in tries, so completing them only walks the characters typed.
+ */
+public class CommandCompleter {
+
+    public static final int MAXIMUM_COMPLETIONS = 10;
+
+    /** The command words whose {@code n/} prefix is given the name of an order rather than of a customer. */
+    private static final Set<String> ORDER_NAME_COMMAND_WORDS =
+            Set.of(AddOrderCommand.COMMAND_WORD, EditOrderCommand.COMMAND_WORD);
+
+    private final CommandRegistry commandRegistry;
+    private final Trie commandWords = new Trie(MAXIMUM_COMPLETIONS);
+    private final Map<String, Trie> prefixesByCommandWord = new HashMap<>();
+
+    /**
+     * Creates a {@code CommandCompleter} of the commands in {@code commandRegistry}, whose aliases are completed
+     * like the command words.
+     */
+    public CommandCompleter(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+        CommandRegistry.getCommandWords().forEach(commandWords::add);
+        commandRegistry.getAliases().keySet().forEach(commandWords::add);
+        for (String commandWord : CommandRegistry.getCommandWords()) {
+            List<Prefix> prefixes = commandRegistry.getPrefixes(commandWord);
+            if (!prefixes.isEmpty()) {
+                Trie prefixTrie = new Trie(MAXIMUM_COMPLETIONS);
+                prefixes.forEach(prefix -> prefixTrie.add(prefix.getPrefix()));
+                prefixesByCommandWord.put(commandWord, prefixTrie);
+            }
+        }
+    }
+
+    /**
+     * Returns the completions of the word being typed at the end of {@code commandText}, each being the whole
+     * command text with the word completed.
+     * The names given to the {@code n/} prefix are completed with {@code customerNames} or {@code orderNames},
+     * which return at most the given number of names starting with the given text.
+     */
+    public List<String> complete(String commandText, BiFunction<String, Integer, List<String>> customerNames,
+            BiFunction<String, Integer, List<String>> orderNames) {
+        requireNonNull(commandText);
+        int commandWordStart = commandText.length() - commandText.stripLeading().length();
+        int commandWordEnd = indexOfWhitespace(commandText, commandWordStart);
+        if (commandWordEnd == commandText.length()) {
+            String commandWord = commandText.substring(commandWordStart);
+            return commandWord.isEmpty()
+                    ? List.of()
+                    : withCompletions(commandText, commandWordStart, commandWords.getWordsStartingWith(commandWord),
+                            " ");
+        }
+
+        String commandWord = commandRegistry.getCommandWord(commandText.substring(commandWordStart, commandWordEnd))
+                .orElse("");
+        Trie prefixes = prefixesByCommandWord.get(commandWord);
+        if (prefixes == null) {
+            return List.of();
+        }
+
+        List<String> completions = new ArrayList<>();
+        int nameStart = findNameStart(commandText, commandRegistry.getPrefixes(commandWord));
+        if (nameStart != -1) {
+            BiFunction<String, Integer, List<String>> names =
+                    ORDER_NAME_COMMAND_WORDS.contains(commandWord) ? orderNames : customerNames;
+            String name = commandText.substring(nameStart).stripLeading();
+            if (!name.isEmpty()) {
+                completions.addAll(withCompletions(commandText, commandText.length() - name.length(),
+                        names.apply(name, MAXIMUM_COMPLETIONS), " "));
+            }
+        }
+
+        int wordStart = lastIndexOfWhitespace(commandText) + 1;
+        String word = commandText.substring(wordStart);
+        if (!word.isEmpty()) {
+            List<String> unusedPrefixes = new ArrayList<>(prefixes.getWordsStartingWith(word));
+            unusedPrefixes.removeIf(prefix -> commandText.contains(" " + prefix));
+            completions.addAll(withCompletions(commandText, wordStart, unusedPrefixes, ""));
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the index at which the value of the last prefix of {@code commandText} starts, if the last prefix is
+     * {@code n/}, or -1 otherwise. As in {@link ArgumentTokenizer}, a prefix must follow a space.
+     */
+    private static int findNameStart(String commandText, List<Prefix> prefixes) {
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : prefixes) {
+            int position = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+        return PREFIX_NAME.equals(lastPrefix)
+                ? lastPrefixPosition + 1 + PREFIX_NAME.getPrefix().length()
+                : -1;
+    }
+
+    private static List<String> withCompletions(String commandText, int wordStart, List<String> words,
+            String suffix) {
+        List<String> completions = new ArrayList<>();
+        for (String word : words) {
+            completions.add(commandText.substring(0, wordStart) + word + suffix);
+        }
+        return completions;
+    }
+
+    private static int indexOfWhitespace(String text, int fromIndex) {
+        for (int i = fromIndex; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_CUSTOMER_TYPE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_STAGE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.logic.commands.AddCustomerCommand;
+import seedu.loyaltylift.logic.commands.AddOrderCommand;
+import seedu.loyaltylift.logic.commands.AddPointsCommand;
+import seedu.loyaltylift.logic.commands.AdvanceOrderStatusCommand;
+import seedu.loyaltylift.logic.commands.AppendCustomerNoteCommand;
+import seedu.loyaltylift.logic.commands.AppendOrderNoteCommand;
+import seedu.loyaltylift.logic.commands.CancelOrderCommand;
+import seedu.loyaltylift.logic.commands.ClearCommand;
+import seedu.loyaltylift.logic.commands.Command;
+import seedu.loyaltylift.logic.commands.DeleteCustomerCommand;
+import seedu.loyaltylift.logic.commands.DeleteOrderCommand;
+import seedu.loyaltylift.logic.commands.EditCustomerCommand;
+import seedu.loyaltylift.logic.commands.EditOrderCommand;
+import seedu.loyaltylift.logic.commands.ExitCommand;
+import seedu.loyaltylift.logic.commands.FindCustomerCommand;
+import seedu.loyaltylift.logic.commands.FindNoteCommand;
+import seedu.loyaltylift.logic.commands.FindOrderCommand;
+import seedu.loyaltylift.logic.commands.HelpCommand;
+import seedu.loyaltylift.logic.commands.ImportCommand;
+import seedu.loyaltylift.logic.commands.ListCustomerCommand;
+import seedu.loyaltylift.logic.commands.ListOrderCommand;
+import seedu.loyaltylift.logic.commands.ListTierCommand;
+import seedu.loyaltylift.logic.commands.MarkCustomerCommand;
+import seedu.loyaltylift.logic.commands.PointsHistoryCommand;
+import seedu.loyaltylift.logic.commands.RedoCommand;
+import seedu.loyaltylift.logic.commands.RevertOrderStatusCommand;
+import seedu.loyaltylift.logic.commands.SetAccrualCommand;
+import seedu.loyaltylift.logic.commands.SetCustomerNoteCommand;
+import seedu.loyaltylift.logic.commands.SetOrderNoteCommand;
+import seedu.loyaltylift.logic.commands.SetPointsCommand;
+import seedu.loyaltylift.logic.commands.SetPointsExpiryCommand;
+import seedu.loyaltylift.logic.commands.SetTiersCommand;
+import seedu.loyaltylift.logic.commands.TopCustomerCommand;
+import seedu.loyaltylift.logic.commands.UndoCommand;
+import seedu.loyaltylift.logic.commands.UnmarkCustomerCommand;
+import seedu.loyaltylift.logic.commands.ViewCustomerCommand;
+import seedu.loyaltylift.logic.commands.ViewOrderCommand;
+
+/**
+ * The commands that can be entered, each registered with its command word, the parser of its arguments and the
+ * prefixes its arguments accept.
+ * The parsers hold no state, so a single instance of each is shared by every command parsed.
+ * Aliases may stand for command words, e.g. {@code ls} for {@code listc}, and are looked up like the command words.
+ */
+public class CommandRegistry {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRegistry.class);
+
+    private static final Map<String, RegisteredCommand> COMMANDS = new HashMap<>();
+
+    static {
+        register(AddCustomerCommand.COMMAND_WORD, new AddCustomerCommandParser(),
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CUSTOMER_TYPE);
+        register(EditCustomerCommand.COMMAND_WORD, new EditCustomerCommandParser(),
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CUSTOMER_TYPE);
+        register(DeleteCustomerCommand.COMMAND_WORD, new DeleteCustomerCommandParser());
+        register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        register(FindCustomerCommand.COMMAND_WORD, new FindCustomerCommandParser());
+        register(ListCustomerCommand.COMMAND_WORD, new ListCustomerCommandParser(), PREFIX_SORT, PREFIX_FILTER);
+        register(TopCustomerCommand.COMMAND_WORD, new TopCustomerCommandParser(), PREFIX_FROM, PREFIX_TO);
+        register(ListTierCommand.COMMAND_WORD, arguments -> new ListTierCommand());
+        register(SetTiersCommand.COMMAND_WORD, new SetTiersCommandParser());
+        register(SetPointsExpiryCommand.COMMAND_WORD, new SetPointsExpiryCommandParser());
+        register(SetAccrualCommand.COMMAND_WORD, new SetAccrualCommandParser(), PREFIX_CUSTOMER_TYPE, PREFIX_POINTS);
+        register(MarkCustomerCommand.COMMAND_WORD, new MarkCustomerCommandParser());
+        register(UnmarkCustomerCommand.COMMAND_WORD, new UnmarkCustomerCommandParser());
+        register(ViewCustomerCommand.COMMAND_WORD, new ViewCustomerCommandParser());
+        register(AddOrderCommand.COMMAND_WORD, new AddOrderCommandParser(),
+                PREFIX_NAME, PREFIX_QUANTITY, PREFIX_ADDRESS);
+        register(DeleteOrderCommand.COMMAND_WORD, new DeleteOrderCommandParser());
+        register(EditOrderCommand.COMMAND_WORD, new EditOrderCommandParser(),
+                PREFIX_NAME, PREFIX_QUANTITY, PREFIX_ADDRESS);
+        register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        register(SetPointsCommand.COMMAND_WORD, new SetPointsCommandParser(), PREFIX_POINTS);
+        register(AddPointsCommand.COMMAND_WORD, new AddPointsCommandParser(), PREFIX_POINTS);
+        register(PointsHistoryCommand.COMMAND_WORD, new PointsHistoryCommandParser(), PREFIX_TO);
+        register(SetCustomerNoteCommand.COMMAND_WORD, new SetCustomerNoteCommandParser(), PREFIX_NOTE);
+        register(AppendCustomerNoteCommand.COMMAND_WORD, new AppendCustomerNoteCommandParser(), PREFIX_NOTE);
+        register(SetOrderNoteCommand.COMMAND_WORD, new SetOrderNoteCommandParser(), PREFIX_NOTE);
+        register(AppendOrderNoteCommand.COMMAND_WORD, new AppendOrderNoteCommandParser(), PREFIX_NOTE);
+        register(FindOrderCommand.COMMAND_WORD, new FindOrderCommandParser());
+        register(ListOrderCommand.COMMAND_WORD, new ListOrderCommandParser(),
+                PREFIX_SORT, PREFIX_FILTER, PREFIX_STAGE, PREFIX_FROM, PREFIX_TO);
+        register(AdvanceOrderStatusCommand.COMMAND_WORD, new AdvanceOrderStatusCommandParser());
+        register(RevertOrderStatusCommand.COMMAND_WORD, new RevertOrderStatusCommandParser());
+        register(CancelOrderCommand.COMMAND_WORD, new CancelOrderCommandParser());
+        register(ViewOrderCommand.COMMAND_WORD, new ViewOrderCommandParser());
+        register(FindNoteCommand.COMMAND_WORD, new FindNoteCommandParser());
+        register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+    }
+
+    private static final List<String> COMMAND_WORDS = sortedCommandWords();
+
+    private final Map<String, String> commandWordsByAlias = new TreeMap<>();
+
+    /**
+     * Creates a {@code CommandRegistry} of every command, without aliases.
+     */
+    public CommandRegistry() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a {@code CommandRegistry} of every command, with the aliases in {@code commandWordsByAlias}, each
+     * mapped to the command word it stands for.
+     * Aliases that are not a single word, are already command words, or stand for words that are not command words
+     * are ignored.
+     */
+    public CommandRegistry(Map<String, String> commandWordsByAlias) {
+        requireNonNull(commandWordsByAlias);
+        commandWordsByAlias.forEach((alias, commandWord) -> {
+            if (alias.isEmpty() || alias.chars().anyMatch(Character::isWhitespace) || COMMANDS.containsKey(alias)
+                    || !COMMANDS.containsKey(commandWord)) {
+                logger.warning("Ignoring alias " + alias + " of " + commandWord);
+                return;
+            }
+            this.commandWordsByAlias.put(alias, commandWord);
+        });
+    }
+
+    private static void register(String commandWord, Parser<? extends Command> parser, Prefix... prefixes) {
+        COMMANDS.put(commandWord, new RegisteredCommand(parser, List.of(prefixes)));
+    }
+
+    private static List<String> sortedCommandWords() {
+        List<String> commandWords = new ArrayList<>(COMMANDS.keySet());
+        Collections.sort(commandWords);
+        return Collections.unmodifiableList(commandWords);
+    }
+
+    /**
+     * Returns every command word, in alphabetical order.
+     */
+    public static List<String> getCommandWords() {
+        return COMMAND_WORDS;
+    }
+
+    /**
+     * Returns the aliases, in alphabetical order, each mapped to the command word it stands for.
+     */
+    public Map<String, String> getAliases() {
+        return Collections.unmodifiableMap(commandWordsByAlias);
+    }
+
+    /**
+     * Returns the command word that {@code word} is, or that it is an alias of, if any.
+     */
+    public Optional<String> getCommandWord(String word) {
+        requireNonNull(word);
+        if (COMMANDS.containsKey(word)) {
+            return Optional.of(word);
+        }
+        return Optional.ofNullable(commandWordsByAlias.get(word));
+    }
+
+    /**
+     * Returns the parser of the arguments of the command with the command word or alias {@code word}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String word) {
+        return getCommandWord(word).map(commandWord -> COMMANDS.get(commandWord).parser);
+    }
+
+    /**
+     * Returns the prefixes accepted by the command with the command word or alias {@code word}, which are none if
+     * there is no such command.
+     */
+    public List<Prefix> getPrefixes(String word) {
+        return getCommandWord(word).map(commandWord -> COMMANDS.get(commandWord).prefixes).orElse(List.of());
+    }
+
+    /**
+     * A command in the registry.
+     */
+    private static class RegisteredCommand {
+        private final Parser<? extends Command> parser;
+        private final List<Prefix> prefixes;
+
+        RegisteredCommand(Parser<? extends Command> parser, List<Prefix> prefixes) {
+            this.parser = parser;
+            this.prefixes = prefixes;
+        }
+    }
+}
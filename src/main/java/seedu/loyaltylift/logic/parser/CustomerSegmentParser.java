@@ -0,0 +1,151 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.loyaltylift.logic.commands.ListCustomerCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Parses a customer filter expression into a {@code CustomerSegment}.
+ * An expression combines the filters {@code marked}, {@code ind}, {@code ent}, {@code pending},
+ * the tiers {@code none}, {@code bronze}, {@code silver} and {@code gold}, any other tier as {@code tier:NAME},
+ * and points comparisons such as {@code pts>=500} with {@code and}, {@code or}, {@code not} and parentheses.
+ * {@code not} binds tighter than {@code and}, which binds tighter than {@code or}.
+ */
+public class CustomerSegmentParser {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\(|\\)|[^\\s()]+");
+    private static final Pattern TIER_FORMAT = Pattern.compile("TIER:(?<name>[A-Z]+)");
+    private static final Pattern POINTS_FORMAT = Pattern.compile("PTS(?<operator>>=|<=|>|<)(?<points>\\d+)");
+
+    private final List<String> tokens = new ArrayList<>();
+    private int position = 0;
+
+    private CustomerSegmentParser(String expression) {
+        Matcher matcher = TOKEN_FORMAT.matcher(expression.toUpperCase());
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+    }
+
+    /**
+     * Parses {@code expression} into a {@code CustomerSegment}.
+     * @throws ParseException if the given {@code expression} is invalid.
+     */
+    public static CustomerSegment parse(String expression) throws ParseException {
+        requireNonNull(expression);
+        CustomerSegmentParser parser = new CustomerSegmentParser(expression);
+        if (parser.tokens.isEmpty()) {
+            throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
+        }
+        CustomerSegment segment = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
+        }
+        return segment;
+    }
+
+    private CustomerSegment parseOr() throws ParseException {
+        CustomerSegment segment = parseAnd();
+        while (consumeIf("OR")) {
+            segment = segment.or(parseAnd());
+        }
+        return segment;
+    }
+
+    private CustomerSegment parseAnd() throws ParseException {
+        CustomerSegment segment = parseNot();
+        while (consumeIf("AND")) {
+            segment = segment.and(parseNot());
+        }
+        return segment;
+    }
+
+    private CustomerSegment parseNot() throws ParseException {
+        if (consumeIf("NOT")) {
+            return parseNot().not();
+        }
+        if (consumeIf("(")) {
+            CustomerSegment segment = parseOr();
+            if (!consumeIf(")")) {
+                throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
+            }
+            return segment;
+        }
+        return parseFilter();
+    }
+
+    private CustomerSegment parseFilter() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
+        }
+        String token = tokens.get(position++);
+        switch (token) {
+        case "MARKED":
+            return CustomerSegment.MARKED;
+        case "PENDING":
+            return CustomerSegment.PENDING;
+        case "IND":
+        case "ENT":
+            return CustomerSegment.ofType(CustomerType.fromUserFriendlyString(token));
+        case "NONE":
+        case "BRONZE":
+        case "SILVER":
+        case "GOLD":
+            return CustomerSegment.ofTier(token);
+        default:
+            return parseTierOrPointsFilter(token);
+        }
+    }
+
+    private CustomerSegment parseTierOrPointsFilter(String token) throws ParseException {
+        Matcher matcher = TIER_FORMAT.matcher(token);
+        if (matcher.matches()) {
+            return CustomerSegment.ofTier(matcher.group("name"));
+        }
+        return parsePointsFilter(token);
+    }
+
+    private CustomerSegment parsePointsFilter(String token) throws ParseException {
+        Matcher matcher = POINTS_FORMAT.matcher(token);
+        if (!matcher.matches()) {
+            throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
+        }
+        String points = matcher.group("points");
+        if (points.length() > Points.MAXIMUM_POINTS.toString().length()
+                || !Points.isValidPoints(Integer.parseInt(points))) {
+            throw new ParseException(Points.MESSAGE_CONSTRAINTS);
+        }
+        int value = Integer.parseInt(points);
+        switch (matcher.group("operator")) {
+        case ">=":
+            return CustomerSegment.withPointsAtLeast(value);
+        case ">":
+            return CustomerSegment.withPointsAtLeast(value + 1);
+        case "<=":
+            return CustomerSegment.withPointsBelow(value + 1);
+        default:
+            return CustomerSegment.withPointsBelow(value);
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private boolean consumeIf(String token) {
+        if (hasNext() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.loyaltylift.logic.commands.FindNoteCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.attribute.NoteIndex;
+import seedu.loyaltylift.model.attribute.NoteQuery;
+
+/**
+ * Parses input arguments and creates a new FindNoteCommand object
+ */
+public class FindNoteCommandParser implements Parser<FindNoteCommand> {
+
+    /**
+     * Used for separating the arguments into "quoted phrases" and single keywords.
+     */
+    private static final Pattern PHRASE_FORMAT = Pattern.compile("\"(?<phrase>[^\"]*)\"|(?<keyword>[^\\s\"]+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindNoteCommand
+     * and returns a FindNoteCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindNoteCommand parse(String args) throws ParseException {
+        List<String> phrases = new ArrayList<>();
+        Matcher matcher = PHRASE_FORMAT.matcher(args.trim());
+        while (matcher.find()) {
+            String phrase = matcher.group("phrase") != null ? matcher.group("phrase") : matcher.group("keyword");
+            if (!NoteIndex.tokenize(phrase).isEmpty()) {
+                phrases.add(phrase);
+            }
+        }
+
+        if (phrases.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+        }
+
+        return new FindNoteCommand(new NoteQuery(phrases));
+    }
+
+}
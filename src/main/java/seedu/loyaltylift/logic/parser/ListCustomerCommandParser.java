@@ -2,15 +2,14 @@ package seedu.loyaltylift.logic.parser;
 
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 
 import java.util.Comparator;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.loyaltylift.logic.commands.ListCustomerCommand;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
 
 /**
  * Parses input arguments and creates a new ListCustomerCommand object
@@ -30,12 +29,12 @@ public class ListCustomerCommandParser implements Parser<ListCustomerCommand> {
             comparator = ParserUtil.parseCustomerSortOption(argMultimap.getValue(PREFIX_SORT).orElse(""));
         }
 
-        Predicate<Customer> predicate = PREDICATE_SHOW_ALL_CUSTOMERS;
+        CustomerSegment segment = CustomerSegment.ALL;
         if (arePrefixesPresent(argMultimap, PREFIX_FILTER)) {
-            predicate = ParserUtil.parseCustomerFilterOption(argMultimap.getValue(PREFIX_FILTER).orElse(""));
+            segment = ParserUtil.parseCustomerFilterOption(argMultimap.getValue(PREFIX_FILTER).orElse(""));
         }
 
-        return new ListCustomerCommand(comparator, predicate);
+        return new ListCustomerCommand(comparator, segment);
     }
 
     /**
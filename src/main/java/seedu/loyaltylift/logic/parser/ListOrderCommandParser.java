@@ -1,16 +1,19 @@
 package seedu.loyaltylift.logic.parser;
 
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_STAGE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
 
+import java.time.LocalDate;
 import java.util.Comparator;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.loyaltylift.logic.commands.ListOrderCommand;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
 
 /**
  * Parses input arguments and creates a new ListOrderCommand object
@@ -23,19 +26,39 @@ public class ListOrderCommandParser implements Parser<ListOrderCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListOrderCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_FILTER);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_FILTER, PREFIX_STAGE,
+                PREFIX_FROM, PREFIX_TO);
 
         Comparator<Order> comparator = Order.SORT_CREATED_DATE;
         if (arePrefixesPresent(argMultimap, PREFIX_SORT)) {
             comparator = ParserUtil.parseOrderSortOption(argMultimap.getValue(PREFIX_SORT).orElse(""));
         }
 
-        Predicate<Order> predicate = PREDICATE_SHOW_ALL_ORDERS;
+        OrderQuery query = OrderQuery.ALL;
         if (arePrefixesPresent(argMultimap, PREFIX_FILTER)) {
-            predicate = ParserUtil.parseOrderFilterOption(argMultimap.getValue(PREFIX_FILTER).orElse(""));
+            query = query.withStatus(ParserUtil.parseOrderFilterOption(argMultimap.getValue(PREFIX_FILTER).orElse("")));
         }
 
-        return new ListOrderCommand(comparator, predicate);
+        LocalDate from = null;
+        if (arePrefixesPresent(argMultimap, PREFIX_FROM)) {
+            from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        }
+        LocalDate to = null;
+        if (arePrefixesPresent(argMultimap, PREFIX_TO)) {
+            to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        }
+        if (!OrderQuery.isValidDateRange(from, to)) {
+            throw new ParseException(OrderQuery.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        if (arePrefixesPresent(argMultimap, PREFIX_STAGE)) {
+            query = query.withStageReachedBetween(
+                    ParserUtil.parseOrderStageOption(argMultimap.getValue(PREFIX_STAGE).get()), from, to);
+        } else if (from != null || to != null) {
+            query = query.withCreatedDateBetween(from, to);
+        }
+
+        return new ListOrderCommand(comparator, query);
     }
 
     /**
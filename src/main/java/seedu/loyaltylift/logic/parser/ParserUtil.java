@@ -2,8 +2,9 @@ package seedu.loyaltylift.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Comparator;
-import java.util.function.Predicate;
 
 import seedu.loyaltylift.commons.core.index.Index;
 import seedu.loyaltylift.commons.util.StringUtil;
@@ -14,13 +15,13 @@ import seedu.loyaltylift.model.attribute.Address;
 import seedu.loyaltylift.model.attribute.Name;
 import seedu.loyaltylift.model.attribute.Note;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
 import seedu.loyaltylift.model.customer.CustomerType;
-import seedu.loyaltylift.model.customer.CustomerTypePredicate;
 import seedu.loyaltylift.model.customer.Email;
 import seedu.loyaltylift.model.customer.Phone;
 import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.order.CreatedDate;
 import seedu.loyaltylift.model.order.Order;
-import seedu.loyaltylift.model.order.OrderStatusPredicate;
 import seedu.loyaltylift.model.order.Quantity;
 import seedu.loyaltylift.model.order.StatusValue;
 
@@ -221,21 +222,13 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String filterOption} into a {@code Predicate<Customer>}.
+     * Parses a {@code String filterOption} into a {@code CustomerSegment}.
      * @throws ParseException if the given {@code filterOption} is invalid.
+     * @see CustomerSegmentParser
      */
-    public static Predicate<Customer> parseCustomerFilterOption(String filterOption) throws ParseException {
+    public static CustomerSegment parseCustomerFilterOption(String filterOption) throws ParseException {
         requireNonNull(filterOption);
-        String trimmedFilterOption = filterOption.trim().toUpperCase();
-        switch (trimmedFilterOption) {
-        case "MARKED":
-            return Customer.FILTER_SHOW_MARKED;
-        case "IND":
-        case "ENT":
-            return new CustomerTypePredicate(parseCustomerType(trimmedFilterOption));
-        default:
-            throw new ParseException(ListCustomerCommand.MESSAGE_INVALID_FILTER);
-        }
+        return CustomerSegmentParser.parse(filterOption);
     }
 
     /**
@@ -258,18 +251,44 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String filterOption} into a {@code Predicate<Order>}.
+     * Parses a {@code String filterOption} into the {@code StatusValue} orders are filtered by.
      * @throws ParseException if the given {@code filterOption} is invalid.
      */
-    public static Predicate<Order> parseOrderFilterOption(String filterOption) throws ParseException {
+    public static StatusValue parseOrderFilterOption(String filterOption) throws ParseException {
         requireNonNull(filterOption);
         String trimmedFilterOption = filterOption.trim();
         try {
-            StatusValue status = parseStatusValue(trimmedFilterOption);
-            return new OrderStatusPredicate(status);
+            return parseStatusValue(trimmedFilterOption);
         } catch (ParseException e) {
             throw new ParseException(ListOrderCommand.MESSAGE_INVALID_FILTER);
         }
     }
 
+    /**
+     * Parses a {@code String date} in the format yyyy/MM/dd into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), CreatedDate.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(ListOrderCommand.MESSAGE_INVALID_DATE);
+        }
+    }
+
+    /**
+     * Parses a {@code String stage} into the {@code StatusValue} whose date orders are filtered by.
+     * @throws ParseException if the given {@code stage} is invalid.
+     */
+    public static StatusValue parseOrderStageOption(String stage) throws ParseException {
+        requireNonNull(stage);
+        try {
+            return parseStatusValue(stage);
+        } catch (ParseException e) {
+            throw new ParseException(ListOrderCommand.MESSAGE_INVALID_STAGE);
+        }
+    }
+
 }
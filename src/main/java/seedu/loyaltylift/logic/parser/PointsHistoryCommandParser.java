@@ -0,0 +1,43 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.loyaltylift.commons.core.index.Index;
+import seedu.loyaltylift.logic.commands.PointsHistoryCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PointsHistoryCommand object
+ */
+public class PointsHistoryCommandParser implements Parser<PointsHistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PointsHistoryCommand
+     * and returns a PointsHistoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PointsHistoryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TO);
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PointsHistoryCommand.MESSAGE_USAGE), pe);
+        }
+
+        LocalDate asOf = null;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            asOf = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        }
+
+        return new PointsHistoryCommand(index, asOf);
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_CUSTOMER_TYPE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
+
+import java.util.stream.Stream;
+
+import seedu.loyaltylift.logic.commands.SetAccrualCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.points.AccrualRules;
+
+/**
+ * Parses input arguments and creates a new SetAccrualCommand object
+ */
+public class SetAccrualCommandParser implements Parser<SetAccrualCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SetAccrualCommand
+     * and returns a SetAccrualCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SetAccrualCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CUSTOMER_TYPE, PREFIX_POINTS);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_CUSTOMER_TYPE, PREFIX_POINTS)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SetAccrualCommand.MESSAGE_USAGE));
+        }
+        CustomerType customerType = ParserUtil.parseCustomerType(argMultimap.getValue(PREFIX_CUSTOMER_TYPE).get());
+
+        int pointsPerUnit;
+        try {
+            pointsPerUnit = Integer.parseInt(argMultimap.getValue(PREFIX_POINTS).get().trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException(AccrualRules.MESSAGE_CONSTRAINTS, e);
+        }
+        if (!AccrualRules.isValidPointsPerUnit(pointsPerUnit)) {
+            throw new ParseException(AccrualRules.MESSAGE_CONSTRAINTS);
+        }
+
+        return new SetAccrualCommand(customerType, pointsPerUnit);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
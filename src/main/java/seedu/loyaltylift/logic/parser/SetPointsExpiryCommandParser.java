@@ -0,0 +1,38 @@
+package seedu.loyaltylift.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.loyaltylift.logic.commands.SetPointsExpiryCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SetPointsExpiryCommand object
+ */
+public class SetPointsExpiryCommandParser implements Parser<SetPointsExpiryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SetPointsExpiryCommand
+     * and returns a SetPointsExpiryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SetPointsExpiryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        int expiryDays;
+        try {
+            expiryDays = Integer.parseInt(trimmedArgs);
+        } catch (NumberFormatException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetPointsExpiryCommand.MESSAGE_USAGE), e);
+        }
+        if (expiryDays < 0 || expiryDays > SetPointsExpiryCommand.MAXIMUM_EXPIRY_DAYS) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetPointsExpiryCommand.MESSAGE_USAGE));
+        }
+
+        return new SetPointsExpiryCommand(expiryDays);
+    }
+
+}
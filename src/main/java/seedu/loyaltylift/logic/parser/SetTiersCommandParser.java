@@ -0,0 +1,54 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.loyaltylift.logic.commands.SetTiersCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+
+/**
+ * Parses input arguments and creates a new SetTiersCommand object
+ */
+public class SetTiersCommandParser implements Parser<SetTiersCommand> {
+
+    private static final Pattern TIER_FORMAT = Pattern.compile("(?<name>[^:]+):(?<points>\\d+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SetTiersCommand
+     * and returns a SetTiersCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SetTiersCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetTiersCommand.MESSAGE_USAGE));
+        }
+
+        List<Tier> tiers = new ArrayList<>();
+        for (String tier : trimmedArgs.split("\\s+")) {
+            Matcher matcher = TIER_FORMAT.matcher(tier);
+            if (!matcher.matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        SetTiersCommand.MESSAGE_USAGE));
+            }
+            String points = matcher.group("points");
+            if (points.length() > Points.MAXIMUM_POINTS.toString().length()) {
+                throw new ParseException(TierDefinitions.MESSAGE_CONSTRAINTS);
+            }
+            tiers.add(new Tier(matcher.group("name"), Integer.parseInt(points)));
+        }
+
+        if (!TierDefinitions.isValidTiers(tiers)) {
+            throw new ParseException(TierDefinitions.MESSAGE_CONSTRAINTS);
+        }
+        return new SetTiersCommand(new TierDefinitions(tiers));
+    }
+
+}
@@ -0,0 +1,51 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.loyaltylift.commons.util.StringUtil;
+import seedu.loyaltylift.logic.commands.TopCustomerCommand;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import seedu.loyaltylift.model.customer.CustomerPointsRanking;
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Parses input arguments and creates a new TopCustomerCommand object
+ */
+public class TopCustomerCommandParser implements Parser<TopCustomerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TopCustomerCommand
+     * and returns a TopCustomerCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCustomerCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        int count = TopCustomerCommand.DEFAULT_COUNT;
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        TopCustomerCommand.MESSAGE_USAGE));
+            }
+            count = Integer.parseInt(preamble);
+        }
+
+        int minPoints = Points.MINIMUM_POINTS;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            minPoints = ParserUtil.parsePoints(argMultimap.getValue(PREFIX_FROM).get()).value;
+        }
+        int maxPoints = Points.MAXIMUM_POINTS;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            maxPoints = ParserUtil.parsePoints(argMultimap.getValue(PREFIX_TO).get()).value;
+        }
+        if (minPoints > maxPoints) {
+            throw new ParseException(CustomerPointsRanking.MESSAGE_INVALID_POINTS_RANGE);
+        }
+
+        return new TopCustomerCommand(count, minPoints, maxPoints);
+    }
+
+}
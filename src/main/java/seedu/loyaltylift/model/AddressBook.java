@@ -2,25 +2,80 @@ package seedu.loyaltylift.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.loyaltylift.model.DashboardStatistics.PendingAge;
+import seedu.loyaltylift.model.attribute.NameIndex;
+import seedu.loyaltylift.model.attribute.NoteIndex;
+import seedu.loyaltylift.model.attribute.NoteMatch;
+import seedu.loyaltylift.model.attribute.NoteQuery;
+import seedu.loyaltylift.model.customer.CumulativePointsIndex;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerPointsRanking;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.CustomerSegmentIndex;
+import seedu.loyaltylift.model.customer.LoyaltyTierAggregate;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.model.customer.UniqueCustomerList;
+import seedu.loyaltylift.model.event.ModelChangeBus;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerUpdated;
+import seedu.loyaltylift.model.event.ModelChangeEvent.DataReset;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderStatusChanged;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderUpdated;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderDateIndex;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.OrderStatusIndex;
+import seedu.loyaltylift.model.order.StatusValue;
 import seedu.loyaltylift.model.order.UniqueOrderList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameCustomer comparison)
+ * Every change to the customers and orders is published on the address book's {@code ModelChangeBus}.
+ * The customers and orders are kept without JavaFX; the {@code ObservableList} views of them are only created when
+ * first asked for, so that tools that do not display the address book never load JavaFX collections.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueCustomerList customers;
     private final UniqueOrderList orders;
 
+    // indexes
+    private final NameIndex<Customer> customerNameIndex;
+    private final NameIndex<Order> orderNameIndex;
+    private final NoteIndex<Customer> customerNoteIndex;
+    private final NoteIndex<Order> orderNoteIndex;
+    private final CustomerSegmentIndex customerSegmentIndex;
+    private final CustomerPointsRanking customerPointsRanking;
+    private final LoyaltyTierAggregate loyaltyTierAggregate;
+    private final CumulativePointsIndex cumulativePointsIndex;
+    private final OrderStatusIndex orderStatusIndex;
+    private final OrderDateIndex orderDateIndex;
+
+    private final ModelChangeBus changeBus;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,6 +86,17 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         customers = new UniqueCustomerList();
         orders = new UniqueOrderList();
+        customerNameIndex = new NameIndex<>(Customer::getName);
+        orderNameIndex = new NameIndex<>(Order::getName);
+        customerNoteIndex = new NoteIndex<>(Customer::getNote);
+        orderNoteIndex = new NoteIndex<>(Order::getNote);
+        customerSegmentIndex = new CustomerSegmentIndex();
+        customerPointsRanking = new CustomerPointsRanking();
+        loyaltyTierAggregate = new LoyaltyTierAggregate();
+        cumulativePointsIndex = new CumulativePointsIndex();
+        orderStatusIndex = new OrderStatusIndex();
+        orderDateIndex = new OrderDateIndex();
+        changeBus = new ModelChangeBus();
     }
 
     public AddressBook() {}
@@ -51,6 +117,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setCustomers(List<Customer> customers) {
         this.customers.setCustomers(customers);
+        customerNameIndex.setAll(customers);
+        customerNoteIndex.setAll(customers);
+        customerPointsRanking.setAll(customers);
+        loyaltyTierAggregate.setAll(customers);
+        cumulativePointsIndex.setAll(customers);
+        customerSegmentIndex.setCustomers(customers);
+        customerSegmentIndex.setOrders(this.orders.asUnmodifiableList());
+        changeBus.publish(new DataReset());
     }
 
     /**
@@ -59,6 +133,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setOrders(List<Order> orders) {
         this.orders.setOrders(orders);
+        orderNameIndex.setAll(orders);
+        orderNoteIndex.setAll(orders);
+        orderStatusIndex.setAll(orders);
+        orderDateIndex.setAll(orders);
+        customerSegmentIndex.setOrders(orders);
+        changeBus.publish(new DataReset());
     }
 
     /**
@@ -67,8 +147,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setCustomers(newData.getCustomerList());
-        setOrders(newData.getOrderList());
+        changeBus.beginBatch();
+        try {
+            setCustomers(newData.getCustomers());
+            setOrders(newData.getOrders());
+        } finally {
+            changeBus.endBatch();
+        }
+    }
+
+    /**
+     * Returns the bus on which changes to the customers and orders are published.
+     */
+    public ModelChangeBus getChangeBus() {
+        return changeBus;
     }
 
     //// customer-level operations
@@ -81,6 +173,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return customers.getCustomer(customerUid);
     }
 
+    /**
+     * Returns the customer in the address book with {@code customerUid}, if any.
+     */
+    public Optional<Customer> findCustomer(String customerUid) {
+        return customers.findCustomer(customerUid);
+    }
+
     /**
      * Returns true if a customer with the same identity as {@code customer} exists in the address book.
      */
@@ -94,7 +193,49 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The customer must not already exist in the address book.
      */
     public void addCustomer(Customer p) {
+        customers.requireAddable(p);
+        indexCustomerToAdd(p);
         customers.add(p);
+        indexAddedCustomer(p);
+    }
+
+    /**
+     * Adds {@code customersToAdd} to the address book, as one batch of changes.
+     * None of the customers may already exist in the address book, and they must all be different.
+     */
+    public void addCustomers(List<Customer> customersToAdd) {
+        customers.requireAddable(customersToAdd);
+        customersToAdd.forEach(this::indexCustomerToAdd);
+        // the list of customers reports the customers added as one change, rather than a change per customer
+        customers.addAll(customersToAdd);
+        changeBus.beginBatch();
+        try {
+            customersToAdd.forEach(this::indexAddedCustomer);
+        } finally {
+            changeBus.endBatch();
+        }
+    }
+
+    /**
+     * Adds {@code p}, which is about to be added to the list of customers, to the indexes backing filters, so that
+     * filtered lists see its attributes when it is added. {@code p} must be known to be addable, so that the
+     * indexes never disagree with the list.
+     */
+    private void indexCustomerToAdd(Customer p) {
+        customerSegmentIndex.addCustomer(p);
+        customerPointsRanking.add(p);
+    }
+
+    /**
+     * Adds {@code p}, which was just added to the list of customers, to the other indexes of customers, and
+     * publishes its addition.
+     */
+    private void indexAddedCustomer(Customer p) {
+        customerNameIndex.add(p);
+        customerNoteIndex.add(p);
+        loyaltyTierAggregate.add(p);
+        cumulativePointsIndex.add(p);
+        changeBus.publish(new CustomerAdded(p));
     }
 
     /**
@@ -105,17 +246,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setCustomer(Customer target, Customer editedCustomer) {
         requireNonNull(editedCustomer);
+        customers.requireReplaceable(target, editedCustomer);
 
+        // indexes backing filters are updated before the list, so that filtered lists see the edited customer's
+        // attributes, once the edit is known to be valid so that the indexes never disagree with the list
+        customerSegmentIndex.setCustomer(target, editedCustomer);
+        customerPointsRanking.set(target, editedCustomer);
         customers.setCustomer(target, editedCustomer);
-
-        // update orders associated to the customer
-        ArrayList<Order> ordersToUpdate = new ArrayList<>();
-        orders.forEach(o -> {
-            if (o.getCustomer().equals(target)) {
-                ordersToUpdate.add(o);
-            }
-        });
-        ordersToUpdate.forEach(o -> orders.setOrder(o, o.newOrderWithCustomer(editedCustomer)));
+        customerNameIndex.set(target, editedCustomer);
+        customerNoteIndex.set(target, editedCustomer);
+        loyaltyTierAggregate.set(target, editedCustomer);
+        cumulativePointsIndex.set(target, editedCustomer);
+
+        changeBus.beginBatch();
+        try {
+            changeBus.publish(new CustomerUpdated(target, editedCustomer));
+
+            // update orders associated to the customer
+            ArrayList<Order> ordersToUpdate = new ArrayList<>();
+            orders.forEach(o -> {
+                if (o.getCustomer().equals(target)) {
+                    ordersToUpdate.add(o);
+                }
+            });
+            ordersToUpdate.forEach(o -> setOrder(o, o.newOrderWithCustomer(editedCustomer)));
+        } finally {
+            changeBus.endBatch();
+        }
     }
 
     /**
@@ -123,16 +280,103 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeCustomer(Customer key) {
-        customers.remove(key);
+        changeBus.beginBatch();
+        try {
+            // remove orders associated to the customer
+            ArrayList<Order> ordersToRemove = new ArrayList<>();
+            orders.forEach(o -> {
+                if (o.getCustomer().equals(key)) {
+                    ordersToRemove.add(o);
+                }
+            });
+            ordersToRemove.forEach(this::removeOrder);
+
+            customers.remove(key);
+            customerNameIndex.remove(key);
+            customerNoteIndex.remove(key);
+            customerSegmentIndex.removeCustomer(key);
+            customerPointsRanking.remove(key);
+            loyaltyTierAggregate.remove(key);
+            cumulativePointsIndex.remove(key);
+            changeBus.publish(new CustomerRemoved(key));
+        } finally {
+            changeBus.endBatch();
+        }
+    }
 
-        // remove orders associated to the customer
-        ArrayList<Order> ordersToRemove = new ArrayList<>();
-        orders.forEach(o -> {
-            if (o.getCustomer().equals(key)) {
-                ordersToRemove.add(o);
-            }
-        });
-        ordersToRemove.forEach(orders::remove);
+    /**
+     * Returns at most {@code limit} customers whose names contain any of {@code keywords}, with the last keyword
+     * also matching the words it is the start of if {@code isLastKeywordPrefix} is true.
+     *
+     * @see NameIndex#find(List, boolean, int)
+     */
+    public List<Customer> findCustomersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+        requireNonNull(keywords);
+        return customerNameIndex.find(keywords, isLastKeywordPrefix, limit);
+    }
+
+    /**
+     * Returns the first {@code limit} distinct customer names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> completeCustomerName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return customerNameIndex.completeName(prefix, limit);
+    }
+
+    /**
+     * Returns the customers whose notes match {@code query}, each with a snippet of the matching note.
+     */
+    public List<NoteMatch<Customer>> findCustomerNotes(NoteQuery query) {
+        requireNonNull(query);
+        return customerNoteIndex.search(query);
+    }
+
+    /**
+     * Returns a predicate testing whether a customer belongs to {@code segment}.
+     * The predicate follows later changes to this {@code AddressBook}.
+     */
+    public Predicate<Customer> getCustomerSegmentPredicate(CustomerSegment segment) {
+        requireNonNull(segment);
+        return customerSegmentIndex.asPredicate(segment);
+    }
+
+    /**
+     * Returns the one-based rank of {@code customer} by points, or 0 if the customer is not in the address book.
+     */
+    public int getCustomerRank(Customer customer) {
+        return customerPointsRanking.getRank(customer);
+    }
+
+    /**
+     * Returns a predicate testing whether a customer is among the {@code count} customers with the most points,
+     * out of those with between {@code minPoints} and {@code maxPoints} points.
+     * The predicate follows later changes to this {@code AddressBook}.
+     */
+    public Predicate<Customer> getTopCustomersPredicate(int count, int minPoints, int maxPoints) {
+        return customerPointsRanking.asTopPredicate(count, minPoints, maxPoints);
+    }
+
+    //// tier operations
+
+    /**
+     * Returns the tier definitions customers are placed in tiers by.
+     */
+    public TierDefinitions getTierDefinitions() {
+        return loyaltyTierAggregate.getTierDefinitions();
+    }
+
+    /**
+     * Places customers in the tiers of {@code tierDefinitions}.
+     * Only the customers whose cumulative points fall in a range that changes tier are moved,
+     * and the customers whose tier changed are returned.
+     */
+    public List<Customer> setTierDefinitions(TierDefinitions tierDefinitions) {
+        requireNonNull(tierDefinitions);
+        List<Customer> changedCustomers =
+                cumulativePointsIndex.getCustomersChangingTier(getTierDefinitions(), tierDefinitions);
+        customerSegmentIndex.setTierDefinitions(tierDefinitions, changedCustomers);
+        loyaltyTierAggregate.setTierDefinitions(tierDefinitions, changedCustomers);
+        return changedCustomers;
     }
 
     //// order-level operations
@@ -150,7 +394,48 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The order must not already exist in the address book.
      */
     public void addOrder(Order p) {
+        orders.requireAddable(p);
+        indexOrderToAdd(p);
         orders.add(p);
+        indexAddedOrder(p);
+    }
+
+    /**
+     * Adds {@code ordersToAdd} to the address book, as one batch of changes.
+     * None of the orders may already exist in the address book, and they must all be different.
+     */
+    public void addOrders(List<Order> ordersToAdd) {
+        orders.requireAddable(ordersToAdd);
+        ordersToAdd.forEach(this::indexOrderToAdd);
+        // the list of orders reports the orders added as one change, rather than a change per order
+        orders.addAll(ordersToAdd);
+        changeBus.beginBatch();
+        try {
+            ordersToAdd.forEach(this::indexAddedOrder);
+        } finally {
+            changeBus.endBatch();
+        }
+    }
+
+    /**
+     * Adds {@code p}, which is about to be added to the list of orders, to the indexes backing filters, so that
+     * filtered lists see its status and dates when it is added. {@code p} must be known to be addable, so that
+     * the indexes never disagree with the list.
+     */
+    private void indexOrderToAdd(Order p) {
+        customerSegmentIndex.addOrder(p);
+        orderStatusIndex.add(p);
+        orderDateIndex.add(p);
+    }
+
+    /**
+     * Adds {@code p}, which was just added to the list of orders, to the other indexes of orders, and publishes
+     * its addition.
+     */
+    private void indexAddedOrder(Order p) {
+        orderNameIndex.add(p);
+        orderNoteIndex.add(p);
+        changeBus.publish(new OrderAdded(p));
     }
 
     /**
@@ -160,8 +445,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setOrder(Order target, Order editedOrder) {
         requireNonNull(editedOrder);
+        orders.requireReplaceable(target, editedOrder);
 
+        // indexes backing filters are updated before the list, so that filtered lists see the edited order's
+        // status, once the edit is known to be valid so that the indexes never disagree with the list
+        customerSegmentIndex.setOrder(target, editedOrder);
+        orderStatusIndex.set(target, editedOrder);
+        orderDateIndex.set(target, editedOrder);
         orders.setOrder(target, editedOrder);
+        orderNameIndex.set(target, editedOrder);
+        orderNoteIndex.set(target, editedOrder);
+        changeBus.publish(target.getStatus().equals(editedOrder.getStatus())
+                ? new OrderUpdated(target, editedOrder)
+                : new OrderStatusChanged(target, editedOrder));
     }
 
     /**
@@ -170,6 +466,113 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeOrder(Order key) {
         orders.remove(key);
+        orderNameIndex.remove(key);
+        orderNoteIndex.remove(key);
+        customerSegmentIndex.removeOrder(key);
+        orderStatusIndex.remove(key);
+        orderDateIndex.remove(key);
+        changeBus.publish(new OrderRemoved(key));
+    }
+
+    /**
+     * Returns at most {@code limit} orders whose names contain any of {@code keywords}, with the last keyword
+     * also matching the words it is the start of if {@code isLastKeywordPrefix} is true.
+     *
+     * @see NameIndex#find(List, boolean, int)
+     */
+    public List<Order> findOrdersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+        requireNonNull(keywords);
+        return orderNameIndex.find(keywords, isLastKeywordPrefix, limit);
+    }
+
+    /**
+     * Returns the first {@code limit} distinct order names starting with {@code prefix}, ignoring case.
+     */
+    public List<String> completeOrderName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return orderNameIndex.completeName(prefix, limit);
+    }
+
+    /**
+     * Returns the orders whose notes match {@code query}, each with a snippet of the matching note.
+     */
+    public List<NoteMatch<Order>> findOrderNotes(NoteQuery query) {
+        requireNonNull(query);
+        return orderNoteIndex.search(query);
+    }
+
+    /**
+     * Returns a predicate testing whether an order matches {@code query}.
+     * The predicate follows later changes to this {@code AddressBook}.
+     */
+    public Predicate<Order> getOrderQueryPredicate(OrderQuery query) {
+        requireNonNull(query);
+        Predicate<Order> predicate = order -> true;
+        if (query.getStatusValue().isPresent()) {
+            predicate = predicate.and(orderStatusIndex.getOrders(query.getStatusValue().get())::contains);
+        }
+        if (query.hasDateRange()) {
+            predicate = predicate.and(query.getStage()
+                    .<Predicate<Order>>map(stage -> order ->
+                            orderDateIndex.hasReachedStageBetween(order, stage, query.getFrom(), query.getTo()))
+                    .orElse(order -> orderDateIndex.isCreatedBetween(order, query.getFrom(), query.getTo())));
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the orders matching {@code query}, read from the order indexes without visiting other orders.
+     * The orders are the instances in this {@code AddressBook}, so the returned set compares them by identity.
+     */
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        if (!query.hasDateRange()) {
+            Set<Order> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            matches.addAll(query.getStatusValue().<Collection<Order>>map(orderStatusIndex::getOrders)
+                    .orElseGet(orders::asUnmodifiableList));
+            return matches;
+        }
+        Set<Order> matches = query.getStage()
+                .map(stage -> orderDateIndex.getOrdersReachingStageBetween(stage, query.getFrom(), query.getTo()))
+                .orElseGet(() -> orderDateIndex.getOrdersCreatedBetween(query.getFrom(), query.getTo()));
+        query.getStatusValue().ifPresent(statusValue -> matches.removeIf(order ->
+                order.getStatus().getLatestStatus().getStatusValue() != statusValue));
+        return matches;
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of orders in each {@code StatusValue}.
+     */
+    public ObservableMap<StatusValue, Integer> getOrderStatusCounts() {
+        return orderStatusIndex.asUnmodifiableObservableCounts();
+    }
+
+    /**
+     * Returns the figures of the dashboard on {@code today}, read from the aggregates kept up to date as the
+     * customers and orders change rather than from the customers and orders themselves.
+     */
+    public DashboardStatistics getDashboardStatistics(LocalDate today) {
+        requireNonNull(today);
+        Map<Tier, Integer> customersPerTier = new LinkedHashMap<>();
+        for (Tier tier : loyaltyTierAggregate.getTierDefinitions().getTiers()) {
+            customersPerTier.put(tier, loyaltyTierAggregate.getCount(tier));
+        }
+
+        Map<StatusValue, Integer> ordersPerStatus = new EnumMap<>(StatusValue.class);
+        for (StatusValue statusValue : StatusValue.values()) {
+            ordersPerStatus.put(statusValue, orderStatusIndex.count(statusValue));
+        }
+
+        Map<PendingAge, Integer> pendingOrdersPerAge = new EnumMap<>(PendingAge.class);
+        for (PendingAge pendingAge : PendingAge.values()) {
+            pendingOrdersPerAge.put(pendingAge, orderStatusIndex.countReachedBetween(StatusValue.PENDING,
+                    pendingAge.getEarliestDate(today), pendingAge.getLatestDate(today)));
+        }
+
+        return new DashboardStatistics(customersPerTier, ordersPerStatus,
+                orderDateIndex.countCreatedBetween(today, today),
+                orderDateIndex.countCreatedBetween(today.with(DayOfWeek.MONDAY), today),
+                pendingOrdersPerAge, customerPointsRanking.getTop(DashboardStatistics.TOP_CUSTOMER_COUNT));
     }
 
     //// util methods
@@ -177,12 +580,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append(customers.asUnmodifiableObservableList().size() + " customers\n")
-                .append(orders.asUnmodifiableObservableList().size() + " orders");
+        builder.append(customers.asUnmodifiableList().size() + " customers\n")
+                .append(orders.asUnmodifiableList().size() + " orders");
         return builder.toString();
         // TODO: refine later
     }
 
+    /**
+     * Returns an immutable snapshot of the customers and orders, taken in constant time.
+     * Later changes to the address book do not change the snapshot, which can be read from another thread.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(customers.snapshot(), orders.snapshot(), loyaltyTierAggregate.copy());
+    }
+
     @Override
     public ObservableList<Customer> getCustomerList() {
         return customers.asUnmodifiableObservableList();
@@ -193,6 +604,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return orders.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Customer> getCustomers() {
+        return customers.asUnmodifiableList();
+    }
+
+    @Override
+    public List<Order> getOrders() {
+        return orders.asUnmodifiableList();
+    }
+
+    @Override
+    public ReadOnlyLoyaltyTierAggregate getLoyaltyTierAggregate() {
+        return loyaltyTierAggregate;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
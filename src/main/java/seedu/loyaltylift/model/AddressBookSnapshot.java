@@ -0,0 +1,101 @@
+package seedu.loyaltylift.model;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
+import seedu.loyaltylift.model.order.Order;
+
+/**
+ * The customers and orders of an {@code AddressBook} at one point in time.
+ * The snapshot shares its storage with the address book, which copies a part of the storage before changing it,
+ * so taking a snapshot takes constant time and the snapshot can be read from another thread while the address book
+ * keeps changing.
+ * Guarantees: immutable.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Customer> customers;
+    private final List<Order> orders;
+    private final ReadOnlyLoyaltyTierAggregate loyaltyTierAggregate;
+
+    private ObservableList<Customer> customerList;
+    private ObservableList<Order> orderList;
+
+    /**
+     * Constructs a snapshot of {@code customers}, {@code orders} and {@code loyaltyTierAggregate}, none of which
+     * may change afterwards.
+     */
+    AddressBookSnapshot(List<Customer> customers, List<Order> orders,
+            ReadOnlyLoyaltyTierAggregate loyaltyTierAggregate) {
+        requireAllNonNull(customers, orders, loyaltyTierAggregate);
+        this.customers = customers;
+        this.orders = orders;
+        this.loyaltyTierAggregate = loyaltyTierAggregate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The {@code ObservableList} is only created when first asked for.
+     */
+    @Override
+    public synchronized ObservableList<Customer> getCustomerList() {
+        if (customerList == null) {
+            customerList = FXCollections.unmodifiableObservableList(FXCollections.observableList(customers));
+        }
+        return customerList;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The {@code ObservableList} is only created when first asked for.
+     */
+    @Override
+    public synchronized ObservableList<Order> getOrderList() {
+        if (orderList == null) {
+            orderList = FXCollections.unmodifiableObservableList(FXCollections.observableList(orders));
+        }
+        return orderList;
+    }
+
+    @Override
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    @Override
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Returns the number of customers and their total points in each loyalty tier when the snapshot was taken.
+     */
+    @Override
+    public ReadOnlyLoyaltyTierAggregate getLoyaltyTierAggregate() {
+        return loyaltyTierAggregate;
+    }
+
+    @Override
+    public String toString() {
+        return customers.size() + " customers\n" + orders.size() + " orders";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && customers.equals(((AddressBookSnapshot) other).customers)
+                && orders.equals(((AddressBookSnapshot) other).orders));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customers, orders);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.loyaltylift.model;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.order.StatusValue;
+
+/**
+ * The figures shown on the dashboard: the customers in each loyalty tier, the orders in each status, the orders
+ * created recently, how long the pending orders have been pending, and the customers with the most points.
+ * Guarantees: immutable.
+ */
+public class DashboardStatistics {
+
+    public static final int TOP_CUSTOMER_COUNT = 5;
+
+    /**
+     * The ranges of the number of days an order has been pending.
+     */
+    public enum PendingAge {
+        TODAY("Today", 0, 0),
+        UP_TO_THREE_DAYS("1-3 days", 1, 3),
+        UP_TO_A_WEEK("4-7 days", 4, 7),
+        UP_TO_A_MONTH("8-30 days", 8, 30),
+        OVER_A_MONTH("Over 30 days", 31, Integer.MAX_VALUE);
+
+        private final String description;
+        private final int minimumDays;
+        private final int maximumDays;
+
+        PendingAge(String description, int minimumDays, int maximumDays) {
+            this.description = description;
+            this.minimumDays = minimumDays;
+            this.maximumDays = maximumDays;
+        }
+
+        /**
+         * Returns the earliest date an order pending for this range of days on {@code today} became pending,
+         * or null if there is no earliest date.
+         */
+        public LocalDate getEarliestDate(LocalDate today) {
+            return maximumDays == Integer.MAX_VALUE ? null : today.minusDays(maximumDays);
+        }
+
+        /**
+         * Returns the latest date an order pending for this range of days on {@code today} became pending,
+         * or null if there is no latest date. Orders dated after today count as pending since today.
+         */
+        public LocalDate getLatestDate(LocalDate today) {
+            return minimumDays == 0 ? null : today.minusDays(minimumDays);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Map<Tier, Integer> customersPerTier;
+    private final Map<StatusValue, Integer> ordersPerStatus;
+    private final int ordersCreatedToday;
+    private final int ordersCreatedThisWeek;
+    private final Map<PendingAge, Integer> pendingOrdersPerAge;
+    private final List<Customer> topCustomers;
+
+    /**
+     * Constructs a {@code DashboardStatistics} with copies of the given figures.
+     * The tiers are kept in the order of {@code customersPerTier}, and the customers in the order of
+     * {@code topCustomers}.
+     */
+    public DashboardStatistics(Map<Tier, Integer> customersPerTier, Map<StatusValue, Integer> ordersPerStatus,
+            int ordersCreatedToday, int ordersCreatedThisWeek, Map<PendingAge, Integer> pendingOrdersPerAge,
+            List<Customer> topCustomers) {
+        requireAllNonNull(customersPerTier, ordersPerStatus, pendingOrdersPerAge, topCustomers);
+        this.customersPerTier = Collections.unmodifiableMap(new LinkedHashMap<>(customersPerTier));
+        this.ordersPerStatus = Collections.unmodifiableMap(copyOf(ordersPerStatus, StatusValue.class));
+        this.ordersCreatedToday = ordersCreatedToday;
+        this.ordersCreatedThisWeek = ordersCreatedThisWeek;
+        this.pendingOrdersPerAge = Collections.unmodifiableMap(copyOf(pendingOrdersPerAge, PendingAge.class));
+        this.topCustomers = List.copyOf(topCustomers);
+    }
+
+    /**
+     * Returns the number of customers in each tier, from the lowest tier.
+     */
+    public Map<Tier, Integer> getCustomersPerTier() {
+        return customersPerTier;
+    }
+
+    /**
+     * Returns the number of orders whose latest status is each {@code StatusValue}.
+     */
+    public Map<StatusValue, Integer> getOrdersPerStatus() {
+        return ordersPerStatus;
+    }
+
+    public int getOrdersCreatedToday() {
+        return ordersCreatedToday;
+    }
+
+    /**
+     * Returns the number of orders created from the Monday of this week to today.
+     */
+    public int getOrdersCreatedThisWeek() {
+        return ordersCreatedThisWeek;
+    }
+
+    /**
+     * Returns the number of pending orders in each range of days they have been pending.
+     */
+    public Map<PendingAge, Integer> getPendingOrdersPerAge() {
+        return pendingOrdersPerAge;
+    }
+
+    /**
+     * Returns the (at most) {@value #TOP_CUSTOMER_COUNT} customers with the most points, from the most.
+     */
+    public List<Customer> getTopCustomers() {
+        return topCustomers;
+    }
+
+    private static <K extends Enum<K>> Map<K, Integer> copyOf(Map<K, Integer> map, Class<K> keyType) {
+        Map<K, Integer> copy = new EnumMap<>(keyType);
+        copy.putAll(map);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof DashboardStatistics)) {
+            return false;
+        }
+
+        DashboardStatistics otherStatistics = (DashboardStatistics) other;
+        return customersPerTier.equals(otherStatistics.customersPerTier)
+                && ordersPerStatus.equals(otherStatistics.ordersPerStatus)
+                && ordersCreatedToday == otherStatistics.ordersCreatedToday
+                && ordersCreatedThisWeek == otherStatistics.ordersCreatedThisWeek
+                && pendingOrdersPerAge.equals(otherStatistics.pendingOrdersPerAge)
+                && topCustomers.equals(otherStatistics.topCustomers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customersPerTier, ordersPerStatus, ordersCreatedToday, ordersCreatedThisWeek,
+                pendingOrdersPerAge, topCustomers);
+    }
+
+    @Override
+    public String toString() {
+        return "customers per tier: " + customersPerTier
+                + "; orders per status: " + ordersPerStatus
+                + "; orders created today: " + ordersCreatedToday
+                + "; orders created this week: " + ordersCreatedThisWeek
+                + "; pending orders per age: " + pendingOrdersPerAge
+                + "; top customers: " + topCustomers.size();
+    }
+}
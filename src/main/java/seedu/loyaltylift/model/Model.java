@@ -1,13 +1,28 @@
 package seedu.loyaltylift.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.loyaltylift.commons.core.GuiSettings;
+import seedu.loyaltylift.model.attribute.NoteMatch;
+import seedu.loyaltylift.model.attribute.NoteQuery;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.event.ModelChangeBus;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.StatusValue;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+import seedu.loyaltylift.model.points.ReadOnlyPointsLedger;
 
 /**
  * The API of the Model component.
@@ -47,6 +62,91 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Returns the user prefs' loyalty tier definitions.
+     */
+    TierDefinitions getTierDefinitions();
+
+    /**
+     * Sets the user prefs' loyalty tier definitions, and moves the customers whose tier changed.
+     * Returns the number of customers whose tier changed.
+     */
+    int setTierDefinitions(TierDefinitions tierDefinitions);
+
+    /**
+     * Returns the loyalty tier definitions, which can be observed for changes.
+     */
+    ObservableValue<TierDefinitions> getObservableTierDefinitions();
+
+    /**
+     * Returns the user prefs' number of days after which granted points expire, or 0 if points never expire.
+     */
+    int getPointsExpiryDays();
+
+    /**
+     * Sets the user prefs' number of days after which granted points expire, or 0 if points never expire.
+     * Points granted before are rescheduled to expire that many days after they were granted.
+     */
+    void setPointsExpiryDays(int pointsExpiryDays);
+
+    /**
+     * Deducts the points that expired on or before {@code date} from the customers holding them,
+     * and records the deductions in the points ledger.
+     * Returns the number of customers whose points expired.
+     */
+    int expirePoints(LocalDate date);
+
+    /**
+     * Returns the user prefs' rules for the points earned by completing orders.
+     */
+    AccrualRules getAccrualRules();
+
+    /**
+     * Sets the user prefs' rules for the points earned by completing orders.
+     * Orders completed before keep the points they earned.
+     */
+    void setAccrualRules(AccrualRules accrualRules);
+
+    /**
+     * Credits the points earned by the orders completed since the last call to their customers, one update per
+     * customer, and records each credit in the points ledger.
+     * An order whose points were already credited is not credited again, even if it was reverted and completed
+     * once more.
+     * Returns the number of orders credited.
+     */
+    int applyPendingAccruals();
+
+    /**
+     * Returns the bus on which every change to the customers and orders is published.
+     * Changes made together, such as by one command, can be grouped into a batch on the bus.
+     */
+    ModelChangeBus getChangeBus();
+
+    /**
+     * Returns true if there is a change to the customers and orders that can be undone.
+     * Each batch of changes on the change bus, such as the changes of one command, is undone as a whole.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest change to the customers and orders, and displays the customer or order that was displayed
+     * before the change.
+     * There must be a change to undo.
+     */
+    void undo();
+
+    /**
+     * Redoes the latest undone change to the customers and orders, and displays the customer or order that was
+     * displayed after the change.
+     * There must be an undone change to redo.
+     */
+    void redo();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -55,11 +155,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book, taken in constant time.
+     * Later changes to the address book do not change the snapshot, so it can be saved or reported on from another
+     * thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a customer with the same identity as {@code customer} exists in the address book.
      */
     boolean hasCustomer(Customer customer);
 
+    /**
+     * Returns the customer in the address book with {@code customerUid}, if any.
+     */
+    Optional<Customer> findCustomer(String customerUid);
+
     /**
      * Deletes the given customer.
      * The customer must exist in the address book.
@@ -72,6 +184,12 @@ public interface Model {
      */
     void addCustomer(Customer customer);
 
+    /**
+     * Adds the given customers, as one batch of changes.
+     * None of {@code customers} may already exist in the address book, and they must all be different.
+     */
+    void addCustomers(List<Customer> customers);
+
     /**
      * Replaces the given customer {@code target} with {@code editedCustomer}.
      * {@code target} must exist in the address book.
@@ -80,6 +198,16 @@ public interface Model {
      */
     void setCustomer(Customer target, Customer editedCustomer);
 
+    /**
+     * Replaces the given customer {@code target} with {@code editedCustomer}, which differs from {@code target}
+     * in its points, and records the change in the points ledger for {@code reason}.
+     * {@code target} must exist in the address book.
+     */
+    void recordPointsChange(Customer target, Customer editedCustomer, Reason reason);
+
+    /** Returns an unmodifiable view of the points ledger */
+    ReadOnlyPointsLedger getPointsLedger();
+
     /**
      * Sets the {@code Customer} object to be displayed in the information panel.
      * @param customer A Customer object.
@@ -101,12 +229,56 @@ public interface Model {
      */
     void updateFilteredCustomerList(Predicate<Customer> predicate);
 
+    /**
+     * Updates the filter of the filtered customer list to show the customers in the given {@code segment}.
+     * @throws NullPointerException if {@code segment} is null.
+     */
+    void updateFilteredCustomerList(CustomerSegment segment);
+
+    /**
+     * Updates the filter of the filtered customer list to show the {@code count} customers with the most points,
+     * out of those with between {@code minPoints} and {@code maxPoints} points.
+     */
+    void updateFilteredCustomerListToTop(int count, int minPoints, int maxPoints);
+
+    /**
+     * Returns the one-based rank of {@code customer} by points, or 0 if the customer is not in the address book.
+     * @throws NullPointerException if {@code customer} is null.
+     */
+    int getCustomerRank(Customer customer);
+
+    /**
+     * Returns the figures of the dashboard on {@code today}.
+     * @throws NullPointerException if {@code today} is null.
+     */
+    DashboardStatistics getDashboardStatistics(LocalDate today);
+
     /**
      * Sorts the filtered customer list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void sortFilteredCustomerList(Comparator<Customer> comparator);
 
+    /**
+     * Returns at most {@code limit} customers whose names contain any of {@code keywords} as a word, ignoring case.
+     * If {@code isLastKeywordPrefix} is true, the last keyword also matches the words it is the start of.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    List<Customer> findCustomersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit);
+
+    /**
+     * Returns the first {@code limit} distinct customer names starting with {@code prefix} in alphabetical order,
+     * ignoring case.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    List<String> completeCustomerName(String prefix, int limit);
+
+    /**
+     * Returns the customers whose notes match {@code query}, each with a snippet of the matching note.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<NoteMatch<Customer>> findCustomerNotes(NoteQuery query);
+
     /**
      * Returns true if a order with the same identity as {@code order} exists in the address book.
      */
@@ -124,10 +296,18 @@ public interface Model {
      */
     void addOrder(Order order);
 
+    /**
+     * Adds the given orders, as one batch of changes.
+     * None of {@code orders} may already exist in the address book, and they must all be different.
+     */
+    void addOrders(List<Order> orders);
+
     /**
      * Replaces the given order {@code target} with {@code editedOrder}.
      * {@code target} must exist in the address book.
      * The order identity of {@code editedOrder} must not be the same as another existing order in the address book.
+     * If {@code editedOrder} completes the order, its points are credited by the next
+     * {@link #applyPendingAccruals()}, as collected from the {@code OrderStatusChanged} event of the change.
      */
     void setOrder(Order target, Order editedOrder);
 
@@ -152,12 +332,41 @@ public interface Model {
      */
     void updateFilteredOrderList(Predicate<Order> predicate);
 
+    /**
+     * Updates the filter of the filtered order list to show the orders matching the given {@code query}.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredOrderList(OrderQuery query);
+
+    /** Returns an unmodifiable view of the number of orders in each status, which can be observed for changes */
+    ObservableMap<StatusValue, Integer> getOrderStatusCounts();
+
     /**
      * Sorts the filtered order list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void sortFilteredOrderList(Comparator<Order> comparator);
 
+    /**
+     * Returns at most {@code limit} orders whose names contain any of {@code keywords} as a word, ignoring case.
+     * If {@code isLastKeywordPrefix} is true, the last keyword also matches the words it is the start of.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    List<Order> findOrdersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit);
+
+    /**
+     * Returns the first {@code limit} distinct order names starting with {@code prefix} in alphabetical order,
+     * ignoring case.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    List<String> completeOrderName(String prefix, int limit);
+
+    /**
+     * Returns the orders whose notes match {@code query}, each with a snippet of the matching note.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<NoteMatch<Order>> findOrderNotes(NoteQuery query);
+
     /** Returns an unmodifiable view of the filtered customer's order list */
     ObservableList<Order> getFilteredCustomerOrderList();
 
@@ -4,17 +4,60 @@ import static java.util.Objects.requireNonNull;
 import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.exceptions.IllegalValueException;
+import seedu.loyaltylift.model.attribute.NoteMatch;
+import seedu.loyaltylift.model.attribute.NoteQuery;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.customer.exceptions.CustomerNotFoundException;
+import seedu.loyaltylift.model.event.ModelChangeBus;
+import seedu.loyaltylift.model.event.ModelChangeEvent;
+import seedu.loyaltylift.model.event.ModelChangeEvent.Batch;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerUpdated;
+import seedu.loyaltylift.model.event.ModelChangeEvent.DataReset;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderCreditReversed;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderCredited;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderStatusChanged;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderUpdated;
+import seedu.loyaltylift.model.history.ChangeHistory;
+import seedu.loyaltylift.model.history.HistoryStep;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.StatusValue;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.model.points.PointsAccrualQueue;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+import seedu.loyaltylift.model.points.ReadOnlyPointsLedger;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,6 +67,10 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final PointsLedger pointsLedger;
+    private final PointsAccrualQueue accrualQueue = new PointsAccrualQueue();
+    private final ChangeHistory changeHistory = new ChangeHistory();
+    private final SimpleObjectProperty<TierDefinitions> tierDefinitions;
 
     // filtered lists
     private final FilteredList<Customer> filteredCustomers;
@@ -39,35 +86,72 @@ public class ModelManager implements Model {
     private Order displayOrder;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook, userPrefs and pointsLedger.
+     * The points of customers are taken from the ledger where it has recorded them.
      */
-    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, PointsLedger pointsLedger) {
+        requireAllNonNull(addressBook, userPrefs, pointsLedger);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine("Initializing with address book: " + addressBook + ", user prefs " + userPrefs
+                + " and " + pointsLedger);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.pointsLedger = pointsLedger;
+        this.pointsLedger.setExpiryDays(this.userPrefs.getPointsExpiryDays());
+        this.addressBook.getChangeBus().subscribe(OrderStatusChanged.class, this::collectCompletedOrder);
+        projectPointsFromLedger();
+        this.addressBook.getChangeBus().subscribe(ModelChangeEvent.class, this::recordChange);
+        this.addressBook.setTierDefinitions(this.userPrefs.getTierDefinitions());
+        tierDefinitions = new SimpleObjectProperty<>(this.userPrefs.getTierDefinitions());
         filteredCustomers = new FilteredList<>(this.addressBook.getCustomerList());
         filteredOrders = new FilteredList<>(this.addressBook.getOrderList());
         filteredCustomerOrders = new FilteredList<>(this.addressBook.getOrderList());
         sortedCustomers = new SortedList<>(filteredCustomers, Customer.SORT_NAME);
         sortedOrders = new SortedList<>(filteredOrders, Order.SORT_CREATED_DATE);
+        this.addressBook.getChangeBus().subscribe(Batch.class, batch -> refilterTopCustomers());
 
         displayCustomer = null;
         displayOrder = null;
     }
 
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, and an empty points ledger.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, new PointsLedger());
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Replaces the points of customers with the points recorded in the ledger, as the ledger is appended to before
+     * the address book is saved and may have recorded changes the saved address book missed.
+     */
+    private void projectPointsFromLedger() {
+        for (Customer customer : new ArrayList<>(addressBook.getCustomers())) {
+            if (!pointsLedger.hasHistory(customer.getUid())) {
+                continue;
+            }
+            Points balance = pointsLedger.getBalance(customer.getUid());
+            if (!balance.equals(customer.getPoints())) {
+                logger.warning("Points of " + customer.getUid() + " differ from the points ledger, using "
+                        + balance + " instead of " + customer.getPoints());
+                addressBook.setCustomer(customer, customer.newCustomerWithPoints(balance));
+            }
+        }
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyTierDefinitions(this.userPrefs.getTierDefinitions());
+        pointsLedger.setExpiryDays(this.userPrefs.getPointsExpiryDays());
     }
 
     @Override
@@ -97,11 +181,69 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    @Override
+    public TierDefinitions getTierDefinitions() {
+        return userPrefs.getTierDefinitions();
+    }
+
+    @Override
+    public int setTierDefinitions(TierDefinitions tierDefinitions) {
+        requireNonNull(tierDefinitions);
+        userPrefs.setTierDefinitions(tierDefinitions);
+        return applyTierDefinitions(tierDefinitions);
+    }
+
+    @Override
+    public ObservableValue<TierDefinitions> getObservableTierDefinitions() {
+        return tierDefinitions;
+    }
+
+    @Override
+    public int getPointsExpiryDays() {
+        return userPrefs.getPointsExpiryDays();
+    }
+
+    @Override
+    public void setPointsExpiryDays(int pointsExpiryDays) {
+        userPrefs.setPointsExpiryDays(pointsExpiryDays);
+        pointsLedger.setExpiryDays(pointsExpiryDays);
+    }
+
+    @Override
+    public AccrualRules getAccrualRules() {
+        return userPrefs.getAccrualRules();
+    }
+
+    @Override
+    public void setAccrualRules(AccrualRules accrualRules) {
+        requireNonNull(accrualRules);
+        userPrefs.setAccrualRules(accrualRules);
+    }
+
+    /**
+     * Re-tiers the customers in the address book, then notifies observers of the tier definitions once,
+     * so that the customers whose tier changed are redrawn together.
+     */
+    private int applyTierDefinitions(TierDefinitions newTierDefinitions) {
+        int changedCount = addressBook.setTierDefinitions(newTierDefinitions).size();
+        tierDefinitions.set(newTierDefinitions);
+        return changedCount;
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        Set<String> uids = this.addressBook.getCustomers().stream()
+                .map(Customer::getUid)
+                .collect(Collectors.toSet());
+        LocalDateTime timestamp = pointsLedger.nextTimestamp(LocalDateTime.now());
+        for (String uid : new ArrayList<>(pointsLedger.getCustomerUids())) {
+            if (!uids.contains(uid)) {
+                pointsLedger.append(new PointsLedgerEntry(uid, timestamp, 0, 0, Reason.REMOVED, ""));
+            }
+        }
     }
 
     @Override
@@ -109,6 +251,119 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public ModelChangeBus getChangeBus() {
+        return addressBook.getChangeBus();
+    }
+
+    //=========== Undo / Redo ================================================================================
+
+    @Override
+    public boolean canUndo() {
+        return changeHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return changeHistory.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        HistoryStep step = changeHistory.undo(this::applyChanges);
+        restoreDisplay(step.getCustomerDisplayedBefore(), step.getOrderDisplayedBefore());
+    }
+
+    @Override
+    public void redo() {
+        HistoryStep step = changeHistory.redo(this::applyChanges);
+        restoreDisplay(step.getCustomerDisplayedAfter(), step.getOrderDisplayedAfter());
+    }
+
+    /**
+     * Records {@code event} in the change history, which ends a step at the end of every batch of changes.
+     */
+    private void recordChange(ModelChangeEvent event) {
+        if (event instanceof Batch) {
+            changeHistory.endStep(displayCustomer, displayOrder);
+        } else if (event instanceof DataReset) {
+            // the replaced data is not kept, so the changes before it can no longer be undone
+            changeHistory.clear();
+        } else {
+            changeHistory.record(event, displayCustomer, displayOrder);
+        }
+    }
+
+    /**
+     * Makes {@code changes} to the address book in order, as one batch, and records the points ledger entries that
+     * the commands making the changes would have recorded.
+     */
+    private void applyChanges(List<ModelChangeEvent> changes) {
+        LocalDateTime timestamp = pointsLedger.nextTimestamp(LocalDateTime.now());
+        runInBatch(() -> changes.forEach(change -> applyChange(change, timestamp)));
+    }
+
+    private void applyChange(ModelChangeEvent change, LocalDateTime timestamp) {
+        if (change instanceof CustomerAdded) {
+            addressBook.addCustomer(((CustomerAdded) change).getCustomer());
+        } else if (change instanceof CustomerRemoved) {
+            String uid = ((CustomerRemoved) change).getCustomer().getUid();
+            addressBook.removeCustomer(((CustomerRemoved) change).getCustomer());
+            if (pointsLedger.hasHistory(uid)) {
+                pointsLedger.append(new PointsLedgerEntry(uid, timestamp, 0, 0, Reason.REMOVED, ""));
+            }
+        } else if (change instanceof CustomerUpdated) {
+            Customer oldCustomer = ((CustomerUpdated) change).getOldCustomer();
+            Customer newCustomer = ((CustomerUpdated) change).getNewCustomer();
+            addressBook.setCustomer(oldCustomer, newCustomer);
+            if (!oldCustomer.getUid().equals(newCustomer.getUid()) && pointsLedger.hasHistory(oldCustomer.getUid())) {
+                pointsLedger.append(new PointsLedgerEntry(newCustomer.getUid(), timestamp, 0, 0, Reason.RENAMED,
+                        oldCustomer.getUid()));
+            }
+            Points balance = pointsLedger.getBalance(newCustomer.getUid());
+            boolean isPointsChange = !oldCustomer.getPoints().equals(newCustomer.getPoints());
+            if (isPointsChange && pointsLedger.hasHistory(newCustomer.getUid())
+                    && !balance.equals(newCustomer.getPoints())) {
+                pointsLedger.append(PointsLedgerEntry.ofChange(newCustomer.getUid(), timestamp, balance,
+                        newCustomer.getPoints(), Reason.RESTORED));
+            }
+        } else if (change instanceof OrderAdded) {
+            addressBook.addOrder(((OrderAdded) change).getOrder());
+        } else if (change instanceof OrderRemoved) {
+            addressBook.removeOrder(((OrderRemoved) change).getOrder());
+        } else if (change instanceof OrderUpdated) {
+            Order oldOrder = ((OrderUpdated) change).getOldOrder();
+            // the orders of a customer are updated along with the customer, before their own changes are made
+            if (addressBook.hasOrder(oldOrder)) {
+                addressBook.setOrder(oldOrder, ((OrderUpdated) change).getNewOrder());
+            }
+        } else if (change instanceof OrderCredited) {
+            // the points are restored along with the customer, so the order is only marked as credited again
+            OrderCredited credit = (OrderCredited) change;
+            pointsLedger.append(new PointsLedgerEntry(credit.getCustomerUid(), timestamp, 0, 0, Reason.ACCRUED,
+                    credit.getOrderReference()));
+        } else if (change instanceof OrderCreditReversed) {
+            OrderCreditReversed reversal = (OrderCreditReversed) change;
+            pointsLedger.append(new PointsLedgerEntry(reversal.getCustomerUid(), timestamp, 0, 0, Reason.REVERSED,
+                    reversal.getOrderReference()));
+        }
+    }
+
+    /**
+     * Displays {@code customer} or {@code order}, either of which may be null, if it is still in the address book.
+     */
+    private void restoreDisplay(Customer customer, Order order) {
+        displayCustomer = customer != null && addressBook.hasCustomer(customer)
+                ? addressBook.getCustomer(customer.getUid())
+                : null;
+        displayOrder = order != null && addressBook.hasOrder(order) ? order : null;
+    }
+
     //=========== Person List ================================================================================
 
     @Override
@@ -120,6 +375,16 @@ public class ModelManager implements Model {
     @Override
     public void deleteCustomer(Customer target) {
         addressBook.removeCustomer(target);
+        if (pointsLedger.hasHistory(target.getUid())) {
+            pointsLedger.append(new PointsLedgerEntry(target.getUid(),
+                    pointsLedger.nextTimestamp(LocalDateTime.now()), 0, 0, Reason.REMOVED, ""));
+        }
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(String customerUid) {
+        requireNonNull(customerUid);
+        return addressBook.findCustomer(customerUid);
     }
 
     @Override
@@ -128,11 +393,161 @@ public class ModelManager implements Model {
         updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
     }
 
+    @Override
+    public void addCustomers(List<Customer> customers) {
+        requireNonNull(customers);
+        addressBook.addCustomers(customers);
+        updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
+    }
+
     @Override
     public void setCustomer(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
         addressBook.setCustomer(target, editedCustomer);
+        if (!target.getUid().equals(editedCustomer.getUid()) && pointsLedger.hasHistory(target.getUid())) {
+            pointsLedger.append(new PointsLedgerEntry(editedCustomer.getUid(),
+                    pointsLedger.nextTimestamp(LocalDateTime.now()), 0, 0, Reason.RENAMED, target.getUid()));
+        }
+    }
+
+    @Override
+    public void recordPointsChange(Customer target, Customer editedCustomer, Reason reason) {
+        requireAllNonNull(target, editedCustomer, reason);
+        assert target.isSameCustomer(editedCustomer);
+
+        String uid = target.getUid();
+        LocalDateTime timestamp = pointsLedger.nextTimestamp(LocalDateTime.now());
+        alignPointsLedger(target, timestamp);
+        pointsLedger.append(PointsLedgerEntry.ofChange(uid, timestamp, target.getPoints(),
+                editedCustomer.getPoints(), reason));
+        assert pointsLedger.getBalance(uid).equals(editedCustomer.getPoints());
+
+        addressBook.setCustomer(target, editedCustomer);
+    }
+
+    /**
+     * Records an adjustment in the points ledger if its balance of {@code customer} differs from the points of
+     * {@code customer}, so that the changes recorded after it start from the points of {@code customer}.
+     */
+    private void alignPointsLedger(Customer customer, LocalDateTime timestamp) {
+        Points balance = pointsLedger.getBalance(customer.getUid());
+        if (!balance.equals(customer.getPoints())) {
+            pointsLedger.append(PointsLedgerEntry.ofChange(customer.getUid(), timestamp, balance,
+                    customer.getPoints(), Reason.ADJUSTMENT));
+        }
+    }
+
+    @Override
+    public int expirePoints(LocalDate date) {
+        requireNonNull(date);
+        Map<String, Integer> duePoints = pointsLedger.getPointsDueToExpire(date);
+        if (duePoints.isEmpty()) {
+            return 0;
+        }
+
+        // every deduction is recorded at the same time, then applied to the address book together
+        LocalDateTime timestamp = pointsLedger.nextTimestamp(LocalDateTime.now());
+        Map<Customer, Customer> expiredCustomers = new HashMap<>();
+        duePoints.forEach((uid, points) -> {
+            Customer customer;
+            try {
+                customer = addressBook.getCustomer(uid);
+            } catch (CustomerNotFoundException e) {
+                // the customer was lost with an address book that could not be read
+                return;
+            }
+            int expired = Math.min(points, customer.getPoints().value);
+            Points newPoints;
+            try {
+                newPoints = customer.getPoints().editPoints(-expired);
+            } catch (IllegalValueException e) {
+                throw new AssertionError("Expired points cannot exceed the points held", e);
+            }
+            pointsLedger.append(new PointsLedgerEntry(uid, timestamp, -expired, 0, Reason.EXPIRED,
+                    date.toString()));
+            expiredCustomers.put(customer, customer.newCustomerWithPoints(newPoints));
+        });
+        runInBatch(() -> expiredCustomers.forEach(addressBook::setCustomer));
+        // expired points are not restored by undoing, so the changes before the expiry can no longer be undone
+        changeHistory.clear();
+
+        logger.info("Expired points of " + expiredCustomers.size() + " customers due by " + date);
+        return expiredCustomers.size();
+    }
+
+    @Override
+    public int applyPendingAccruals() {
+        if (accrualQueue.isEmpty()) {
+            return 0;
+        }
+
+        AccrualRules accrualRules = userPrefs.getAccrualRules();
+        LocalDateTime timestamp = pointsLedger.nextTimestamp(LocalDateTime.now());
+        Map<Customer, Customer> creditedCustomers = new LinkedHashMap<>();
+        List<OrderCredited> creditedOrders = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Order>> pending : accrualQueue.drain().entrySet()) {
+            String uid = pending.getKey();
+            Customer customer;
+            try {
+                customer = addressBook.getCustomer(uid);
+            } catch (CustomerNotFoundException e) {
+                // the customer was deleted after completing the order
+                continue;
+            }
+
+            Points points = customer.getPoints();
+            List<PointsLedgerEntry> accruals = new ArrayList<>();
+            for (Map.Entry<String, Order> completedOrder : pending.getValue().entrySet()) {
+                String reference = completedOrder.getKey();
+                int earned = Math.min(accrualRules.getPoints(customer.getCustomerType(),
+                        completedOrder.getValue().getQuantity()), Points.MAXIMUM_POINTS - points.cumulative);
+                // orders earning no points are not recorded, so that they can be credited under later rules
+                if (earned <= 0 || pointsLedger.hasAccrued(uid, reference)) {
+                    continue;
+                }
+                try {
+                    points = points.editPoints(earned);
+                } catch (IllegalValueException e) {
+                    throw new AssertionError("Earned points are capped to the maximum points", e);
+                }
+                accruals.add(new PointsLedgerEntry(uid, timestamp, earned, earned, Reason.ACCRUED, reference));
+            }
+            if (accruals.isEmpty()) {
+                continue;
+            }
+
+            alignPointsLedger(customer, timestamp);
+            accruals.forEach(pointsLedger::append);
+            creditedCustomers.put(customer, customer.newCustomerWithPoints(points));
+            accruals.forEach(accrual -> creditedOrders.add(new OrderCredited(uid, accrual.getReference())));
+        }
+        // the credits are published so that undoing the completion of an order also undoes crediting it
+        runInBatch(() -> {
+            creditedCustomers.forEach(addressBook::setCustomer);
+            creditedOrders.forEach(getChangeBus()::publish);
+        });
+
+        logger.info("Credited points for " + creditedOrders.size() + " completed orders");
+        return creditedOrders.size();
+    }
+
+    /**
+     * Runs {@code changes} as one batch of changes on the change bus.
+     */
+    private void runInBatch(Runnable changes) {
+        ModelChangeBus changeBus = getChangeBus();
+        changeBus.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            changeBus.endBatch();
+        }
+    }
+
+    @Override
+    public ReadOnlyPointsLedger getPointsLedger() {
+        return pointsLedger;
     }
 
     @Override
@@ -146,6 +561,24 @@ public class ModelManager implements Model {
         return displayCustomer;
     }
 
+    @Override
+    public List<Customer> findCustomersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findCustomersByName(keywords, isLastKeywordPrefix, limit);
+    }
+
+    @Override
+    public List<String> completeCustomerName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.completeCustomerName(prefix, limit);
+    }
+
+    @Override
+    public List<NoteMatch<Customer>> findCustomerNotes(NoteQuery query) {
+        requireNonNull(query);
+        return addressBook.findCustomerNotes(query);
+    }
+
     //=========== Order List =================================================================================
 
     @Override
@@ -165,6 +598,13 @@ public class ModelManager implements Model {
         updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
     }
 
+    @Override
+    public void addOrders(List<Order> orders) {
+        requireNonNull(orders);
+        addressBook.addOrders(orders);
+        updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+    }
+
     @Override
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
@@ -172,6 +612,15 @@ public class ModelManager implements Model {
         addressBook.setOrder(target, editedOrder);
     }
 
+    /**
+     * Collects the order of {@code event} for its points to be credited, if the change completed it.
+     */
+    private void collectCompletedOrder(OrderStatusChanged event) {
+        if (event.getOldStatusValue() != StatusValue.COMPLETED && event.getNewStatusValue() == StatusValue.COMPLETED) {
+            accrualQueue.add(event.getNewOrder());
+        }
+    }
+
     @Override
     public void setOrderToDisplay(Order order) {
         displayOrder = order;
@@ -183,6 +632,24 @@ public class ModelManager implements Model {
         return displayOrder;
     }
 
+    @Override
+    public List<Order> findOrdersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findOrdersByName(keywords, isLastKeywordPrefix, limit);
+    }
+
+    @Override
+    public List<String> completeOrderName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.completeOrderName(prefix, limit);
+    }
+
+    @Override
+    public List<NoteMatch<Order>> findOrderNotes(NoteQuery query) {
+        requireNonNull(query);
+        return addressBook.findOrderNotes(query);
+    }
+
     //=========== Filtered Customer List Accessors =============================================================
 
     /**
@@ -200,6 +667,43 @@ public class ModelManager implements Model {
         filteredCustomers.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredCustomerList(CustomerSegment segment) {
+        requireNonNull(segment);
+        updateFilteredCustomerList(segment.equals(CustomerSegment.ALL)
+                ? PREDICATE_SHOW_ALL_CUSTOMERS
+                : addressBook.getCustomerSegmentPredicate(segment));
+    }
+
+    @Override
+    public void updateFilteredCustomerListToTop(int count, int minPoints, int maxPoints) {
+        updateFilteredCustomerList(new TopCustomersFilter(
+                addressBook.getTopCustomersPredicate(count, minPoints, maxPoints)));
+    }
+
+    /**
+     * Filters the customers again if the top customers are listed, as a filtered list only tests the customers that
+     * changed, while a change to one customer can move another customer out of the top customers.
+     */
+    private void refilterTopCustomers() {
+        if (filteredCustomers.getPredicate() instanceof TopCustomersFilter) {
+            // the filtered list is only filtered again when its predicate is replaced by another object
+            filteredCustomers.setPredicate(
+                    new TopCustomersFilter(((TopCustomersFilter) filteredCustomers.getPredicate()).topPredicate));
+        }
+    }
+
+    @Override
+    public int getCustomerRank(Customer customer) {
+        requireNonNull(customer);
+        return addressBook.getCustomerRank(customer);
+    }
+
+    @Override
+    public DashboardStatistics getDashboardStatistics(LocalDate today) {
+        return addressBook.getDashboardStatistics(today);
+    }
+
     @Override
     public void sortFilteredCustomerList(Comparator<Customer> comparator) {
         sortedCustomers.setComparator(comparator);
@@ -222,6 +726,25 @@ public class ModelManager implements Model {
         filteredOrders.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredOrderList(OrderQuery query) {
+        requireNonNull(query);
+        if (query.isAll()) {
+            updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+            return;
+        }
+
+        OrderQueryFilter filter = new OrderQueryFilter(addressBook.findOrders(query),
+                addressBook.getOrderQueryPredicate(query));
+        filteredOrders.setPredicate(filter);
+        filter.followChanges();
+    }
+
+    @Override
+    public ObservableMap<StatusValue, Integer> getOrderStatusCounts() {
+        return addressBook.getOrderStatusCounts();
+    }
+
     @Override
     public ObservableList<Order> getFilteredCustomerOrderList() {
         return filteredCustomerOrders;
@@ -258,4 +781,50 @@ public class ModelManager implements Model {
                 && filteredOrders.equals(other.filteredOrders);
     }
 
+    /**
+     * Filters the top customers, as found by a predicate following changes to the ranking of customers.
+     */
+    private static class TopCustomersFilter implements Predicate<Customer> {
+        private final Predicate<Customer> topPredicate;
+
+        TopCustomersFilter(Predicate<Customer> topPredicate) {
+            this.topPredicate = topPredicate;
+        }
+
+        @Override
+        public boolean test(Customer customer) {
+            return topPredicate.test(customer);
+        }
+    }
+
+    /**
+     * Filters the orders matching a query by looking each order up in the orders the indexes found to match,
+     * rather than testing each order against the indexes.
+     * Orders are immutable, so the orders found keep matching. Once the filter follows changes, the orders that
+     * were not found, such as orders added or edited later, are tested against the indexes.
+     */
+    private static class OrderQueryFilter implements Predicate<Order> {
+        // the orders found by the address book are compared by identity, which is cheaper than hashing every
+        // field of an order
+        private final Set<Order> matches;
+        private final Predicate<Order> queryPredicate;
+        private boolean isFollowingChanges = false;
+
+        OrderQueryFilter(Set<Order> matches, Predicate<Order> queryPredicate) {
+            this.matches = matches;
+            this.queryPredicate = queryPredicate;
+        }
+
+        /**
+         * Tests the orders that were not found against the indexes from now on.
+         */
+        void followChanges() {
+            isFollowingChanges = true;
+        }
+
+        @Override
+        public boolean test(Order order) {
+            return matches.contains(order) || (isFollowingChanges && queryPredicate.test(order));
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.loyaltylift.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
 import seedu.loyaltylift.model.order.Order;
 
 /**
@@ -21,4 +24,26 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Order> getOrderList();
 
+    /**
+     * Returns an unmodifiable view of the customers list, for readers that do not display it and should not
+     * depend on JavaFX.
+     */
+    default List<Customer> getCustomers() {
+        return getCustomerList();
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders list, for readers that do not display it and should not
+     * depend on JavaFX.
+     */
+    default List<Order> getOrders() {
+        return getOrderList();
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of customers and their total points in each loyalty tier.
+     * The view reflects later changes to the address book.
+     */
+    ReadOnlyLoyaltyTierAggregate getLoyaltyTierAggregate();
+
 }
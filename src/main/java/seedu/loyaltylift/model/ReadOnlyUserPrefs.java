@@ -1,8 +1,11 @@
 package seedu.loyaltylift.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.loyaltylift.commons.core.GuiSettings;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.points.AccrualRules;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +16,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    TierDefinitions getTierDefinitions();
+
+    int getPointsExpiryDays();
+
+    AccrualRules getAccrualRules();
+
+    Map<String, String> getCommandAliases();
+
 }
@@ -1,12 +1,19 @@
 package seedu.loyaltylift.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import seedu.loyaltylift.commons.core.GuiSettings;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.model.points.PointsExpirySchedule;
 
 /**
  * Represents User's preferences.
@@ -15,6 +22,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "loyaltylift.json");
+    private TierDefinitions tierDefinitions = TierDefinitions.DEFAULT;
+    private int pointsExpiryDays = PointsExpirySchedule.NO_EXPIRY;
+    private AccrualRules accrualRules = AccrualRules.NONE;
+    private Map<String, String> commandAliases = Collections.emptyMap();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setTierDefinitions(newUserPrefs.getTierDefinitions());
+        setPointsExpiryDays(newUserPrefs.getPointsExpiryDays());
+        setAccrualRules(newUserPrefs.getAccrualRules());
+        setCommandAliases(newUserPrefs.getCommandAliases());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +71,49 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public TierDefinitions getTierDefinitions() {
+        return tierDefinitions;
+    }
+
+    public void setTierDefinitions(TierDefinitions tierDefinitions) {
+        requireNonNull(tierDefinitions);
+        this.tierDefinitions = tierDefinitions;
+    }
+
+    public int getPointsExpiryDays() {
+        return pointsExpiryDays;
+    }
+
+    /**
+     * Sets the number of days after which granted points expire, or {@code PointsExpirySchedule.NO_EXPIRY}
+     * if points never expire.
+     */
+    public void setPointsExpiryDays(int pointsExpiryDays) {
+        checkArgument(pointsExpiryDays >= 0);
+        this.pointsExpiryDays = pointsExpiryDays;
+    }
+
+    public AccrualRules getAccrualRules() {
+        return accrualRules;
+    }
+
+    public void setAccrualRules(AccrualRules accrualRules) {
+        requireNonNull(accrualRules);
+        this.accrualRules = accrualRules;
+    }
+
+    public Map<String, String> getCommandAliases() {
+        return commandAliases;
+    }
+
+    /**
+     * Sets the aliases of the command words, each alias mapped to the command word it stands for.
+     */
+    public void setCommandAliases(Map<String, String> commandAliases) {
+        requireNonNull(commandAliases);
+        this.commandAliases = Collections.unmodifiableMap(new TreeMap<>(commandAliases));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +126,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && tierDefinitions.equals(o.tierDefinitions)
+                && pointsExpiryDays == o.pointsExpiryDays
+                && accrualRules.equals(o.accrualRules)
+                && commandAliases.equals(o.commandAliases);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, tierDefinitions, pointsExpiryDays, accrualRules,
+                commandAliases);
     }
 
     @Override
@@ -81,6 +144,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLoyalty tiers : " + tierDefinitions);
+        sb.append("\nPoints expiry days : " + pointsExpiryDays);
+        sb.append("\nPoints accrual : " + accrualRules);
+        sb.append("\nCommand aliases : " + commandAliases);
         return sb.toString();
     }
 
@@ -0,0 +1,174 @@
+package seedu.loyaltylift.model.attribute;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index over the words of the {@code Name} of a collection of entities, e.g. customers or orders.
+ * Every lower-cased word of a name is mapped to the entities whose names contain it, in the order they were indexed,
+ * and the words are kept sorted so that the words starting with a prefix are found without scanning the others.
+ * The whole names are kept sorted in the same way, to complete names being typed.
+ * A query stops as soon as it has found the entities asked for, however many entities are indexed.
+ *
+ * The index is maintained incrementally, as the entities are added, edited and removed.
+ */
+public class NameIndex<T> {
+
+    private final Function<T, Name> nameExtractor;
+
+    // lower-cased word -> entities whose names contain the word
+    private final NavigableMap<String, Set<T>> entitiesByWord = new TreeMap<>();
+    // lower-cased name -> entities with the name
+    private final NavigableMap<String, Set<T>> entitiesByName = new TreeMap<>();
+
+    /**
+     * Constructs an empty {@code NameIndex}.
+     *
+     * @param nameExtractor Function returning the name of an entity.
+     */
+    public NameIndex(Function<T, Name> nameExtractor) {
+        requireNonNull(nameExtractor);
+        this.nameExtractor = nameExtractor;
+    }
+
+    /**
+     * Returns the lower-cased words of {@code name}, which are separated by whitespace as in
+     * {@link seedu.loyaltylift.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public static List<String> getWords(String name) {
+        requireNonNull(name);
+        List<String> words = new ArrayList<>();
+        for (String word : name.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Indexes the name of {@code entity}.
+     */
+    public void add(T entity) {
+        requireNonNull(entity);
+        String name = getNameValue(entity);
+        for (String word : getWords(name)) {
+            entitiesByWord.computeIfAbsent(word, unused -> new LinkedHashSet<>()).add(entity);
+        }
+        entitiesByName.computeIfAbsent(name.toLowerCase(), unused -> new LinkedHashSet<>()).add(entity);
+    }
+
+    /**
+     * Removes {@code entity} and its name from the index.
+     */
+    public void remove(T entity) {
+        requireNonNull(entity);
+        String name = getNameValue(entity);
+        for (String word : getWords(name)) {
+            removeFrom(entitiesByWord, word, entity);
+        }
+        removeFrom(entitiesByName, name.toLowerCase(), entity);
+    }
+
+    private static <T> void removeFrom(Map<String, Set<T>> entitiesByKey, String key, T entity) {
+        Set<T> entities = entitiesByKey.get(key);
+        if (entities == null) {
+            return;
+        }
+        entities.remove(entity);
+        if (entities.isEmpty()) {
+            entitiesByKey.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEntity} in the index.
+     */
+    public void set(T target, T editedEntity) {
+        requireAllNonNull(target, editedEntity);
+        remove(target);
+        add(editedEntity);
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code entities}.
+     */
+    public void setAll(Collection<T> entities) {
+        requireNonNull(entities);
+        entitiesByWord.clear();
+        entitiesByName.clear();
+        entities.forEach(this::add);
+    }
+
+    /**
+     * Returns at most {@code limit} entities whose names contain any of {@code keywords} as a word, ignoring case.
+     * If {@code isLastKeywordPrefix} is true, the last keyword also matches the words it is the start of, as it
+     * may not have been typed in full yet.
+     * The entities matching the earlier keywords come first, and the entities matching a prefix come in the order
+     * of the words they contain.
+     */
+    public List<T> find(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit >= 0, "Limit cannot be negative");
+
+        Set<T> matches = new LinkedHashSet<>();
+        for (int i = 0; i < keywords.size() && matches.size() < limit; i++) {
+            String keyword = keywords.get(i).toLowerCase();
+            boolean isPrefix = isLastKeywordPrefix && i == keywords.size() - 1;
+            Collection<Set<T>> matchingEntities = isPrefix
+                    ? entitiesByWord.subMap(keyword, true, keyword + Character.MAX_VALUE, false).values()
+                    : entitiesByWord.containsKey(keyword) ? List.of(entitiesByWord.get(keyword)) : List.of();
+            for (Set<T> entities : matchingEntities) {
+                addUpTo(matches, entities, limit);
+                if (matches.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the first {@code limit} distinct names starting with {@code prefix} in alphabetical order, ignoring
+     * case. Names differing only in case are returned once.
+     */
+    public List<String> completeName(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit cannot be negative");
+
+        String lowerCasePrefix = prefix.toLowerCase();
+        List<String> names = new ArrayList<>();
+        for (Set<T> entities : entitiesByName.subMap(lowerCasePrefix, true,
+                lowerCasePrefix + Character.MAX_VALUE, false).values()) {
+            if (names.size() >= limit) {
+                break;
+            }
+            names.add(getNameValue(entities.iterator().next()));
+        }
+        return names;
+    }
+
+    private static <T> void addUpTo(Set<T> matches, Set<T> entities, int limit) {
+        for (T entity : entities) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.add(entity);
+        }
+    }
+
+    private String getNameValue(T entity) {
+        return nameExtractor.apply(entity).fullName;
+    }
+}
@@ -0,0 +1,428 @@
+package seedu.loyaltylift.model.attribute;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index over the {@code Note} of a collection of entities, e.g. customers or orders.
+ * Every token of a note is mapped to the entities containing it, together with the positions it occurs at.
+ * Keyword and phrase queries are answered from the postings of the queried tokens only,
+ * so the notes themselves are not rescanned.
+ *
+ * The index is maintained incrementally. When a note is only appended to, only the appended tokens are indexed.
+ */
+public class NoteIndex<T> {
+
+    private static final int SNIPPET_CONTEXT_LENGTH = 30;
+    private static final String SNIPPET_ELLIPSIS = "...";
+
+    private final Function<T, Note> noteExtractor;
+
+    // token -> (document id -> positions of the token in the document)
+    private final Map<String, Map<Integer, Postings>> postingsByToken = new HashMap<>();
+    private final Map<T, Integer> documentIds = new HashMap<>();
+    private final List<Document<T>> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocumentIds = new ArrayDeque<>();
+
+    /**
+     * Constructs an empty {@code NoteIndex}.
+     *
+     * @param noteExtractor Function returning the note of an entity.
+     */
+    public NoteIndex(Function<T, Note> noteExtractor) {
+        requireNonNull(noteExtractor);
+        this.noteExtractor = noteExtractor;
+    }
+
+    /**
+     * Returns the lower-cased tokens of {@code text}.
+     * A token is a maximal run of letters or digits.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> tokens = new ArrayList<>();
+        TokenCursor cursor = new TokenCursor(text, 0);
+        while (cursor.next()) {
+            tokens.add(cursor.token());
+        }
+        return tokens;
+    }
+
+    /**
+     * Indexes the note of {@code entity}.
+     * The entity must not already be in the index.
+     */
+    public void add(T entity) {
+        requireNonNull(entity);
+        assert !documentIds.containsKey(entity);
+
+        int documentId = freeDocumentIds.isEmpty() ? documents.size() : freeDocumentIds.pop();
+        Document<T> document = new Document<>(entity);
+        if (documentId == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(documentId, document);
+        }
+        documentIds.put(entity, documentId);
+        indexTokens(documentId, document, getNoteValue(entity), 0);
+    }
+
+    /**
+     * Removes {@code entity} and its note from the index.
+     */
+    public void remove(T entity) {
+        requireNonNull(entity);
+        Integer documentId = documentIds.remove(entity);
+        if (documentId == null) {
+            return;
+        }
+
+        unindexTokens(documentId, getNoteValue(entity));
+        documents.set(documentId, null);
+        freeDocumentIds.push(documentId);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEntity} in the index.
+     * If the note is unchanged, no tokens are touched. If the note of {@code editedEntity} extends the note of
+     * {@code target}, only the appended text is indexed.
+     */
+    public void set(T target, T editedEntity) {
+        requireAllNonNull(target, editedEntity);
+        Integer documentId = documentIds.remove(target);
+        if (documentId == null) {
+            add(editedEntity);
+            return;
+        }
+
+        Document<T> document = documents.get(documentId);
+        document.entity = editedEntity;
+        documentIds.put(editedEntity, documentId);
+
+        String oldNote = getNoteValue(target);
+        String newNote = getNoteValue(editedEntity);
+        if (oldNote.equals(newNote)) {
+            return;
+        }
+
+        if (newNote.startsWith(oldNote)) {
+            appendTokens(documentId, document, oldNote, newNote);
+            return;
+        }
+
+        unindexTokens(documentId, oldNote);
+        document.reset();
+        indexTokens(documentId, document, newNote, 0);
+    }
+
+    /**
+     * Replaces the contents of this index with the notes of {@code entities}.
+     */
+    public void setAll(Collection<T> entities) {
+        requireNonNull(entities);
+        clear();
+        entities.forEach(this::add);
+    }
+
+    /**
+     * Removes every entity from the index.
+     */
+    public void clear() {
+        postingsByToken.clear();
+        documentIds.clear();
+        documents.clear();
+        freeDocumentIds.clear();
+    }
+
+    /**
+     * Returns the number of entities in the index.
+     */
+    public int size() {
+        return documentIds.size();
+    }
+
+    /**
+     * Returns the entities whose notes match every phrase of {@code query}, in the order they were indexed,
+     * each with a snippet of its note around the first phrase of the query.
+     */
+    public List<NoteMatch<T>> search(NoteQuery query) {
+        requireNonNull(query);
+
+        Set<Integer> candidates = null;
+        for (List<String> phrase : query.getPhrases()) {
+            candidates = findPhrase(phrase, candidates);
+            if (candidates.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        List<Integer> sortedCandidates = new ArrayList<>(candidates);
+        Collections.sort(sortedCandidates);
+
+        List<String> firstPhrase = query.getPhrases().get(0);
+        List<Map<Integer, Postings>> firstPhrasePostings = getPostings(firstPhrase);
+        List<NoteMatch<T>> matches = new ArrayList<>();
+        for (int documentId : sortedCandidates) {
+            T entity = documents.get(documentId).entity;
+            int position = findPhrasePosition(documentId, firstPhrasePostings);
+            String snippet = createSnippet(getNoteValue(entity), position, position + firstPhrase.size() - 1);
+            matches.add(new NoteMatch<>(entity, snippet));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ids of the documents containing {@code phrase}.
+     * If {@code candidates} is not null, only documents within {@code candidates} are considered.
+     */
+    private Set<Integer> findPhrase(List<String> phrase, Set<Integer> candidates) {
+        List<Map<Integer, Postings>> phrasePostings = getPostings(phrase);
+        Set<Integer> result = new HashSet<>();
+        if (phrasePostings == null) {
+            return result;
+        }
+
+        // iterate over the smallest set of documents that could contain the phrase
+        Collection<Integer> documentsToCheck = phrasePostings.get(0).keySet();
+        for (Map<Integer, Postings> postings : phrasePostings) {
+            if (postings.size() < documentsToCheck.size()) {
+                documentsToCheck = postings.keySet();
+            }
+        }
+        if (candidates != null && candidates.size() < documentsToCheck.size()) {
+            documentsToCheck = candidates;
+        }
+
+        for (int documentId : documentsToCheck) {
+            if (candidates != null && !candidates.contains(documentId)) {
+                continue;
+            }
+            if (findPhrasePosition(documentId, phrasePostings) != -1) {
+                result.add(documentId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the postings of each token of {@code phrase}, or null if any token is not indexed.
+     */
+    private List<Map<Integer, Postings>> getPostings(List<String> phrase) {
+        List<Map<Integer, Postings>> phrasePostings = new ArrayList<>();
+        for (String token : phrase) {
+            Map<Integer, Postings> postings = postingsByToken.get(token);
+            if (postings == null) {
+                return null;
+            }
+            phrasePostings.add(postings);
+        }
+        return phrasePostings;
+    }
+
+    /**
+     * Returns the position of the first occurrence of a phrase in the given document, or -1 if there is none.
+     */
+    private int findPhrasePosition(int documentId, List<Map<Integer, Postings>> phrasePostings) {
+        Postings firstTokenPostings = phrasePostings.get(0).get(documentId);
+        if (firstTokenPostings == null) {
+            return -1;
+        }
+
+        for (int i = 0; i < firstTokenPostings.size; i++) {
+            int position = firstTokenPostings.positions[i];
+            boolean isMatch = true;
+            for (int offset = 1; offset < phrasePostings.size() && isMatch; offset++) {
+                Postings postings = phrasePostings.get(offset).get(documentId);
+                isMatch = postings != null && postings.contains(position + offset);
+            }
+            if (isMatch) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void indexTokens(int documentId, Document<T> document, String note, int fromIndex) {
+        TokenCursor cursor = new TokenCursor(note, fromIndex);
+        while (cursor.next()) {
+            postingsByToken.computeIfAbsent(cursor.token(), unused -> new HashMap<>())
+                    .computeIfAbsent(documentId, unused -> new Postings())
+                    .add(document.tokenCount);
+            document.tokenCount++;
+            document.lastTokenStart = cursor.start;
+            document.lastTokenEnd = cursor.end;
+        }
+    }
+
+    private void unindexTokens(int documentId, String note) {
+        TokenCursor cursor = new TokenCursor(note, 0);
+        while (cursor.next()) {
+            String token = cursor.token();
+            Map<Integer, Postings> postings = postingsByToken.get(token);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(documentId);
+            if (postings.isEmpty()) {
+                postingsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Indexes the text appended to {@code oldNote} to form {@code newNote}.
+     * If the appended text continues the last token of {@code oldNote}, that token is re-indexed as well.
+     */
+    private void appendTokens(int documentId, Document<T> document, String oldNote, String newNote) {
+        int fromIndex = oldNote.length();
+        boolean isLastTokenExtended = document.tokenCount > 0
+                && document.lastTokenEnd == oldNote.length()
+                && isTokenCharacter(newNote.charAt(oldNote.length()));
+        if (isLastTokenExtended) {
+            String lastToken = oldNote.substring(document.lastTokenStart, document.lastTokenEnd).toLowerCase();
+            Map<Integer, Postings> postings = postingsByToken.get(lastToken);
+            Postings documentPostings = postings.get(documentId);
+            documentPostings.removeLast();
+            if (documentPostings.isEmpty()) {
+                postings.remove(documentId);
+            }
+            if (postings.isEmpty()) {
+                postingsByToken.remove(lastToken);
+            }
+            document.tokenCount--;
+            fromIndex = document.lastTokenStart;
+        }
+        indexTokens(documentId, document, newNote, fromIndex);
+    }
+
+    /**
+     * Returns the part of {@code note} around the tokens at {@code firstPosition} to {@code lastPosition},
+     * with the matched tokens enclosed in square brackets.
+     */
+    private static String createSnippet(String note, int firstPosition, int lastPosition) {
+        int matchStart = 0;
+        int matchEnd = 0;
+        int position = 0;
+        TokenCursor cursor = new TokenCursor(note, 0);
+        while (cursor.next() && position <= lastPosition) {
+            if (position == firstPosition) {
+                matchStart = cursor.start;
+            }
+            matchEnd = cursor.end;
+            position++;
+        }
+
+        int snippetStart = Math.max(0, matchStart - SNIPPET_CONTEXT_LENGTH);
+        int snippetEnd = Math.min(note.length(), matchEnd + SNIPPET_CONTEXT_LENGTH);
+        return (snippetStart > 0 ? SNIPPET_ELLIPSIS : "")
+                + note.substring(snippetStart, matchStart)
+                + "[" + note.substring(matchStart, matchEnd) + "]"
+                + note.substring(matchEnd, snippetEnd)
+                + (snippetEnd < note.length() ? SNIPPET_ELLIPSIS : "");
+    }
+
+    private String getNoteValue(T entity) {
+        Note note = noteExtractor.apply(entity);
+        return note == null ? "" : note.value;
+    }
+
+    private static boolean isTokenCharacter(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * An indexed entity and the information needed to extend its postings when its note is appended to.
+     */
+    private static class Document<T> {
+        private T entity;
+        private int tokenCount;
+        private int lastTokenStart;
+        private int lastTokenEnd;
+
+        Document(T entity) {
+            this.entity = entity;
+            reset();
+        }
+
+        void reset() {
+            tokenCount = 0;
+            lastTokenStart = -1;
+            lastTokenEnd = -1;
+        }
+    }
+
+    /**
+     * The ascending positions at which a token occurs in a document.
+     */
+    private static class Postings {
+        private int[] positions = new int[2];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        void removeLast() {
+            size--;
+        }
+
+        boolean contains(int position) {
+            return Arrays.binarySearch(positions, 0, size, position) >= 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /**
+     * Iterates over the tokens of a string, keeping track of where each token starts and ends.
+     */
+    private static class TokenCursor {
+        private final String text;
+        private int offset;
+        private int start;
+        private int end;
+
+        TokenCursor(String text, int fromIndex) {
+            this.text = text;
+            this.offset = fromIndex;
+        }
+
+        /**
+         * Advances to the next token. Returns false if there are no more tokens.
+         */
+        boolean next() {
+            int length = text.length();
+            while (offset < length && !isTokenCharacter(text.charAt(offset))) {
+                offset++;
+            }
+            start = offset;
+            while (offset < length && isTokenCharacter(text.charAt(offset))) {
+                offset++;
+            }
+            end = offset;
+            return end > start;
+        }
+
+        String token() {
+            return text.substring(start, end).toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.loyaltylift.model.attribute;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Represents an entity whose {@code Note} matched a {@code NoteQuery},
+ * together with a snippet of the note surrounding the match.
+ */
+public class NoteMatch<T> {
+
+    private final T entity;
+    private final String snippet;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public NoteMatch(T entity, String snippet) {
+        requireAllNonNull(entity, snippet);
+        this.entity = entity;
+        this.snippet = snippet;
+    }
+
+    public T getEntity() {
+        return entity;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NoteMatch // instanceof handles nulls
+                && entity.equals(((NoteMatch<?>) other).entity)
+                && snippet.equals(((NoteMatch<?>) other).snippet)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return entity.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return entity + " (" + snippet + ")";
+    }
+}
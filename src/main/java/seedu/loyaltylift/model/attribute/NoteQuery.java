@@ -0,0 +1,73 @@
+package seedu.loyaltylift.model.attribute;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a full-text query over {@code Note} values.
+ * A query is made up of one or more phrases, each of which is a sequence of tokens.
+ * A note matches the query if every phrase appears in it, with the tokens of a phrase in consecutive positions.
+ * A single keyword is a phrase of one token.
+ */
+public class NoteQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "Note queries should contain at least one word";
+
+    private final List<List<String>> phrases;
+
+    /**
+     * Constructs a {@code NoteQuery} from the given raw phrases.
+     * Each phrase is tokenized the same way note values are indexed, see {@link NoteIndex#tokenize(String)}.
+     *
+     * @param rawPhrases Phrases to be matched, e.g. {@code ["no eggs", "fragile"]}.
+     */
+    public NoteQuery(List<String> rawPhrases) {
+        requireNonNull(rawPhrases);
+        List<List<String>> tokenizedPhrases = new ArrayList<>();
+        for (String rawPhrase : rawPhrases) {
+            List<String> tokens = NoteIndex.tokenize(rawPhrase);
+            if (!tokens.isEmpty()) {
+                tokenizedPhrases.add(List.copyOf(tokens));
+            }
+        }
+        checkArgument(isValidQuery(tokenizedPhrases), MESSAGE_CONSTRAINTS);
+        phrases = List.copyOf(tokenizedPhrases);
+    }
+
+    /**
+     * Returns true if the given tokenized phrases form a valid query.
+     */
+    public static boolean isValidQuery(List<List<String>> tokenizedPhrases) {
+        return !tokenizedPhrases.isEmpty();
+    }
+
+    /**
+     * Returns the tokenized phrases of this query.
+     */
+    public List<List<String>> getPhrases() {
+        return phrases;
+    }
+
+    @Override
+    public String toString() {
+        return phrases.stream()
+                .map(phrase -> phrase.size() == 1 ? phrase.get(0) : "\"" + String.join(" ", phrase) + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NoteQuery // instanceof handles nulls
+                && phrases.equals(((NoteQuery) other).phrases)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return phrases.hashCode();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes customers by their cumulative points.
+ * When the tier definitions change, only the customers within the ranges of cumulative points whose tier changed
+ * are found, instead of finding the tier of every customer again.
+ */
+public class CumulativePointsIndex {
+
+    private final NavigableMap<Integer, Set<Customer>> customersByCumulativePoints = new TreeMap<>();
+
+    /**
+     * Replaces the indexed customers with {@code customers}.
+     */
+    public void setAll(List<Customer> customers) {
+        requireNonNull(customers);
+        customersByCumulativePoints.clear();
+        customers.forEach(this::add);
+    }
+
+    /**
+     * Indexes {@code customer}.
+     */
+    public void add(Customer customer) {
+        requireNonNull(customer);
+        customersByCumulativePoints.computeIfAbsent(cumulativePointsOf(customer), points -> new HashSet<>())
+                .add(customer);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCustomer}.
+     */
+    public void set(Customer target, Customer editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        remove(target);
+        add(editedCustomer);
+    }
+
+    /**
+     * Removes {@code customer} from the index.
+     */
+    public void remove(Customer customer) {
+        requireNonNull(customer);
+        int points = cumulativePointsOf(customer);
+        Set<Customer> customers = customersByCumulativePoints.get(points);
+        if (customers != null && customers.remove(customer) && customers.isEmpty()) {
+            customersByCumulativePoints.remove(points);
+        }
+    }
+
+    /**
+     * Returns the customers whose tier under {@code oldTierDefinitions} differs from their tier under
+     * {@code newTierDefinitions}.
+     */
+    public List<Customer> getCustomersChangingTier(TierDefinitions oldTierDefinitions,
+            TierDefinitions newTierDefinitions) {
+        requireAllNonNull(oldTierDefinitions, newTierDefinitions);
+        // between two consecutive boundaries of either definition, customers are in the same tier
+        TreeSet<Integer> boundaries = new TreeSet<>(oldTierDefinitions.getBoundaries());
+        boundaries.addAll(newTierDefinitions.getBoundaries());
+
+        List<Customer> customersChangingTier = new ArrayList<>();
+        for (int start : boundaries) {
+            if (oldTierDefinitions.getTier(start).equals(newTierDefinitions.getTier(start))) {
+                continue;
+            }
+            Integer end = boundaries.higher(start);
+            NavigableMap<Integer, Set<Customer>> range = end == null
+                    ? customersByCumulativePoints.tailMap(start, true)
+                    : customersByCumulativePoints.subMap(start, true, end, false);
+            range.values().forEach(customersChangingTier::addAll);
+        }
+        return customersChangingTier;
+    }
+
+    private static int cumulativePointsOf(Customer customer) {
+        return customer.getPoints().cumulative;
+    }
+}
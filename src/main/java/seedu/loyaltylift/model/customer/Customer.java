@@ -4,7 +4,6 @@ import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
 import java.util.Objects;
-import java.util.function.Predicate;
 
 import seedu.loyaltylift.model.attribute.Address;
 import seedu.loyaltylift.model.attribute.Name;
@@ -18,12 +17,11 @@ public class Customer {
 
     // Comparators
     public static final Comparator<Customer> SORT_NAME = Comparator.comparing(Customer::getName);
-    public static final Comparator<Customer> SORT_POINTS = Comparator.comparing(Customer::getPoints)
+    public static final Comparator<Customer> SORT_POINTS = Comparator
+            .comparingInt((Customer customer) -> customer.getPoints().value)
+            .thenComparingInt(customer -> customer.getPoints().cumulative)
             .reversed().thenComparing(SORT_NAME);
 
-    // Predicates
-    public static final Predicate<Customer> FILTER_SHOW_MARKED = customer -> customer.getMarked().value;
-
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -97,6 +95,13 @@ public class Customer {
         return note;
     }
 
+    /**
+     * Returns a copy of this customer with {@code points} instead.
+     */
+    public Customer newCustomerWithPoints(Points points) {
+        return new Customer(customerType, name, phone, email, address, points, marked, note);
+    }
+
     /**
      * Returns a unique ID for the {@code Customer}.
      * No 2 customer should exist with the same unique ID.
@@ -0,0 +1,126 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.loyaltylift.commons.util.OrderStatisticTree;
+
+/**
+ * Ranks customers by their points, from the most points to the fewest, as ordered by {@link Customer#SORT_POINTS}.
+ * The ranking is kept in an {@code OrderStatisticTree}, so that it is updated as points change without re-sorting,
+ * and the top customers, the rank of a customer, and the customers within a range of points are found in
+ * logarithmic time.
+ */
+public class CustomerPointsRanking {
+
+    public static final String MESSAGE_INVALID_POINTS_RANGE = "The minimum points cannot be more than the maximum";
+
+    private final OrderStatisticTree<Customer> ranking =
+            new OrderStatisticTree<>(Customer.SORT_POINTS.thenComparing(Customer::getUid));
+    private int modificationCount = 0;
+
+    /**
+     * Replaces the ranked customers with {@code customers}.
+     */
+    public void setAll(List<Customer> customers) {
+        requireNonNull(customers);
+        ranking.clear();
+        customers.forEach(ranking::add);
+        modificationCount++;
+    }
+
+    /**
+     * Ranks {@code customer}.
+     */
+    public void add(Customer customer) {
+        requireNonNull(customer);
+        ranking.add(customer);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCustomer}.
+     * Does nothing if {@code target} is not ranked.
+     */
+    public void set(Customer target, Customer editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        if (!ranking.remove(target)) {
+            return;
+        }
+        ranking.add(editedCustomer);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code customer} from the ranking.
+     */
+    public void remove(Customer customer) {
+        requireNonNull(customer);
+        ranking.remove(customer);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the one-based rank of {@code customer}, or 0 if the customer is not ranked.
+     */
+    public int getRank(Customer customer) {
+        requireNonNull(customer);
+        return ranking.indexOf(customer) + 1;
+    }
+
+    /**
+     * Returns the number of ranked customers.
+     */
+    public int size() {
+        return ranking.size();
+    }
+
+    /**
+     * Returns the (at most) {@code count} highest ranked customers with between {@code minPoints} and
+     * {@code maxPoints} points, both inclusive, from the highest rank.
+     */
+    public List<Customer> getTop(int count, int minPoints, int maxPoints) {
+        checkArgument(count >= 0);
+        checkArgument(minPoints <= maxPoints, MESSAGE_INVALID_POINTS_RANGE);
+        // customers are ranked by decreasing points, so the customers in the range are consecutive
+        int start = ranking.countWhile(customer -> customer.getPoints().value > maxPoints);
+        int end = ranking.countWhile(customer -> customer.getPoints().value >= minPoints);
+        return ranking.subList(start, Math.max(start, Math.min(end, start + count)));
+    }
+
+    /**
+     * Returns the (at most) {@code count} highest ranked customers, from the highest rank.
+     */
+    public List<Customer> getTop(int count) {
+        return getTop(count, Points.MINIMUM_POINTS, Points.MAXIMUM_POINTS);
+    }
+
+    /**
+     * Returns a predicate testing whether a customer is among the {@code count} highest ranked customers with
+     * between {@code minPoints} and {@code maxPoints} points.
+     * The predicate follows later changes to the ranking.
+     */
+    public Predicate<Customer> asTopPredicate(int count, int minPoints, int maxPoints) {
+        checkArgument(count >= 0);
+        checkArgument(minPoints <= maxPoints, MESSAGE_INVALID_POINTS_RANGE);
+        return new Predicate<>() {
+            private int resolvedAt = modificationCount - 1;
+            private Set<Customer> members;
+
+            @Override
+            public boolean test(Customer customer) {
+                if (resolvedAt != modificationCount) {
+                    members = new HashSet<>(getTop(count, minPoints, maxPoints));
+                    resolvedAt = modificationCount;
+                }
+                return members.contains(customer);
+            }
+        };
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Function;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+
+/**
+ * Represents a group of customers described by their attributes, such as
+ * "bookmarked enterprises in the Gold tier with a pending order".
+ * Segments are combined with {@link #and}, {@link #or} and {@link #not}, and are resolved against a
+ * {@code CustomerSegmentIndex} as bitmap operations.
+ */
+public abstract class CustomerSegment {
+
+    public static final CustomerSegment ALL = new AttributeSegment("all", CustomerSegmentIndex::all);
+    public static final CustomerSegment MARKED = new AttributeSegment("marked", CustomerSegmentIndex::marked);
+    public static final CustomerSegment PENDING = new AttributeSegment("pending",
+            CustomerSegmentIndex::withPendingOrder);
+
+    /**
+     * Returns the slots of the customers in this segment.
+     * The returned bitmap is owned by the caller.
+     */
+    public abstract BitSet resolve(CustomerSegmentIndex index);
+
+    /**
+     * Returns a segment of the customers of the given {@code type}.
+     */
+    public static CustomerSegment ofType(CustomerType type) {
+        requireNonNull(type);
+        return new AttributeSegment(type.toString().toLowerCase(), index -> index.ofType(type));
+    }
+
+    /**
+     * Returns a segment of the customers in the loyalty tier named {@code tierName}, ignoring case.
+     * The tier is looked up in the tier definitions of the index when the segment is resolved,
+     * so the segment follows changes to the definitions.
+     */
+    public static CustomerSegment ofTier(String tierName) {
+        requireNonNull(tierName);
+        return new AttributeSegment(tierName.toLowerCase(), index -> index.ofTier(tierName));
+    }
+
+    /**
+     * Returns a segment of the customers in the given loyalty {@code tier}.
+     */
+    public static CustomerSegment ofTier(Tier tier) {
+        requireNonNull(tier);
+        return ofTier(tier.equals(Tier.NONE) ? TierDefinitions.NONE_NAME : tier.getName());
+    }
+
+    /**
+     * Returns a segment of the customers with at least {@code points} points.
+     */
+    public static CustomerSegment withPointsAtLeast(int points) {
+        return new AttributeSegment("pts>=" + points, index -> index.withPointsAtLeast(points));
+    }
+
+    /**
+     * Returns a segment of the customers with fewer than {@code points} points.
+     */
+    public static CustomerSegment withPointsBelow(int points) {
+        return new AttributeSegment("pts<" + points, index -> index.withPointsBelow(points));
+    }
+
+    /**
+     * Returns a segment of the customers in both this segment and {@code other}.
+     */
+    public CustomerSegment and(CustomerSegment other) {
+        return new BinarySegment(this, other, false);
+    }
+
+    /**
+     * Returns a segment of the customers in either this segment or {@code other}.
+     */
+    public CustomerSegment or(CustomerSegment other) {
+        return new BinarySegment(this, other, true);
+    }
+
+    /**
+     * Returns a segment of the customers not in this segment.
+     */
+    public CustomerSegment not() {
+        return new NotSegment(this);
+    }
+
+    /**
+     * A segment read directly from one of the index's bitmaps.
+     * Two attribute segments are equal if they have the same description.
+     */
+    private static class AttributeSegment extends CustomerSegment {
+        private final String description;
+        private final Function<CustomerSegmentIndex, BitSet> resolver;
+
+        AttributeSegment(String description, Function<CustomerSegmentIndex, BitSet> resolver) {
+            this.description = description;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public BitSet resolve(CustomerSegmentIndex index) {
+            requireNonNull(index);
+            return resolver.apply(index);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AttributeSegment // instanceof handles nulls
+                    && description.equals(((AttributeSegment) other).description)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return description.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * The intersection or union of two segments.
+     */
+    private static class BinarySegment extends CustomerSegment {
+        private final CustomerSegment left;
+        private final CustomerSegment right;
+        private final boolean isUnion;
+
+        BinarySegment(CustomerSegment left, CustomerSegment right, boolean isUnion) {
+            requireAllNonNull(left, right);
+            this.left = left;
+            this.right = right;
+            this.isUnion = isUnion;
+        }
+
+        @Override
+        public BitSet resolve(CustomerSegmentIndex index) {
+            BitSet result = left.resolve(index);
+            if (isUnion) {
+                result.or(right.resolve(index));
+            } else if (!result.isEmpty()) {
+                result.and(right.resolve(index));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof BinarySegment // instanceof handles nulls
+                    && left.equals(((BinarySegment) other).left)
+                    && right.equals(((BinarySegment) other).right)
+                    && isUnion == ((BinarySegment) other).isUnion); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(left, right, isUnion);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + (isUnion ? " or " : " and ") + right + ")";
+        }
+    }
+
+    /**
+     * The complement of a segment among all indexed customers.
+     */
+    private static class NotSegment extends CustomerSegment {
+        private final CustomerSegment segment;
+
+        NotSegment(CustomerSegment segment) {
+            requireNonNull(segment);
+            this.segment = segment;
+        }
+
+        @Override
+        public BitSet resolve(CustomerSegmentIndex index) {
+            BitSet result = index.all();
+            result.andNot(segment.resolve(index));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof NotSegment // instanceof handles nulls
+                    && segment.equals(((NotSegment) other).segment)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return segment.hashCode() ^ 1;
+        }
+
+        @Override
+        public String toString() {
+            return "not " + segment;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.StatusValue;
+
+/**
+ * Indexes customers by the attributes a {@code CustomerSegment} can be built from.
+ * Every customer is assigned a dense slot, and each attribute value keeps a bitmap of the slots having it,
+ * so that a segment is resolved with a handful of bitmap operations instead of testing every customer.
+ * Slots freed by removed customers are reused by customers added later.
+ */
+public class CustomerSegmentIndex {
+
+    /** Lower bounds of the points buckets, the last bucket being unbounded. */
+    private static final int[] POINTS_BUCKET_LOWER_BOUNDS = {0, 100, 500, 1000, 5000, 10000, 50000, 100000};
+
+    private final Map<Customer, Integer> slots = new HashMap<>();
+    private final Map<Order, Integer> pendingOrderSlots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount = 0;
+    private int[] pointsBySlot = new int[16];
+    private int[] pendingOrdersBySlot = new int[16];
+    private int modificationCount = 0;
+
+    private final BitSet occupied = new BitSet();
+    private final BitSet marked = new BitSet();
+    private final BitSet hasPendingOrder = new BitSet();
+    private final Map<CustomerType, BitSet> byType = new EnumMap<>(CustomerType.class);
+    private final Map<Tier, BitSet> byTier = new HashMap<>();
+    private final BitSet[] byPointsBucket = new BitSet[POINTS_BUCKET_LOWER_BOUNDS.length];
+    private TierDefinitions tierDefinitions = TierDefinitions.DEFAULT;
+
+    /**
+     * Creates an empty {@code CustomerSegmentIndex}.
+     */
+    public CustomerSegmentIndex() {
+        for (CustomerType type : CustomerType.values()) {
+            byType.put(type, new BitSet());
+        }
+        for (int i = 0; i < byPointsBucket.length; i++) {
+            byPointsBucket[i] = new BitSet();
+        }
+    }
+
+    //// customer operations
+
+    /**
+     * Replaces the indexed customers with {@code customers}.
+     * Pending orders are cleared and have to be indexed again with {@link #setOrders(List)}.
+     */
+    public void setCustomers(List<Customer> customers) {
+        requireNonNull(customers);
+        slots.clear();
+        pendingOrderSlots.clear();
+        freeSlots.clear();
+        slotCount = 0;
+        Arrays.fill(pendingOrdersBySlot, 0);
+        occupied.clear();
+        marked.clear();
+        hasPendingOrder.clear();
+        byType.values().forEach(BitSet::clear);
+        byTier.values().forEach(BitSet::clear);
+        Arrays.stream(byPointsBucket).forEach(BitSet::clear);
+        customers.forEach(this::addCustomer);
+    }
+
+    /**
+     * Indexes {@code customer}.
+     */
+    public void addCustomer(Customer customer) {
+        requireNonNull(customer);
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        ensureCapacity(slot);
+        slots.put(customer, slot);
+        indexAttributes(customer, slot);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCustomer}, keeping its slot and its pending orders.
+     * Does nothing if {@code target} is not indexed.
+     */
+    public void setCustomer(Customer target, Customer editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        Integer slot = slots.remove(target);
+        if (slot == null) {
+            return;
+        }
+        unindexAttributes(target, slot);
+        slots.put(editedCustomer, slot);
+        indexAttributes(editedCustomer, slot);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code customer} from the index, freeing its slot.
+     * Its orders should be removed beforehand.
+     */
+    public void removeCustomer(Customer customer) {
+        requireNonNull(customer);
+        Integer slot = slots.remove(customer);
+        assert slot != null : "Customer to be removed is not indexed";
+        unindexAttributes(customer, slot);
+        pendingOrdersBySlot[slot] = 0;
+        hasPendingOrder.clear(slot);
+        freeSlots.push(slot);
+        modificationCount++;
+    }
+
+    /**
+     * Places the customers in the tiers of {@code tierDefinitions}.
+     * Only {@code changedCustomers}, the customers whose tier differs between the current definitions and
+     * {@code tierDefinitions}, are moved.
+     */
+    public void setTierDefinitions(TierDefinitions tierDefinitions, List<Customer> changedCustomers) {
+        requireAllNonNull(tierDefinitions, changedCustomers);
+        TierDefinitions oldTierDefinitions = this.tierDefinitions;
+        this.tierDefinitions = tierDefinitions;
+        for (Customer customer : changedCustomers) {
+            Integer slot = slots.get(customer);
+            if (slot == null) {
+                continue;
+            }
+            tierBitmap(customer.getPoints().getLoyaltyTier(oldTierDefinitions)).clear(slot);
+            tierBitmap(customer.getPoints().getLoyaltyTier(tierDefinitions)).set(slot);
+        }
+        modificationCount++;
+    }
+
+    //// order operations
+
+    /**
+     * Replaces the indexed orders with {@code orders}.
+     * Orders of customers that are not indexed are ignored.
+     */
+    public void setOrders(List<Order> orders) {
+        requireNonNull(orders);
+        pendingOrderSlots.clear();
+        Arrays.fill(pendingOrdersBySlot, 0);
+        hasPendingOrder.clear();
+        orders.forEach(this::addOrder);
+    }
+
+    /**
+     * Counts {@code order} against its customer if it is pending.
+     */
+    public void addOrder(Order order) {
+        requireNonNull(order);
+        if (!isPending(order)) {
+            return;
+        }
+        Integer slot = slots.get(order.getCustomer());
+        if (slot == null) {
+            return;
+        }
+        pendingOrderSlots.put(order, slot);
+        pendingOrdersBySlot[slot]++;
+        hasPendingOrder.set(slot);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedOrder}.
+     */
+    public void setOrder(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        removeOrder(target);
+        addOrder(editedOrder);
+    }
+
+    /**
+     * Stops counting {@code order} against its customer.
+     */
+    public void removeOrder(Order order) {
+        requireNonNull(order);
+        Integer slot = pendingOrderSlots.remove(order);
+        if (slot == null) {
+            return;
+        }
+        if (--pendingOrdersBySlot[slot] == 0) {
+            hasPendingOrder.clear(slot);
+        }
+        modificationCount++;
+    }
+
+    //// queries
+
+    /**
+     * Returns the number of indexed customers.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the slots of all indexed customers.
+     * The returned bitmap is a copy and may be modified by the caller.
+     */
+    public BitSet all() {
+        return (BitSet) occupied.clone();
+    }
+
+    /**
+     * Returns the slots of bookmarked customers.
+     */
+    public BitSet marked() {
+        return (BitSet) marked.clone();
+    }
+
+    /**
+     * Returns the slots of customers of the given {@code type}.
+     */
+    public BitSet ofType(CustomerType type) {
+        return (BitSet) byType.get(type).clone();
+    }
+
+    /**
+     * Returns the slots of customers in the loyalty tier named {@code tierName}, ignoring case.
+     * No customers are in a tier that is not defined.
+     */
+    public BitSet ofTier(String tierName) {
+        Optional<Tier> tier = tierDefinitions.findTier(tierName);
+        return tier.isPresent() ? (BitSet) tierBitmap(tier.get()).clone() : new BitSet();
+    }
+
+    /**
+     * Returns the slots of customers with at least one pending order.
+     */
+    public BitSet withPendingOrder() {
+        return (BitSet) hasPendingOrder.clone();
+    }
+
+    /**
+     * Returns the slots of customers with at least {@code points} points.
+     * Buckets entirely above {@code points} are merged whole, and only the bucket containing {@code points}
+     * is checked customer by customer.
+     */
+    public BitSet withPointsAtLeast(int points) {
+        BitSet result = new BitSet();
+        int bucket = bucketOf(points);
+        for (int i = bucket + 1; i < byPointsBucket.length; i++) {
+            result.or(byPointsBucket[i]);
+        }
+        if (bucket < 0) {
+            return result;
+        }
+        if (points == POINTS_BUCKET_LOWER_BOUNDS[bucket]) {
+            result.or(byPointsBucket[bucket]);
+            return result;
+        }
+        BitSet boundaryBucket = byPointsBucket[bucket];
+        for (int slot = boundaryBucket.nextSetBit(0); slot >= 0; slot = boundaryBucket.nextSetBit(slot + 1)) {
+            if (pointsBySlot[slot] >= points) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of customers with fewer than {@code points} points.
+     */
+    public BitSet withPointsBelow(int points) {
+        BitSet result = all();
+        result.andNot(withPointsAtLeast(points));
+        return result;
+    }
+
+    /**
+     * Returns a predicate testing whether a customer belongs to {@code segment}.
+     * The segment is resolved again only after this index has changed, so the predicate stays up to date
+     * while costing one lookup per customer tested.
+     */
+    public Predicate<Customer> asPredicate(CustomerSegment segment) {
+        requireNonNull(segment);
+        return new Predicate<>() {
+            private int resolvedAt = modificationCount - 1;
+            private BitSet members;
+
+            @Override
+            public boolean test(Customer customer) {
+                if (resolvedAt != modificationCount) {
+                    members = segment.resolve(CustomerSegmentIndex.this);
+                    resolvedAt = modificationCount;
+                }
+                Integer slot = slots.get(customer);
+                return slot != null && members.get(slot);
+            }
+        };
+    }
+
+    //// helpers
+
+    private void indexAttributes(Customer customer, int slot) {
+        int points = customer.getPoints().value;
+        occupied.set(slot);
+        marked.set(slot, customer.getMarked().value);
+        byType.get(customer.getCustomerType()).set(slot);
+        tierBitmap(customer.getPoints().getLoyaltyTier(tierDefinitions)).set(slot);
+        byPointsBucket[bucketOf(points)].set(slot);
+        pointsBySlot[slot] = points;
+    }
+
+    private void unindexAttributes(Customer customer, int slot) {
+        occupied.clear(slot);
+        marked.clear(slot);
+        byType.get(customer.getCustomerType()).clear(slot);
+        tierBitmap(customer.getPoints().getLoyaltyTier(tierDefinitions)).clear(slot);
+        byPointsBucket[bucketOf(pointsBySlot[slot])].clear(slot);
+    }
+
+    private BitSet tierBitmap(Tier tier) {
+        return byTier.computeIfAbsent(tier, unused -> new BitSet());
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < pointsBySlot.length) {
+            return;
+        }
+        int newLength = Math.max(slot + 1, pointsBySlot.length * 2);
+        pointsBySlot = Arrays.copyOf(pointsBySlot, newLength);
+        pendingOrdersBySlot = Arrays.copyOf(pendingOrdersBySlot, newLength);
+    }
+
+    /**
+     * Returns the bucket containing {@code points}, or -1 if {@code points} is below every bucket.
+     */
+    private static int bucketOf(int points) {
+        int index = Arrays.binarySearch(POINTS_BUCKET_LOWER_BOUNDS, points);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static boolean isPending(Order order) {
+        return order.getStatus().getLatestStatus().getStatusValue() == StatusValue.PENDING;
+    }
+
+}
@@ -0,0 +1,109 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+
+/**
+ * Keeps the number of customers and their total points in each loyalty tier and customer type.
+ * The totals are adjusted as customers are added, edited or removed, so reading them does not visit any customer.
+ */
+public class LoyaltyTierAggregate implements ReadOnlyLoyaltyTierAggregate {
+
+    private final Map<Tier, int[]> counts = new HashMap<>();
+    private final Map<Tier, long[]> totalPoints = new HashMap<>();
+    private TierDefinitions tierDefinitions = TierDefinitions.DEFAULT;
+
+    /**
+     * Replaces the aggregated customers with {@code customers}.
+     */
+    public void setAll(List<Customer> customers) {
+        requireNonNull(customers);
+        counts.clear();
+        totalPoints.clear();
+        customers.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code customer} to the totals.
+     */
+    public void add(Customer customer) {
+        requireNonNull(customer);
+        update(customer, 1);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedCustomer} in the totals.
+     */
+    public void set(Customer target, Customer editedCustomer) {
+        requireAllNonNull(target, editedCustomer);
+        update(target, -1);
+        update(editedCustomer, 1);
+    }
+
+    /**
+     * Removes {@code customer} from the totals.
+     */
+    public void remove(Customer customer) {
+        requireNonNull(customer);
+        update(customer, -1);
+    }
+
+    /**
+     * Groups the customers by the tiers of {@code tierDefinitions}.
+     * Only {@code changedCustomers}, the customers whose tier differs between the current definitions and
+     * {@code tierDefinitions}, are moved between the totals.
+     */
+    public void setTierDefinitions(TierDefinitions tierDefinitions, List<Customer> changedCustomers) {
+        requireAllNonNull(tierDefinitions, changedCustomers);
+        changedCustomers.forEach(customer -> update(customer, -1));
+        this.tierDefinitions = tierDefinitions;
+        changedCustomers.forEach(customer -> update(customer, 1));
+    }
+
+    /**
+     * Returns a copy of the totals, which later changes to this aggregate do not change.
+     * Copying takes time in proportion to the number of tiers rather than the number of customers.
+     */
+    public LoyaltyTierAggregate copy() {
+        LoyaltyTierAggregate copy = new LoyaltyTierAggregate();
+        counts.forEach((tier, tierCounts) -> copy.counts.put(tier, tierCounts.clone()));
+        totalPoints.forEach((tier, tierTotalPoints) -> copy.totalPoints.put(tier, tierTotalPoints.clone()));
+        copy.tierDefinitions = tierDefinitions;
+        return copy;
+    }
+
+    @Override
+    public TierDefinitions getTierDefinitions() {
+        return tierDefinitions;
+    }
+
+    @Override
+    public int getCount(Tier tier, CustomerType customerType) {
+        requireAllNonNull(tier, customerType);
+        int[] tierCounts = counts.get(tier);
+        return tierCounts == null ? 0 : tierCounts[customerType.ordinal()];
+    }
+
+    @Override
+    public long getTotalPoints(Tier tier, CustomerType customerType) {
+        requireAllNonNull(tier, customerType);
+        long[] tierTotalPoints = totalPoints.get(tier);
+        return tierTotalPoints == null ? 0 : tierTotalPoints[customerType.ordinal()];
+    }
+
+    private void update(Customer customer, int sign) {
+        Tier tier = customer.getPoints().getLoyaltyTier(tierDefinitions);
+        int customerType = customer.getCustomerType().ordinal();
+        int[] tierCounts = counts.computeIfAbsent(tier, unused -> new int[CustomerType.values().length]);
+        long[] tierTotalPoints = totalPoints.computeIfAbsent(tier, unused -> new long[CustomerType.values().length]);
+        tierCounts[customerType] += sign;
+        tierTotalPoints[customerType] += sign * customer.getPoints().value;
+        assert tierCounts[customerType] >= 0 : "Removed a customer that was not aggregated";
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.loyaltylift.model.customer;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
@@ -18,21 +19,53 @@ public class Points implements Comparable<Points> {
     public static final Integer MAXIMUM_POINTS_SUBTRACT = -999999;
 
     /**
-     * The tier a customer would belong to for having a certain amount of cumulative points
-     * 1000 for Bronze
-     * 5000 for Silver
-     * 100000 for Gold
+     * A loyalty tier, which a customer belongs to for having at least its minimum cumulative points.
+     * The tiers in use are configured by {@code TierDefinitions}.
+     * Two tiers are the same if they have the same name, ignoring case.
      */
-    public enum Tier {
-        NONE("No Tier"),
-        BRONZE("Bronze"),
-        SILVER("Silver"),
-        GOLD("Gold");
+    public static final class Tier {
+        public static final Tier NONE = new Tier("No Tier", 0);
+        public static final Tier BRONZE = new Tier("Bronze", 1000);
+        public static final Tier SILVER = new Tier("Silver", 5000);
+        public static final Tier GOLD = new Tier("Gold", 10000);
 
         private final String name;
+        private final int minimumCumulativePoints;
 
-        private Tier(String name) {
+        /**
+         * Constructs a {@code Tier} named {@code name} for customers with at least {@code minimumCumulativePoints}.
+         */
+        public Tier(String name, int minimumCumulativePoints) {
+            requireNonNull(name);
             this.name = name;
+            this.minimumCumulativePoints = minimumCumulativePoints;
+        }
+
+        /**
+         * Constructs an empty {@code Tier}, for deserialization only.
+         */
+        private Tier() {
+            this("", 0);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMinimumCumulativePoints() {
+            return minimumCumulativePoints;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Tier // instanceof handles nulls
+                    && name.equalsIgnoreCase(((Tier) other).name)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return name.toLowerCase().hashCode();
         }
 
         @Override
@@ -40,9 +73,6 @@ public class Points implements Comparable<Points> {
             return name;
         }
     }
-    public static final Integer BRONZE_TIER = 1000;
-    public static final Integer SILVER_TIER = 5000;
-    public static final Integer GOLD_TIER = 10000;
 
     public static final String MESSAGE_CONSTRAINTS = "Points must be a positive integer "
             + "and can only range from "
@@ -103,16 +133,11 @@ public class Points implements Comparable<Points> {
         }
     }
 
-    public Points.Tier getLoyaltyTier() {
-        if (this.cumulative >= GOLD_TIER) {
-            return Tier.GOLD;
-        } else if (this.cumulative >= SILVER_TIER) {
-            return Tier.SILVER;
-        } else if (this.cumulative >= BRONZE_TIER) {
-            return Tier.BRONZE;
-        } else {
-            return Tier.NONE;
-        }
+    /**
+     * Returns the loyalty tier these points belong to under {@code tierDefinitions}.
+     */
+    public Points.Tier getLoyaltyTier(TierDefinitions tierDefinitions) {
+        return tierDefinitions.getTier(cumulative);
     }
 
     /**
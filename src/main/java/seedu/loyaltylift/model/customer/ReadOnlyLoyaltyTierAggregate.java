@@ -0,0 +1,68 @@
+package seedu.loyaltylift.model.customer;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+
+/**
+ * Unmodifiable view of the number of customers and their total points in each loyalty tier and customer type.
+ */
+public interface ReadOnlyLoyaltyTierAggregate {
+
+    /**
+     * Returns the tier definitions the customers are grouped by.
+     */
+    TierDefinitions getTierDefinitions();
+
+    /**
+     * Returns the number of customers of {@code customerType} in {@code tier}.
+     */
+    int getCount(Tier tier, CustomerType customerType);
+
+    /**
+     * Returns the total points of the customers of {@code customerType} in {@code tier}.
+     */
+    long getTotalPoints(Tier tier, CustomerType customerType);
+
+    /**
+     * Returns the number of customers in {@code tier}.
+     */
+    default int getCount(Tier tier) {
+        int count = 0;
+        for (CustomerType customerType : CustomerType.values()) {
+            count += getCount(tier, customerType);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of customers of {@code customerType}.
+     */
+    default int getCount(CustomerType customerType) {
+        int count = 0;
+        for (Tier tier : getTierDefinitions().getTiers()) {
+            count += getCount(tier, customerType);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total points of the customers in {@code tier}.
+     */
+    default long getTotalPoints(Tier tier) {
+        long totalPoints = 0;
+        for (CustomerType customerType : CustomerType.values()) {
+            totalPoints += getTotalPoints(tier, customerType);
+        }
+        return totalPoints;
+    }
+
+    /**
+     * Returns the total points of the customers of {@code customerType}.
+     */
+    default long getTotalPoints(CustomerType customerType) {
+        long totalPoints = 0;
+        for (Tier tier : getTierDefinitions().getTiers()) {
+            totalPoints += getTotalPoints(tier, customerType);
+        }
+        return totalPoints;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.loyaltylift.model.customer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+
+/**
+ * Defines the loyalty tiers customers are placed in by their cumulative points.
+ * Customers below the lowest defined tier are in {@link Tier#NONE}.
+ * Guarantees: immutable; tier names are unique and minimum cumulative points are distinct and positive.
+ */
+public class TierDefinitions {
+
+    public static final String MESSAGE_CONSTRAINTS = "Tier names should be unique, contain only letters "
+            + "and not be \"none\", and the minimum cumulative points of each tier should be distinct and between "
+            + "1 and " + Points.MAXIMUM_POINTS;
+
+    public static final String NAME_VALIDATION_REGEX = "[A-Za-z]+";
+
+    /** The name that refers to {@link Tier#NONE}, which no defined tier may take. */
+    public static final String NONE_NAME = "none";
+
+    public static final TierDefinitions DEFAULT = new TierDefinitions(List.of(Tier.BRONZE, Tier.SILVER, Tier.GOLD));
+
+    private final List<Tier> tiers;
+
+    // built on first use, as deserialization sets the tiers directly
+    private transient NavigableMap<Integer, Tier> tiersByMinimumPoints;
+
+    /**
+     * Constructs a {@code TierDefinitions} with the given {@code tiers}.
+     */
+    public TierDefinitions(List<Tier> tiers) {
+        requireNonNull(tiers);
+        checkArgument(isValidTiers(tiers), MESSAGE_CONSTRAINTS);
+        this.tiers = new ArrayList<>(tiers);
+    }
+
+    /**
+     * Constructs the default {@code TierDefinitions}, for deserialization only.
+     */
+    private TierDefinitions() {
+        this(List.of(Tier.BRONZE, Tier.SILVER, Tier.GOLD));
+    }
+
+    /**
+     * Returns true if {@code tiers} have unique names of letters other than {@code none},
+     * and distinct, valid minimum cumulative points.
+     */
+    public static boolean isValidTiers(List<Tier> tiers) {
+        Set<Tier> names = new HashSet<>();
+        Set<Integer> minimumPoints = new HashSet<>();
+        for (Tier tier : tiers) {
+            if (!tier.getName().matches(NAME_VALIDATION_REGEX)
+                    || tier.getMinimumCumulativePoints() <= 0
+                    || tier.getMinimumCumulativePoints() > Points.MAXIMUM_POINTS
+                    || tier.getName().equalsIgnoreCase(NONE_NAME)
+                    || !names.add(tier)
+                    || !minimumPoints.add(tier.getMinimumCumulativePoints())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tier of a customer with {@code cumulativePoints} cumulative points.
+     */
+    public Tier getTier(int cumulativePoints) {
+        return getTiersByMinimumPoints().floorEntry(cumulativePoints).getValue();
+    }
+
+    /**
+     * Returns every tier, including {@link Tier#NONE}, from the lowest to the highest.
+     */
+    public List<Tier> getTiers() {
+        return new ArrayList<>(getTiersByMinimumPoints().values());
+    }
+
+    /**
+     * Returns the tier named {@code name}, ignoring case.
+     * {@code none} names {@link Tier#NONE}.
+     */
+    public Optional<Tier> findTier(String name) {
+        requireNonNull(name);
+        if (name.equalsIgnoreCase(NONE_NAME)) {
+            return Optional.of(Tier.NONE);
+        }
+        return getTiersByMinimumPoints().values().stream()
+                .filter(tier -> tier.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * Returns the cumulative points at which a customer may move to another tier, from the lowest.
+     */
+    public Set<Integer> getBoundaries() {
+        return Collections.unmodifiableSet(getTiersByMinimumPoints().keySet());
+    }
+
+    private NavigableMap<Integer, Tier> getTiersByMinimumPoints() {
+        if (tiersByMinimumPoints == null) {
+            NavigableMap<Integer, Tier> map = new TreeMap<>();
+            map.put(0, Tier.NONE);
+            // tiers read from a preferences file are not validated, so invalid tiers are skipped
+            tiers.stream()
+                    .filter(tier -> tier.getMinimumCumulativePoints() > 0)
+                    .forEach(tier -> map.put(tier.getMinimumCumulativePoints(), tier));
+            tiersByMinimumPoints = map;
+        }
+        return tiersByMinimumPoints;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TierDefinitions)) {
+            return false;
+        }
+
+        List<Tier> otherTiers = ((TierDefinitions) other).getTiers();
+        List<Tier> tiers = getTiers();
+        if (tiers.size() != otherTiers.size()) {
+            return false;
+        }
+        for (int i = 0; i < tiers.size(); i++) {
+            if (!tiers.get(i).equals(otherTiers.get(i))
+                    || tiers.get(i).getMinimumCumulativePoints() != otherTiers.get(i).getMinimumCumulativePoints()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTiersByMinimumPoints().keySet(), getTiers());
+    }
+
+    @Override
+    public String toString() {
+        return getTiers().stream()
+                .map(tier -> tier + " (" + tier.getMinimumCumulativePoints() + ")")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -5,10 +5,11 @@ import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.loyaltylift.commons.util.IndexedStore;
+import seedu.loyaltylift.commons.util.ObservableStoreList;
 import seedu.loyaltylift.model.customer.exceptions.CustomerNotFoundException;
 import seedu.loyaltylift.model.customer.exceptions.DuplicateCustomerException;
 
@@ -20,22 +21,24 @@ import seedu.loyaltylift.model.customer.exceptions.DuplicateCustomerException;
  * UniqueCustomerList. However, the removal of a customer uses Customer#equals(Object) so as to ensure
  * that the customer with exactly the same fields will be removed.
  *
+ * Customers are kept in an {@code IndexedStore} by their uid, so that they are found without searching the list
+ * and the list can be used without JavaFX. Removing a customer moves the last customer into its position.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Customer#isSameCustomer(Customer)
  */
 public class UniqueCustomerList implements Iterable<Customer> {
 
-    private final ObservableList<Customer> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Customer> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final IndexedStore<String, Customer> store = new IndexedStore<>(Customer::getUid);
+    private ObservableList<Customer> observableList;
 
     /**
      * Returns true if the list contains an equivalent customer as the given argument.
      */
     public boolean contains(Customer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCustomer);
+        return store.containsKey(toCheck.getUid());
     }
 
     /**
@@ -44,10 +47,40 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void add(Customer toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!store.add(toAdd)) {
+            throw new DuplicateCustomerException();
+        }
+    }
+
+    /**
+     * Adds {@code customers} to the list, in order.
+     * None of the customers may already exist in the list, and they must all be different.
+     */
+    public void addAll(List<Customer> customers) {
+        requireAllNonNull(customers);
+        if (!store.addAll(customers)) {
+            throw new DuplicateCustomerException();
+        }
+    }
+
+    /**
+     * Checks that {@code toCustomer} can be added to the list, without changing the list.
+     * @throws DuplicateCustomerException if the list already contains a customer with the identity of {@code toCustomer}.
+     */
+    public void requireAddable(Customer toCustomer) {
+        if (contains(toCustomer)) {
+            throw new DuplicateCustomerException();
+        }
+    }
+
+    /**
+     * Checks that {@code customers} can be added to the list, without changing the list.
+     * @throws DuplicateCustomerException if any two of the customers, or a customer and a customer in the list, have the same identity.
+     */
+    public void requireAddable(List<Customer> customers) {
+        if (!store.canAddAll(customers)) {
             throw new DuplicateCustomerException();
         }
-        internalList.add(toAdd);
     }
 
     /**
@@ -56,9 +89,19 @@ public class UniqueCustomerList implements Iterable<Customer> {
      * The customer identity of {@code editedCustomer} must not be the same as another existing customer in the list.
      */
     public void setCustomer(Customer target, Customer editedCustomer) {
+        store.set(requireReplaceable(target, editedCustomer), editedCustomer);
+    }
+
+    /**
+     * Checks that the customer {@code target} in the list can be replaced with {@code editedCustomer}, without
+     * changing the list, and returns the position of {@code target}.
+     * @throws CustomerNotFoundException if {@code target} is not in the list.
+     * @throws DuplicateCustomerException if another customer in the list has the identity of {@code editedCustomer}.
+     */
+    public int requireReplaceable(Customer target, Customer editedCustomer) {
         requireAllNonNull(target, editedCustomer);
 
-        int index = internalList.indexOf(target);
+        int index = store.indexOf(target);
         if (index == -1) {
             throw new CustomerNotFoundException();
         }
@@ -67,7 +110,7 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new DuplicateCustomerException();
         }
 
-        internalList.set(index, editedCustomer);
+        return index;
     }
 
     /**
@@ -76,28 +119,38 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void remove(Customer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = store.indexOf(toRemove);
+        if (index == -1) {
             throw new CustomerNotFoundException();
         }
+        store.remove(index);
+    }
+
+    /**
+     * Returns the customer in the list with {@code customerUid}, if any.
+     */
+    public Optional<Customer> findCustomer(String customerUid) {
+        requireNonNull(customerUid);
+        return Optional.ofNullable(store.getByKey(customerUid));
     }
 
+    /**
+     * Returns the customer in the list with {@code customerUid}.
+     * The customer must exist in the list.
+     */
     public Customer getCustomer(String customerUid) {
         requireNonNull(customerUid);
 
-        List<Customer> customers = internalList.stream()
-                .filter(c -> c.getUid().equals(customerUid))
-                .collect(Collectors.toList());
-        if (customers.size() > 1) {
-            throw new DuplicateCustomerException();
-        } else if (customers.size() == 0) {
+        Customer customer = store.getByKey(customerUid);
+        if (customer == null) {
             throw new CustomerNotFoundException();
         }
-        return customers.get(0);
+        return customer;
     }
 
     public void setCustomers(UniqueCustomerList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        store.setAll(replacement.store.asUnmodifiableList());
     }
 
     /**
@@ -106,48 +159,50 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void setCustomers(List<Customer> customers) {
         requireAllNonNull(customers);
-        if (!customersAreUnique(customers)) {
+        if (!store.setAll(customers)) {
             throw new DuplicateCustomerException();
         }
+    }
 
-        internalList.setAll(customers);
+    /**
+     * Returns the backing list as an unmodifiable {@code List}, which does not depend on JavaFX.
+     */
+    public List<Customer> asUnmodifiableList() {
+        return store.asUnmodifiableList();
+    }
+
+    /**
+     * Returns an immutable copy of the list, taken in constant time, which later changes to the list do not change.
+     */
+    public List<Customer> snapshot() {
+        return store.snapshot();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * The {@code ObservableList} is only created when first asked for.
      */
     public ObservableList<Customer> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        if (observableList == null) {
+            observableList = new ObservableStoreList<>(store);
+        }
+        return observableList;
     }
 
     @Override
     public Iterator<Customer> iterator() {
-        return internalList.iterator();
+        return store.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueCustomerList // instanceof handles nulls
-                        && internalList.equals(((UniqueCustomerList) other).internalList));
+                        && store.equals(((UniqueCustomerList) other).store));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
-    }
-
-    /**
-     * Returns true if {@code customers} contains only unique customers.
-     */
-    private boolean customersAreUnique(List<Customer> customers) {
-        for (int i = 0; i < customers.size() - 1; i++) {
-            for (int j = i + 1; j < customers.size(); j++) {
-                if (customers.get(i).isSameCustomer(customers.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return store.hashCode();
     }
 }
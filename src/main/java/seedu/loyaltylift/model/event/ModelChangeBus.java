@@ -0,0 +1,186 @@
+package seedu.loyaltylift.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.model.event.ModelChangeEvent.Batch;
+
+/**
+ * Publishes {@code ModelChangeEvent}s to the subscribers of their type, so that structures derived from the model
+ * can be updated incrementally without observing the model's lists.
+ * <p>
+ * Synchronous subscribers receive each event on the publishing thread, before {@code publish} returns.
+ * Asynchronous subscribers receive each event through their own executor, one at a time and in the order
+ * the events were published.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} form a batch, which is published as a
+ * {@code Batch} event when its outermost {@code endBatch()} is reached. Events are published from the thread that
+ * changes the model.
+ */
+public class ModelChangeBus {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelChangeBus.class);
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private List<ModelChangeEvent> batchEvents = new ArrayList<>();
+    private int batchDepth = 0;
+
+    /**
+     * Subscribes {@code subscriber} to the events of {@code eventType}, including its subtypes,
+     * to be received on the publishing thread.
+     */
+    public <E extends ModelChangeEvent> Subscription<E> subscribe(Class<E> eventType, Consumer<? super E> subscriber) {
+        requireAllNonNull(eventType, subscriber);
+        Subscription<E> subscription = new Subscription<>(eventType, subscriber, null);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Subscribes {@code subscriber} to the events of {@code eventType}, including its subtypes,
+     * to be received through {@code executor}.
+     */
+    public <E extends ModelChangeEvent> Subscription<E> subscribeAsync(Class<E> eventType,
+            Consumer<? super E> subscriber, Executor executor) {
+        requireAllNonNull(eventType, subscriber, executor);
+        Subscription<E> subscription = new Subscription<>(eventType, subscriber, executor);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Starts a batch of changes, which ends at the matching {@link #endBatch()}.
+     * Batches may be nested, in which case the changes are part of the outermost batch.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, publishing the changes made in the outermost
+     * batch as a {@code Batch} event.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        if (batchDepth == 0 && !batchEvents.isEmpty()) {
+            List<ModelChangeEvent> events = batchEvents;
+            batchEvents = new ArrayList<>();
+            deliver(new Batch(events));
+        }
+    }
+
+    /**
+     * Returns true if a batch of changes has begun and not ended.
+     */
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Publishes {@code event} to its subscribers.
+     */
+    public void publish(ModelChangeEvent event) {
+        requireNonNull(event);
+        if (event instanceof Batch) {
+            throw new IllegalArgumentException("Batches are published by ending them");
+        }
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        deliver(event);
+        if (isInBatch()) {
+            batchEvents.add(event);
+        } else {
+            deliver(new Batch(List.of(event)));
+        }
+    }
+
+    private void deliver(ModelChangeEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * A subscriber to the events of one type, which stops receiving events once unsubscribed.
+     */
+    public class Subscription<E extends ModelChangeEvent> {
+        private final Class<E> eventType;
+        private final Consumer<? super E> subscriber;
+        private final Executor executor;
+
+        // events waiting to be delivered through the executor, and whether a delivery is in progress
+        private final Queue<E> pending = new ArrayDeque<>();
+        private boolean isDelivering = false;
+
+        private Subscription(Class<E> eventType, Consumer<? super E> subscriber, Executor executor) {
+            this.eventType = eventType;
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        /**
+         * Stops delivering events to the subscriber.
+         * Events already handed to an executor may still be received.
+         */
+        public void unsubscribe() {
+            subscriptions.remove(this);
+        }
+
+        private void offer(ModelChangeEvent event) {
+            if (!eventType.isInstance(event)) {
+                return;
+            }
+            E typedEvent = eventType.cast(event);
+            if (executor == null) {
+                subscriber.accept(typedEvent);
+                return;
+            }
+
+            synchronized (this) {
+                pending.add(typedEvent);
+                if (isDelivering) {
+                    return;
+                }
+                isDelivering = true;
+            }
+            executor.execute(this::deliverPending);
+        }
+
+        /**
+         * Delivers the pending events in order, so that an executor running tasks concurrently still delivers
+         * one event at a time.
+         */
+        private void deliverPending() {
+            while (true) {
+                E event;
+                synchronized (this) {
+                    event = pending.poll();
+                    if (event == null) {
+                        isDelivering = false;
+                        return;
+                    }
+                }
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException e) {
+                    logger.warning("Subscriber failed to handle " + event + ": " + e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.loyaltylift.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.StatusValue;
+
+/**
+ * Describes one change to the customers or orders of the model, as published on a {@code ModelChangeBus}.
+ * Guarantees: immutable; details are present and not null.
+ */
+public abstract class ModelChangeEvent {
+
+    /**
+     * A customer was added.
+     */
+    public static class CustomerAdded extends ModelChangeEvent {
+        private final Customer customer;
+
+        /**
+         * Constructs a {@code CustomerAdded} event for {@code customer}.
+         */
+        public CustomerAdded(Customer customer) {
+            requireNonNull(customer);
+            this.customer = customer;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        @Override
+        public String toString() {
+            return "Customer added: " + customer.getUid();
+        }
+    }
+
+    /**
+     * A customer was replaced by an edited customer.
+     */
+    public static class CustomerUpdated extends ModelChangeEvent {
+        private final Customer oldCustomer;
+        private final Customer newCustomer;
+
+        /**
+         * Constructs a {@code CustomerUpdated} event for {@code oldCustomer} replaced by {@code newCustomer}.
+         */
+        public CustomerUpdated(Customer oldCustomer, Customer newCustomer) {
+            requireAllNonNull(oldCustomer, newCustomer);
+            this.oldCustomer = oldCustomer;
+            this.newCustomer = newCustomer;
+        }
+
+        public Customer getOldCustomer() {
+            return oldCustomer;
+        }
+
+        public Customer getNewCustomer() {
+            return newCustomer;
+        }
+
+        @Override
+        public String toString() {
+            return "Customer updated: " + oldCustomer.getUid() + " -> " + newCustomer.getUid();
+        }
+    }
+
+    /**
+     * A customer was removed.
+     * The orders of the customer are removed before it, each with an {@code OrderRemoved} event.
+     */
+    public static class CustomerRemoved extends ModelChangeEvent {
+        private final Customer customer;
+
+        /**
+         * Constructs a {@code CustomerRemoved} event for {@code customer}.
+         */
+        public CustomerRemoved(Customer customer) {
+            requireNonNull(customer);
+            this.customer = customer;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        @Override
+        public String toString() {
+            return "Customer removed: " + customer.getUid();
+        }
+    }
+
+    /**
+     * An order was added.
+     */
+    public static class OrderAdded extends ModelChangeEvent {
+        private final Order order;
+
+        /**
+         * Constructs an {@code OrderAdded} event for {@code order}.
+         */
+        public OrderAdded(Order order) {
+            requireNonNull(order);
+            this.order = order;
+        }
+
+        public Order getOrder() {
+            return order;
+        }
+
+        @Override
+        public String toString() {
+            return "Order added: " + order.getName();
+        }
+    }
+
+    /**
+     * An order was replaced by an edited order, such as when its customer was edited.
+     */
+    public static class OrderUpdated extends ModelChangeEvent {
+        private final Order oldOrder;
+        private final Order newOrder;
+
+        /**
+         * Constructs an {@code OrderUpdated} event for {@code oldOrder} replaced by {@code newOrder}.
+         */
+        public OrderUpdated(Order oldOrder, Order newOrder) {
+            requireAllNonNull(oldOrder, newOrder);
+            this.oldOrder = oldOrder;
+            this.newOrder = newOrder;
+        }
+
+        public Order getOldOrder() {
+            return oldOrder;
+        }
+
+        public Order getNewOrder() {
+            return newOrder;
+        }
+
+        @Override
+        public String toString() {
+            return "Order updated: " + oldOrder.getName() + " -> " + newOrder.getName();
+        }
+    }
+
+    /**
+     * An order was replaced by an order with a different status.
+     * Subscribers to {@code OrderUpdated} receive these events too.
+     */
+    public static class OrderStatusChanged extends OrderUpdated {
+
+        /**
+         * Constructs an {@code OrderStatusChanged} event for {@code oldOrder} replaced by {@code newOrder}.
+         */
+        public OrderStatusChanged(Order oldOrder, Order newOrder) {
+            super(oldOrder, newOrder);
+        }
+
+        public StatusValue getOldStatusValue() {
+            return getOldOrder().getStatus().getLatestStatus().getStatusValue();
+        }
+
+        public StatusValue getNewStatusValue() {
+            return getNewOrder().getStatus().getLatestStatus().getStatusValue();
+        }
+
+        @Override
+        public String toString() {
+            return "Order status changed: " + getNewOrder().getName() + " " + getOldStatusValue() + " -> "
+                    + getNewStatusValue();
+        }
+    }
+
+    /**
+     * An order was removed.
+     */
+    public static class OrderRemoved extends ModelChangeEvent {
+        private final Order order;
+
+        /**
+         * Constructs an {@code OrderRemoved} event for {@code order}.
+         */
+        public OrderRemoved(Order order) {
+            requireNonNull(order);
+            this.order = order;
+        }
+
+        public Order getOrder() {
+            return order;
+        }
+
+        @Override
+        public String toString() {
+            return "Order removed: " + order.getName();
+        }
+    }
+
+    /**
+     * The points earned by a completed order were credited to its customer.
+     */
+    public static class OrderCredited extends ModelChangeEvent {
+        private final String customerUid;
+        private final String orderReference;
+
+        /**
+         * Constructs an {@code OrderCredited} event for the order identified by {@code orderReference}, credited to
+         * the customer with {@code customerUid}.
+         */
+        public OrderCredited(String customerUid, String orderReference) {
+            requireAllNonNull(customerUid, orderReference);
+            this.customerUid = customerUid;
+            this.orderReference = orderReference;
+        }
+
+        public String getCustomerUid() {
+            return customerUid;
+        }
+
+        public String getOrderReference() {
+            return orderReference;
+        }
+
+        @Override
+        public String toString() {
+            return "Order credited: " + orderReference + " to " + customerUid;
+        }
+    }
+
+    /**
+     * Crediting the points earned by an order was undone, so the order can be credited again when it is completed.
+     */
+    public static class OrderCreditReversed extends ModelChangeEvent {
+        private final String customerUid;
+        private final String orderReference;
+
+        /**
+         * Constructs an {@code OrderCreditReversed} event for the order identified by {@code orderReference}, which
+         * was credited to the customer with {@code customerUid}.
+         */
+        public OrderCreditReversed(String customerUid, String orderReference) {
+            requireAllNonNull(customerUid, orderReference);
+            this.customerUid = customerUid;
+            this.orderReference = orderReference;
+        }
+
+        public String getCustomerUid() {
+            return customerUid;
+        }
+
+        public String getOrderReference() {
+            return orderReference;
+        }
+
+        @Override
+        public String toString() {
+            return "Order credit reversed: " + orderReference + " from " + customerUid;
+        }
+    }
+
+    /**
+     * The customers or the orders were replaced all at once, so structures derived from them should be rebuilt.
+     */
+    public static class DataReset extends ModelChangeEvent {
+        @Override
+        public String toString() {
+            return "Data reset";
+        }
+    }
+
+    /**
+     * The events published between the start and the end of a batch of changes, in the order they were published.
+     * An event published outside of a batch is also delivered in a batch of its own, so that subscribers to
+     * batches see every change.
+     */
+    public static class Batch extends ModelChangeEvent {
+        private final List<ModelChangeEvent> events;
+
+        /**
+         * Constructs a {@code Batch} of {@code events}.
+         */
+        public Batch(List<ModelChangeEvent> events) {
+            requireNonNull(events);
+            this.events = Collections.unmodifiableList(events);
+        }
+
+        public List<ModelChangeEvent> getEvents() {
+            return events;
+        }
+
+        @Override
+        public String toString() {
+            return "Batch of " + events.size() + " changes";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.loyaltylift.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.event.ModelChangeEvent;
+import seedu.loyaltylift.model.order.Order;
+
+/**
+ * Records the changes made to the customers and orders as {@code HistoryStep}s that can be undone and redone.
+ * The changes are recorded one at a time, and a step is ended once the changes of a command are complete.
+ * At most {@code capacity} steps are kept, dropping the oldest steps first.
+ * Changes made while a step is being undone or redone are not recorded.
+ */
+public class ChangeHistory {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Deque<HistoryStep> undoSteps = new ArrayDeque<>();
+    private final Deque<HistoryStep> redoSteps = new ArrayDeque<>();
+
+    // the changes of the step being recorded, and the customer or order displayed before them
+    private List<ModelChangeEvent> events = new ArrayList<>();
+    private Customer customerDisplayedBefore;
+    private Order orderDisplayedBefore;
+
+    private boolean isRestoring = false;
+
+    /**
+     * Creates an empty {@code ChangeHistory} that keeps up to {@code capacity} steps.
+     */
+    public ChangeHistory(int capacity) {
+        checkArgument(capacity > 0);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates an empty {@code ChangeHistory} that keeps up to {@code DEFAULT_CAPACITY} steps.
+     */
+    public ChangeHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Records {@code event} as part of the current step, unless a step is being undone or redone.
+     * {@code displayedCustomer} and {@code displayedOrder} are the customer and order displayed before the event,
+     * either of which may be null.
+     */
+    public void record(ModelChangeEvent event, Customer displayedCustomer, Order displayedOrder) {
+        requireNonNull(event);
+        if (isRestoring) {
+            return;
+        }
+        if (events.isEmpty()) {
+            customerDisplayedBefore = displayedCustomer;
+            orderDisplayedBefore = displayedOrder;
+        }
+        events.add(event);
+    }
+
+    /**
+     * Ends the current step, if any changes were recorded in it, which can then be undone.
+     * Steps that were undone can no longer be redone.
+     * {@code displayedCustomer} and {@code displayedOrder} are the customer and order displayed after the step,
+     * either of which may be null.
+     */
+    public void endStep(Customer displayedCustomer, Order displayedOrder) {
+        if (events.isEmpty()) {
+            return;
+        }
+        undoSteps.push(new HistoryStep(events, customerDisplayedBefore, orderDisplayedBefore,
+                displayedCustomer, displayedOrder));
+        if (undoSteps.size() > capacity) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        events = new ArrayList<>();
+    }
+
+    /**
+     * Forgets every step, including the step being recorded, such as after changes that cannot be undone.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        events = new ArrayList<>();
+    }
+
+    /**
+     * Returns true if there is a step to undo.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a step to redo.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the latest step, which is undone by {@code restoration} and can then be redone.
+     * The changes made by {@code restoration} are not recorded.
+     */
+    public HistoryStep undo(Consumer<List<ModelChangeEvent>> restoration) {
+        requireNonNull(restoration);
+        checkArgument(canUndo(), "There is no step to undo");
+        HistoryStep step = undoSteps.peek();
+        restore(restoration, step.getInverseEvents());
+        redoSteps.push(undoSteps.pop());
+        return step;
+    }
+
+    /**
+     * Returns the latest undone step, which is redone by {@code restoration} and can then be undone again.
+     * The changes made by {@code restoration} are not recorded.
+     */
+    public HistoryStep redo(Consumer<List<ModelChangeEvent>> restoration) {
+        requireNonNull(restoration);
+        checkArgument(canRedo(), "There is no step to redo");
+        HistoryStep step = redoSteps.peek();
+        restore(restoration, step.getEvents());
+        undoSteps.push(redoSteps.pop());
+        return step;
+    }
+
+    private void restore(Consumer<List<ModelChangeEvent>> restoration, List<ModelChangeEvent> changes) {
+        isRestoring = true;
+        try {
+            restoration.accept(changes);
+        } finally {
+            isRestoring = false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.loyaltylift.model.history;
+
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.event.ModelChangeEvent;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerUpdated;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderCreditReversed;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderCredited;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderUpdated;
+import seedu.loyaltylift.model.order.Order;
+
+/**
+ * The changes made to the customers and orders by one command, which are undone and redone together.
+ * Only the customers and orders that changed are kept, before and after the change, so a step takes as much
+ * memory as the change it records rather than as much as the whole address book.
+ * The customer or order displayed before and after the changes is kept as well, to be displayed again when the
+ * step is undone or redone.
+ * Guarantees: immutable; the events are present and not null, and are all additions, updates, removals or
+ * credits of orders.
+ */
+public class HistoryStep {
+
+    private final List<ModelChangeEvent> events;
+    private final Customer customerDisplayedBefore;
+    private final Order orderDisplayedBefore;
+    private final Customer customerDisplayedAfter;
+    private final Order orderDisplayedAfter;
+
+    /**
+     * Constructs a {@code HistoryStep} of {@code events}, in the order they were made.
+     * The displayed customer and order may be null if they were not displayed.
+     */
+    public HistoryStep(List<ModelChangeEvent> events, Customer customerDisplayedBefore, Order orderDisplayedBefore,
+            Customer customerDisplayedAfter, Order orderDisplayedAfter) {
+        requireAllNonNull(events);
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+        this.customerDisplayedBefore = customerDisplayedBefore;
+        this.orderDisplayedBefore = orderDisplayedBefore;
+        this.customerDisplayedAfter = customerDisplayedAfter;
+        this.orderDisplayedAfter = orderDisplayedAfter;
+    }
+
+    /**
+     * Returns the changes made by the step, in the order they were made.
+     */
+    public List<ModelChangeEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the changes that undo the step, in the order they should be made.
+     */
+    public List<ModelChangeEvent> getInverseEvents() {
+        List<ModelChangeEvent> inverseEvents = new ArrayList<>(events.size());
+        for (int i = events.size() - 1; i >= 0; i--) {
+            inverseEvents.add(invert(events.get(i)));
+        }
+        return inverseEvents;
+    }
+
+    public Customer getCustomerDisplayedBefore() {
+        return customerDisplayedBefore;
+    }
+
+    public Order getOrderDisplayedBefore() {
+        return orderDisplayedBefore;
+    }
+
+    public Customer getCustomerDisplayedAfter() {
+        return customerDisplayedAfter;
+    }
+
+    public Order getOrderDisplayedAfter() {
+        return orderDisplayedAfter;
+    }
+
+    private static ModelChangeEvent invert(ModelChangeEvent event) {
+        if (event instanceof CustomerAdded) {
+            return new CustomerRemoved(((CustomerAdded) event).getCustomer());
+        } else if (event instanceof CustomerRemoved) {
+            return new CustomerAdded(((CustomerRemoved) event).getCustomer());
+        } else if (event instanceof CustomerUpdated) {
+            CustomerUpdated update = (CustomerUpdated) event;
+            return new CustomerUpdated(update.getNewCustomer(), update.getOldCustomer());
+        } else if (event instanceof OrderAdded) {
+            return new OrderRemoved(((OrderAdded) event).getOrder());
+        } else if (event instanceof OrderRemoved) {
+            return new OrderAdded(((OrderRemoved) event).getOrder());
+        } else if (event instanceof OrderUpdated) {
+            OrderUpdated update = (OrderUpdated) event;
+            return new OrderUpdated(update.getNewOrder(), update.getOldOrder());
+        } else if (event instanceof OrderCredited) {
+            OrderCredited credit = (OrderCredited) event;
+            return new OrderCreditReversed(credit.getCustomerUid(), credit.getOrderReference());
+        } else if (event instanceof OrderCreditReversed) {
+            OrderCreditReversed reversal = (OrderCreditReversed) event;
+            return new OrderCredited(reversal.getCustomerUid(), reversal.getOrderReference());
+        }
+        throw new IllegalArgumentException("Cannot undo " + event);
+    }
+
+    @Override
+    public String toString() {
+        return "History step of " + events.size() + " changes";
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.loyaltylift.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes orders by their created date, and by the date each stage of their status was reached.
+ * Orders within a date range are found by seeking to the start of the range instead of checking every order.
+ */
+public class OrderDateIndex {
+
+    private final NavigableMap<LocalDate, Set<Order>> ordersByCreatedDate = new TreeMap<>();
+    private final Map<StatusValue, NavigableMap<LocalDate, Set<Order>>> ordersByStageDate =
+            new EnumMap<>(StatusValue.class);
+
+    /**
+     * Creates an empty {@code OrderDateIndex}.
+     */
+    public OrderDateIndex() {
+        for (StatusValue statusValue : StatusValue.values()) {
+            ordersByStageDate.put(statusValue, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Replaces the indexed orders with {@code orders}.
+     */
+    public void setAll(List<Order> orders) {
+        requireNonNull(orders);
+        ordersByCreatedDate.clear();
+        ordersByStageDate.values().forEach(Map::clear);
+        orders.forEach(this::add);
+    }
+
+    /**
+     * Indexes {@code order}.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        ordersByCreatedDate.computeIfAbsent(order.getCreatedDate().value, date -> new HashSet<>()).add(order);
+        for (StatusUpdate statusUpdate : order.getStatus().getStatusUpdates()) {
+            ordersByStageDate.get(statusUpdate.getStatusValue())
+                    .computeIfAbsent(statusUpdate.getDate(), date -> new HashSet<>()).add(order);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedOrder}.
+     * Does nothing if {@code target} is not indexed.
+     */
+    public void set(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        if (!contains(ordersByCreatedDate, target.getCreatedDate().value, target)) {
+            return;
+        }
+        remove(target);
+        add(editedOrder);
+    }
+
+    /**
+     * Removes {@code order} from the index.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        removeFrom(ordersByCreatedDate, order.getCreatedDate().value, order);
+        for (StatusUpdate statusUpdate : order.getStatus().getStatusUpdates()) {
+            removeFrom(ordersByStageDate.get(statusUpdate.getStatusValue()), statusUpdate.getDate(), order);
+        }
+    }
+
+    /**
+     * Returns the orders created between {@code from} and {@code to}, both inclusive.
+     * A null bound leaves that end of the range open.
+     * The returned set compares the indexed orders by identity.
+     */
+    public Set<Order> getOrdersCreatedBetween(LocalDate from, LocalDate to) {
+        return collect(subMap(ordersByCreatedDate, from, to));
+    }
+
+    /**
+     * Returns the number of orders created between {@code from} and {@code to}, both inclusive.
+     * A null bound leaves that end of the range open.
+     */
+    public int countCreatedBetween(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (Set<Order> orders : subMap(ordersByCreatedDate, from, to).values()) {
+            count += orders.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the orders that reached {@code stage} between {@code from} and {@code to}, both inclusive.
+     * A null bound leaves that end of the range open.
+     * The returned set compares the indexed orders by identity.
+     */
+    public Set<Order> getOrdersReachingStageBetween(StatusValue stage, LocalDate from, LocalDate to) {
+        requireNonNull(stage);
+        return collect(subMap(ordersByStageDate.get(stage), from, to));
+    }
+
+    /**
+     * Returns true if {@code order} is indexed as created between {@code from} and {@code to}.
+     * The created date is looked up in the index, so orders that are not indexed never match.
+     */
+    public boolean isCreatedBetween(Order order, LocalDate from, LocalDate to) {
+        requireNonNull(order);
+        return contains(subMap(ordersByCreatedDate, from, to), order.getCreatedDate().value, order);
+    }
+
+    /**
+     * Returns true if {@code order} is indexed as having reached {@code stage} between {@code from} and {@code to}.
+     */
+    public boolean hasReachedStageBetween(Order order, StatusValue stage, LocalDate from, LocalDate to) {
+        requireAllNonNull(order, stage);
+        NavigableMap<LocalDate, Set<Order>> range = subMap(ordersByStageDate.get(stage), from, to);
+        return order.getStatus().getStatusUpdates().stream()
+                .filter(statusUpdate -> statusUpdate.getStatusValue() == stage)
+                .anyMatch(statusUpdate -> contains(range, statusUpdate.getDate(), order));
+    }
+
+    private static NavigableMap<LocalDate, Set<Order>> subMap(NavigableMap<LocalDate, Set<Order>> map,
+            LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return map;
+        } else if (from == null) {
+            return map.headMap(to, true);
+        } else if (to == null) {
+            return map.tailMap(from, true);
+        } else {
+            return map.subMap(from, true, to, true);
+        }
+    }
+
+    private static Set<Order> collect(NavigableMap<LocalDate, Set<Order>> range) {
+        // the indexed orders are compared by identity, which is cheaper than hashing every field of an order
+        Set<Order> orders = Collections.newSetFromMap(new IdentityHashMap<>());
+        range.values().forEach(orders::addAll);
+        return orders;
+    }
+
+    private static boolean contains(NavigableMap<LocalDate, Set<Order>> map, LocalDate date, Order order) {
+        Set<Order> orders = map.get(date);
+        return orders != null && orders.contains(order);
+    }
+
+    private static void removeFrom(NavigableMap<LocalDate, Set<Order>> map, LocalDate date, Order order) {
+        Set<Order> orders = map.get(date);
+        if (orders != null && orders.remove(order) && orders.isEmpty()) {
+            map.remove(date);
+        }
+    }
+}
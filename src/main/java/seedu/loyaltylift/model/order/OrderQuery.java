@@ -0,0 +1,149 @@
+package seedu.loyaltylift.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the criteria an order must meet to be listed.
+ * An order can be required to currently be in a status, and to have been created, or to have reached a stage,
+ * within a date range.
+ * Queries are resolved by the address book using its order indexes instead of testing every order.
+ * Guarantees: immutable.
+ */
+public class OrderQuery {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start of a date range cannot be after its end";
+
+    public static final OrderQuery ALL = new OrderQuery(null, null, null, null);
+
+    private final StatusValue statusValue;
+    private final StatusValue stage;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private OrderQuery(StatusValue statusValue, StatusValue stage, LocalDate from, LocalDate to) {
+        this.statusValue = statusValue;
+        this.stage = stage;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders whose latest status is {@code statusValue}.
+     */
+    public OrderQuery withStatus(StatusValue statusValue) {
+        requireNonNull(statusValue);
+        return new OrderQuery(statusValue, stage, from, to);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders created between {@code from} and {@code to},
+     * both inclusive. A null bound leaves that end of the range open.
+     * This replaces any stage date range of this query.
+     */
+    public OrderQuery withCreatedDateBetween(LocalDate from, LocalDate to) {
+        checkArgument(isValidDateRange(from, to), MESSAGE_INVALID_DATE_RANGE);
+        return new OrderQuery(statusValue, null, from, to);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders that reached {@code stage} between {@code from}
+     * and {@code to}, both inclusive. A null bound leaves that end of the range open.
+     * This replaces any created date range of this query.
+     */
+    public OrderQuery withStageReachedBetween(StatusValue stage, LocalDate from, LocalDate to) {
+        requireNonNull(stage);
+        checkArgument(isValidDateRange(from, to), MESSAGE_INVALID_DATE_RANGE);
+        return new OrderQuery(statusValue, stage, from, to);
+    }
+
+    /**
+     * Returns true if {@code from} is not after {@code to}.
+     */
+    public static boolean isValidDateRange(LocalDate from, LocalDate to) {
+        return from == null || to == null || !from.isAfter(to);
+    }
+
+    /**
+     * Returns the status an order must currently be in, if any.
+     */
+    public Optional<StatusValue> getStatusValue() {
+        return Optional.ofNullable(statusValue);
+    }
+
+    /**
+     * Returns the stage whose date is restricted by the date range, if any.
+     * If there is a date range but no stage, the date range restricts the created date.
+     */
+    public Optional<StatusValue> getStage() {
+        return Optional.ofNullable(stage);
+    }
+
+    /**
+     * Returns true if this query restricts the created date or a stage date.
+     */
+    public boolean hasDateRange() {
+        return stage != null || from != null || to != null;
+    }
+
+    /**
+     * Returns the inclusive start of the date range, or null if the range has no start.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the inclusive end of the date range, or null if the range has no end.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns true if this query matches every order.
+     */
+    public boolean isAll() {
+        return statusValue == null && !hasDateRange();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof OrderQuery)) {
+            return false;
+        }
+
+        OrderQuery otherQuery = (OrderQuery) other;
+        return Objects.equals(statusValue, otherQuery.statusValue)
+                && Objects.equals(stage, otherQuery.stage)
+                && Objects.equals(from, otherQuery.from)
+                && Objects.equals(to, otherQuery.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusValue, stage, from, to);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("orders");
+        if (statusValue != null) {
+            builder.append(" with status ").append(statusValue);
+        }
+        if (hasDateRange()) {
+            builder.append(stage == null ? " created" : " reaching " + stage)
+                    .append(" from ").append(from == null ? "any date" : from)
+                    .append(" to ").append(to == null ? "any date" : to);
+        }
+        return builder.toString();
+    }
+}
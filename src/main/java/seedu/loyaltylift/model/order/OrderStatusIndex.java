@@ -0,0 +1,163 @@
+package seedu.loyaltylift.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+
+/**
+ * Groups orders by the {@code StatusValue} of their latest status update.
+ * Orders with a given status are retrieved without visiting the other orders,
+ * and the number of orders in each status is kept up to date as orders change.
+ * The orders in each status are also counted by the date they reached it, so that the orders that reached their
+ * status within a range of dates are counted without visiting them.
+ */
+public class OrderStatusIndex {
+
+    private final Map<StatusValue, Set<Order>> ordersByStatus = new EnumMap<>(StatusValue.class);
+    private final Map<StatusValue, NavigableMap<LocalDate, Integer>> countsByDateReached =
+            new EnumMap<>(StatusValue.class);
+    // only created when first asked for, so that the index can be used without JavaFX
+    private ObservableMap<StatusValue, Integer> counts;
+    private ObservableMap<StatusValue, Integer> unmodifiableCounts;
+
+    /**
+     * Creates an empty {@code OrderStatusIndex}.
+     */
+    public OrderStatusIndex() {
+        for (StatusValue statusValue : StatusValue.values()) {
+            ordersByStatus.put(statusValue, new HashSet<>());
+            countsByDateReached.put(statusValue, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Replaces the indexed orders with {@code orders}.
+     */
+    public void setAll(List<Order> orders) {
+        requireNonNull(orders);
+        ordersByStatus.values().forEach(Set::clear);
+        countsByDateReached.values().forEach(Map::clear);
+        for (Order order : orders) {
+            if (ordersByStatus.get(statusValueOf(order)).add(order)) {
+                updateCountByDateReached(order, 1);
+            }
+        }
+        ordersByStatus.forEach(this::updateCount);
+    }
+
+    /**
+     * Indexes {@code order}.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        StatusValue statusValue = statusValueOf(order);
+        Set<Order> orders = ordersByStatus.get(statusValue);
+        if (orders.add(order)) {
+            updateCount(statusValue, orders);
+            updateCountByDateReached(order, 1);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedOrder}.
+     * Does nothing if {@code target} is not indexed.
+     */
+    public void set(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        if (!ordersByStatus.get(statusValueOf(target)).contains(target)) {
+            return;
+        }
+        remove(target);
+        add(editedOrder);
+    }
+
+    /**
+     * Removes {@code order} from the index.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        StatusValue statusValue = statusValueOf(order);
+        Set<Order> orders = ordersByStatus.get(statusValue);
+        if (orders.remove(order)) {
+            updateCount(statusValue, orders);
+            updateCountByDateReached(order, -1);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders whose latest status is {@code statusValue}.
+     * The view reflects later changes to the index.
+     */
+    public Set<Order> getOrders(StatusValue statusValue) {
+        requireNonNull(statusValue);
+        return Collections.unmodifiableSet(ordersByStatus.get(statusValue));
+    }
+
+    /**
+     * Returns the number of orders whose latest status is {@code statusValue}.
+     */
+    public int count(StatusValue statusValue) {
+        requireNonNull(statusValue);
+        return ordersByStatus.get(statusValue).size();
+    }
+
+    /**
+     * Returns the number of orders whose latest status is {@code statusValue} and was reached between {@code from}
+     * and {@code to}, both inclusive. A null bound leaves that end of the range open.
+     */
+    public int countReachedBetween(StatusValue statusValue, LocalDate from, LocalDate to) {
+        requireNonNull(statusValue);
+        NavigableMap<LocalDate, Integer> range = countsByDateReached.get(statusValue);
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        int count = 0;
+        for (int dateCount : range.values()) {
+            count += dateCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of orders in each status, which can be observed for changes.
+     */
+    public ObservableMap<StatusValue, Integer> asUnmodifiableObservableCounts() {
+        if (counts == null) {
+            counts = FXCollections.observableMap(new EnumMap<>(StatusValue.class));
+            ordersByStatus.forEach((statusValue, orders) -> counts.put(statusValue, orders.size()));
+            unmodifiableCounts = FXCollections.unmodifiableObservableMap(counts);
+        }
+        return unmodifiableCounts;
+    }
+
+    private void updateCount(StatusValue statusValue, Set<Order> orders) {
+        if (counts != null && counts.get(statusValue) != orders.size()) {
+            counts.put(statusValue, orders.size());
+        }
+    }
+
+    private void updateCountByDateReached(Order order, int change) {
+        StatusUpdate latestStatus = order.getStatus().getLatestStatus();
+        countsByDateReached.get(latestStatus.getStatusValue())
+                .merge(latestStatus.getDate(), change, (count, unused) -> count + change == 0 ? null : count + change);
+    }
+
+    private static StatusValue statusValueOf(Order order) {
+        return order.getStatus().getLatestStatus().getStatusValue();
+    }
+}
@@ -15,6 +15,7 @@ public class Status implements Comparable<Status> {
 
     public static final String MESSAGE_CONSTRAINTS = "Status updates should not be empty";
     private final List<StatusUpdate> statusUpdates;
+    private final StatusUpdate latestStatus;
 
     /**
      * Constructs a {@code Status} from a list of {@code StatusUpdate}.
@@ -26,6 +27,7 @@ public class Status implements Comparable<Status> {
         requireNonNull(statusUpdates);
         checkArgument(isValidStatus(statusUpdates), MESSAGE_CONSTRAINTS);
         this.statusUpdates = List.copyOf(statusUpdates.stream().sorted().collect(Collectors.toList()));
+        this.latestStatus = this.statusUpdates.get(this.statusUpdates.size() - 1);
     }
 
     /**
@@ -36,6 +38,7 @@ public class Status implements Comparable<Status> {
         this.statusUpdates = List.of(
                 new StatusUpdate(StatusValue.PENDING, LocalDate.now())
         );
+        this.latestStatus = statusUpdates.get(0);
     }
 
     /**
@@ -104,7 +107,7 @@ public class Status implements Comparable<Status> {
     }
 
     public StatusUpdate getLatestStatus() {
-        return statusUpdates.get(statusUpdates.size() - 1);
+        return latestStatus;
     }
 
     /**
@@ -118,6 +121,11 @@ public class Status implements Comparable<Status> {
                 && statusUpdates.equals(((Status) other).statusUpdates)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return statusUpdates.hashCode();
+    }
+
     @Override
     public String toString() {
         return statusUpdates.toString();
@@ -125,7 +133,7 @@ public class Status implements Comparable<Status> {
 
     @Override
     public int compareTo(Status o) {
-        return getLatestStatus().compareTo(o.getLatestStatus());
+        return latestStatus.compareTo(o.latestStatus);
     }
 
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * StatusUpdate that encapsulates a StatusValue and a date.
@@ -74,6 +75,11 @@ public class StatusUpdate implements Comparable<StatusUpdate> {
                 && date.equals(((StatusUpdate) other).date)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusValue, date);
+    }
+
     @Override
     public String toString() {
         return String.format("[%s] %s", statusValue, date.format(DATE_FORMATTER));
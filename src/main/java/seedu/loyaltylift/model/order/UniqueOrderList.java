@@ -5,9 +5,11 @@ import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.loyaltylift.commons.util.IndexedStore;
+import seedu.loyaltylift.commons.util.ObservableStoreList;
 import seedu.loyaltylift.model.order.exceptions.DuplicateOrderException;
 import seedu.loyaltylift.model.order.exceptions.OrderNotFoundException;
 
@@ -18,22 +20,25 @@ import seedu.loyaltylift.model.order.exceptions.OrderNotFoundException;
  * unique in terms of identity in the UniqueOrderList. However, the removal of an order uses Order#equals(Object) so
  * as to ensure that the order with exactly the same fields will be removed.
  *
+ * Orders are kept in an {@code IndexedStore} by the fields that make up their identity, so that they are found
+ * without searching the list and the list can be used without JavaFX. Removing an order moves the last order into
+ * its position.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Order#isSameOrder(Order)
  */
 public class UniqueOrderList implements Iterable<Order> {
 
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Order> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final IndexedStore<OrderIdentity, Order> store = new IndexedStore<>(OrderIdentity::new);
+    private ObservableList<Order> observableList;
 
     /**
      * Returns true if the list contains an equivalent order as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        return store.containsKey(new OrderIdentity(toCheck));
     }
 
     /**
@@ -42,10 +47,40 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void add(Order toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!store.add(toAdd)) {
+            throw new DuplicateOrderException();
+        }
+    }
+
+    /**
+     * Adds {@code orders} to the list, in order.
+     * None of the orders may already exist in the list, and they must all be different.
+     */
+    public void addAll(List<Order> orders) {
+        requireAllNonNull(orders);
+        if (!store.addAll(orders)) {
+            throw new DuplicateOrderException();
+        }
+    }
+
+    /**
+     * Checks that {@code toOrder} can be added to the list, without changing the list.
+     * @throws DuplicateOrderException if the list already contains an order with the identity of {@code toOrder}.
+     */
+    public void requireAddable(Order toOrder) {
+        if (contains(toOrder)) {
+            throw new DuplicateOrderException();
+        }
+    }
+
+    /**
+     * Checks that {@code orders} can be added to the list, without changing the list.
+     * @throws DuplicateOrderException if any two of the orders, or an order and an order in the list, have the same identity.
+     */
+    public void requireAddable(List<Order> orders) {
+        if (!store.canAddAll(orders)) {
             throw new DuplicateOrderException();
         }
-        internalList.add(toAdd);
     }
 
     /**
@@ -54,9 +89,19 @@ public class UniqueOrderList implements Iterable<Order> {
      * The order identity of {@code editedOrder} must not be the same as another existing order in the list.
      */
     public void setOrder(Order target, Order editedOrder) {
+        store.set(requireReplaceable(target, editedOrder), editedOrder);
+    }
+
+    /**
+     * Checks that the order {@code target} in the list can be replaced with {@code editedOrder}, without changing
+     * the list, and returns the position of {@code target}.
+     * @throws OrderNotFoundException if {@code target} is not in the list.
+     * @throws DuplicateOrderException if another order in the list has the same identity as {@code editedOrder}.
+     */
+    public int requireReplaceable(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
 
-        int index = internalList.indexOf(target);
+        int index = store.indexOf(target);
         if (index == -1) {
             throw new OrderNotFoundException();
         }
@@ -65,7 +110,7 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
 
-        internalList.set(index, editedOrder);
+        return index;
     }
 
     /**
@@ -74,14 +119,16 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void remove(Order toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = store.indexOf(toRemove);
+        if (index == -1) {
             throw new OrderNotFoundException();
         }
+        store.remove(index);
     }
 
     public void setOrders(UniqueOrderList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        store.setAll(replacement.store.asUnmodifiableList());
     }
 
     /**
@@ -90,48 +137,72 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void setOrders(List<Order> orders) {
         requireAllNonNull(orders);
-        if (!ordersAreUnique(orders)) {
+        if (!store.setAll(orders)) {
             throw new DuplicateOrderException();
         }
+    }
 
-        internalList.setAll(orders);
+    /**
+     * Returns the backing list as an unmodifiable {@code List}, which does not depend on JavaFX.
+     */
+    public List<Order> asUnmodifiableList() {
+        return store.asUnmodifiableList();
+    }
+
+    /**
+     * Returns an immutable copy of the list, taken in constant time, which later changes to the list do not change.
+     */
+    public List<Order> snapshot() {
+        return store.snapshot();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * The {@code ObservableList} is only created when first asked for.
      */
     public ObservableList<Order> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        if (observableList == null) {
+            observableList = new ObservableStoreList<>(store);
+        }
+        return observableList;
     }
 
     @Override
     public Iterator<Order> iterator() {
-        return internalList.iterator();
+        return store.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueOrderList // instanceof handles nulls
-                        && internalList.equals(((UniqueOrderList) other).internalList));
+                        && store.equals(((UniqueOrderList) other).store));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return store.hashCode();
     }
 
     /**
-     * Returns true if {@code orders} contains only unique orders.
+     * The fields compared by {@code Order#isSameOrder(Order)}, which together identify an order in the list.
      */
-    private boolean ordersAreUnique(List<Order> orders) {
-        for (int i = 0; i < orders.size() - 1; i++) {
-            for (int j = i + 1; j < orders.size(); j++) {
-                if (orders.get(i).isSameOrder(orders.get(j))) {
-                    return false;
-                }
-            }
+    private static class OrderIdentity {
+        private final Order order;
+
+        OrderIdentity(Order order) {
+            this.order = order;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof OrderIdentity && order.isSameOrder(((OrderIdentity) other).order));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(order.getCustomer(), order.getName(), order.getQuantity(), order.getCreatedDate());
         }
-        return true;
     }
 }
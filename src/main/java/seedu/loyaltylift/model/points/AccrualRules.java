@@ -0,0 +1,117 @@
+package seedu.loyaltylift.model.points;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.order.Quantity;
+
+/**
+ * Defines the points a customer earns for each unit of an order when the order is completed,
+ * by the type of the customer.
+ * Guarantees: immutable; the points per unit of every customer type are valid.
+ */
+public class AccrualRules {
+
+    public static final int MAXIMUM_POINTS_PER_UNIT = 1000;
+
+    public static final String MESSAGE_CONSTRAINTS = "Points per unit should be a whole number between 0 and "
+            + MAXIMUM_POINTS_PER_UNIT;
+
+    /** Rules under which completed orders earn no points. */
+    public static final AccrualRules NONE = new AccrualRules(Map.of());
+
+    private final Map<CustomerType, Integer> pointsPerUnit;
+
+    /**
+     * Constructs an {@code AccrualRules} with the given {@code pointsPerUnit} of each customer type.
+     * Customer types without points per unit earn no points.
+     */
+    public AccrualRules(Map<CustomerType, Integer> pointsPerUnit) {
+        requireNonNull(pointsPerUnit);
+        checkArgument(pointsPerUnit.values().stream().allMatch(AccrualRules::isValidPointsPerUnit),
+                MESSAGE_CONSTRAINTS);
+        this.pointsPerUnit = new EnumMap<>(CustomerType.class);
+        this.pointsPerUnit.putAll(pointsPerUnit);
+    }
+
+    /**
+     * Constructs an {@code AccrualRules} that earns no points, for deserialization only.
+     */
+    private AccrualRules() {
+        this(Map.of());
+    }
+
+    /**
+     * Returns true if {@code pointsPerUnit} is a valid number of points per unit.
+     */
+    public static boolean isValidPointsPerUnit(Integer pointsPerUnit) {
+        return pointsPerUnit != null && pointsPerUnit >= 0 && pointsPerUnit <= MAXIMUM_POINTS_PER_UNIT;
+    }
+
+    /**
+     * Returns the points a customer of type {@code customerType} earns for each unit ordered.
+     */
+    public int getPointsPerUnit(CustomerType customerType) {
+        requireNonNull(customerType);
+        Integer points = pointsPerUnit.get(customerType);
+        // rules read from a preferences file are not validated, so invalid points per unit earn no points
+        return isValidPointsPerUnit(points) ? points : 0;
+    }
+
+    /**
+     * Returns a copy of these rules in which customers of type {@code customerType} earn {@code points} per unit.
+     */
+    public AccrualRules withPointsPerUnit(CustomerType customerType, int points) {
+        requireNonNull(customerType);
+        Map<CustomerType, Integer> newPointsPerUnit = new EnumMap<>(CustomerType.class);
+        for (CustomerType type : CustomerType.values()) {
+            newPointsPerUnit.put(type, getPointsPerUnit(type));
+        }
+        newPointsPerUnit.put(customerType, points);
+        return new AccrualRules(newPointsPerUnit);
+    }
+
+    /**
+     * Returns the points a customer of type {@code customerType} earns for completing an order of
+     * {@code quantity} units, which is at most {@code Points.MAXIMUM_POINTS}.
+     */
+    public int getPoints(CustomerType customerType, Quantity quantity) {
+        requireNonNull(quantity);
+        long points = (long) getPointsPerUnit(customerType) * quantity.value;
+        return (int) Math.min(points, Points.MAXIMUM_POINTS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AccrualRules)) {
+            return false;
+        }
+
+        AccrualRules otherRules = (AccrualRules) other;
+        return Arrays.stream(CustomerType.values())
+                .allMatch(type -> getPointsPerUnit(type) == otherRules.getPointsPerUnit(type));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(Arrays.stream(CustomerType.values()).mapToInt(this::getPointsPerUnit).toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.stream(CustomerType.values())
+                .map(type -> type + " (" + getPointsPerUnit(type) + " per unit)")
+                .collect(Collectors.joining(", "));
+    }
+}
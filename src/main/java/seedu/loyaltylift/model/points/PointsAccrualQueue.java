@@ -0,0 +1,52 @@
+package seedu.loyaltylift.model.points;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.loyaltylift.model.order.Order;
+
+/**
+ * Collects orders as they are completed, so that the points they earn are credited to their customers together.
+ * Orders are grouped by the uid of their customer, and an order completed more than once before the queue is
+ * drained is only collected once.
+ */
+public class PointsAccrualQueue {
+
+    private final Map<String, Map<String, Order>> completedOrders = new LinkedHashMap<>();
+
+    /**
+     * Returns the reference identifying {@code order} among the orders of its customer, as recorded in the
+     * {@code ACCRUED} ledger entry that credits it.
+     */
+    public static String referenceOf(Order order) {
+        requireNonNull(order);
+        return order.getName() + "|" + order.getCreatedDate().value + "|" + order.getQuantity();
+    }
+
+    /**
+     * Collects {@code order}, which was just completed.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        completedOrders.computeIfAbsent(order.getCustomer().getUid(), uid -> new LinkedHashMap<>())
+                .putIfAbsent(referenceOf(order), order);
+    }
+
+    /**
+     * Returns true if no orders were collected since the queue was last drained.
+     */
+    public boolean isEmpty() {
+        return completedOrders.isEmpty();
+    }
+
+    /**
+     * Returns the collected orders by the uid of their customer, then by their reference, and empties the queue.
+     */
+    public Map<String, Map<String, Order>> drain() {
+        Map<String, Map<String, Order>> drained = new LinkedHashMap<>(completedOrders);
+        completedOrders.clear();
+        return drained;
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.loyaltylift.model.points;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Schedules the expiry of points granted to customers, as recorded in a {@code PointsLedger}.
+ * Points expire {@code expiryDays} days after they are granted, unless they were spent before then.
+ * Points are spent in the order they were granted, so the points that expire first are spent first.
+ * <p>
+ * Unspent grants are kept in buckets keyed by their expiry date, so that the points due to expire are found by
+ * visiting only the due buckets instead of every customer.
+ * The schedule is derived entirely from the ledger, and expiring points is recorded in the ledger as
+ * {@code EXPIRED} entries, so that replaying the ledger restores the schedule.
+ */
+public class PointsExpirySchedule {
+
+    public static final int NO_EXPIRY = 0;
+
+    private final int expiryDays;
+    private final NavigableMap<LocalDate, Map<String, Integer>> buckets = new TreeMap<>();
+    private final Map<String, Deque<Grant>> grantsByCustomer = new HashMap<>();
+
+    /**
+     * Creates an empty {@code PointsExpirySchedule} expiring points {@code expiryDays} days after they are granted,
+     * or never if {@code expiryDays} is {@code NO_EXPIRY}.
+     */
+    public PointsExpirySchedule(int expiryDays) {
+        checkArgument(expiryDays >= 0);
+        this.expiryDays = expiryDays;
+    }
+
+    public int getExpiryDays() {
+        return expiryDays;
+    }
+
+    /**
+     * Updates the schedule with {@code entry}, the latest entry of the ledger.
+     */
+    public void accept(PointsLedgerEntry entry) {
+        requireNonNull(entry);
+        if (expiryDays == NO_EXPIRY) {
+            return;
+        }
+
+        String uid = entry.getCustomerUid();
+        switch (entry.getReason()) {
+        case RENAMED:
+            rename(entry.getReference(), uid);
+            break;
+        case REMOVED:
+            remove(uid);
+            break;
+        case EXPIRED:
+            expire(uid, LocalDate.parse(entry.getReference()));
+            break;
+        default:
+            if (entry.getDelta() > 0) {
+                grant(uid, entry.getTimestamp().toLocalDate().plusDays(expiryDays), entry.getDelta());
+            } else if (entry.getDelta() < 0) {
+                spend(uid, -entry.getDelta());
+            }
+        }
+    }
+
+    /**
+     * Returns the unspent points of each customer that expire on or before {@code date}.
+     * Only the buckets due by {@code date} are visited.
+     */
+    public Map<String, Integer> getDue(LocalDate date) {
+        requireNonNull(date);
+        Map<String, Integer> due = new HashMap<>();
+        for (Map<String, Integer> bucket : buckets.headMap(date, true).values()) {
+            bucket.forEach((uid, points) -> due.merge(uid, points, Integer::sum));
+        }
+        return due;
+    }
+
+    /**
+     * Returns true if no unspent points are scheduled to expire.
+     */
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    private void grant(String uid, LocalDate expiryDate, int points) {
+        Deque<Grant> grants = grantsByCustomer.computeIfAbsent(uid, key -> new ArrayDeque<>());
+        Grant latest = grants.peekLast();
+        if (latest != null && latest.expiryDate.equals(expiryDate)) {
+            latest.remaining += points;
+        } else {
+            grants.addLast(new Grant(expiryDate, points));
+        }
+        addToBucket(expiryDate, uid, points);
+    }
+
+    private void spend(String uid, int points) {
+        Deque<Grant> grants = grantsByCustomer.get(uid);
+        while (grants != null && points > 0 && !grants.isEmpty()) {
+            Grant oldest = grants.peekFirst();
+            int spent = Math.min(points, oldest.remaining);
+            oldest.remaining -= spent;
+            points -= spent;
+            addToBucket(oldest.expiryDate, uid, -spent);
+            if (oldest.remaining == 0) {
+                grants.removeFirst();
+            }
+        }
+        removeIfEmpty(uid);
+    }
+
+    private void expire(String uid, LocalDate date) {
+        Deque<Grant> grants = grantsByCustomer.get(uid);
+        while (grants != null && !grants.isEmpty() && !grants.peekFirst().expiryDate.isAfter(date)) {
+            Grant oldest = grants.removeFirst();
+            addToBucket(oldest.expiryDate, uid, -oldest.remaining);
+        }
+        removeIfEmpty(uid);
+    }
+
+    private void rename(String previousUid, String uid) {
+        Deque<Grant> grants = grantsByCustomer.remove(previousUid);
+        if (grants == null) {
+            return;
+        }
+        for (Grant grant : grants) {
+            addToBucket(grant.expiryDate, previousUid, -grant.remaining);
+            addToBucket(grant.expiryDate, uid, grant.remaining);
+        }
+        grantsByCustomer.put(uid, grants);
+    }
+
+    private void remove(String uid) {
+        Deque<Grant> grants = grantsByCustomer.remove(uid);
+        if (grants == null) {
+            return;
+        }
+        for (Grant grant : grants) {
+            addToBucket(grant.expiryDate, uid, -grant.remaining);
+        }
+    }
+
+    private void addToBucket(LocalDate expiryDate, String uid, int points) {
+        Map<String, Integer> bucket = buckets.computeIfAbsent(expiryDate, date -> new HashMap<>());
+        if (bucket.merge(uid, points, Integer::sum) == 0) {
+            bucket.remove(uid);
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(expiryDate);
+        }
+    }
+
+    private void removeIfEmpty(String uid) {
+        Deque<Grant> grants = grantsByCustomer.get(uid);
+        if (grants != null && grants.isEmpty()) {
+            grantsByCustomer.remove(uid);
+        }
+    }
+
+    /**
+     * Points granted to a customer that expire on the same date, and how many of them are unspent.
+     */
+    private static class Grant {
+        private final LocalDate expiryDate;
+        private int remaining;
+
+        Grant(LocalDate expiryDate, int remaining) {
+            this.expiryDate = expiryDate;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.loyaltylift.model.points;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Records every change to the points of customers, in the order the changes were made.
+ * Entries are only ever appended, so that the points of a customer at any time can be recovered from the ledger,
+ * and the points stored with a customer are a cached projection of its entries.
+ * The balance of each customer is checkpointed every {@code CHECKPOINT_INTERVAL} entries, so that the balance as of
+ * a time is found by a binary search and replaying at most {@code CHECKPOINT_INTERVAL} entries.
+ * The ledger also schedules the expiry of the points it grants, in a {@code PointsExpirySchedule}.
+ */
+public class PointsLedger implements ReadOnlyPointsLedger {
+
+    public static final String MESSAGE_OUT_OF_ORDER = "Points ledger entries must be appended in time order";
+
+    static final int CHECKPOINT_INTERVAL = 32;
+
+    private static final Points NO_POINTS = new Points(0, 0);
+
+    private final List<PointsLedgerEntry> entries = new ArrayList<>();
+    private final List<PointsLedgerEntry> unmodifiableEntries = Collections.unmodifiableList(entries);
+    private final Map<String, CustomerHistory> histories = new HashMap<>();
+    private PointsExpirySchedule expirySchedule = new PointsExpirySchedule(PointsExpirySchedule.NO_EXPIRY);
+
+    public PointsLedger() {}
+
+    /**
+     * Creates a {@code PointsLedger} by appending {@code entries} in order.
+     */
+    public PointsLedger(List<PointsLedgerEntry> entries) {
+        requireNonNull(entries);
+        entries.forEach(this::append);
+    }
+
+    /**
+     * Appends {@code entry} to the ledger.
+     * The entry must not be earlier than the latest entry.
+     */
+    public void append(PointsLedgerEntry entry) {
+        requireNonNull(entry);
+        checkArgument(entries.isEmpty() || !entry.getTimestamp().isBefore(getLatestTimestamp()),
+                MESSAGE_OUT_OF_ORDER);
+        entries.add(entry);
+
+        switch (entry.getReason()) {
+        case RENAMED:
+            CustomerHistory history = histories.remove(entry.getReference());
+            if (history != null) {
+                histories.put(entry.getCustomerUid(), history);
+            }
+            break;
+        case REMOVED:
+            histories.remove(entry.getCustomerUid());
+            break;
+        default:
+            histories.computeIfAbsent(entry.getCustomerUid(), uid -> new CustomerHistory()).add(entry);
+        }
+        expirySchedule.accept(entry);
+    }
+
+    /**
+     * Expires points {@code expiryDays} days after they are granted, or never if {@code expiryDays} is
+     * {@code PointsExpirySchedule.NO_EXPIRY}.
+     * The expiry of the points granted so far is rescheduled by replaying the ledger.
+     */
+    public void setExpiryDays(int expiryDays) {
+        if (expiryDays == expirySchedule.getExpiryDays()) {
+            return;
+        }
+        expirySchedule = new PointsExpirySchedule(expiryDays);
+        entries.forEach(expirySchedule::accept);
+    }
+
+    /**
+     * Returns the unspent points of each customer, by uid, that expire on or before {@code date}.
+     */
+    public Map<String, Integer> getPointsDueToExpire(LocalDate date) {
+        requireNonNull(date);
+        return expirySchedule.getDue(date);
+    }
+
+    @Override
+    public boolean hasAccrued(String customerUid, String orderReference) {
+        requireAllNonNull(customerUid, orderReference);
+        CustomerHistory history = histories.get(customerUid);
+        return history != null && history.accruedOrders.contains(orderReference);
+    }
+
+    /**
+     * Returns the time to record a change made at {@code now}, which is {@code now} unless an entry was already
+     * recorded later, such as after the system clock was set back.
+     */
+    public LocalDateTime nextTimestamp(LocalDateTime now) {
+        requireNonNull(now);
+        return entries.isEmpty() || now.isAfter(getLatestTimestamp()) ? now : getLatestTimestamp();
+    }
+
+    /**
+     * Returns the uids of the customers with recorded points.
+     */
+    public Set<String> getCustomerUids() {
+        return Collections.unmodifiableSet(histories.keySet());
+    }
+
+    @Override
+    public List<PointsLedgerEntry> getEntries() {
+        return unmodifiableEntries;
+    }
+
+    @Override
+    public boolean hasHistory(String customerUid) {
+        requireNonNull(customerUid);
+        return histories.containsKey(customerUid);
+    }
+
+    @Override
+    public Points getBalance(String customerUid) {
+        requireNonNull(customerUid);
+        CustomerHistory history = histories.get(customerUid);
+        return history == null ? NO_POINTS : history.balance;
+    }
+
+    @Override
+    public Points getBalanceAsOf(String customerUid, LocalDateTime time) {
+        requireAllNonNull(customerUid, time);
+        CustomerHistory history = histories.get(customerUid);
+        return history == null ? NO_POINTS : history.getBalanceAfter(history.countUpTo(time));
+    }
+
+    @Override
+    public List<PointsLedgerEntry> getHistoryAsOf(String customerUid, LocalDateTime time) {
+        requireAllNonNull(customerUid, time);
+        CustomerHistory history = histories.get(customerUid);
+        return history == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(history.entries.subList(0, history.countUpTo(time)));
+    }
+
+    private LocalDateTime getLatestTimestamp() {
+        return entries.get(entries.size() - 1).getTimestamp();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PointsLedger // instanceof handles nulls
+                && entries.equals(((PointsLedger) other).entries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return entries.size() + " points ledger entries";
+    }
+
+    /**
+     * The entries of one customer, with the balance before every {@code CHECKPOINT_INTERVAL}-th entry,
+     * and the references of the orders whose points were credited.
+     */
+    private static class CustomerHistory {
+        private final List<PointsLedgerEntry> entries = new ArrayList<>();
+        private final List<Points> checkpoints = new ArrayList<>();
+        private final Set<String> accruedOrders = new HashSet<>();
+        private Points balance = NO_POINTS;
+
+        void add(PointsLedgerEntry entry) {
+            if (entries.size() % CHECKPOINT_INTERVAL == 0) {
+                checkpoints.add(balance);
+            }
+            entries.add(entry);
+            balance = entry.applyTo(balance);
+            if (entry.getReason() == PointsLedgerEntry.Reason.ACCRUED) {
+                accruedOrders.add(entry.getReference());
+            } else if (entry.getReason() == PointsLedgerEntry.Reason.REVERSED) {
+                accruedOrders.remove(entry.getReference());
+            }
+        }
+
+        /**
+         * Returns the number of entries recorded up to {@code time}, inclusive.
+         */
+        int countUpTo(LocalDateTime time) {
+            int low = 0;
+            int high = entries.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries.get(mid).getTimestamp().isAfter(time)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the balance after the first {@code count} entries.
+         */
+        Points getBalanceAfter(int count) {
+            if (count == entries.size()) {
+                return balance;
+            }
+            int checkpoint = count / CHECKPOINT_INTERVAL;
+            Points points = checkpoints.get(checkpoint);
+            for (int i = checkpoint * CHECKPOINT_INTERVAL; i < count; i++) {
+                points = entries.get(i).applyTo(points);
+            }
+            return points;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.loyaltylift.model.points;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Represents one change to the points of a customer, as recorded in the {@code PointsLedger}.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class PointsLedgerEntry {
+
+    public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Why the points of a customer changed.
+     */
+    public enum Reason {
+        ADD_POINTS("addpoints"),
+        SET_POINTS("setpoints"),
+        /** Aligns the ledger with points that were recorded outside of it, such as before the ledger existed. */
+        ADJUSTMENT("adjustment"),
+        /** Moves the history of the customer named by the reference to the customer of the entry. */
+        RENAMED("renamed"),
+        /** Closes the history of a customer that was deleted. */
+        REMOVED("removed"),
+        /** Removes points that expired on or before the date in the reference. */
+        EXPIRED("expired"),
+        /**
+         * Credits the points earned by completing the order identified by the reference.
+         * When the completion is redone, the order is credited again with no points, as the points are restored
+         * along with the customer.
+         */
+        ACCRUED("accrued"),
+        /**
+         * Cancels crediting the order identified by the reference, when completing the order is undone, so that the
+         * order is credited again when it is next completed. The points are restored along with the customer.
+         */
+        REVERSED("reversed"),
+        /** Restores the points of a customer when a change to them is undone or redone. */
+        RESTORED("restored");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the {@code Reason} described by {@code description}, ignoring case.
+         * @throws IllegalArgumentException if no reason is described by {@code description}.
+         */
+        public static Reason fromDescription(String description) {
+            requireNonNull(description);
+            for (Reason reason : values()) {
+                if (reason.description.equalsIgnoreCase(description)) {
+                    return reason;
+                }
+            }
+            throw new IllegalArgumentException("Unknown points ledger reason: " + description);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final String customerUid;
+    private final LocalDateTime timestamp;
+    private final int delta;
+    private final int cumulativeDelta;
+    private final Reason reason;
+    private final String reference;
+
+    /**
+     * Constructs a {@code PointsLedgerEntry}.
+     * @param reference Identifies what caused the change, such as the previous uid of a renamed customer.
+     *                  Empty if there is nothing to refer to.
+     */
+    public PointsLedgerEntry(String customerUid, LocalDateTime timestamp, int delta, int cumulativeDelta,
+            Reason reason, String reference) {
+        requireAllNonNull(customerUid, timestamp, reason, reference);
+        this.customerUid = customerUid;
+        this.timestamp = timestamp;
+        this.delta = delta;
+        this.cumulativeDelta = cumulativeDelta;
+        this.reason = reason;
+        this.reference = reference;
+    }
+
+    /**
+     * Returns an entry changing the points of the customer with {@code customerUid} from {@code from} to {@code to}.
+     */
+    public static PointsLedgerEntry ofChange(String customerUid, LocalDateTime timestamp, Points from, Points to,
+            Reason reason) {
+        requireAllNonNull(from, to);
+        return new PointsLedgerEntry(customerUid, timestamp, to.value - from.value, to.cumulative - from.cumulative,
+                reason, "");
+    }
+
+    public String getCustomerUid() {
+        return customerUid;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public int getCumulativeDelta() {
+        return cumulativeDelta;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * Returns {@code points} after this change.
+     */
+    public Points applyTo(Points points) {
+        requireNonNull(points);
+        return new Points(points.value + delta, points.cumulative + cumulativeDelta);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PointsLedgerEntry)) {
+            return false;
+        }
+
+        PointsLedgerEntry otherEntry = (PointsLedgerEntry) other;
+        return customerUid.equals(otherEntry.customerUid)
+                && timestamp.equals(otherEntry.timestamp)
+                && delta == otherEntry.delta
+                && cumulativeDelta == otherEntry.cumulativeDelta
+                && reason == otherEntry.reason
+                && reference.equals(otherEntry.reference);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerUid, timestamp, delta, cumulativeDelta, reason, reference);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %+d points (Cumulative: %+d), %s", timestamp.format(TIMESTAMP_FORMATTER),
+                delta, cumulativeDelta, reason);
+    }
+}
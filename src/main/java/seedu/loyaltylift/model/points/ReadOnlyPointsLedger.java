@@ -0,0 +1,46 @@
+package seedu.loyaltylift.model.points;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.loyaltylift.model.customer.Points;
+
+/**
+ * Unmodifiable view of a points ledger.
+ */
+public interface ReadOnlyPointsLedger {
+
+    /**
+     * Returns an unmodifiable view of every entry, in the order they were recorded.
+     */
+    List<PointsLedgerEntry> getEntries();
+
+    /**
+     * Returns true if points of the customer with {@code customerUid} have been recorded.
+     */
+    boolean hasHistory(String customerUid);
+
+    /**
+     * Returns true if the points earned by the order identified by {@code orderReference} were credited to the
+     * customer with {@code customerUid}, and crediting them was not undone since.
+     */
+    boolean hasAccrued(String customerUid, String orderReference);
+
+    /**
+     * Returns the points of the customer with {@code customerUid} after every recorded change.
+     * A customer without history has no points.
+     */
+    Points getBalance(String customerUid);
+
+    /**
+     * Returns the points of the customer with {@code customerUid} after the changes recorded up to {@code time},
+     * inclusive.
+     */
+    Points getBalanceAsOf(String customerUid, LocalDateTime time);
+
+    /**
+     * Returns the changes to the points of the customer with {@code customerUid} recorded up to {@code time},
+     * inclusive, from the earliest.
+     */
+    List<PointsLedgerEntry> getHistoryAsOf(String customerUid, LocalDateTime time);
+}
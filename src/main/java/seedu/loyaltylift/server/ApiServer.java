@@ -0,0 +1,267 @@
+package seedu.loyaltylift.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.util.JsonUtil;
+import seedu.loyaltylift.logic.Logic;
+import seedu.loyaltylift.logic.commands.CommandResult;
+import seedu.loyaltylift.logic.commands.exceptions.BatchCommandException;
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.storage.JsonSerializableAddressBook;
+
+/**
+ * Serves the address book over HTTP to clients on the same machine, such as the tills of a shop.
+ * {@code GET /api/addressbook} returns the customers and orders after the latest command, in the format of the data
+ * file, without waiting for the commands being executed.
+ * {@code POST /api/commands} executes a batch of commands, in the same format as they are entered in the desktop
+ * application, with no command of another client executed between them. A batch can therefore find a customer or
+ * order and then change it by its index, which covers adding, editing and deleting customers and orders, their
+ * points and the status of orders.
+ * If a command of a batch fails, the commands after it are not executed, while the commands before it stay executed,
+ * so the error is returned with the results of the commands before it and the index of the failed command.
+ * Requests are handled by a pool of worker threads, and connections are kept alive between requests.
+ * Only requests to a loopback host name without an {@code Origin} are handled, and commands must be sent as
+ * {@code application/json}, so that web pages open in a browser on the same machine cannot send commands.
+ */
+public class ApiServer {
+
+    public static final String ADDRESS_BOOK_PATH = "/api/addressbook";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %1$s is not allowed";
+    public static final String MESSAGE_NOT_FOUND = "No such resource %1$s";
+    public static final String MESSAGE_INVALID_BATCH = "The body must be a JSON object with a list of \"commands\"";
+    public static final String MESSAGE_FORBIDDEN = "Only clients on this machine, other than browsers, are served";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The body must be sent as application/json";
+
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final String JSON_MEDIA_TYPE = "application/json";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService workers;
+
+    /**
+     * Creates an {@code ApiServer} of {@code logic} on {@code port} of the loopback address, with
+     * {@code workerCount} worker threads. Port 0 picks any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port, int workerCount) throws IOException {
+        requireNonNull(logic);
+        checkArgument(workerCount > 0, "There must be at least one worker");
+        this.logic = logic;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        workers = Executors.newFixedThreadPool(workerCount);
+        server.setExecutor(workers);
+        server.createContext(ADDRESS_BOOK_PATH, exchange -> handle(exchange, "GET", this::getAddressBook));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::executeCommands));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, waiting up to {@code delaySeconds} for the requests being handled to complete.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        workers.shutdown();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private Response getAddressBook(String requestBody) throws JsonProcessingException {
+        return new Response(STATUS_OK,
+                JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(logic.getAddressBookSnapshot())));
+    }
+
+    private Response executeCommands(String requestBody) throws JsonProcessingException {
+        CommandBatch batch;
+        try {
+            batch = JsonUtil.fromJsonString(requestBody, CommandBatch.class);
+        } catch (IOException ioe) {
+            return error(STATUS_BAD_REQUEST, MESSAGE_INVALID_BATCH);
+        }
+        if (batch == null || batch.commands == null || batch.commands.contains(null)) {
+            return error(STATUS_BAD_REQUEST, MESSAGE_INVALID_BATCH);
+        }
+
+        try {
+            return new Response(STATUS_OK,
+                    JsonUtil.toCompactJsonString(Map.of("results", toFeedback(logic.executeBatch(batch.commands)))));
+        } catch (BatchCommandException bce) {
+            // the commands before the failed command stay executed, so the client is told which they are
+            return new Response(STATUS_BAD_REQUEST, JsonUtil.toCompactJsonString(Map.of(
+                    "error", bce.getMessage(),
+                    "results", toFeedback(bce.getResults()),
+                    "failedCommand", bce.getFailedIndex())));
+        } catch (CommandException ce) {
+            return error(STATUS_BAD_REQUEST, ce.getMessage());
+        }
+    }
+
+    private static List<String> toFeedback(List<CommandResult> commandResults) {
+        List<String> feedback = new ArrayList<>();
+        for (CommandResult commandResult : commandResults) {
+            feedback.add(commandResult.getFeedbackToUser());
+        }
+        return feedback;
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} if it is from a local client other than a browser, is for
+     * exactly the path of its context and uses {@code method}.
+     * The request body is always read in full, so that the connection can be kept alive.
+     */
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        try {
+            String requestBody;
+            try (InputStream body = exchange.getRequestBody()) {
+                requestBody = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            Response response;
+            String path = exchange.getRequestURI().getPath();
+            if (!isFromLocalClient(exchange)) {
+                response = error(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN);
+            } else if (!path.equals(exchange.getHttpContext().getPath())) {
+                response = error(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                response = error(STATUS_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod()));
+            } else if (method.equals("POST") && !isJson(exchange)) {
+                response = error(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+            } else {
+                response = handleSafely(handler, requestBody);
+            }
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} is addressed to a loopback host name and was not sent by a web page.
+     * Browsers send an {@code Origin} with the requests of web pages to other sites, and the host name of the site
+     * with every request, so this rejects pages sending requests to this server, including through a host name
+     * that they made resolve to the loopback address.
+     */
+    private static boolean isFromLocalClient(HttpExchange exchange) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return false;
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null) {
+            return false;
+        }
+        // the port is dropped, after the closing bracket of an IPv6 address
+        int portStart = host.indexOf(':', host.startsWith("[") ? host.indexOf(']') : 0);
+        String hostName = portStart < 0 ? host : host.substring(0, portStart);
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns true if the body of {@code exchange} is sent as JSON, which browsers cannot send to other sites
+     * without asking them first.
+     */
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null) {
+            return false;
+        }
+        // parameters such as the charset follow the media type
+        String mediaType = contentType.split(";", 2)[0].strip();
+        return mediaType.equalsIgnoreCase(JSON_MEDIA_TYPE);
+    }
+
+    private Response handleSafely(Handler handler, String requestBody) throws JsonProcessingException {
+        try {
+            return handler.handle(requestBody);
+        } catch (RuntimeException re) {
+            logger.warning("Problem while handling a request: " + re);
+            return error(STATUS_INTERNAL_ERROR, re.toString());
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private static Response error(int status, String message) throws JsonProcessingException {
+        return new Response(status, JsonUtil.toCompactJsonString(Map.of("error", message)));
+    }
+
+    /**
+     * Handles the body of a request.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(String requestBody) throws JsonProcessingException;
+    }
+
+    /**
+     * A status code and a JSON body to send.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * The body of a request to execute commands.
+     */
+    static class CommandBatch {
+        private List<String> commands;
+    }
+}
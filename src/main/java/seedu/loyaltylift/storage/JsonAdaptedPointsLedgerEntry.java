@@ -0,0 +1,99 @@
+package seedu.loyaltylift.storage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.loyaltylift.commons.exceptions.IllegalValueException;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+
+/**
+ * Jackson-friendly version of {@link PointsLedgerEntry}.
+ */
+class JsonAdaptedPointsLedgerEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Points ledger entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TIMESTAMP = "Points ledger entry's timestamp is invalid";
+    public static final String MESSAGE_INVALID_EXPIRY_DATE = "Points ledger expiry entry's date is invalid";
+
+    private final String customer;
+    private final String timestamp;
+    private final int delta;
+    private final int cumulativeDelta;
+    private final String reason;
+    private final String reference;
+
+    /**
+     * Constructs a {@code JsonAdaptedPointsLedgerEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedPointsLedgerEntry(@JsonProperty("customer") String customer,
+            @JsonProperty("timestamp") String timestamp, @JsonProperty("delta") int delta,
+            @JsonProperty("cumulativeDelta") int cumulativeDelta, @JsonProperty("reason") String reason,
+            @JsonProperty("reference") String reference) {
+        this.customer = customer;
+        this.timestamp = timestamp;
+        this.delta = delta;
+        this.cumulativeDelta = cumulativeDelta;
+        this.reason = reason;
+        this.reference = reference;
+    }
+
+    /**
+     * Converts a given {@code PointsLedgerEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedPointsLedgerEntry(PointsLedgerEntry source) {
+        customer = source.getCustomerUid();
+        timestamp = source.getTimestamp().toString();
+        delta = source.getDelta();
+        cumulativeDelta = source.getCumulativeDelta();
+        reason = source.getReason().toString();
+        reference = source.getReference();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code PointsLedgerEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public PointsLedgerEntry toModelType() throws IllegalValueException {
+        if (customer == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "customer"));
+        }
+
+        if (timestamp == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "timestamp"));
+        }
+        final LocalDateTime modelTimestamp;
+        try {
+            modelTimestamp = LocalDateTime.parse(timestamp);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIMESTAMP);
+        }
+
+        if (reason == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "reason"));
+        }
+        final Reason modelReason;
+        try {
+            modelReason = Reason.fromDescription(reason);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+
+        final String modelReference = reference == null ? "" : reference;
+        if (modelReason == Reason.EXPIRED) {
+            try {
+                LocalDate.parse(modelReference);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_EXPIRY_DATE);
+            }
+        }
+
+        return new PointsLedgerEntry(customer, modelTimestamp, delta, cumulativeDelta, modelReason, modelReference);
+    }
+}
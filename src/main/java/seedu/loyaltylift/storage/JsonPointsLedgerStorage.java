@@ -0,0 +1,121 @@
+package seedu.loyaltylift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.commons.exceptions.DataConversionException;
+import seedu.loyaltylift.commons.exceptions.IllegalValueException;
+import seedu.loyaltylift.commons.util.FileUtil;
+import seedu.loyaltylift.commons.util.JsonUtil;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+
+/**
+ * A class to access the points ledger stored on the hard disk as a file with one json entry per line.
+ * New entries are appended to the end of the file, so saving takes time proportional to the new entries only.
+ */
+public class JsonPointsLedgerStorage implements PointsLedgerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonPointsLedgerStorage.class);
+
+    private Path filePath;
+
+    public JsonPointsLedgerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getPointsLedgerFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A last line that is not terminated, as left by an interrupted append, is discarded.
+     */
+    @Override
+    public Optional<PointsLedger> readPointsLedger() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Points ledger file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        String content = FileUtil.readFromFile(filePath);
+        String[] lines = content.split("\n", -1);
+        List<PointsLedgerEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+            boolean isUnterminated = i == lines.length - 1;
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedPointsLedgerEntry.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                if (!isUnterminated) {
+                    logger.info("Illegal entry found on line " + (i + 1) + " of " + filePath + ": "
+                            + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                // drop the incomplete entry, so that later entries are not appended onto its line
+                logger.warning("Discarding incomplete last entry of " + filePath + ": " + e.getMessage());
+                FileUtil.writeToFile(filePath, content.substring(0, content.lastIndexOf('\n') + 1));
+                break;
+            }
+            if (isUnterminated) {
+                FileUtil.appendToFile(filePath, "\n");
+            }
+        }
+
+        try {
+            return Optional.of(new PointsLedger(entries));
+        } catch (IllegalArgumentException e) {
+            logger.info("Illegal entries found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void appendPointsLedgerEntries(List<PointsLedgerEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (PointsLedgerEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedPointsLedgerEntry(entry))).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        // the entries are appended in full or not at all, as a failed save appends them all again when retried
+        long sizeBefore = FileUtil.isFileExists(filePath) ? Files.size(filePath) : 0;
+        try {
+            appendLines(lines.toString());
+        } catch (IOException ioe) {
+            try {
+                if (FileUtil.isFileExists(filePath)) {
+                    FileUtil.truncateFile(filePath, sizeBefore);
+                }
+            } catch (IOException truncateException) {
+                ioe.addSuppressed(truncateException);
+            }
+            throw ioe;
+        }
+    }
+
+    /**
+     * Appends {@code lines} to the end of the file.
+     */
+    void appendLines(String lines) throws IOException {
+        FileUtil.appendToFile(filePath, lines);
+    }
+
+}
@@ -18,7 +18,7 @@ import seedu.loyaltylift.model.order.Order;
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "loyaltylift")
-class JsonSerializableAddressBook {
+public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_CUSTOMER = "Customers list contains duplicate customer(s).";
     public static final String MESSAGE_DUPLICATE_ORDER = "Orders list contains duplicate orders(s).";
@@ -42,8 +42,8 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        customers.addAll(source.getCustomerList().stream().map(JsonAdaptedCustomer::new).collect(Collectors.toList()));
-        orders.addAll(source.getOrderList().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
+        customers.addAll(source.getCustomers().stream().map(JsonAdaptedCustomer::new).collect(Collectors.toList()));
+        orders.addAll(source.getOrders().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
     }
 
     /**
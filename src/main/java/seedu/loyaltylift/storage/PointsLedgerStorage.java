@@ -0,0 +1,38 @@
+package seedu.loyaltylift.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.loyaltylift.commons.exceptions.DataConversionException;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+
+/**
+ * Represents a storage for {@link PointsLedger}.
+ * Entries are only ever appended, so that saving does not rewrite the entries already saved.
+ */
+public interface PointsLedgerStorage {
+
+    /**
+     * Returns the file path of the points ledger file.
+     */
+    Path getPointsLedgerFilePath();
+
+    /**
+     * Returns the points ledger.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<PointsLedger> readPointsLedger() throws DataConversionException, IOException;
+
+    /**
+     * Appends the given entries to the points ledger in the storage.
+     * @param entries cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendPointsLedgerEntries(List<PointsLedgerEntry> entries) throws IOException;
+
+}
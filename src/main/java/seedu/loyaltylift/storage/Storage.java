@@ -2,17 +2,20 @@ package seedu.loyaltylift.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.loyaltylift.commons.exceptions.DataConversionException;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.ReadOnlyUserPrefs;
 import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, PointsLedgerStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +32,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    Path getPointsLedgerFilePath();
+
+    @Override
+    Optional<PointsLedger> readPointsLedger() throws DataConversionException, IOException;
+
+    @Override
+    void appendPointsLedgerEntries(List<PointsLedgerEntry> entries) throws IOException;
+
 }
@@ -2,6 +2,7 @@ package seedu.loyaltylift.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,8 @@ import seedu.loyaltylift.commons.exceptions.DataConversionException;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.ReadOnlyUserPrefs;
 import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +22,17 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private PointsLedgerStorage pointsLedgerStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code PointsLedgerStorage}.
      */
-    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            PointsLedgerStorage pointsLedgerStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.pointsLedgerStorage = pointsLedgerStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +82,23 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ PointsLedger methods ==============================
+
+    @Override
+    public Path getPointsLedgerFilePath() {
+        return pointsLedgerStorage.getPointsLedgerFilePath();
+    }
+
+    @Override
+    public Optional<PointsLedger> readPointsLedger() throws DataConversionException, IOException {
+        logger.fine("Attempting to read points ledger from file: " + getPointsLedgerFilePath());
+        return pointsLedgerStorage.readPointsLedger();
+    }
+
+    @Override
+    public void appendPointsLedgerEntries(List<PointsLedgerEntry> entries) throws IOException {
+        logger.fine("Attempting to append " + entries.size() + " entries to file: " + getPointsLedgerFilePath());
+        pointsLedgerStorage.appendPointsLedgerEntries(entries);
+    }
+
 }
@@ -1,15 +1,20 @@
 package seedu.loyaltylift.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import seedu.loyaltylift.model.customer.CustomerType;
 import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.model.order.Status;
 
 /**
  * A small label that displays a text with a rounded background box.
+ * A badge can be changed to display another text, so that the cards of a list can reuse their badges instead of
+ * loading a new badge each time they display another item.
  */
 public class Badge extends UiPart<StackPane> {
 
@@ -18,15 +23,17 @@ public class Badge extends UiPart<StackPane> {
     @FXML
     private Label tag;
 
+    private Badge() {
+        super(FXML);
+    }
+
     /**
-     * Creates a {@code Badge} with the given colors and text to be displayed.
+     * Displays the given text with the given colors.
      * @param backgroundColor Color of the background.
      * @param textColor Color of the text to be displayed.
      * @param text The text to be displayed.
      */
-    private Badge(Color backgroundColor, Color textColor, String text) {
-        super(FXML);
-
+    private void display(Color backgroundColor, Color textColor, String text) {
         this.getRoot().setStyle("-fx-background-color: " + colorToHex(backgroundColor));
         tag.setStyle("-fx-text-fill: " + colorToHex(textColor));
         tag.setText(text);
@@ -47,11 +54,24 @@ public class Badge extends UiPart<StackPane> {
      * @return An instance of the Badge.
      */
     public static Badge createCustomerTypeBadge(CustomerType customerType) {
+        requireNonNull(customerType);
+        Badge badge = new Badge();
+        badge.displayCustomerType(customerType);
+        return badge;
+    }
+
+    /**
+     * Changes this {@code Badge} to display the {@code CustomerType}.
+     * @param customerType The CustomerType of the customer.
+     */
+    public void displayCustomerType(CustomerType customerType) {
         switch (customerType) {
         case INDIVIDUAL:
-            return new Badge(Color.valueOf("#2F8F95"), Color.WHITE, "Individual");
+            display(Color.valueOf("#2F8F95"), Color.WHITE, "Individual");
+            break;
         case ENTERPRISE:
-            return new Badge(Color.valueOf("#95352F"), Color.WHITE, "Enterprise");
+            display(Color.valueOf("#95352F"), Color.WHITE, "Enterprise");
+            break;
         default:
             throw new IllegalArgumentException();
         }
@@ -59,20 +79,34 @@ public class Badge extends UiPart<StackPane> {
 
     /**
      * Constructs a {@code Badge} based on the {@code Points}.
+     * Tiers other than Gold, Silver and Bronze share the default color.
      * @param points The points of the customer.
+     * @param tierDefinitions The loyalty tiers the customer is placed in by their points.
      * @return An instance of the Badge.
      */
-    public static Badge createPointsBadge(Points points) {
-        Points.Tier tier = points.getLoyaltyTier();
-        switch (tier) {
-        case GOLD:
-            return new Badge(Color.valueOf("#d4af37"), Color.WHITE, points.value.toString() + " pts");
-        case SILVER:
-            return new Badge(Color.valueOf("#808080"), Color.WHITE, points.value.toString() + " pts");
-        case BRONZE:
-            return new Badge(Color.valueOf("#CD7F32"), Color.WHITE, points.value.toString() + " pts");
-        default:
-            return new Badge(Color.valueOf("#3356a3"), Color.WHITE, points.value.toString() + " pts");
+    public static Badge createPointsBadge(Points points, TierDefinitions tierDefinitions) {
+        requireNonNull(points);
+        Badge badge = new Badge();
+        badge.displayPoints(points, tierDefinitions);
+        return badge;
+    }
+
+    /**
+     * Changes this {@code Badge} to display the {@code Points}.
+     * Tiers other than Gold, Silver and Bronze share the default color.
+     * @param points The points of the customer.
+     * @param tierDefinitions The loyalty tiers the customer is placed in by their points.
+     */
+    public void displayPoints(Points points, TierDefinitions tierDefinitions) {
+        Points.Tier tier = points.getLoyaltyTier(tierDefinitions);
+        if (tier.equals(Points.Tier.GOLD)) {
+            display(Color.valueOf("#d4af37"), Color.WHITE, points.value.toString() + " pts");
+        } else if (tier.equals(Points.Tier.SILVER)) {
+            display(Color.valueOf("#808080"), Color.WHITE, points.value.toString() + " pts");
+        } else if (tier.equals(Points.Tier.BRONZE)) {
+            display(Color.valueOf("#CD7F32"), Color.WHITE, points.value.toString() + " pts");
+        } else {
+            display(Color.valueOf("#3356a3"), Color.WHITE, points.value.toString() + " pts");
         }
     }
 
@@ -82,17 +116,33 @@ public class Badge extends UiPart<StackPane> {
      * @return An instance of the Badge.
      */
     public static Badge createOrderStatusBadge(Status status) {
+        requireNonNull(status);
+        Badge badge = new Badge();
+        badge.displayOrderStatus(status);
+        return badge;
+    }
+
+    /**
+     * Changes this {@code Badge} to display the {@code Status} of an {@code Order}.
+     * @param status The status of the Order.
+     */
+    public void displayOrderStatus(Status status) {
         switch (status.getLatestStatus().statusValue) {
         case PENDING:
-            return new Badge(Color.valueOf("#E4544B"), Color.WHITE, "Pending");
+            display(Color.valueOf("#E4544B"), Color.WHITE, "Pending");
+            break;
         case PAID:
-            return new Badge(Color.valueOf("#26A92B"), Color.WHITE, "Paid");
+            display(Color.valueOf("#26A92B"), Color.WHITE, "Paid");
+            break;
         case SHIPPED:
-            return new Badge(Color.valueOf("#4F46E5"), Color.WHITE, "Shipped");
+            display(Color.valueOf("#4F46E5"), Color.WHITE, "Shipped");
+            break;
         case COMPLETED:
-            return new Badge(Color.valueOf("#4F46E5"), Color.WHITE, "Completed");
+            display(Color.valueOf("#4F46E5"), Color.WHITE, "Completed");
+            break;
         case CANCELLED:
-            return new Badge(Color.valueOf("#95352F"), Color.WHITE, "Cancelled");
+            display(Color.valueOf("#95352F"), Color.WHITE, "Cancelled");
+            break;
         default:
             throw new IllegalArgumentException();
         }
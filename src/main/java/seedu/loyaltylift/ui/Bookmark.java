@@ -22,6 +22,14 @@ public class Bookmark extends UiPart<StackPane> {
     private Bookmark(Marked marked) {
         super(FXML);
 
+        displayMarked(marked);
+    }
+
+    /**
+     * Changes this {@code Bookmark} to display the marked status of the customer.
+     * @param marked The marked status of the customer.
+     */
+    public void displayMarked(Marked marked) {
         markedIcon.setVisible(marked.value);
     }
 
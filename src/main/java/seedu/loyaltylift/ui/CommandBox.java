@@ -1,34 +1,84 @@
 package seedu.loyaltylift.ui;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.loyaltylift.logic.commands.CommandResult;
-import seedu.loyaltylift.logic.commands.exceptions.CommandException;
-import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+import javafx.util.Duration;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed in the background, one at a time, while a busy indicator is shown. Commands entered while a
+ * command is being executed are queued and executed in order; if a command fails, the queued commands are dropped
+ * and the failed command is returned to the command box to be corrected.
+ * While a {@code findc} or {@code findo} command is being typed, the names it would find are previewed below the
+ * command box once typing pauses. Pressing Tab completes the word being typed, or lists the completions if there
+ * are several. A preview or completion superseded by further typing is dropped.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration FIND_PREVIEW_DELAY = Duration.millis(150);
+    private static final int FIND_PREVIEW_LIMIT = 10;
+    private static final String FIND_PREVIEW_MORE = "...";
 
     private final CommandExecutor commandExecutor;
+    private final FindPreviewer findPreviewer;
+    private final Completer completer;
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isBusy = false;
+
+    private final PauseTransition findPreviewDelay = new PauseTransition(FIND_PREVIEW_DELAY);
+    private final ContextMenu suggestions = new ContextMenu();
+    // incremented for every preview or completion requested, so that a superseded result can be dropped
+    private long suggestionGeneration = 0;
+    private boolean isCompleting = false;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code FindPreviewer} and
+     * {@code Completer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, FindPreviewer findPreviewer, Completer completer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.findPreviewer = findPreviewer;
+        this.completer = completer;
+        findPreviewDelay.setOnFinished(event -> requestFindPreview());
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // and previews the names found once the text stops changing
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (!isCompleting) {
+                findPreviewDelay.playFromStart();
+            }
+        });
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                requestCompletion();
+            }
+        });
     }
 
     /**
@@ -41,14 +91,136 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        hideSuggestions();
+        queuedCommands.add(commandText);
+        if (!isBusy) {
+            executeNextCommand();
+        }
+    }
+
+    /**
+     * Executes the first queued command, if any, and then the commands queued after it.
+     */
+    private void executeNextCommand() {
+        String commandText = queuedCommands.poll();
+        setBusy(commandText != null);
+        if (commandText == null) {
+            return;
+        }
+
+        commandExecutor.execute(commandText, isSuccessful -> {
+            if (!isSuccessful) {
+                queuedCommands.clear();
+                if (commandTextField.getText().isEmpty()) {
+                    commandTextField.setText(commandText);
+                }
+                setStyleToIndicateCommandFailure();
+            }
+            executeNextCommand();
+        });
+    }
+
+    /**
+     * Requests a preview of the names found by the text of the command box, which is shown when it arrives unless
+     * another preview has been requested since.
+     */
+    private void requestFindPreview() {
+        long generation = ++suggestionGeneration;
+        findPreviewer.preview(commandTextField.getText(), FIND_PREVIEW_LIMIT + 1, names -> {
+            if (generation != suggestionGeneration) {
+                return;
+            }
+
+            List<MenuItem> items = new ArrayList<>();
+            names.stream().limit(FIND_PREVIEW_LIMIT).forEach(name -> items.add(new MenuItem(name)));
+            if (names.size() > FIND_PREVIEW_LIMIT) {
+                items.add(new MenuItem(FIND_PREVIEW_MORE));
+            }
+            showSuggestions(items);
+        });
+    }
+
+    /**
+     * Requests the completions of the word being typed. A single completion replaces the text of the command box;
+     * otherwise the text is extended as far as the completions agree, and the completions are listed to be chosen.
+     */
+    private void requestCompletion() {
+        findPreviewDelay.stop();
+        String commandText = commandTextField.getText();
+        long generation = ++suggestionGeneration;
+        completer.complete(commandText, completions -> {
+            if (generation != suggestionGeneration || !commandText.equals(commandTextField.getText())) {
+                return;
+            }
+
+            if (completions.size() == 1) {
+                setCompletedText(completions.get(0));
+                showSuggestions(List.of());
+                return;
+            }
+
+            String commonPrefix = getCommonPrefix(completions);
+            if (commonPrefix.length() > commandText.length()) {
+                setCompletedText(commonPrefix);
+            }
+            List<MenuItem> items = new ArrayList<>();
+            for (String completion : completions) {
+                MenuItem item = new MenuItem(completion);
+                item.setOnAction(event -> setCompletedText(completion));
+                items.add(item);
+            }
+            showSuggestions(items);
+        });
+    }
+
+    private static String getCommonPrefix(List<String> texts) {
+        if (texts.isEmpty()) {
+            return "";
+        }
+
+        String commonPrefix = texts.get(0);
+        for (String text : texts) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < text.length()
+                    && commonPrefix.charAt(length) == text.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
+    private void setCompletedText(String text) {
+        isCompleting = true;
+        commandTextField.setText(text);
+        commandTextField.positionCaret(text.length());
+        isCompleting = false;
+    }
+
+    private void showSuggestions(List<MenuItem> items) {
+        if (items.isEmpty()) {
+            suggestions.hide();
+            return;
+        }
+
+        suggestions.getItems().setAll(items);
+        if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
         }
     }
 
+    private void hideSuggestions() {
+        findPreviewDelay.stop();
+        suggestionGeneration++;
+        suggestions.hide();
+    }
+
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        busyIndicator.setVisible(isBusy);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -70,16 +242,45 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Represents a function that can execute commands.
+     * Represents a function that can execute commands in the background.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and calls {@code onCompletion} on the JavaFX application thread with
+         * whether the command succeeded once it is done.
          *
          * @see seedu.loyaltylift.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Consumer<Boolean> onCompletion);
+    }
+
+    /**
+     * Represents a function that can find the names a find command would find in the background.
+     */
+    @FunctionalInterface
+    public interface FindPreviewer {
+        /**
+         * Starts finding at most {@code limit} names found by the command, and calls {@code onResult} on the
+         * JavaFX application thread with the names once they are found.
+         *
+         * @see seedu.loyaltylift.logic.Logic#previewFind(String, int)
+         */
+        void preview(String commandText, int limit, Consumer<List<String>> onResult);
+    }
+
+    /**
+     * Represents a function that can complete commands in the background.
+     */
+    @FunctionalInterface
+    public interface Completer {
+        /**
+         * Starts completing the word being typed at the end of the command, and calls {@code onResult} on the
+         * JavaFX application thread with the completed commands once they are found.
+         *
+         * @see seedu.loyaltylift.logic.Logic#complete(String)
+         */
+        void complete(String commandText, Consumer<List<String>> onResult);
     }
 
 }
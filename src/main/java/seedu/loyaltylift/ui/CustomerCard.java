@@ -5,9 +5,11 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 
 /**
  * An UI component that displays information of a {@code Customer}.
+ * A card can be changed to display another customer, so that a list cell loads its card only once.
  */
 public class CustomerCard extends UiPart<Region> {
 
@@ -21,7 +23,7 @@ public class CustomerCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Customer customer;
+    private Customer customer;
 
     @FXML
     private HBox cardPane;
@@ -38,31 +40,47 @@ public class CustomerCard extends UiPart<Region> {
     @FXML
     private HBox accessoryPlaceholder;
 
+    private final Bookmark bookmark;
+    private final Badge pointsTag;
+    private final Badge customerTypeTag;
+
     private boolean isSelected;
 
     /**
-     * Creates a {@code CustomerCard} with the given {@code Customer} and index to display.
+     * Creates a {@code CustomerCard} with the given {@code Customer} and index to display,
+     * showing the customer's tier under {@code tierDefinitions}.
      */
-    public CustomerCard(Customer customer, int displayedIndex) {
+    public CustomerCard(Customer customer, int displayedIndex, TierDefinitions tierDefinitions) {
         super(FXML);
-        this.customer = customer;
-        id.setText(displayedIndex + ". ");
-        name.setText(customer.getName().fullName);
-        phone.setText(customer.getPhone().value);
-        address.setText(customer.getAddress().value);
-
-        Bookmark bookmark = Bookmark.createBookmarkIcon(customer.getMarked());
+        bookmark = Bookmark.createBookmarkIcon(customer.getMarked());
         accessoryPlaceholder.getChildren().add(bookmark.getRoot());
 
-        Badge pointsTag = Badge.createPointsBadge(customer.getPoints());
+        pointsTag = Badge.createPointsBadge(customer.getPoints(), tierDefinitions);
         accessoryPlaceholder.getChildren().add(pointsTag.getRoot());
 
-        Badge customerTypeTag = Badge.createCustomerTypeBadge(customer.getCustomerType());
+        customerTypeTag = Badge.createCustomerTypeBadge(customer.getCustomerType());
         accessoryPlaceholder.getChildren().add(customerTypeTag.getRoot());
 
+        setCustomer(customer, displayedIndex, tierDefinitions);
         this.isSelected = false;
     }
 
+    /**
+     * Changes this card to display the given {@code Customer} and index,
+     * showing the customer's tier under {@code tierDefinitions}.
+     */
+    public void setCustomer(Customer customer, int displayedIndex, TierDefinitions tierDefinitions) {
+        this.customer = customer;
+        id.setText(displayedIndex + ". ");
+        name.setText(customer.getName().fullName);
+        phone.setText(customer.getPhone().value);
+        address.setText(customer.getAddress().value);
+
+        bookmark.displayMarked(customer.getMarked());
+        pointsTag.displayPoints(customer.getPoints(), tierDefinitions);
+        customerTypeTag.displayCustomerType(customer.getCustomerType());
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -2,6 +2,7 @@ package seedu.loyaltylift.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -12,6 +13,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import seedu.loyaltylift.commons.core.LogsCenter;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 
 /**
  * Panel containing the list of customers.
@@ -21,19 +23,24 @@ public class CustomerListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CustomerListPanel.class);
 
     private final CustomerInfoOnClickHandler handler;
+    private final ObservableValue<TierDefinitions> tierDefinitions;
 
     @FXML
     private ListView<Customer> customerListView;
 
     /**
      * Creates a {@code CustomerListPanel} with the given {@code ObservableList}.
+     * The cards are redrawn together whenever {@code tierDefinitions} change, as customers may change tier.
      */
-    public CustomerListPanel(ObservableList<Customer> customerList, CustomerInfoOnClickHandler handler) {
+    public CustomerListPanel(ObservableList<Customer> customerList, ObservableValue<TierDefinitions> tierDefinitions,
+            CustomerInfoOnClickHandler handler) {
         super(FXML);
         this.handler = handler;
+        this.tierDefinitions = tierDefinitions;
 
         customerListView.setItems(customerList);
         customerListView.setCellFactory(listView -> new CustomerListViewCell());
+        tierDefinitions.addListener((observable, oldValue, newValue) -> customerListView.refresh());
 
         customerListView.setOnMouseClicked((EventHandler<MouseEvent>) event -> {
             Customer customer = customerListView.getSelectionModel().getSelectedItem();
@@ -49,6 +56,9 @@ public class CustomerListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Customer} using a {@code CustomerCard}.
      */
     class CustomerListViewCell extends ListCell<Customer> {
+        // loaded once, and changed to display each item given to this cell
+        private CustomerCard customerCard;
+
         @Override
         protected void updateItem(Customer customer, boolean empty) {
             super.updateItem(customer, empty);
@@ -57,7 +67,12 @@ public class CustomerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CustomerCard(customer, getIndex() + 1).getRoot());
+                if (customerCard == null) {
+                    customerCard = new CustomerCard(customer, getIndex() + 1, tierDefinitions.getValue());
+                } else {
+                    customerCard.setCustomer(customer, getIndex() + 1, tierDefinitions.getValue());
+                }
+                setGraphic(customerCard.getRoot());
             }
         }
     }
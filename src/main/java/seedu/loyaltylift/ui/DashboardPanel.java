@@ -0,0 +1,134 @@
+package seedu.loyaltylift.ui;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ObservableValue;
+import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.loyaltylift.commons.core.LogsCenter;
+import seedu.loyaltylift.model.DashboardStatistics;
+import seedu.loyaltylift.model.customer.Customer;
+
+/**
+ * Panel containing an overview of the customers and orders.
+ * The overview is redrawn at most once per frame however often the figures change, so that a burst of commands
+ * such as a bulk import only draws the latest figures.
+ */
+public class DashboardPanel extends UiPart<Region> {
+
+    private static final String FXML = "DashboardPanel.fxml";
+    private static final String BAR_STYLE_CLASS = "dashboard-bar";
+    private static final double MAXIMUM_BAR_WIDTH = 150.0;
+    private static final double ROW_LABEL_WIDTH = 110.0;
+    private static final String ORDERS_CREATED_TODAY_FORMAT = "Today: %1$d";
+    private static final String ORDERS_CREATED_THIS_WEEK_FORMAT = "This week: %1$d";
+    private static final String TOP_CUSTOMER_FORMAT = "%1$d. %2$s";
+    private static final String NO_CUSTOMERS = "No customers yet";
+
+    private final Logger logger = LogsCenter.getLogger(DashboardPanel.class);
+
+    private final ObservableValue<DashboardStatistics> statistics;
+
+    // draws the latest figures on the next frame, and then stops until the figures change again
+    private final AnimationTimer redrawTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            isRedrawScheduled = false;
+            draw(statistics.getValue());
+        }
+    };
+    private boolean isRedrawScheduled = false;
+
+    @FXML
+    private VBox customersPerTier;
+
+    @FXML
+    private VBox ordersPerStatus;
+
+    @FXML
+    private Label ordersCreatedToday;
+
+    @FXML
+    private Label ordersCreatedThisWeek;
+
+    @FXML
+    private VBox pendingOrdersPerAge;
+
+    @FXML
+    private VBox topCustomers;
+
+    /**
+     * Creates a {@code DashboardPanel} showing {@code statistics}, which is redrawn whenever it changes.
+     */
+    public DashboardPanel(ObservableValue<DashboardStatistics> statistics) {
+        super(FXML);
+        this.statistics = statistics;
+        draw(statistics.getValue());
+        statistics.addListener((unused1, unused2, unused3) -> scheduleRedraw());
+    }
+
+    private void scheduleRedraw() {
+        if (!isRedrawScheduled) {
+            isRedrawScheduled = true;
+            redrawTimer.start();
+        }
+    }
+
+    private void draw(DashboardStatistics statistics) {
+        logger.fine("Drawing dashboard: " + statistics);
+        drawBars(customersPerTier, statistics.getCustomersPerTier());
+        drawBars(ordersPerStatus, statistics.getOrdersPerStatus());
+        ordersCreatedToday.setText(String.format(ORDERS_CREATED_TODAY_FORMAT, statistics.getOrdersCreatedToday()));
+        ordersCreatedThisWeek.setText(String.format(ORDERS_CREATED_THIS_WEEK_FORMAT,
+                statistics.getOrdersCreatedThisWeek()));
+        drawBars(pendingOrdersPerAge, statistics.getPendingOrdersPerAge());
+        drawTopCustomers(statistics.getTopCustomers());
+    }
+
+    /**
+     * Replaces the rows of {@code container} with a row for each entry of {@code counts}, with a bar as long
+     * relative to the others as its count.
+     */
+    private void drawBars(VBox container, Map<?, Integer> counts) {
+        int maximumCount = counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        container.getChildren().clear();
+        counts.forEach((key, count) -> {
+            Label name = new Label(key.toString());
+            name.setMinWidth(ROW_LABEL_WIDTH);
+
+            Region bar = new Region();
+            bar.getStyleClass().add(BAR_STYLE_CLASS);
+            bar.setMinHeight(12.0);
+            bar.setMinWidth(maximumCount == 0 ? 0 : MAXIMUM_BAR_WIDTH * count / maximumCount);
+
+            HBox row = new HBox(8.0, name, bar, new Label(String.valueOf(count)));
+            row.setAlignment(Pos.CENTER_LEFT);
+            container.getChildren().add(row);
+        });
+    }
+
+    private void drawTopCustomers(List<Customer> customers) {
+        topCustomers.getChildren().clear();
+        if (customers.isEmpty()) {
+            topCustomers.getChildren().add(new Label(NO_CUSTOMERS));
+            return;
+        }
+
+        for (int i = 0; i < customers.size(); i++) {
+            Customer customer = customers.get(i);
+            Label name = new Label(String.format(TOP_CUSTOMER_FORMAT, i + 1, customer.getName().fullName));
+            name.setMinWidth(ROW_LABEL_WIDTH);
+            HBox row = new HBox(8.0, name, new Label(String.valueOf(customer.getPoints().value)));
+            topCustomers.getChildren().add(row);
+        }
+    }
+
+}
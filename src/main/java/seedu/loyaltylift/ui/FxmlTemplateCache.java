@@ -0,0 +1,118 @@
+package seedu.loyaltylift.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.loyaltylift.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXMLLoader;
+import seedu.loyaltylift.commons.core.LogsCenter;
+
+/**
+ * Keeps FXML documents loaded ahead of time on a background thread, so that a {@code UiPart} can take an object
+ * hierarchy that is already loaded instead of parsing its FXML document when it is constructed.
+ * Each document is loaded again in the background after a hierarchy of it is taken, to be ready for the next.
+ * Only documents that specify no event handlers and no {@code fx:root} can be preloaded, as their controller and
+ * root must be known while they are loaded.
+ */
+class FxmlTemplateCache {
+
+    static final String PRELOADER_THREAD_NAME = "LoyaltyLift FXML preloader";
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlTemplateCache.class);
+
+    private final Executor preloader;
+
+    // keyed by the external form of the location, as URL#equals may resolve host names
+    private final Map<String, BlockingQueue<LoadedFxml>> preloaded = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code FxmlTemplateCache} that loads the documents with {@code preloader}.
+     */
+    FxmlTemplateCache(Executor preloader) {
+        this.preloader = requireNonNull(preloader);
+    }
+
+    /**
+     * Creates a {@code FxmlTemplateCache} that loads the documents on a new daemon thread.
+     */
+    static FxmlTemplateCache withNewThread() {
+        return new FxmlTemplateCache(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, PRELOADER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Keeps {@code count} hierarchies of the FXML document at {@code location} loaded ahead of time.
+     */
+    void preload(URL location, int count) {
+        requireNonNull(location);
+        checkArgument(count > 0, "At least one hierarchy must be preloaded");
+        BlockingQueue<LoadedFxml> queue = new ArrayBlockingQueue<>(count);
+        if (preloaded.putIfAbsent(location.toExternalForm(), queue) == null) {
+            refill(location, queue);
+        }
+    }
+
+    /**
+     * Returns a preloaded hierarchy of the FXML document at {@code location}, or null if none is ready.
+     */
+    LoadedFxml take(URL location) {
+        BlockingQueue<LoadedFxml> queue = preloaded.get(location.toExternalForm());
+        if (queue == null) {
+            return null;
+        }
+
+        LoadedFxml loadedFxml = queue.poll();
+        refill(location, queue);
+        return loadedFxml;
+    }
+
+    private void refill(URL location, BlockingQueue<LoadedFxml> queue) {
+        preloader.execute(() -> {
+            try {
+                while (queue.remainingCapacity() > 0) {
+                    FXMLLoader fxmlLoader = new FXMLLoader(location);
+                    Object root = fxmlLoader.load();
+                    queue.offer(new LoadedFxml(root, new HashMap<>(fxmlLoader.getNamespace())));
+                }
+            } catch (IOException | RuntimeException e) {
+                // the document is loaded as usual instead, which reports the problem when it is needed
+                logger.warning("Could not preload " + location + ": " + e);
+                preloaded.remove(location.toExternalForm(), queue);
+            }
+        });
+    }
+
+    /**
+     * The root of a loaded FXML document, and its objects by their {@code fx:id}.
+     */
+    static class LoadedFxml {
+        private final Object root;
+        private final Map<String, Object> namespace;
+
+        LoadedFxml(Object root, Map<String, Object> namespace) {
+            this.root = root;
+            this.namespace = namespace;
+        }
+
+        Object getRoot() {
+            return root;
+        }
+
+        Map<String, Object> getNamespace() {
+            return namespace;
+        }
+    }
+}
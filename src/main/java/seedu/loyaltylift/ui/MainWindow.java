@@ -1,7 +1,16 @@
 package seedu.loyaltylift.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.event.ActionEvent;
@@ -16,6 +25,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.commons.core.LogsCenter;
 import seedu.loyaltylift.logic.Logic;
@@ -30,19 +40,39 @@ import seedu.loyaltylift.ui.order.OrderInfo;
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
+ * Calls to the logic, which may wait for a command to be executed, are made on a background thread so that the
+ * window stays responsive, and their results are displayed back on the JavaFX application thread.
  */
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration POINTS_EXPIRY_CHECK_INTERVAL = Duration.hours(1);
+    private static final String MESSAGE_POINTS_EXPIRED = "Points of %1$d customers expired today";
+    private static final String COMMAND_RUNNER_THREAD_NAME = "LoyaltyLift command runner";
+    private static final String SUGGESTION_RUNNER_THREAD_NAME = "LoyaltyLift suggestion runner";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private final ExecutorService commandRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, COMMAND_RUNNER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    // previews and completions are found apart from the commands, so that a superseded one is not queued behind
+    // a command
+    private final ExecutorService suggestionRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, SUGGESTION_RUNNER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingSuggestion;
 
     // Independent Ui parts residing in this Ui container
     private CustomerListPanel customerListPanel;
     private OrderListPanel orderListPanel;
+    private DashboardPanel dashboardPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private CustomerInfo customerInfo;
@@ -69,6 +99,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane orderListPanelPlaceholder;
 
+    @FXML
+    private StackPane dashboardPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -149,20 +182,49 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        customerListPanel = new CustomerListPanel(logic.getFilteredCustomerList(), this::showCustomerInfo);
+        customerListPanel = new CustomerListPanel(logic.getFilteredCustomerList(),
+                logic.getObservableTierDefinitions(), this::showCustomerInfo);
         customerListPanelPlaceholder.getChildren().add(customerListPanel.getRoot());
 
         orderListPanel = new OrderListPanel(logic.getFilteredOrderList(), this::showOrderInfo);
         orderListPanelPlaceholder.getChildren().add(orderListPanel.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        dashboardPanel = new DashboardPanel(logic.getObservableDashboardStatistics());
+        dashboardPanelPlaceholder.getChildren().add(dashboardPanel.getRoot());
+
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewFind, this::completeCommand);
         userCommandBox.getChildren().add(commandBox.getRoot());
 
         resultDisplay = new ResultDisplay();
         userCommandBox.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.getOrderStatusCounts());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+
+        schedulePointsExpiry();
+    }
+
+    /**
+     * Expires points periodically while the application is open, so that points due at midnight expire
+     * without waiting for the next command.
+     */
+    private void schedulePointsExpiry() {
+        Timeline pointsExpiryTimeline = new Timeline(new KeyFrame(POINTS_EXPIRY_CHECK_INTERVAL, event ->
+                commandRunner.execute(() -> {
+                    try {
+                        int expiredCount = logic.expireDuePoints();
+                        if (expiredCount > 0) {
+                            Platform.runLater(() -> resultDisplay.setFeedbackToUser(
+                                    String.format(MESSAGE_POINTS_EXPIRED, expiredCount)));
+                        }
+                    } catch (CommandException e) {
+                        logger.warning("Problem while saving expired points: " + e.getMessage());
+                        Platform.runLater(() -> resultDisplay.setFeedbackToUser(e.getMessage()));
+                    }
+                })));
+        pointsExpiryTimeline.setCycleCount(Animation.INDEFINITE);
+        pointsExpiryTimeline.play();
     }
 
     /**
@@ -222,13 +284,68 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, and then displays its result and calls {@code onCompletion} with
+     * whether it succeeded on the JavaFX application thread.
      *
      * @see seedu.loyaltylift.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private void executeCommand(String commandText, Consumer<Boolean> onCompletion) {
+        commandRunner.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> onCompletion.accept(handleCommandResult(commandText, commandResult)));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                Platform.runLater(() -> {
+                    handleCommandFailure(commandText, e);
+                    onCompletion.accept(false);
+                });
+            }
+        });
+    }
+
+    /**
+     * Finds the names found by the command in the background, and then calls {@code onResult} with them on the
+     * JavaFX application thread.
+     *
+     * @see seedu.loyaltylift.logic.Logic#previewFind(String, int)
+     */
+    private void previewFind(String commandText, int limit, Consumer<List<String>> onResult) {
+        suggest(commandText, () -> logic.previewFind(commandText, limit), onResult);
+    }
+
+    /**
+     * Completes the command in the background, and then calls {@code onResult} with the completed commands on the
+     * JavaFX application thread.
+     *
+     * @see seedu.loyaltylift.logic.Logic#complete(String)
+     */
+    private void completeCommand(String commandText, Consumer<List<String>> onResult) {
+        suggest(commandText, () -> logic.complete(commandText), onResult);
+    }
+
+    /**
+     * Finds the suggestions for the command in the background, cancelling the previous suggestions if they have
+     * not started yet, and then calls {@code onResult} with them on the JavaFX application thread.
+     */
+    private void suggest(String commandText, Supplier<List<String>> suggestions, Consumer<List<String>> onResult) {
+        if (pendingSuggestion != null) {
+            pendingSuggestion.cancel(false);
+        }
+        pendingSuggestion = suggestionRunner.submit(() -> {
+            try {
+                List<String> result = suggestions.get();
+                Platform.runLater(() -> onResult.accept(result));
+            } catch (RuntimeException e) {
+                logger.warning("Problem while suggesting for " + commandText + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Displays the result of the command, and returns whether it can be displayed.
+     */
+    private boolean handleCommandResult(String commandText, CommandResult commandResult) {
         try {
-            CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -272,14 +389,18 @@ public class MainWindow extends UiPart<Stage> {
                 orderListPanel.getSelectionModel().select(orderToDisplay);
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            return true;
+        } catch (CommandException e) {
+            handleCommandFailure(commandText, e);
+            return false;
         }
     }
 
+    private void handleCommandFailure(String commandText, Exception e) {
+        logger.info("Invalid command: " + commandText);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
     /**
      * Handles the event where a CustomerCard is clicked and the customer info needs to be shown.
      * @param customer The customer to be displayed on the information pane.
@@ -289,9 +410,17 @@ public class MainWindow extends UiPart<Stage> {
         orderListPanel.getSelectionModel().clearSelection();
         clearInformationPanel();
 
-        logic.updateFilteredCustomerOrderList(customer);
-        customerInfo = new CustomerInfo(customer, logic.getFilteredCustomerOrderList());
-        infoPane.getChildren().add(customerInfo.getRoot());
+        commandRunner.execute(() -> {
+            logic.updateFilteredCustomerOrderList(customer);
+            int customerRank = logic.getCustomerRank(customer);
+            // queued after the changes to the customer's orders, so that they are displayed in full
+            Platform.runLater(() -> {
+                clearInformationPanel();
+                customerInfo = new CustomerInfo(customer, customerRank,
+                        logic.getObservableTierDefinitions().getValue(), logic.getFilteredCustomerOrderList());
+                infoPane.getChildren().add(customerInfo.getRoot());
+            });
+        });
     }
 
     /**
@@ -8,6 +8,7 @@ import seedu.loyaltylift.model.order.Order;
 
 /**
  * An UI component that displays information of a {@code Order}.
+ * A card can be changed to display another order, so that a list cell loads its card only once.
  */
 public class OrderCard extends UiPart<Region> {
 
@@ -21,7 +22,7 @@ public class OrderCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Order order;
+    private Order order;
 
     @FXML
     private HBox cardPane;
@@ -38,6 +39,8 @@ public class OrderCard extends UiPart<Region> {
     @FXML
     private Label createdDate;
 
+    private final Badge orderStatusBadge;
+
     private boolean isSelected;
 
     /**
@@ -45,18 +48,24 @@ public class OrderCard extends UiPart<Region> {
      */
     public OrderCard(Order order, int displayedIndex) {
         super(FXML);
+        orderStatusBadge = Badge.createOrderStatusBadge(order.getStatus());
+        orderStatusPlaceholder.getChildren().add(orderStatusBadge.getRoot());
+
+        setOrder(order, displayedIndex);
+        this.isSelected = false;
+    }
+
+    /**
+     * Changes this card to display the given {@code Order} and index.
+     */
+    public void setOrder(Order order, int displayedIndex) {
         this.order = order;
         id.setText(displayedIndex + ". ");
         name.setText(order.getName().fullName);
         quantity.setText(order.getQuantity().toString());
         address.setText(order.getAddress().toString());
-
-        Badge orderStatusBadge = Badge.createOrderStatusBadge(order.getStatus());
-        orderStatusPlaceholder.getChildren().add(orderStatusBadge.getRoot());
-
+        orderStatusBadge.displayOrderStatus(order.getStatus());
         createdDate.setText(order.getCreatedDate().toString());
-
-        this.isSelected = false;
     }
 
     @Override
@@ -49,6 +49,9 @@ public class OrderListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Order} using a {@code OrderCard}.
      */
     class OrderListViewCell extends ListCell<Order> {
+        // loaded once, and changed to display each item given to this cell
+        private OrderCard orderCard;
+
         @Override
         protected void updateItem(Order order, boolean empty) {
             super.updateItem(order, empty);
@@ -57,7 +60,12 @@ public class OrderListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrderCard(order, getIndex() + 1).getRoot());
+                if (orderCard == null) {
+                    orderCard = new OrderCard(order, getIndex() + 1);
+                } else {
+                    orderCard.setOrder(order, getIndex() + 1);
+                }
+                setGraphic(orderCard.getRoot());
             }
         }
     }
@@ -2,10 +2,15 @@ package seedu.loyaltylift.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.loyaltylift.model.order.StatusValue;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,16 +18,32 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String ORDER_STATUS_COUNT_FORMAT = "%1$s: %2$d";
+    private static final String ORDER_STATUS_COUNT_SEPARATOR = "  |  ";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label orderStatusCounts;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path} and number of orders in each status.
+     * The number of orders shown is updated whenever {@code statusCounts} changes.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableMap<StatusValue, Integer> statusCounts) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showOrderStatusCounts(statusCounts);
+        statusCounts.addListener((MapChangeListener<StatusValue, Integer>) change ->
+                showOrderStatusCounts(statusCounts));
+    }
+
+    private void showOrderStatusCounts(ObservableMap<StatusValue, Integer> statusCounts) {
+        orderStatusCounts.setText(Arrays.stream(StatusValue.values())
+                .map(statusValue -> String.format(ORDER_STATUS_COUNT_FORMAT, statusValue,
+                        statusCounts.getOrDefault(statusValue, 0)))
+                .collect(Collectors.joining(ORDER_STATUS_COUNT_SEPARATOR)));
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.loyaltylift.ui;
 
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -22,6 +23,20 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
+    // the FXML files of the information panes and how many of each a pane uses, preloaded so that viewing a
+    // customer or order does not parse FXML
+    private static final Map<String, Integer> PRELOADED_FXML_FILES = Map.of(
+            "Customer/CustomerInfo.fxml", 2,
+            "Customer/CustomerGeneralInfo.fxml", 2,
+            "Customer/CustomerOrderListPanel.fxml", 2,
+            "Customer/CustomerOrderCard.fxml", 16,
+            "Order/OrderInfo.fxml", 2,
+            "Order/OrderGeneralInfo.fxml", 2,
+            "Order/OrderHistoryPanel.fxml", 2,
+            "Order/OrderHistoryCard.fxml", 8,
+            "NotePanel.fxml", 2,
+            "Badge.fxml", 4);
+
     private Logic logic;
     private MainWindow mainWindow;
 
@@ -36,6 +51,9 @@ public class UiManager implements Ui {
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
 
+        // loaded in the background while the main window is loaded
+        PRELOADED_FXML_FILES.forEach(UiPart::preload);
+
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
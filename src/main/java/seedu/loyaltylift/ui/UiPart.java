@@ -3,21 +3,28 @@ package seedu.loyaltylift.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URL;
+import java.util.Map;
 
+import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import seedu.loyaltylift.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * The scene graph is taken from the FXML documents preloaded with {@link #preload(String, int)} when one is ready,
+ * in which case its {@code @FXML} fields are injected as {@code FXMLLoader} would.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private static final FxmlTemplateCache templateCache = FxmlTemplateCache.withNewThread();
+
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -55,16 +62,35 @@ public abstract class UiPart<T> {
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
+    }
+
+    /**
+     * Keeps {@code count} object hierarchies of the specified FXML file within {@link #FXML_FILE_FOLDER} loaded
+     * ahead of time on a background thread. The FXML file must not specify event handlers or {@code fx:root}.
+     */
+    static void preload(String fxmlFileName, int count) {
+        templateCache.preload(getFxmlFileUrl(fxmlFileName), count);
     }
 
     /**
-     * Loads the object hierarchy from a FXML document.
+     * Loads the object hierarchy from a FXML document, or takes a preloaded one if {@code root} is not specified.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
+    @SuppressWarnings("unchecked")
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        if (root == null) {
+            FxmlTemplateCache.LoadedFxml preloaded = templateCache.take(location);
+            if (preloaded != null) {
+                this.root = (T) preloaded.getRoot();
+                injectFields(preloaded.getNamespace());
+                return;
+            }
+        }
+
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -73,6 +99,26 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        this.root = fxmlLoader.getRoot();
+    }
+
+    /**
+     * Sets the {@code @FXML} fields of this UiPart to the objects in {@code namespace} with the same names.
+     */
+    private void injectFields(Map<String, Object> namespace) {
+        for (Class<?> type = getClass(); type != UiPart.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(FXML.class) || !namespace.containsKey(field.getName())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    field.set(this, namespace.get(field.getName()));
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
     }
 
     /**
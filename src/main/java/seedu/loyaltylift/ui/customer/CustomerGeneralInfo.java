@@ -4,6 +4,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.ui.UiPart;
 
 /**
@@ -23,12 +24,16 @@ public class CustomerGeneralInfo extends UiPart<VBox> {
     private Label points;
     @FXML
     private Label tier;
+    @FXML
+    private Label rank;
 
     /**
      * Creates a {@code CustomerGeneralInfo} with the given {@code Customer}.
      * @param customer The customer whose general information is to be displayed.
+     * @param customerRank The one-based rank of the customer by points.
+     * @param tierDefinitions The loyalty tiers the customer is placed in by their cumulative points.
      */
-    public CustomerGeneralInfo(Customer customer) {
+    public CustomerGeneralInfo(Customer customer, int customerRank, TierDefinitions tierDefinitions) {
         super(FXML);
 
         phone.setText(customer.getPhone().value);
@@ -41,6 +46,7 @@ public class CustomerGeneralInfo extends UiPart<VBox> {
                 + " cumulative points";
         points.setText(pointsString);
         tier.setText("Tier: "
-                + customer.getPoints().getLoyaltyTier().toString());
+                + customer.getPoints().getLoyaltyTier(tierDefinitions).toString());
+        rank.setText("(Rank #" + customerRank + " by points)");
     }
 }
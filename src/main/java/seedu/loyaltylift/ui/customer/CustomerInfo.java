@@ -9,6 +9,7 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import seedu.loyaltylift.model.attribute.Note;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.model.order.Order;
 import seedu.loyaltylift.ui.Badge;
 import seedu.loyaltylift.ui.NotePanel;
@@ -33,8 +34,11 @@ public class CustomerInfo extends UiPart<ScrollPane> {
     /**
      * Creates a {@code CustomerInfo} with the given {@code Customer}.
      * @param customer The customer whose information is to be displayed.
+     * @param customerRank The one-based rank of the customer by points.
+     * @param tierDefinitions The loyalty tiers the customer is placed in by their cumulative points.
      */
-    public CustomerInfo(Customer customer, ObservableList<Order> customerOrderList) {
+    public CustomerInfo(Customer customer, int customerRank, TierDefinitions tierDefinitions,
+            ObservableList<Order> customerOrderList) {
         super(FXML);
 
         customerName.setText(customer.getName().fullName.toUpperCase());
@@ -43,7 +47,7 @@ public class CustomerInfo extends UiPart<ScrollPane> {
         customerTypePlaceholder.getChildren().add(customerTypeBadge.getRoot());
 
         // General Info
-        CustomerGeneralInfo customerGeneralInfo = new CustomerGeneralInfo(customer);
+        CustomerGeneralInfo customerGeneralInfo = new CustomerGeneralInfo(customer, customerRank, tierDefinitions);
         insertSection("General", customerGeneralInfo.getRoot());
 
         // Note
@@ -11,6 +11,7 @@ import seedu.loyaltylift.ui.UiPart;
 
 /**
  * A UI component that displays information of a {@code Order} that belongs to a {@code Customer}.
+ * A card can be changed to display another order, so that a list cell loads its card only once.
  */
 public class CustomerOrderCard extends UiPart<HBox> {
 
@@ -29,15 +30,26 @@ public class CustomerOrderCard extends UiPart<HBox> {
     @FXML
     private HBox statusPlaceholder;
 
-    private final Order order;
-    private final Integer index;
+    private final Badge statusBadge;
 
+    private Order order;
+    private Integer index;
 
     /**
      * Creates a {@code CustomerOrderCard} with the given {@code Order} and index to display.
      */
     public CustomerOrderCard(Order order, Integer index) {
         super(FXML);
+        statusBadge = Badge.createOrderStatusBadge(order.getStatus());
+        statusPlaceholder.getChildren().add(statusBadge.getRoot());
+
+        setOrder(order, index);
+    }
+
+    /**
+     * Changes this card to display the given {@code Order} and index.
+     */
+    public void setOrder(Order order, Integer index) {
         this.order = order;
         this.index = index;
 
@@ -45,8 +57,6 @@ public class CustomerOrderCard extends UiPart<HBox> {
         name.setText(order.getName().fullName);
         date.setText(DATE_FORMATTER.format(order.getCreatedDate().value));
         address.setText(order.getAddress().value);
-
-        Badge statusBadge = Badge.createOrderStatusBadge(order.getStatus());
-        statusPlaceholder.getChildren().add(statusBadge.getRoot());
+        statusBadge.displayOrderStatus(order.getStatus());
     }
 }
@@ -29,6 +29,9 @@ public class CustomerOrderListPanel extends UiPart<VBox> {
     }
 
     class CustomerOrderListViewCell extends ListCell<Order> {
+        // loaded once, and changed to display each item given to this cell
+        private CustomerOrderCard orderCard;
+
         @Override
         protected void updateItem(Order order, boolean empty) {
             super.updateItem(order, empty);
@@ -37,7 +40,12 @@ public class CustomerOrderListPanel extends UiPart<VBox> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CustomerOrderCard(order, getIndex() + 1).getRoot());
+                if (orderCard == null) {
+                    orderCard = new CustomerOrderCard(order, getIndex() + 1);
+                } else {
+                    orderCard.setOrder(order, getIndex() + 1);
+                }
+                setGraphic(orderCard.getRoot());
             }
         }
     }
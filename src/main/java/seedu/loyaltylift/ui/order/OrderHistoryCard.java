@@ -10,6 +10,7 @@ import seedu.loyaltylift.ui.UiPart;
 
 /**
  * A UI component that displays status history of an {@code Order} that belongs to a {@code Customer}.
+ * A card can be changed to display another status update, so that a list cell loads its card only once.
  */
 public class OrderHistoryCard extends UiPart<HBox> {
     private static final String FXML = "Order/OrderHistoryCard.fxml";
@@ -23,8 +24,8 @@ public class OrderHistoryCard extends UiPart<HBox> {
     @FXML
     private Label date;
 
-    private final StatusUpdate statusUpdate;
-    private final Integer index;
+    private StatusUpdate statusUpdate;
+    private Integer index;
 
 
     /**
@@ -32,6 +33,13 @@ public class OrderHistoryCard extends UiPart<HBox> {
      */
     public OrderHistoryCard(StatusUpdate statusUpdate, Integer index) {
         super(FXML);
+        setStatusUpdate(statusUpdate, index);
+    }
+
+    /**
+     * Changes this card to display the given {@code StatusUpdate} and index.
+     */
+    public void setStatusUpdate(StatusUpdate statusUpdate, Integer index) {
         this.statusUpdate = statusUpdate;
         this.index = index;
 
@@ -36,6 +36,9 @@ public class OrderHistoryPanel extends UiPart<Region> {
     }
 
     class OrderHistoryListViewCell extends ListCell<StatusUpdate> {
+        // loaded once, and changed to display each item given to this cell
+        private OrderHistoryCard historyCard;
+
         @Override
         protected void updateItem(StatusUpdate statusUpdate, boolean empty) {
             super.updateItem(statusUpdate, empty);
@@ -44,7 +47,12 @@ public class OrderHistoryPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrderHistoryCard(statusUpdate, getIndex() + 1).getRoot());
+                if (historyCard == null) {
+                    historyCard = new OrderHistoryCard(statusUpdate, getIndex() + 1);
+                } else {
+                    historyCard.setStatusUpdate(statusUpdate, getIndex() + 1);
+                }
+                setGraphic(historyCard.getRoot());
             }
         }
     }
@@ -0,0 +1,45 @@
+package seedu.loyaltylift;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.storage.JsonAddressBookStorage;
+import seedu.loyaltylift.storage.JsonPointsLedgerStorage;
+import seedu.loyaltylift.storage.JsonUserPrefsStorage;
+import seedu.loyaltylift.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    private static final Path INVALID_POINTS_LEDGER_FILE =
+            Paths.get("src", "test", "data", "JsonPointsLedgerStorageTest", "invalidEntryPointsLedger.jsonl");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void initPointsLedger_corruptFile_movesFileAside() throws Exception {
+        Path pointsLedgerFile = testFolder.resolve(AppInitializer.POINTS_LEDGER_FILE_NAME);
+        Files.copy(INVALID_POINTS_LEDGER_FILE, pointsLedgerFile);
+        Path corruptFile = testFolder.resolve(AppInitializer.POINTS_LEDGER_FILE_NAME
+                + AppInitializer.CORRUPT_FILE_SUFFIX);
+        Files.writeString(corruptFile, "moved aside earlier");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")),
+                new JsonPointsLedgerStorage(pointsLedgerFile));
+
+        assertEquals(new PointsLedger(), new AppInitializer().initPointsLedger(storage));
+        assertFalse(Files.exists(pointsLedgerFile));
+        assertEquals(Files.readAllLines(INVALID_POINTS_LEDGER_FILE),
+                Files.readAllLines(testFolder.resolve(corruptFile.getFileName() + ".1")));
+        assertEquals(List.of("moved aside earlier"), Files.readAllLines(corruptFile));
+    }
+}
@@ -37,6 +37,31 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_serverArgs_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setServerMode(true);
+        expected.setServerPort(9090);
+        assertEquals(expected, AppParameters.parse(List.of("--config=config.json", "--server", "--port=9090")));
+    }
+
+    @Test
+    public void parse_invalidPort_usesDefaultPort() {
+        expected.setServerMode(true);
+        assertEquals(expected, AppParameters.parse(List.of("--server", "--port=abc")));
+    }
+
+    @Test
+    public void parse_importArgs_success() {
+        expected.setImportFile(Paths.get("customers.csv"));
+        assertEquals(expected, AppParameters.parse(List.of("--import=customers.csv")));
+    }
+
+    @Test
+    public void parse_invalidImportFile_doesNotImport() {
+        assertEquals(expected, AppParameters.parse(List.of("--import=a\0")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,48 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitByCommas() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("name,phone\r\nAlice,94351253\n,\n"));
+        assertEquals(List.of("name", "phone"), csvReader.readRecord().get());
+        assertEquals(List.of("Alice", "94351253"), csvReader.readRecord().get());
+        assertEquals(List.of("", ""), csvReader.readRecord().get());
+        assertFalse(csvReader.readRecord().isPresent());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepsCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\"1, Main St\",\"say \"\"hi\"\"\"\n"
+                + "\"two\nlines\",x\nlast,row"));
+        assertEquals(List.of("1, Main St", "say \"hi\""), csvReader.readRecord().get());
+        assertEquals(1, csvReader.getRecordLineNumber());
+        assertEquals(List.of("two\nlines", "x"), csvReader.readRecord().get());
+        assertEquals(2, csvReader.getRecordLineNumber());
+        assertEquals(List.of("last", "row"), csvReader.readRecord().get());
+        assertEquals(4, csvReader.getRecordLineNumber());
+        assertFalse(csvReader.readRecord().isPresent());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_skipped() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\uFEFFname\n"));
+        assertEquals(List.of("name"), csvReader.readRecord().get());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        CsvReader csvReader = new CsvReader(new StringReader("\"unclosed,field\n"));
+        assertThrows(IOException.class, csvReader::readRecord);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void quoteIfNeeded() {
+        assertEquals("Alice", CsvWriter.quoteIfNeeded("Alice"));
+        assertEquals("", CsvWriter.quoteIfNeeded(""));
+        assertEquals("\"1, Main St\"", CsvWriter.quoteIfNeeded("1, Main St"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvWriter.quoteIfNeeded("say \"hi\""));
+        assertEquals("\"two\nlines\"", CsvWriter.quoteIfNeeded("two\nlines"));
+    }
+
+    @Test
+    public void writeRecord_readByCsvReader_sameFields() throws IOException {
+        List<String> fields = List.of("Alice", "1, Main St", "say \"hi\"", "two\nlines", "");
+        StringWriter stringWriter = new StringWriter();
+        try (CsvWriter csvWriter = new CsvWriter(stringWriter)) {
+            csvWriter.writeRecord(fields);
+        }
+        assertEquals(fields, new CsvReader(new StringReader(stringWriter.toString())).readRecord().get());
+    }
+}
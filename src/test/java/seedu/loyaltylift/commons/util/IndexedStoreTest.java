@@ -0,0 +1,167 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedStoreTest {
+
+    // elements are keyed by their first letter
+    private final IndexedStore<Character, String> store = new IndexedStore<>(element -> element.charAt(0));
+
+    @Test
+    public void add_duplicateKey_returnsFalse() {
+        assertTrue(store.add("a1"));
+        assertFalse(store.add("a2"));
+        assertEquals(List.of("a1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void addAll_duplicateKey_returnsFalse() {
+        store.add("a1");
+        assertFalse(store.addAll(List.of("b1", "a2")));
+        assertFalse(store.addAll(List.of("b1", "b2")));
+        assertEquals(List.of("a1"), store.asUnmodifiableList());
+
+        assertTrue(store.addAll(List.of("b1", "c1")));
+        assertEquals(List.of("a1", "b1", "c1"), store.asUnmodifiableList());
+        assertEquals(2, store.indexOf("c1"));
+    }
+
+    @Test
+    public void getByKey() {
+        store.add("a1");
+        assertEquals("a1", store.getByKey('a'));
+        assertNull(store.getByKey('b'));
+        assertTrue(store.containsKey('a'));
+        assertFalse(store.containsKey('b'));
+    }
+
+    @Test
+    public void indexOf_sameKeyDifferentElement_returnsMinusOne() {
+        store.add("a1");
+        store.add("b1");
+        assertEquals(1, store.indexOf("b1"));
+        assertEquals(-1, store.indexOf("b2"));
+        assertEquals(-1, store.indexOf("c1"));
+    }
+
+    @Test
+    public void set_newKey_reindexes() {
+        store.add("a1");
+        store.add("b1");
+        store.set(0, "c1");
+        assertFalse(store.containsKey('a'));
+        assertEquals(0, store.indexOf("c1"));
+
+        store.set(0, "c2");
+        assertEquals("c2", store.getByKey('c'));
+    }
+
+    @Test
+    public void set_keyOfOtherElement_throwsIllegalArgumentException() {
+        store.add("a1");
+        store.add("b1");
+        assertThrows(IllegalArgumentException.class, () -> store.set(0, "b2"));
+        assertEquals(List.of("a1", "b1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void remove_movesLastElement() {
+        store.setAll(Arrays.asList("a1", "b1", "c1", "d1"));
+        assertEquals("b1", store.remove(1));
+        assertEquals(List.of("a1", "d1", "c1"), store.asUnmodifiableList());
+        assertEquals(1, store.indexOf("d1"));
+        assertFalse(store.containsKey('b'));
+
+        store.remove(2);
+        assertEquals(List.of("a1", "d1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void setAll_duplicateKeys_returnsFalse() {
+        store.add("a1");
+        assertFalse(store.setAll(Arrays.asList("b1", "b2")));
+        assertEquals(List.of("a1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void setAll_ownView_keepsElements() {
+        store.setAll(Arrays.asList("a1", "b1"));
+        assertTrue(store.setAll(store.asUnmodifiableList()));
+        assertEquals(List.of("a1", "b1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void asUnmodifiableList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> store.asUnmodifiableList().add("a1"));
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        store.setAll(Arrays.asList("a1", "b1", "c1"));
+        List<String> snapshot = store.snapshot();
+        store.set(0, "a2");
+        store.remove(1);
+        store.add("d1");
+        assertEquals(List.of("a1", "b1", "c1"), snapshot);
+        assertEquals(List.of("a2", "c1", "d1"), store.asUnmodifiableList());
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> store.snapshot().add("a1"));
+    }
+
+    @Test
+    public void randomChanges_snapshotsMatchCopies() {
+        IndexedStore<Integer, Integer> numbers = new IndexedStore<>(number -> number);
+        List<List<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> copies = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            int number = random.nextInt(IndexedStore.CHUNK_SIZE * 4);
+            int index = numbers.indexOf(number);
+            if (index >= 0) {
+                numbers.remove(index);
+            } else {
+                numbers.add(number);
+            }
+            if (i % 100 == 0) {
+                snapshots.add(numbers.snapshot());
+                copies.add(new ArrayList<>(numbers.asUnmodifiableList()));
+            }
+        }
+
+        assertEquals(copies, snapshots);
+    }
+
+    @Test
+    public void randomChanges_keysMatchPositions() {
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            String element = (char) ('a' + random.nextInt(26)) + "" + random.nextInt(3);
+            int index = store.indexOf(element);
+            if (index >= 0) {
+                store.remove(index);
+            } else if (!store.add(element)) {
+                store.set(store.indexOf(store.getByKey(element.charAt(0))), element);
+            }
+        }
+
+        List<String> elements = new ArrayList<>(store.asUnmodifiableList());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(i, store.indexOf(elements.get(i)));
+            assertEquals(elements.get(i), store.getByKey(elements.get(i).charAt(0)));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+public class ObservableMirrorsTest {
+
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    @Test
+    public void mirrorList_changesAppliedByTarget() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+        ObservableList<String> mirror = ObservableMirrors.mirrorList(source, pendingChanges::add);
+        assertEquals(List.of("a", "b"), mirror);
+
+        source.add("c");
+        source.remove("a");
+        source.set(0, "d");
+
+        // not changed until the target runs the changes
+        assertEquals(List.of("a", "b"), mirror);
+
+        runPendingChanges();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void mirrorList_sourceChangedAfterChange_changeCopied() {
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        ObservableList<String> mirror = ObservableMirrors.mirrorList(source, pendingChanges::add);
+
+        source.add("b");
+        source.clear();
+        runPendingChanges();
+        assertEquals(List.of(), mirror);
+    }
+
+    @Test
+    public void mirrorList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = ObservableMirrors.mirrorList(FXCollections.observableArrayList("a"),
+                pendingChanges::add);
+        assertThrows(UnsupportedOperationException.class, () -> mirror.add("b"));
+    }
+
+    @Test
+    public void mirrorMap_changesAppliedByTarget() {
+        ObservableMap<String, Integer> source = FXCollections.observableHashMap();
+        source.put("a", 1);
+        ObservableMap<String, Integer> mirror = ObservableMirrors.mirrorMap(source, pendingChanges::add);
+        assertEquals(Map.of("a", 1), mirror);
+
+        source.put("b", 2);
+        source.put("a", 3);
+        source.remove("b");
+        assertEquals(Map.of("a", 1), mirror);
+
+        runPendingChanges();
+        assertEquals(Map.of("a", 3), mirror);
+    }
+
+    @Test
+    public void mirrorValue_changesAppliedByTarget() {
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("a");
+        ObservableValue<String> mirror = ObservableMirrors.mirrorValue(source, pendingChanges::add);
+
+        source.set("b");
+        assertEquals("a", mirror.getValue());
+
+        runPendingChanges();
+        assertEquals("b", mirror.getValue());
+    }
+
+    private void runPendingChanges() {
+        pendingChanges.forEach(Runnable::run);
+        pendingChanges.clear();
+    }
+}
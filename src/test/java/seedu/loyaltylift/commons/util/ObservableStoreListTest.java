@@ -0,0 +1,75 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class ObservableStoreListTest {
+
+    private final IndexedStore<Character, String> store = new IndexedStore<>(element -> element.charAt(0));
+    private final ObservableStoreList<String> list = new ObservableStoreList<>(store);
+
+    /**
+     * Returns a list that is kept up to date by applying the changes reported by {@code list}.
+     */
+    private List<String> mirror() {
+        List<String> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        return mirror;
+    }
+
+    @Test
+    public void changes_appliedToMirror_matchStore() {
+        store.setAll(Arrays.asList("a1", "b1", "c1"));
+        List<String> mirror = mirror();
+
+        store.add("d1");
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.addAll(List.of("x1", "y1", "z1"));
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.set(1, "b2");
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.remove(0);
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.remove(store.size() - 1);
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.setAll(Arrays.asList("e1", "f1"));
+        assertEquals(store.asUnmodifiableList(), mirror);
+        store.setAll(List.of());
+        assertEquals(store.asUnmodifiableList(), mirror);
+    }
+
+    @Test
+    public void randomChanges_appliedToMirror_matchStore() {
+        List<String> mirror = mirror();
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            String element = (char) ('a' + random.nextInt(26)) + "" + random.nextInt(3);
+            int index = store.indexOf(element);
+            if (index >= 0) {
+                store.remove(index);
+            } else if (!store.add(element)) {
+                store.set(store.indexOf(store.getByKey(element.charAt(0))), element);
+            }
+            assertEquals(store.asUnmodifiableList(), mirror);
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add("a1"));
+    }
+}
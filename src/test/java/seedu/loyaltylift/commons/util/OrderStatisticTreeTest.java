@@ -0,0 +1,92 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    private final OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+    @Test
+    public void add_duplicate_returnsFalse() {
+        assertTrue(tree.add(5));
+        assertFalse(tree.add(5));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void remove_missing_returnsFalse() {
+        tree.add(5);
+        assertFalse(tree.remove(6));
+        assertTrue(tree.remove(5));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void indexOfAndGet_matchSortedList() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1000);
+            if (tree.add(value)) {
+                expected.add(value);
+            }
+            if (i % 3 == 0 && tree.remove(value)) {
+                expected.remove(Integer.valueOf(value));
+            }
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+            assertEquals(i, tree.indexOf(expected.get(i)));
+        }
+        assertEquals(expected, tree.subList(0, tree.size()));
+    }
+
+    @Test
+    public void indexOf_missing_returnsMinusOne() {
+        tree.add(1);
+        tree.add(3);
+        assertEquals(-1, tree.indexOf(2));
+        assertFalse(tree.contains(2));
+    }
+
+    @Test
+    public void countWhile_countsLeadingElements() {
+        for (int i = 0; i < 20; i += 2) {
+            tree.add(i);
+        }
+        assertEquals(4, tree.countWhile(value -> value < 7));
+        assertEquals(0, tree.countWhile(value -> value < 0));
+        assertEquals(10, tree.countWhile(value -> value < 100));
+    }
+
+    @Test
+    public void subList_returnsRangeInOrder() {
+        for (int i = 9; i >= 0; i--) {
+            tree.add(i);
+        }
+        assertEquals(List.of(3, 4, 5), tree.subList(3, 6));
+        assertEquals(List.of(), tree.subList(4, 4));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        tree.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.subList(0, 2));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.loyaltylift.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrieTest {
+
+    private Trie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new Trie(3);
+        for (String word : List.of("listo", "addc", "listc", "add", "addo", "addpoints", "listc")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveMaximum_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Trie(0));
+    }
+
+    @Test
+    public void getWordsStartingWith_returnsFirstWordsInOrder() {
+        assertEquals(List.of("listc", "listo"), trie.getWordsStartingWith("li"));
+        assertEquals(List.of("listo"), trie.getWordsStartingWith("listo"));
+        assertEquals(List.of(), trie.getWordsStartingWith("lists"));
+        assertEquals(List.of(), trie.getWordsStartingWith("x"));
+    }
+
+    @Test
+    public void getWordsStartingWith_moreWordsThanMaximum_returnsFirstWords() {
+        assertEquals(List.of("add", "addc", "addo"), trie.getWordsStartingWith("add"));
+        assertEquals(List.of("add", "addc", "addo"), trie.getWordsStartingWith(""));
+        assertEquals(List.of("addpoints"), trie.getWordsStartingWith("addp"));
+    }
+}
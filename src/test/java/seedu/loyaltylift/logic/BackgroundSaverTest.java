@@ -0,0 +1,125 @@
+package seedu.loyaltylift.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.AddressBook;
+import seedu.loyaltylift.model.ReadOnlyAddressBook;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+import seedu.loyaltylift.storage.StorageManager;
+
+public class BackgroundSaverTest {
+
+    // long enough that the saves are only made by flushing
+    private static final long DELAY_MILLIS = 3_600_000;
+
+    private static final PointsLedgerEntry FIRST_ENTRY =
+            new PointsLedgerEntry("Alice Pauline", LocalDateTime.of(2023, 1, 1, 0, 0), 10, 10, Reason.ADD_POINTS, "");
+    private static final PointsLedgerEntry SECOND_ENTRY =
+            new PointsLedgerEntry("Alice Pauline", LocalDateTime.of(2023, 1, 2, 0, 0), 20, 20, Reason.ADD_POINTS, "");
+
+    private final StorageStub storage = new StorageStub();
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(storage, DELAY_MILLIS);
+
+    @Test
+    public void flush_severalRequests_savesLatestAddressBookOnce() throws Exception {
+        ReadOnlyAddressBook latestAddressBook = getTypicalAddressBook();
+        backgroundSaver.requestSave(List.of(FIRST_ENTRY), new AddressBook());
+        backgroundSaver.requestSave(List.of(), new AddressBook());
+        backgroundSaver.requestSave(List.of(SECOND_ENTRY), latestAddressBook);
+        backgroundSaver.flush();
+
+        assertEquals(List.of(FIRST_ENTRY, SECOND_ENTRY), storage.appendedEntries);
+        assertEquals(List.of(latestAddressBook), storage.savedAddressBooks);
+
+        // nothing more to save
+        backgroundSaver.flush();
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_saveFails_savedWithNextFlush() throws Exception {
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        backgroundSaver.requestSave(List.of(FIRST_ENTRY), addressBook);
+        storage.isFailing = true;
+        assertThrows(IOException.class, backgroundSaver::flush);
+
+        storage.isFailing = false;
+        backgroundSaver.requestSave(List.of(SECOND_ENTRY), addressBook);
+        backgroundSaver.flush();
+        assertEquals(List.of(FIRST_ENTRY, SECOND_ENTRY), storage.appendedEntries);
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void saveInBackground_saveFails_savedAgainWithoutRequest() throws Exception {
+        BackgroundSaver retryingSaver = new BackgroundSaver(storage, 0, 10);
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        storage.remainingFailures = 2;
+        retryingSaver.requestSave(List.of(FIRST_ENTRY), addressBook);
+
+        // saved by the second retry, with no other save requested
+        assertTrue(storage.addressBookSaved.await(5, TimeUnit.SECONDS));
+        retryingSaver.close();
+        assertEquals(List.of(FIRST_ENTRY), storage.appendedEntries);
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void close_saveRequested_saves() throws Exception {
+        BackgroundSaver quickSaver = new BackgroundSaver(storage, 0);
+        ReadOnlyAddressBook addressBook = getTypicalAddressBook();
+        quickSaver.requestSave(List.of(FIRST_ENTRY), addressBook);
+        quickSaver.close();
+        assertEquals(List.of(FIRST_ENTRY), storage.appendedEntries);
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    /**
+     * A storage that records what is saved to it, and can be made to fail.
+     */
+    private static class StorageStub extends StorageManager {
+        private final List<PointsLedgerEntry> appendedEntries = new ArrayList<>();
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final CountDownLatch addressBookSaved = new CountDownLatch(1);
+        private boolean isFailing = false;
+        private int remainingFailures = 0;
+
+        StorageStub() {
+            super(null, null, null);
+        }
+
+        @Override
+        public synchronized void appendPointsLedgerEntries(List<PointsLedgerEntry> entries) throws IOException {
+            if (remainingFailures > 0) {
+                remainingFailures--;
+                throw new IOException("dummy exception");
+            }
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            appendedEntries.addAll(entries);
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            savedAddressBooks.add(addressBook);
+            addressBookSaved.countDown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.loyaltylift.logic;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+
+/**
+ * Measures the number of CSV rows of customers imported per second into an empty address book, one in ten of which
+ * are invalid or duplicates.
+ * Run with {@code gradlew importBenchmark}; it prints the throughput of each round.
+ */
+public class CsvImporterBenchmark {
+
+    private static final int ROWS_PER_ROUND = 100_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException, CommandException {
+        Path csvFile = Files.createTempFile("customers", ".csv");
+        try {
+            writeCustomers(csvFile);
+            for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+                Model model = new ModelManager();
+                long start = System.nanoTime();
+                CsvImporter.Result result = new CsvImporter(model, Runnable::run).importFile(csvFile);
+                long elapsed = System.nanoTime() - start;
+
+                if (round >= WARM_UP_ROUNDS) {
+                    System.out.printf("Round %d: %.0f rows per second (%d imported, %d rejected)%n",
+                            round - WARM_UP_ROUNDS + 1, result.getRowCount() * 1e9 / elapsed,
+                            result.getImportedCount(), result.getRejectedCount());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(CsvImporter.getErrorReportPath(csvFile));
+            Files.delete(csvFile);
+        }
+    }
+
+    private static void writeCustomers(Path csvFile) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write("name,phone,email,address,type\n");
+            for (int i = 0; i < ROWS_PER_ROUND; i++) {
+                if (i % 20 == 19) {
+                    // one row in twenty has an invalid phone number
+                    writer.write("Customer " + i + ",phone,customer" + i + "@example.com,Block " + i + ",ind\n");
+                } else {
+                    // one row in twenty repeats the row before
+                    int customer = i % 20 == 9 ? i - 1 : i;
+                    writer.write("Customer " + customer + "," + (90_000_000 + customer) + ",customer" + customer
+                            + "@example.com,\"Block " + customer + ", Jurong West\",ent\n");
+                }
+            }
+        }
+    }
+}
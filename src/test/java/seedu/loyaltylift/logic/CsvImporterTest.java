@@ -0,0 +1,143 @@
+package seedu.loyaltylift.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.attribute.Name;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Phone;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.Quantity;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class CsvImporterTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private int commitCount = 0;
+
+    @Test
+    public void importFile_validCustomers_addedInBatches() throws Exception {
+        Path csvFile = writeCsv("Name,Phone,Email,Address,Type",
+                "Zed Lim,91234567,zed@example.com,\"1, Zed Road\",ent",
+                "Yan Tan,92345678,yan@example.com,2 Yan Road,",
+                "",
+                "Xin Ong,93456789,xin@example.com,3 Xin Road,ind");
+        int customerCount = model.getAddressBook().getCustomerList().size();
+
+        CsvImporter.Result result = importFile(csvFile, 2);
+
+        assertEquals(3, result.getImportedCount());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals(2, commitCount);
+        assertEquals(customerCount + 3, model.getAddressBook().getCustomerList().size());
+        Customer zed = model.findCustomer("Zed Lim").get();
+        assertEquals(CustomerType.ENTERPRISE, zed.getCustomerType());
+        assertEquals("1, Zed Road", zed.getAddress().value);
+        assertEquals(CustomerType.INDIVIDUAL, model.findCustomer("Yan Tan").get().getCustomerType());
+        assertFalse(Files.exists(CsvImporter.getErrorReportPath(csvFile)));
+    }
+
+    @Test
+    public void importFile_invalidAndDuplicateCustomers_reported() throws Exception {
+        Path csvFile = writeCsv("name,phone,email,address",
+                "Zed Lim,91234567,zed@example.com,1 Zed Road",
+                "Bad Phone,abc,bad@example.com,1 Bad Road",
+                ALICE.getName().fullName + ",94351253,alice@example.com,123 Jurong",
+                "Zed Lim,91234567,zed@example.com,1 Zed Road",
+                "Too,Few");
+
+        CsvImporter.Result result = importFile(csvFile, CsvImporter.DEFAULT_BATCH_SIZE);
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(4, result.getRejectedCount());
+        assertEquals(5, result.getRowCount());
+        List<String> report = Files.readAllLines(CsvImporter.getErrorReportPath(csvFile));
+        assertEquals(List.of("line,error,name,phone,email,address",
+                "3,\"" + Phone.MESSAGE_CONSTRAINTS + "\",Bad Phone,abc,bad@example.com,1 Bad Road",
+                "4," + CsvImporter.MESSAGE_DUPLICATE_CUSTOMER + ",Alice Pauline,94351253,alice@example.com,"
+                        + "123 Jurong",
+                "5," + CsvImporter.MESSAGE_DUPLICATE_CUSTOMER + ",Zed Lim,91234567,zed@example.com,1 Zed Road",
+                "6," + String.format(CsvImporter.MESSAGE_WRONG_FIELD_COUNT, 2, 4) + ",Too,Few"),
+                report);
+    }
+
+    @Test
+    public void importFile_orders_addedToNamedCustomers() throws Exception {
+        Customer zed = new CustomerBuilder().withName("Zed Lim").withAddress("1 Zed Road").build();
+        model.addCustomer(zed);
+        Path csvFile = writeCsv("customer,name,quantity,address",
+                "Zed Lim,Chocolate Cake,3,",
+                "Zed Lim,Chocolate Cake,3,",
+                "Nobody,Chocolate Cake,1,",
+                ALICE.getName().fullName + ",Lemon Tart,,9 Bishan Rd");
+
+        CsvImporter.Result result = importFile(csvFile, CsvImporter.DEFAULT_BATCH_SIZE);
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(2, result.getRejectedCount());
+        assertEquals(1, commitCount);
+        Order cake = model.findOrdersByName(List.of("Chocolate"), false, 10).get(0);
+        assertEquals(zed, cake.getCustomer());
+        assertEquals(zed.getAddress(), cake.getAddress());
+        Order tart = model.findOrdersByName(List.of("Tart"), false, 10).get(0);
+        assertEquals(new Quantity(1), tart.getQuantity());
+        assertEquals(new Name("Lemon Tart"), tart.getName());
+
+        String report = Files.readString(CsvImporter.getErrorReportPath(csvFile));
+        assertTrue(report.contains("3," + CsvImporter.MESSAGE_DUPLICATE_ORDER));
+        assertTrue(report.contains("4," + String.format(CsvImporter.MESSAGE_UNKNOWN_CUSTOMER, "Nobody")));
+    }
+
+    @Test
+    public void importFile_missingColumn_throwsCommandException() throws IOException {
+        Path csvFile = writeCsv("name,phone,email", "Zed Lim,91234567,zed@example.com");
+        assertThrows(CommandException.class, String.format(CsvImporter.MESSAGE_MISSING_COLUMNS, "address"), () ->
+                importFile(csvFile, CsvImporter.DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    public void importFile_emptyFile_throwsCommandException() throws IOException {
+        Path csvFile = writeCsv();
+        assertThrows(CommandException.class, CsvImporter.MESSAGE_EMPTY_FILE, () ->
+                importFile(csvFile, CsvImporter.DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    public void constructor_nonPositiveBatchSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvImporter(model, Runnable::run, 0));
+    }
+
+    private CsvImporter.Result importFile(Path csvFile, int batchSize) throws IOException, CommandException {
+        return new CsvImporter(model, changes -> {
+            commitCount++;
+            changes.run();
+        }, batchSize).importFile(csvFile);
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path csvFile = tempDir.resolve("import.csv");
+        Files.write(csvFile, List.of(lines), StandardCharsets.UTF_8);
+        return csvFile;
+    }
+}
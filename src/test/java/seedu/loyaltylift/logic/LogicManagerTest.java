@@ -7,20 +7,37 @@ import static seedu.loyaltylift.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.loyaltylift.testutil.Assert.assertThrows;
 import static seedu.loyaltylift.testutil.TypicalCustomers.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.loyaltylift.logic.commands.AddCustomerCommand;
+import seedu.loyaltylift.logic.commands.AddPointsCommand;
 import seedu.loyaltylift.logic.commands.CommandResult;
 import seedu.loyaltylift.logic.commands.DeleteCustomerCommand;
+import seedu.loyaltylift.logic.commands.ImportCommand;
 import seedu.loyaltylift.logic.commands.ListCustomerCommand;
+import seedu.loyaltylift.logic.commands.SetPointsCommand;
+import seedu.loyaltylift.logic.commands.SetPointsExpiryCommand;
+import seedu.loyaltylift.logic.commands.UndoCommand;
 import seedu.loyaltylift.logic.commands.exceptions.CommandException;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
 import seedu.loyaltylift.model.Model;
@@ -28,7 +45,9 @@ import seedu.loyaltylift.model.ModelManager;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.UserPrefs;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.points.PointsLedger;
 import seedu.loyaltylift.storage.JsonAddressBookStorage;
+import seedu.loyaltylift.storage.JsonPointsLedgerStorage;
 import seedu.loyaltylift.storage.JsonUserPrefsStorage;
 import seedu.loyaltylift.storage.StorageManager;
 import seedu.loyaltylift.testutil.CustomerBuilder;
@@ -47,7 +66,9 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        JsonPointsLedgerStorage pointsLedgerStorage =
+                new JsonPointsLedgerStorage(temporaryFolder.resolve("pointsLedger.jsonl"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, pointsLedgerStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -77,7 +98,9 @@ public class LogicManagerTest {
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        JsonPointsLedgerStorage pointsLedgerStorage =
+                new JsonPointsLedgerStorage(temporaryFolder.resolve("ioExceptionPointsLedger.jsonl"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, pointsLedgerStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -90,6 +113,123 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_pointsCommand_appendsPointsLedger() throws Exception {
+        model.addCustomer(new CustomerBuilder(AMY).build());
+        logic.execute(AddPointsCommand.COMMAND_WORD + " 1 " + PREFIX_POINTS + "100");
+        logic.execute(SetPointsCommand.COMMAND_WORD + " 1 " + PREFIX_POINTS + "50");
+
+        PointsLedger savedPointsLedger = new JsonPointsLedgerStorage(temporaryFolder.resolve("pointsLedger.jsonl"))
+                .readPointsLedger().get();
+        assertEquals(model.getPointsLedger().getEntries(), savedPointsLedger.getEntries());
+        assertEquals(2, savedPointsLedger.getEntries().size());
+    }
+
+    @Test
+    public void execute_userPrefsCommand_savesUserPrefs() throws Exception {
+        logic.execute(SetPointsExpiryCommand.COMMAND_WORD + " 365");
+
+        UserPrefs savedUserPrefs = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))
+                .readUserPrefs().get();
+        assertEquals(365, savedUserPrefs.getPointsExpiryDays());
+    }
+
+    @Test
+    public void execute_importCommand_savesImportedCustomers() throws Exception {
+        Path csvFile = temporaryFolder.resolve("customers.csv");
+        Files.write(csvFile, List.of("name,phone,email,address", "Zed Lim,91234567,zed@example.com,1 Zed Road"));
+        logic.execute(ImportCommand.COMMAND_WORD + " " + csvFile);
+
+        ReadOnlyAddressBook savedAddressBook = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(1, savedAddressBook.getCustomerList().size());
+        assertEquals(model.getAddressBook().getCustomerList(), savedAddressBook.getCustomerList());
+
+        // a batch of imported rows is undone as one change
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getCustomerList().size());
+    }
+
+    @Test
+    public void execute_concurrentClients_changesAppliedOneAtATimeOnWriter() throws Exception {
+        model.addCustomer(new CustomerBuilder(AMY).withPoints(0, 0).build());
+        int initialLedgerSize = model.getPointsLedger().getEntries().size();
+        List<String> errors = new CopyOnWriteArrayList<>();
+        logic.execute(ListCustomerCommand.COMMAND_WORD);
+        logic.getFilteredCustomerList().addListener((ListChangeListener<Customer>) change -> {
+            if (!Thread.currentThread().getName().equals(LogicManager.WRITER_THREAD_NAME)) {
+                errors.add("Filtered list changed on " + Thread.currentThread().getName());
+            }
+        });
+
+        int clientCount = 4;
+        int commandsPerClient = 25;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isDone = new AtomicBoolean(false);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                for (int j = 0; j < commandsPerClient; j++) {
+                    logic.execute(AddPointsCommand.COMMAND_WORD + " 1 " + PREFIX_POINTS + "1");
+                }
+                return null;
+            }));
+        }
+
+        // a reader sees the points only ever increase, one command at a time
+        Future<?> reader = clients.submit(() -> {
+            start.await();
+            int lastPoints = 0;
+            while (!isDone.get()) {
+                for (Customer customer : logic.getAddressBookSnapshot().getCustomers()) {
+                    int points = customer.getPoints().value;
+                    if (points < lastPoints) {
+                        errors.add("Points went from " + lastPoints + " to " + points);
+                    }
+                    lastPoints = points;
+                }
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        isDone.set(true);
+        reader.get();
+        clients.shutdown();
+
+        assertEquals(List.of(), errors);
+        int expectedPoints = clientCount * commandsPerClient;
+        assertEquals(expectedPoints, (int) model.getFilteredCustomerList().get(0).getPoints().value);
+        assertEquals(expectedPoints, (int) logic.getAddressBookSnapshot().getCustomers().get(0).getPoints().value);
+        assertEquals(initialLedgerSize + expectedPoints, model.getPointsLedger().getEntries().size());
+    }
+
+    @Test
+    public void previewFind() {
+        model.addCustomer(new CustomerBuilder().withName("Alice Pauline").build());
+        model.addCustomer(new CustomerBuilder().withName("Alan Tan").withPhone("91234567")
+                .withEmail("alan@example.com").build());
+
+        // last keyword still being typed
+        assertEquals(List.of("Alan Tan", "Alice Pauline"), logic.previewFind("  findc al", 10));
+        assertEquals(List.of("Alan Tan"), logic.previewFind("findc al", 1));
+
+        // last keyword typed in full
+        assertEquals(List.of(), logic.previewFind("findc al ", 10));
+        assertEquals(List.of("Alan Tan", "Alice Pauline"), logic.previewFind("findc tan alice ", 10));
+
+        // not a find command with keywords
+        assertEquals(List.of(), logic.previewFind("findc ", 10));
+        assertEquals(List.of(), logic.previewFind("listc al", 10));
+        assertEquals(List.of(), logic.previewFind("", 10));
+        assertEquals(List.of(), logic.previewFind("findo al", 10));
+    }
+
     @Test
     public void getFilteredCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCustomerList().remove(0));
@@ -0,0 +1,67 @@
+package seedu.loyaltylift.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.exceptions.CommandException;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+
+public class SingleWriterExecutorTest {
+
+    private static final String WRITER_THREAD_NAME = "test writer";
+
+    private final SingleWriterExecutor executor = SingleWriterExecutor.withNewThread(WRITER_THREAD_NAME);
+
+    @Test
+    public void run_fromOtherThread_runsOnWriterThread() throws Exception {
+        assertEquals(WRITER_THREAD_NAME, executor.run(() -> Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void run_fromWriterThread_runsImmediately() throws Exception {
+        assertEquals(WRITER_THREAD_NAME, executor.run(() -> executor.run(() -> Thread.currentThread().getName())));
+    }
+
+    @Test
+    public void run_taskThrows_rethrowsToCaller() {
+        assertThrows(CommandException.class, "command", () -> executor.run(() -> {
+            throw new CommandException("command");
+        }));
+        assertThrows(ParseException.class, "parse", () -> executor.run(() -> {
+            throw new ParseException("parse");
+        }));
+        assertThrows(IllegalArgumentException.class, "runtime", () -> executor.run(() -> {
+            throw new IllegalArgumentException("runtime");
+        }));
+    }
+
+    @Test
+    public void run_concurrentCallers_tasksRunOneAtATime() throws Exception {
+        int[] counter = new int[1];
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    // not atomic, so increments would be lost if tasks ran at the same time
+                    executor.run(() -> counter[0]++);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        callers.shutdown();
+
+        assertEquals(4000, (int) executor.run(() -> counter[0]));
+    }
+}
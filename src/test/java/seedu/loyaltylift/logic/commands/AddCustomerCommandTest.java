@@ -7,22 +7,38 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.logic.commands.exceptions.CommandException;
 import seedu.loyaltylift.model.AddressBook;
+import seedu.loyaltylift.model.DashboardStatistics;
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.ReadOnlyUserPrefs;
+import seedu.loyaltylift.model.attribute.NoteMatch;
+import seedu.loyaltylift.model.attribute.NoteQuery;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.event.ModelChangeBus;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.StatusValue;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+import seedu.loyaltylift.model.points.ReadOnlyPointsLedger;
 import seedu.loyaltylift.testutil.CustomerBuilder;
 
 public class AddCustomerCommandTest {
@@ -112,16 +128,46 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TierDefinitions getTierDefinitions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int setTierDefinitions(TierDefinitions tierDefinitions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableValue<TierDefinitions> getObservableTierDefinitions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addCustomer(Customer customer) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addCustomers(List<Customer> customers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Customer> findCustomer(String customerUid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addOrder(Order order) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addOrders(List<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -132,6 +178,11 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCustomer(Customer customer) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +198,71 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getPointsExpiryDays() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPointsExpiryDays(int pointsExpiryDays) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int expirePoints(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelChangeBus getChangeBus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AccrualRules getAccrualRules() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAccrualRules(AccrualRules accrualRules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int applyPendingAccruals() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordPointsChange(Customer target, Customer editedCustomer, Reason reason) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyPointsLedger getPointsLedger() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCustomerToDisplay(Customer customer) {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +273,21 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Customer> findCustomersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeCustomerName(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<NoteMatch<Customer>> findCustomerNotes(NoteQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Customer> getFilteredCustomerList() {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +298,21 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredCustomerList(CustomerSegment segment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredCustomerListToTop(int count, int minPoints, int maxPoints) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getCustomerRank(Customer customer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredCustomerList(Comparator<Customer> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -207,11 +353,41 @@ public class AddCustomerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredOrderList(OrderQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableMap<StatusValue, Integer> getOrderStatusCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DashboardStatistics getDashboardStatistics(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredOrderList(Comparator<Order> comparator) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Order> findOrdersByName(List<String> keywords, boolean isLastKeywordPrefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeOrderName(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<NoteMatch<Order>> findOrderNotes(NoteQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Order> getFilteredCustomerOrderList() {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package seedu.loyaltylift.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.VALID_POINTS_ADD;
@@ -15,6 +16,9 @@ import seedu.loyaltylift.commons.core.index.Index;
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ModelManager;
 import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
 
 public class AddPointsCommandTest {
 
@@ -31,6 +35,19 @@ public class AddPointsCommandTest {
                 null));
     }
 
+    @Test
+    public void execute_validIndex_recordsPointsInLedger() throws Exception {
+        Customer customer = model.getFilteredCustomerList().get(INDEX_FIRST.getZeroBased());
+        new AddPointsCommand(INDEX_FIRST, VALID_POINTS_ADD).execute(model);
+
+        Customer editedCustomer = model.getFilteredCustomerList().get(INDEX_FIRST.getZeroBased());
+        PointsLedgerEntry entry = model.getPointsLedger().getEntries().get(0);
+        assertEquals(customer.getUid(), entry.getCustomerUid());
+        assertEquals((int) VALID_POINTS_ADD, entry.getDelta());
+        assertEquals(Reason.ADD_POINTS, entry.getReason());
+        assertEquals(editedCustomer.getPoints(), model.getPointsLedger().getBalance(customer.getUid()));
+    }
+
     @Test
     public void equals() {
         final AddPointsCommand standardCommand = new AddPointsCommand(INDEX_FIRST, VALID_POINTS_ADD);
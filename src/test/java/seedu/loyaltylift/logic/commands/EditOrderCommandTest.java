@@ -1,5 +1,6 @@
 package seedu.loyaltylift.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_AND_SHOW_ORDER;
@@ -14,6 +15,7 @@ import static seedu.loyaltylift.logic.commands.CommandTestUtil.showOrderAtIndex;
 import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,7 +25,11 @@ import seedu.loyaltylift.model.AddressBook;
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ModelManager;
 import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.testutil.AddressBookBuilder;
 import seedu.loyaltylift.testutil.EditOrderDescriptorBuilder;
 import seedu.loyaltylift.testutil.OrderBuilder;
 
@@ -113,6 +119,32 @@ public class EditOrderCommandTest {
         assertCommandFailure(editOrderCommand, model, Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_creditedOrderEditedThenRecompleted_creditedOnce() {
+        Order shippedOrder = ORDER_A.advance();
+        Model model = new ModelManager(new AddressBookBuilder().withCustomer(ORDER_A.getCustomer())
+                .withOrder(shippedOrder).build(), new UserPrefs());
+        model.setAccrualRules(AccrualRules.NONE.withPointsPerUnit(CustomerType.INDIVIDUAL, 10)
+                .withPointsPerUnit(CustomerType.ENTERPRISE, 10));
+        Order completedOrder = shippedOrder.advance();
+        model.setOrder(shippedOrder, completedOrder);
+        assertEquals(1, model.applyPendingAccruals());
+        Points creditedPoints = model.getPointsLedger().getBalance(ORDER_A.getCustomer().getUid());
+
+        EditOrderCommand editQuantityCommand = new EditOrderCommand(INDEX_FIRST,
+                new EditOrderDescriptorBuilder().withQuantity("10").build());
+        assertCommandFailure(editQuantityCommand, model, EditOrderCommand.MESSAGE_CREDITED_ORDER);
+
+        // reverted orders are still credited, so they cannot be edited either
+        Order revertedOrder = completedOrder.revert();
+        model.setOrder(completedOrder, revertedOrder);
+        assertCommandFailure(editQuantityCommand, model, EditOrderCommand.MESSAGE_CREDITED_ORDER);
+
+        model.setOrder(revertedOrder, revertedOrder.advance());
+        assertEquals(0, model.applyPendingAccruals());
+        assertEquals(creditedPoints, model.getPointsLedger().getBalance(ORDER_A.getCustomer().getUid()));
+    }
+
     @Test
     public void equals() {
         final EditOrderCommand standardCommand = new EditOrderCommand(INDEX_FIRST, DESC_ORDER_A);
@@ -0,0 +1,98 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_ORDERS_ONLY;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.attribute.NoteQuery;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+import seedu.loyaltylift.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindNoteCommand}.
+ */
+public class FindNoteCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        FindNoteCommand findFirstCommand = new FindNoteCommand(new NoteQuery(Collections.singletonList("first")));
+        FindNoteCommand findSecondCommand = new FindNoteCommand(new NoteQuery(Collections.singletonList("second")));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindNoteCommand(new NoteQuery(Collections.singletonList("First")))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingNotes_noEntityFound() {
+        FindNoteCommand command = new FindNoteCommand(new NoteQuery(Collections.singletonList("birthday")));
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(FindNoteCommand.MESSAGE_NOTES_FOUND, 0, 0), LIST_CUSTOMERS_ONLY);
+
+        assertEquals(expectedCommandResult, command.execute(model));
+        assertEquals(Collections.emptyList(), model.getFilteredCustomerList());
+        assertEquals(Collections.emptyList(), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_matchingCustomerNote_customerFound() {
+        Customer aliceWithNote = new CustomerBuilder(ALICE).withNote("Birthday on 1 May").build();
+        model.setCustomer(ALICE, aliceWithNote);
+
+        FindNoteCommand command = new FindNoteCommand(new NoteQuery(Collections.singletonList("birthday")));
+        String expectedMessage = String.format(FindNoteCommand.MESSAGE_NOTES_FOUND, 1, 0)
+                + String.format(FindNoteCommand.MESSAGE_CUSTOMER_SNIPPET, aliceWithNote.getName(),
+                        "[Birthday] on 1 May");
+
+        assertEquals(new CommandResult(expectedMessage, LIST_CUSTOMERS_ONLY), command.execute(model));
+        assertEquals(Arrays.asList(aliceWithNote), model.getFilteredCustomerList());
+    }
+
+    @Test
+    public void execute_matchingOrderNote_orderFound() {
+        Order orderWithNote = new OrderBuilder(ORDER_A).withNote("Deliver before noon").build();
+        model.setOrder(ORDER_A, orderWithNote);
+
+        FindNoteCommand command = new FindNoteCommand(new NoteQuery(Collections.singletonList("before noon")));
+        String expectedMessage = String.format(FindNoteCommand.MESSAGE_NOTES_FOUND, 0, 1)
+                + String.format(FindNoteCommand.MESSAGE_ORDER_SNIPPET, orderWithNote.getName(),
+                        orderWithNote.getCustomer().getName(), "Deliver [before noon]");
+
+        assertEquals(new CommandResult(expectedMessage, LIST_ORDERS_ONLY), command.execute(model));
+        assertEquals(Arrays.asList(orderWithNote), model.getFilteredOrderList());
+    }
+}
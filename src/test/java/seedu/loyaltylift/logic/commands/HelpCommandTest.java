@@ -1,20 +1,43 @@
 package seedu.loyaltylift.logic.commands;
 
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.logic.commands.HelpCommand.MESSAGE_ALIASES;
+import static seedu.loyaltylift.logic.commands.HelpCommand.MESSAGE_COMMANDS;
 import static seedu.loyaltylift.logic.commands.HelpCommand.SHOWING_HELP_MESSAGE;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.loyaltylift.logic.parser.CommandRegistry;
+import seedu.loyaltylift.model.AddressBook;
 import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
 
 public class HelpCommandTest {
+    private static final String COMMANDS_MESSAGE =
+            String.format(MESSAGE_COMMANDS, String.join(", ", CommandRegistry.getCommandWords()));
+
     private Model model = new ModelManager();
     private Model expectedModel = new ModelManager();
 
     @Test
     public void execute_help_success() {
-        CommandResult expectedCommandResult = new CommandResult(SHOWING_HELP_MESSAGE, true, false);
+        CommandResult expectedCommandResult =
+                new CommandResult(SHOWING_HELP_MESSAGE + "\n" + COMMANDS_MESSAGE, true, false);
+        assertCommandSuccess(new HelpCommand(), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_helpWithAliases_listsAliases() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCommandAliases(Map.of("lo", "listo", "ls", "listc"));
+        model = new ModelManager(new AddressBook(), userPrefs);
+        expectedModel = new ModelManager(new AddressBook(), userPrefs);
+
+        CommandResult expectedCommandResult = new CommandResult(SHOWING_HELP_MESSAGE + "\n" + COMMANDS_MESSAGE
+                + "\n" + String.format(MESSAGE_ALIASES, "lo (listo), ls (listc)"), true, false);
         assertCommandSuccess(new HelpCommand(), model, expectedCommandResult, expectedModel);
     }
 }
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.showCustomerAtIndex;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
 
@@ -16,8 +15,8 @@ import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ModelManager;
 import seedu.loyaltylift.model.UserPrefs;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
 import seedu.loyaltylift.model.customer.CustomerType;
-import seedu.loyaltylift.model.customer.CustomerTypePredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCustomerCommand.
@@ -37,19 +36,19 @@ public class ListCustomerCommandTest {
     public void equals() {
         ListCustomerCommand listCommand = new ListCustomerCommand();
         ListCustomerCommand listSortPointsCommand = new ListCustomerCommand(
-                Customer.SORT_POINTS, PREDICATE_SHOW_ALL_CUSTOMERS);
+                Customer.SORT_POINTS, CustomerSegment.ALL);
         ListCustomerCommand listSortNameIndividualCommand = new ListCustomerCommand(
-                Customer.SORT_NAME, new CustomerTypePredicate(CustomerType.INDIVIDUAL));
+                Customer.SORT_NAME, CustomerSegment.ofType(CustomerType.INDIVIDUAL));
 
         // same object -> returns true
         assertTrue(listCommand.equals(listCommand));
 
-        // same comparator and predicate -> returns true
+        // same comparator and segment -> returns true
         ListCustomerCommand listCommandCopy = new ListCustomerCommand();
         assertTrue(listCommand.equals(listCommandCopy));
 
         ListCustomerCommand listSortNameIndividualCommandCopy = new ListCustomerCommand(
-                Customer.SORT_NAME, new CustomerTypePredicate(CustomerType.INDIVIDUAL));
+                Customer.SORT_NAME, CustomerSegment.ofType(CustomerType.INDIVIDUAL));
         assertTrue(listSortNameIndividualCommand.equals(listSortNameIndividualCommandCopy));
 
         // different types -> returns false
@@ -61,7 +60,7 @@ public class ListCustomerCommandTest {
         // different comparator -> returns false
         assertFalse(listCommand.equals(listSortPointsCommand));
 
-        // different predicate -> returns false
+        // different segment -> returns false
         assertFalse(listCommand.equals(listSortNameIndividualCommand));
     }
 
@@ -79,4 +78,15 @@ public class ListCustomerCommandTest {
                 ListCustomerCommand.MESSAGE_SUCCESS, LIST_CUSTOMERS_ONLY);
         assertCommandSuccess(new ListCustomerCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_segment_showsCustomersInSegment() {
+        CustomerSegment segment = CustomerSegment.ofType(CustomerType.ENTERPRISE).or(CustomerSegment.MARKED).not();
+        expectedModel.updateFilteredCustomerList(customer -> customer.getCustomerType() == CustomerType.INDIVIDUAL
+                && !customer.getMarked().value);
+        CommandResult expectedCommandResult = new CommandResult(
+                ListCustomerCommand.MESSAGE_SUCCESS, LIST_CUSTOMERS_ONLY);
+        assertCommandSuccess(new ListCustomerCommand(Customer.SORT_NAME, segment), model, expectedCommandResult,
+                expectedModel);
+    }
 }
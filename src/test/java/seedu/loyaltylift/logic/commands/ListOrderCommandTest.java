@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_ORDERS_ONLY;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.loyaltylift.logic.commands.CommandTestUtil.showOrderAtIndex;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
 
@@ -16,7 +15,7 @@ import seedu.loyaltylift.model.Model;
 import seedu.loyaltylift.model.ModelManager;
 import seedu.loyaltylift.model.UserPrefs;
 import seedu.loyaltylift.model.order.Order;
-import seedu.loyaltylift.model.order.OrderStatusPredicate;
+import seedu.loyaltylift.model.order.OrderQuery;
 import seedu.loyaltylift.model.order.StatusValue;
 
 /**
@@ -37,9 +36,9 @@ public class ListOrderCommandTest {
     public void equals() {
         ListOrderCommand listCommand = new ListOrderCommand();
         ListOrderCommand listSortStatusCommand = new ListOrderCommand(
-                Order.SORT_STATUS, PREDICATE_SHOW_ALL_ORDERS);
+                Order.SORT_STATUS, OrderQuery.ALL);
         ListOrderCommand listSortCreatedDatePendingCommand = new ListOrderCommand(
-                Order.SORT_CREATED_DATE, new OrderStatusPredicate(StatusValue.PENDING));
+                Order.SORT_CREATED_DATE, OrderQuery.ALL.withStatus(StatusValue.PENDING));
 
         // same object -> returns true
         assertTrue(listCommand.equals(listCommand));
@@ -49,7 +48,7 @@ public class ListOrderCommandTest {
         assertTrue(listCommand.equals(listCommandCopy));
 
         ListOrderCommand listSortCreatedDatePendingCommandCopy = new ListOrderCommand(
-                Order.SORT_CREATED_DATE, new OrderStatusPredicate(StatusValue.PENDING));
+                Order.SORT_CREATED_DATE, OrderQuery.ALL.withStatus(StatusValue.PENDING));
         assertTrue(listSortCreatedDatePendingCommand.equals(listSortCreatedDatePendingCommandCopy));
 
         // different types -> returns false
@@ -61,7 +60,7 @@ public class ListOrderCommandTest {
         // different comparator -> returns false
         assertFalse(listCommand.equals(listSortStatusCommand));
 
-        // different predicate -> returns false
+        // different query -> returns false
         assertFalse(listCommand.equals(listSortCreatedDatePendingCommand));
     }
 
@@ -79,4 +78,15 @@ public class ListOrderCommandTest {
                 ListOrderCommand.MESSAGE_SUCCESS, LIST_ORDERS_ONLY);
         assertCommandSuccess(new ListOrderCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_statusQuery_showsOrdersWithStatus() {
+        expectedModel.updateFilteredOrderList(order ->
+                order.getStatus().getLatestStatus().getStatusValue() == StatusValue.PENDING);
+        CommandResult expectedCommandResult = new CommandResult(
+                ListOrderCommand.MESSAGE_SUCCESS, LIST_ORDERS_ONLY);
+        ListOrderCommand command = new ListOrderCommand(
+                Order.SORT_CREATED_DATE, OrderQuery.ALL.withStatus(StatusValue.PENDING));
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+    }
 }
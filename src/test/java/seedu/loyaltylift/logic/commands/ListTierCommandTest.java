@@ -0,0 +1,36 @@
+package seedu.loyaltylift.logic.commands;
+
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for ListTierCommand.
+ */
+public class ListTierCommandTest {
+
+    @Test
+    public void execute_typicalAddressBook_showsTiers() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Customer silverAlice = new CustomerBuilder(ALICE).withPoints(700, 6000).build();
+        model.setCustomer(ALICE, silverAlice);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = ListTierCommand.MESSAGE_SUCCESS
+                + String.format(ListTierCommand.MESSAGE_TIER, Tier.GOLD, 0, 0, 0, 0)
+                + String.format(ListTierCommand.MESSAGE_TIER, Tier.SILVER, 1, 1, 0, 700)
+                + String.format(ListTierCommand.MESSAGE_TIER, Tier.BRONZE, 0, 0, 0, 0)
+                + String.format(ListTierCommand.MESSAGE_TIER, Tier.NONE, 8, 6, 2, 0)
+                + String.format(ListTierCommand.MESSAGE_TOTAL, 9, 700);
+        assertCommandSuccess(new ListTierCommand(), model, expectedMessage, expectedModel);
+    }
+}
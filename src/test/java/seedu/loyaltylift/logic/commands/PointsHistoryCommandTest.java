@@ -0,0 +1,95 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_SECOND;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.commons.core.index.Index;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.Points;
+
+public class PointsHistoryCommandTest {
+
+    private static final LocalDate PAST_DATE = LocalDate.of(2000, 1, 1);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noHistory_success() {
+        Customer customer = model.getFilteredCustomerList().get(INDEX_FIRST.getZeroBased());
+        String expectedMessage = String.format(PointsHistoryCommand.MESSAGE_NO_HISTORY, customer.getName());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new PointsHistoryCommand(INDEX_FIRST, null), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_withHistory_showsBalanceAndLatestChanges() throws Exception {
+        new AddPointsCommand(INDEX_FIRST, 100).execute(model);
+        new SetPointsCommand(INDEX_FIRST, new Points(30, 100)).execute(model);
+        Customer customer = model.getFilteredCustomerList().get(INDEX_FIRST.getZeroBased());
+
+        String feedback = new PointsHistoryCommand(INDEX_FIRST, null).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+        assertEquals(String.format(PointsHistoryCommand.MESSAGE_SUCCESS, customer.getName(), "now",
+                new Points(30, 100)), lines[0]);
+        assertEquals(3, lines.length);
+        // latest change first
+        assertTrue(lines[1].endsWith("setpoints"));
+        assertTrue(lines[2].endsWith("addpoints"));
+    }
+
+    @Test
+    public void execute_beforeHistory_showsNoPoints() throws Exception {
+        new AddPointsCommand(INDEX_FIRST, 100).execute(model);
+        Customer customer = model.getFilteredCustomerList().get(INDEX_FIRST.getZeroBased());
+
+        String expectedMessage = String.format(PointsHistoryCommand.MESSAGE_SUCCESS, customer.getName(),
+                "2000/01/01", new Points(0, 0));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new PointsHistoryCommand(INDEX_FIRST, PAST_DATE), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredCustomerList().size() + 1);
+        assertCommandFailure(new PointsHistoryCommand(outOfBoundIndex, null), model,
+                String.format(MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX, PointsHistoryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void equals() {
+        PointsHistoryCommand standardCommand = new PointsHistoryCommand(INDEX_FIRST, PAST_DATE);
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new PointsHistoryCommand(INDEX_FIRST, PAST_DATE)));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different index -> returns false
+        assertFalse(standardCommand.equals(new PointsHistoryCommand(INDEX_SECOND, PAST_DATE)));
+
+        // different date -> returns false
+        assertFalse(standardCommand.equals(new PointsHistoryCommand(INDEX_FIRST, null)));
+    }
+}
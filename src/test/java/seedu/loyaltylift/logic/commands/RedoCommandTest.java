@@ -0,0 +1,41 @@
+package seedu.loyaltylift.logic.commands;
+
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_AND_SHOW_CUSTOMER;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneEdit_redoesEditAndDisplay() {
+        Customer editedAlice = new CustomerBuilder(ALICE).withEmail("alice@example.org").build();
+        // the display after a change is recorded at the end of its batch, as for a command
+        model.getChangeBus().beginBatch();
+        model.setCustomer(ALICE, editedAlice);
+        model.setCustomerToDisplay(editedAlice);
+        model.getChangeBus().endBatch();
+        model.undo();
+        expectedModel.setCustomer(ALICE, editedAlice);
+
+        assertCommandSuccess(new RedoCommand(), model,
+                new CommandResult(RedoCommand.MESSAGE_SUCCESS, LIST_AND_SHOW_CUSTOMER), expectedModel);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.points.AccrualRules;
+
+/**
+ * Contains integration tests (interaction with the Model) for SetAccrualCommand.
+ */
+public class SetAccrualCommandTest {
+
+    @Test
+    public void execute_pointsPerUnit_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAccrualRules(AccrualRules.NONE.withPointsPerUnit(CustomerType.ENTERPRISE, 2));
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        AccrualRules expectedRules = AccrualRules.NONE
+                .withPointsPerUnit(CustomerType.ENTERPRISE, 2)
+                .withPointsPerUnit(CustomerType.INDIVIDUAL, 10);
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setAccrualRules(expectedRules);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), expectedUserPrefs);
+
+        String expectedMessage = String.format(SetAccrualCommand.MESSAGE_SUCCESS, CustomerType.INDIVIDUAL, 10,
+                expectedRules);
+        assertCommandSuccess(new SetAccrualCommand(CustomerType.INDIVIDUAL, 10), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SetAccrualCommand setIndividualCommand = new SetAccrualCommand(CustomerType.INDIVIDUAL, 10);
+
+        // same object -> returns true
+        assertTrue(setIndividualCommand.equals(setIndividualCommand));
+
+        // same values -> returns true
+        assertTrue(setIndividualCommand.equals(new SetAccrualCommand(CustomerType.INDIVIDUAL, 10)));
+
+        // different types -> returns false
+        assertFalse(setIndividualCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(setIndividualCommand.equals(null));
+
+        // different customer type -> returns false
+        assertFalse(setIndividualCommand.equals(new SetAccrualCommand(CustomerType.ENTERPRISE, 10)));
+
+        // different points per unit -> returns false
+        assertFalse(setIndividualCommand.equals(new SetAccrualCommand(CustomerType.INDIVIDUAL, 5)));
+    }
+}
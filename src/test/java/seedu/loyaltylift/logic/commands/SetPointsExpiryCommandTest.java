@@ -0,0 +1,64 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.points.PointsExpirySchedule;
+
+/**
+ * Contains integration tests (interaction with the Model) for SetPointsExpiryCommand.
+ */
+public class SetPointsExpiryCommandTest {
+
+    @Test
+    public void execute_expiryDays_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setPointsExpiryDays(365);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), expectedUserPrefs);
+
+        String expectedMessage = String.format(SetPointsExpiryCommand.MESSAGE_SUCCESS, 365, 0);
+        assertCommandSuccess(new SetPointsExpiryCommand(365), model, expectedMessage, expectedModel);
+        assertEquals(365, model.getPointsExpiryDays());
+    }
+
+    @Test
+    public void execute_noExpiry_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPointsExpiryDays(30);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new SetPointsExpiryCommand(PointsExpirySchedule.NO_EXPIRY), model,
+                SetPointsExpiryCommand.MESSAGE_SUCCESS_NO_EXPIRY, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SetPointsExpiryCommand setYearCommand = new SetPointsExpiryCommand(365);
+        SetPointsExpiryCommand setMonthCommand = new SetPointsExpiryCommand(30);
+
+        // same object -> returns true
+        assertTrue(setYearCommand.equals(setYearCommand));
+
+        // same values -> returns true
+        assertTrue(setYearCommand.equals(new SetPointsExpiryCommand(365)));
+
+        // different types -> returns false
+        assertFalse(setYearCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(setYearCommand.equals(null));
+
+        // different days -> returns false
+        assertFalse(setYearCommand.equals(setMonthCommand));
+    }
+}
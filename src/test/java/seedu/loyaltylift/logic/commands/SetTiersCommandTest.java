@@ -0,0 +1,68 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for SetTiersCommand.
+ */
+public class SetTiersCommandTest {
+
+    private static final TierDefinitions RUBY_TIERS = new TierDefinitions(List.of(new Tier("Ruby", 2000)));
+
+    @Test
+    public void execute_newTiers_customersRetiered() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Customer silverAlice = new CustomerBuilder(ALICE).withPoints(700, 6000).build();
+        Customer bronzeBenson = new CustomerBuilder(BENSON).withPoints(100, 1500).build();
+        model.setCustomer(ALICE, silverAlice);
+        model.setCustomer(BENSON, bronzeBenson);
+
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setTierDefinitions(RUBY_TIERS);
+        Model expectedModel = new ModelManager(model.getAddressBook(), expectedUserPrefs);
+
+        String expectedMessage = String.format(SetTiersCommand.MESSAGE_SUCCESS, RUBY_TIERS, 2);
+        assertCommandSuccess(new SetTiersCommand(RUBY_TIERS), model, expectedMessage, expectedModel);
+        assertEquals(1, model.getAddressBook().getLoyaltyTierAggregate().getCount(new Tier("Ruby", 2000)));
+        assertEquals(8, model.getAddressBook().getLoyaltyTierAggregate().getCount(Tier.NONE));
+    }
+
+    @Test
+    public void equals() {
+        SetTiersCommand setRubyCommand = new SetTiersCommand(RUBY_TIERS);
+        SetTiersCommand setDefaultCommand = new SetTiersCommand(TierDefinitions.DEFAULT);
+
+        // same object -> returns true
+        assertTrue(setRubyCommand.equals(setRubyCommand));
+
+        // same values -> returns true
+        assertTrue(setRubyCommand.equals(new SetTiersCommand(new TierDefinitions(List.of(new Tier("ruby", 2000))))));
+
+        // different types -> returns false
+        assertFalse(setRubyCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(setRubyCommand.equals(null));
+
+        // different tiers -> returns false
+        assertFalse(setRubyCommand.equals(setDefaultCommand));
+    }
+}
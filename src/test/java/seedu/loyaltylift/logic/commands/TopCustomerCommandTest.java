@@ -0,0 +1,83 @@
+package seedu.loyaltylift.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_CUSTOMERS_ONLY;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.FIONA;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for TopCustomerCommand.
+ */
+public class TopCustomerCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        TopCustomerCommand topCommand = new TopCustomerCommand(5);
+
+        // same object -> returns true
+        assertTrue(topCommand.equals(topCommand));
+
+        // same values -> returns true
+        assertTrue(topCommand.equals(new TopCustomerCommand(5)));
+
+        // different types -> returns false
+        assertFalse(topCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(topCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(topCommand.equals(new TopCustomerCommand(6)));
+
+        // different points range -> returns false
+        assertFalse(topCommand.equals(new TopCustomerCommand(5, 1, 10)));
+    }
+
+    @Test
+    public void execute_equalPoints_topCustomersByName() {
+        Set<Customer> topCustomers = Set.of(ALICE, BENSON, CARL);
+        expectedModel.sortFilteredCustomerList(Customer.SORT_POINTS);
+        expectedModel.updateFilteredCustomerList(topCustomers::contains);
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(TopCustomerCommand.MESSAGE_SUCCESS, 3), LIST_CUSTOMERS_ONLY);
+        assertCommandSuccess(new TopCustomerCommand(3), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_pointsRange_onlyCustomersInRange() {
+        Customer fionaWithPoints = new CustomerBuilder(FIONA).withPoints(300, 300).build();
+        model.setCustomer(FIONA, fionaWithPoints);
+        expectedModel.setCustomer(FIONA, fionaWithPoints);
+
+        expectedModel.sortFilteredCustomerList(Customer.SORT_POINTS);
+        expectedModel.updateFilteredCustomerList(fionaWithPoints::equals);
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(TopCustomerCommand.MESSAGE_SUCCESS, 1), LIST_CUSTOMERS_ONLY);
+        assertCommandSuccess(new TopCustomerCommand(5, 100, 1000), model, expectedCommandResult, expectedModel);
+    }
+}
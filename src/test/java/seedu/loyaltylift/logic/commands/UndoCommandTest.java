@@ -0,0 +1,48 @@
+package seedu.loyaltylift.logic.commands;
+
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.LIST_AND_SHOW_CUSTOMER;
+import static seedu.loyaltylift.logic.commands.CommandResult.ListViewGuiAction.REMOVE_INFO_FROM_VIEW;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_editedCustomer_restoresCustomerAndDisplay() {
+        model.setCustomerToDisplay(ALICE);
+        Customer editedAlice = new CustomerBuilder(ALICE).withEmail("alice@example.org").build();
+        model.setCustomer(ALICE, editedAlice);
+        model.setCustomerToDisplay(editedAlice);
+
+        assertCommandSuccess(new UndoCommand(), model,
+                new CommandResult(UndoCommand.MESSAGE_SUCCESS, LIST_AND_SHOW_CUSTOMER), expectedModel);
+    }
+
+    @Test
+    public void execute_addedCustomer_removesCustomerAndClearsDisplay() {
+        Customer newCustomer = new CustomerBuilder().withName("Zed Undo").build();
+        model.addCustomer(newCustomer);
+        model.setCustomerToDisplay(newCustomer);
+
+        assertCommandSuccess(new UndoCommand(), model,
+                new CommandResult(UndoCommand.MESSAGE_SUCCESS, REMOVE_INFO_FROM_VIEW), expectedModel);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.loyaltylift.logic.parser;
+
+import seedu.loyaltylift.logic.commands.Command;
+import seedu.loyaltylift.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the number of commands parsed per second, as when a script of commands is run.
+ * Run with {@code gradlew parserBenchmark}; it prints the throughput of each round.
+ */
+public class AddressBookParserBenchmark {
+
+    private static final int COMMANDS_PER_ROUND = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] COMMAND_TEXTS = {
+        "addc n/Alice Pauline p/94351253 e/alice@example.com a/123, Jurong West Ave 6, #08-111 ct/ind",
+        "addo 1 n/Banana Cake q/2 a/123, Jurong West Ave 6, #08-111",
+        "addpoints 1 pt/100",
+        "advo 2",
+        "listo s/created f/pending",
+        "findc Alice Meier",
+        "viewc 3",
+        "appendnotec 3 nt/Prefers deliveries after 6pm",
+        "undo",
+        "listc",
+    };
+
+    public static void main(String[] args) throws ParseException {
+        AddressBookParser parser = new AddressBookParser();
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int commandCount = parseRound(parser);
+            long elapsed = System.nanoTime() - start;
+
+            if (round >= WARM_UP_ROUNDS) {
+                System.out.printf("Round %d: %.0f commands per second (%.1f ns per command, %d commands)%n",
+                        round - WARM_UP_ROUNDS + 1, COMMANDS_PER_ROUND * 1e9 / elapsed,
+                        (double) elapsed / COMMANDS_PER_ROUND, commandCount);
+            }
+        }
+    }
+
+    /**
+     * Parses {@code COMMANDS_PER_ROUND} commands, and returns the number of commands parsed so that the work cannot
+     * be optimised away.
+     */
+    private static int parseRound(AddressBookParser parser) throws ParseException {
+        int commandCount = 0;
+        for (int i = 0; i < COMMANDS_PER_ROUND; i++) {
+            Command command = parser.parseCommand(COMMAND_TEXTS[i % COMMAND_TEXTS.length]);
+            if (command != null) {
+                commandCount++;
+            }
+        }
+        return commandCount;
+    }
+}
@@ -5,16 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.loyaltylift.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 import static seedu.loyaltylift.testutil.Assert.assertThrows;
 import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -29,22 +30,36 @@ import seedu.loyaltylift.logic.commands.EditCustomerCommand;
 import seedu.loyaltylift.logic.commands.EditCustomerCommand.EditCustomerDescriptor;
 import seedu.loyaltylift.logic.commands.ExitCommand;
 import seedu.loyaltylift.logic.commands.FindCustomerCommand;
+import seedu.loyaltylift.logic.commands.FindNoteCommand;
 import seedu.loyaltylift.logic.commands.FindOrderCommand;
 import seedu.loyaltylift.logic.commands.HelpCommand;
+import seedu.loyaltylift.logic.commands.ImportCommand;
 import seedu.loyaltylift.logic.commands.ListCustomerCommand;
 import seedu.loyaltylift.logic.commands.ListOrderCommand;
+import seedu.loyaltylift.logic.commands.ListTierCommand;
+import seedu.loyaltylift.logic.commands.PointsHistoryCommand;
+import seedu.loyaltylift.logic.commands.RedoCommand;
+import seedu.loyaltylift.logic.commands.SetAccrualCommand;
 import seedu.loyaltylift.logic.commands.SetCustomerNoteCommand;
 import seedu.loyaltylift.logic.commands.SetOrderNoteCommand;
 import seedu.loyaltylift.logic.commands.SetPointsCommand;
+import seedu.loyaltylift.logic.commands.SetPointsExpiryCommand;
+import seedu.loyaltylift.logic.commands.SetTiersCommand;
+import seedu.loyaltylift.logic.commands.TopCustomerCommand;
+import seedu.loyaltylift.logic.commands.UndoCommand;
 import seedu.loyaltylift.logic.commands.ViewCustomerCommand;
 import seedu.loyaltylift.logic.parser.exceptions.ParseException;
 import seedu.loyaltylift.model.attribute.Note;
+import seedu.loyaltylift.model.attribute.NoteQuery;
 import seedu.loyaltylift.model.customer.Customer;
 import seedu.loyaltylift.model.customer.CustomerNameContainsKeywordsPredicate;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.CustomerType;
 import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 import seedu.loyaltylift.model.order.Order;
 import seedu.loyaltylift.model.order.OrderNameContainsKeywordsPredicate;
-import seedu.loyaltylift.model.order.OrderStatusPredicate;
+import seedu.loyaltylift.model.order.OrderQuery;
 import seedu.loyaltylift.model.order.StatusValue;
 import seedu.loyaltylift.testutil.CustomerBuilder;
 import seedu.loyaltylift.testutil.CustomerUtil;
@@ -84,6 +99,18 @@ public class AddressBookParserTest {
         assertEquals(new EditCustomerCommand(INDEX_FIRST, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("data", "customers.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " data/customers.csv"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -115,17 +142,49 @@ public class AddressBookParserTest {
         // sort points
         parsedCommand = (ListCustomerCommand) parser.parseCommand(
                 ListCustomerCommand.COMMAND_WORD + " " + PREFIX_SORT + "points");
-        assertEquals(new ListCustomerCommand(Customer.SORT_POINTS, PREDICATE_SHOW_ALL_CUSTOMERS), parsedCommand);
+        assertEquals(new ListCustomerCommand(Customer.SORT_POINTS, CustomerSegment.ALL), parsedCommand);
 
         // filter marked
         parsedCommand = (ListCustomerCommand) parser.parseCommand(
                 ListCustomerCommand.COMMAND_WORD + " " + PREFIX_FILTER + "marked");
-        assertEquals(new ListCustomerCommand(Customer.SORT_NAME, Customer.FILTER_SHOW_MARKED), parsedCommand);
+        assertEquals(new ListCustomerCommand(Customer.SORT_NAME, CustomerSegment.MARKED), parsedCommand);
 
         // sort points and filter marked
         parsedCommand = (ListCustomerCommand) parser.parseCommand(ListCustomerCommand.COMMAND_WORD + " "
                 + PREFIX_SORT + "points" + " " + PREFIX_FILTER + "marked");
-        assertEquals(new ListCustomerCommand(Customer.SORT_POINTS, Customer.FILTER_SHOW_MARKED), parsedCommand);
+        assertEquals(new ListCustomerCommand(Customer.SORT_POINTS, CustomerSegment.MARKED), parsedCommand);
+    }
+
+    @Test
+    public void parseCommand_tiers() throws Exception {
+        assertTrue(parser.parseCommand(ListTierCommand.COMMAND_WORD) instanceof ListTierCommand);
+        assertTrue(parser.parseCommand(ListTierCommand.COMMAND_WORD + " 3") instanceof ListTierCommand);
+    }
+
+    @Test
+    public void parseCommand_setaccrual() throws Exception {
+        assertEquals(new SetAccrualCommand(CustomerType.INDIVIDUAL, 10),
+                parser.parseCommand(SetAccrualCommand.COMMAND_WORD + " ct/ind pt/10"));
+    }
+
+    @Test
+    public void parseCommand_setexpiry() throws Exception {
+        assertEquals(new SetPointsExpiryCommand(365),
+                parser.parseCommand(SetPointsExpiryCommand.COMMAND_WORD + " 365"));
+    }
+
+    @Test
+    public void parseCommand_settiers() throws Exception {
+        assertEquals(new SetTiersCommand(TierDefinitions.DEFAULT),
+                parser.parseCommand(SetTiersCommand.COMMAND_WORD + " Gold:10000 Silver:5000 Bronze:1000"));
+    }
+
+    @Test
+    public void parseCommand_topc() throws Exception {
+        assertEquals(new TopCustomerCommand(TopCustomerCommand.DEFAULT_COUNT),
+                parser.parseCommand(TopCustomerCommand.COMMAND_WORD));
+        assertEquals(new TopCustomerCommand(3, 100, Points.MAXIMUM_POINTS),
+                parser.parseCommand(TopCustomerCommand.COMMAND_WORD + " 3 " + PREFIX_FROM + "100"));
     }
 
     @Test
@@ -151,6 +210,13 @@ public class AddressBookParserTest {
         assertEquals(new AddPointsCommand(INDEX_FIRST, addPoints), command);
     }
 
+    @Test
+    public void parseCommand_pointshistory() throws Exception {
+        PointsHistoryCommand command = (PointsHistoryCommand) parser.parseCommand(
+                PointsHistoryCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased());
+        assertEquals(new PointsHistoryCommand(INDEX_FIRST, null), command);
+    }
+
     public void parseCommand_setnotec() throws Exception {
         final Note note = new Note("Test Note");
         SetCustomerNoteCommand command = (SetCustomerNoteCommand) parser.parseCommand(
@@ -198,10 +264,17 @@ public class AddressBookParserTest {
         assertEquals(new FindOrderCommand(new OrderNameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findnote() throws Exception {
+        FindNoteCommand command = (FindNoteCommand) parser.parseCommand(
+                FindNoteCommand.COMMAND_WORD + " \"no eggs\" birthday");
+        assertEquals(new FindNoteCommand(new NoteQuery(Arrays.asList("no eggs", "birthday"))), command);
+    }
+
     @Test
     public void parseCommand_listo() throws Exception {
         ListOrderCommand parsedCommand;
-        OrderStatusPredicate pendingPredicate = new OrderStatusPredicate(StatusValue.PENDING);
+        OrderQuery pendingQuery = OrderQuery.ALL.withStatus(StatusValue.PENDING);
 
         // no args
         parsedCommand = (ListOrderCommand) parser.parseCommand(ListOrderCommand.COMMAND_WORD);
@@ -210,17 +283,17 @@ public class AddressBookParserTest {
         // sort status
         parsedCommand = (ListOrderCommand) parser.parseCommand(
                 ListOrderCommand.COMMAND_WORD + " " + PREFIX_SORT + "status");
-        assertEquals(new ListOrderCommand(Order.SORT_STATUS, PREDICATE_SHOW_ALL_ORDERS), parsedCommand);
+        assertEquals(new ListOrderCommand(Order.SORT_STATUS, OrderQuery.ALL), parsedCommand);
 
         // filter pending
         parsedCommand = (ListOrderCommand) parser.parseCommand(
                 ListOrderCommand.COMMAND_WORD + " " + PREFIX_FILTER + "pending");
-        assertEquals(new ListOrderCommand(Order.SORT_CREATED_DATE, pendingPredicate), parsedCommand);
+        assertEquals(new ListOrderCommand(Order.SORT_CREATED_DATE, pendingQuery), parsedCommand);
 
         // sort name and filter pending
         parsedCommand = (ListOrderCommand) parser.parseCommand(
                 ListOrderCommand.COMMAND_WORD + " " + PREFIX_SORT + "name " + PREFIX_FILTER + "pending");
-        assertEquals(new ListOrderCommand(Order.SORT_NAME, pendingPredicate), parsedCommand);
+        assertEquals(new ListOrderCommand(Order.SORT_NAME, pendingQuery), parsedCommand);
     }
 
     @Test
@@ -233,4 +306,15 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_alias() throws Exception {
+        AddressBookParser aliasParser = new AddressBookParser(new CommandRegistry(Map.of("ls", "listc")));
+        assertEquals(new ListCustomerCommand(Customer.SORT_POINTS, CustomerSegment.ALL),
+                aliasParser.parseCommand("  ls " + PREFIX_SORT + "points"));
+        assertTrue(aliasParser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+
+        // aliases are only recognised by the parser given them
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls"));
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_CUSTOMER_TYPE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_STAGE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+
+/**
+ * Measures the time taken to tokenize the arguments of typical commands, as when a script of commands is run.
+ * Run with {@code gradlew tokenizerBenchmark}; it prints the mean time per command for each round.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int COMMANDS_PER_ROUND = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] ADD_CUSTOMER_ARGS = {
+        " n/Alice Pauline p/94351253 e/alice@example.com a/123, Jurong West Ave 6, #08-111 ct/ind",
+        " n/Benson Meier p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 ct/ent",
+    };
+    private static final String[] ADD_ORDER_ARGS = {
+        " 1 n/Banana Cake q/2 a/123, Jurong West Ave 6, #08-111",
+        " 12 n/Chocolate Cake q/10",
+    };
+    private static final String[] LIST_ORDER_ARGS = {
+        " s/created f/pending st/paid from/2023-01-01 to/2023-03-31",
+        " s/name",
+    };
+    private static final String[] NOTE_ARGS = {
+        " 3 nt/Prefers deliveries after 6pm, call before arriving",
+    };
+
+    public static void main(String[] args) {
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int nameCount = tokenizeRound();
+            long elapsed = System.nanoTime() - start;
+
+            if (round >= WARM_UP_ROUNDS) {
+                System.out.printf("Round %d: %.1f ns per command (%d names found)%n", round - WARM_UP_ROUNDS + 1,
+                        (double) elapsed / COMMANDS_PER_ROUND, nameCount);
+            }
+        }
+    }
+
+    /**
+     * Tokenizes {@code COMMANDS_PER_ROUND} arguments strings, and returns the number of names found so that
+     * the work cannot be optimised away.
+     */
+    private static int tokenizeRound() {
+        int nameCount = 0;
+        for (int i = 0; i < COMMANDS_PER_ROUND; i++) {
+            ArgumentMultimap argMultimap;
+            switch (i % 4) {
+            case 0:
+                argMultimap = ArgumentTokenizer.tokenize(ADD_CUSTOMER_ARGS[i % ADD_CUSTOMER_ARGS.length],
+                        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CUSTOMER_TYPE);
+                break;
+            case 1:
+                argMultimap = ArgumentTokenizer.tokenize(ADD_ORDER_ARGS[i % ADD_ORDER_ARGS.length],
+                        PREFIX_NAME, PREFIX_QUANTITY, PREFIX_ADDRESS);
+                break;
+            case 2:
+                argMultimap = ArgumentTokenizer.tokenize(LIST_ORDER_ARGS[i % LIST_ORDER_ARGS.length],
+                        PREFIX_SORT, PREFIX_FILTER, PREFIX_STAGE, PREFIX_FROM, PREFIX_TO);
+                break;
+            default:
+                argMultimap = ArgumentTokenizer.tokenize(NOTE_ARGS[i % NOTE_ARGS.length], PREFIX_NOTE);
+                break;
+            }
+            nameCount += argMultimap.getAllValues(PREFIX_NAME).size();
+        }
+        return nameCount;
+    }
+}
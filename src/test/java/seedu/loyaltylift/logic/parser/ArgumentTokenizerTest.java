@@ -136,6 +136,22 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixRecognized() {
+        Prefix f = new Prefix("f/");
+        Prefix from = new Prefix("from/");
+        String argsString = "SomePreambleString f/pending from/today f/ from/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, f, from);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, f, "pending", "");
+        assertArgumentPresent(argMultimap, from, "today", "");
+
+        // order of the prefixes does not matter
+        argMultimap = ArgumentTokenizer.tokenize(argsString, from, f);
+        assertArgumentPresent(argMultimap, f, "pending", "");
+        assertArgumentPresent(argMultimap, from, "today", "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,63 @@
+package seedu.loyaltylift.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandCompleterTest {
+
+    private static final List<String> CUSTOMER_NAMES = List.of("Alice Pauline", "Alice Tan", "Benson Meier");
+    private static final List<String> ORDER_NAMES = List.of("Banana Cake", "Chocolate Cake");
+
+    private final CommandCompleter completer = new CommandCompleter(new CommandRegistry(Map.of("lo", "listo")));
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of("listc ", "listo "), complete("li"));
+        assertEquals(List.of("  addpoints "), complete("  addp"));
+        assertEquals(List.of(), complete("unknown"));
+        assertEquals(List.of(), complete(""));
+
+        // aliases
+        assertEquals(List.of("listc ", "listo ", "lo "), complete("l"));
+    }
+
+    @Test
+    public void complete_prefix_onlyUnusedPrefixesOfCommand() {
+        assertEquals(List.of("addc n/Amy p/"), complete("addc n/Amy p"));
+        assertEquals(List.of("listo f/", "listo from/"), complete("listo f"));
+        assertEquals(List.of("listo s/x f/y from/"), complete("listo s/x f/y f"));
+        assertEquals(List.of("lo f/", "lo from/"), complete("lo f"));
+        assertEquals(List.of(), complete("addc p/9 p"));
+        assertEquals(List.of(), complete("deletec 1 n"));
+    }
+
+    @Test
+    public void complete_name_fromCustomersOrOrders() {
+        assertEquals(List.of("editc 1 n/Alice Pauline ", "editc 1 n/Alice Tan "), complete("editc 1 n/ali"));
+        assertEquals(List.of("editc 1 n/Alice Tan "), complete("editc 1 n/Alice T"));
+        assertEquals(List.of("edito 1 n/Chocolate Cake "), complete("edito 1 n/choc"));
+        assertEquals(List.of(), complete("editc 1 n/Alice p/9"));
+    }
+
+    @Test
+    public void complete_nameOrPrefix_both() {
+        assertEquals(List.of("addc n/Alice Pauline ", "addc n/Alice p/"), complete("addc n/Alice p"));
+    }
+
+    private List<String> complete(String commandText) {
+        return completer.complete(commandText, namesStartingWith(CUSTOMER_NAMES), namesStartingWith(ORDER_NAMES));
+    }
+
+    private static BiFunction<String, Integer, List<String>> namesStartingWith(List<String> names) {
+        return (prefix, limit) -> names.stream()
+                .filter(name -> name.toLowerCase().startsWith(prefix.toLowerCase()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
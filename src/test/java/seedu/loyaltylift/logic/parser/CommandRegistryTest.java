@@ -0,0 +1,67 @@
+package seedu.loyaltylift.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.ListCustomerCommand;
+import seedu.loyaltylift.logic.commands.UndoCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry commandRegistry = new CommandRegistry(Map.of(
+            "ls", "listc",
+            "u", "undo",
+            "addc", "listc",
+            "two words", "listc",
+            "missing", "unknown"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandRegistry(null));
+    }
+
+    @Test
+    public void getCommandWords_sortedAndDistinct() {
+        List<String> commandWords = CommandRegistry.getCommandWords();
+        assertEquals(commandWords.stream().sorted().distinct().collect(Collectors.toList()), commandWords);
+        assertTrue(CommandRegistry.getCommandWords().contains(ListCustomerCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void getAliases_invalidAliasesIgnored() {
+        assertEquals(Map.of("ls", "listc", "u", "undo"), commandRegistry.getAliases());
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(Optional.of("listc"), commandRegistry.getCommandWord("listc"));
+        assertEquals(Optional.of("listc"), commandRegistry.getCommandWord("ls"));
+        assertEquals(Optional.of("addc"), commandRegistry.getCommandWord("addc"));
+        assertEquals(Optional.empty(), commandRegistry.getCommandWord("missing"));
+        assertEquals(Optional.empty(), commandRegistry.getCommandWord("LS"));
+    }
+
+    @Test
+    public void getParser_sameParserForCommandWordAndAlias() throws Exception {
+        assertEquals(commandRegistry.getParser("listc").get(), commandRegistry.getParser("ls").get());
+        assertTrue(commandRegistry.getParser("u").get().parse("") instanceof UndoCommand);
+        assertEquals(Optional.empty(), commandRegistry.getParser("unknown"));
+    }
+
+    @Test
+    public void getPrefixes() {
+        assertEquals(List.of(PREFIX_SORT, PREFIX_FILTER), commandRegistry.getPrefixes("ls"));
+        assertEquals(List.of(), commandRegistry.getPrefixes("undo"));
+        assertEquals(List.of(), commandRegistry.getPrefixes("unknown"));
+    }
+}
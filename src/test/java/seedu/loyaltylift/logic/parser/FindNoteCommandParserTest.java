@@ -0,0 +1,36 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.FindNoteCommand;
+import seedu.loyaltylift.model.attribute.NoteQuery;
+
+public class FindNoteCommandParserTest {
+
+    private FindNoteCommandParser parser = new FindNoteCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " \"\" ,, ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindNoteCommand() {
+        FindNoteCommand expectedCommand =
+                new FindNoteCommand(new NoteQuery(Arrays.asList("no eggs", "birthday")));
+        assertParseSuccess(parser, "\"no eggs\" birthday", expectedCommand);
+
+        // multiple whitespaces and different casing
+        assertParseSuccess(parser, " \n \"No   Eggs\" \t BIRTHDAY  \t", expectedCommand);
+    }
+
+}
@@ -0,0 +1,35 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " customers.csv ", new ImportCommand(Paths.get("customers.csv")));
+
+        // file names may contain spaces
+        assertParseSuccess(parser, " my orders.csv", new ImportCommand(Paths.get("my orders.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+        // no file
+        assertParseFailure(parser, "  ", expectedMessage);
+
+        // invalid path
+        assertParseFailure(parser, " a\0b", expectedMessage);
+    }
+}
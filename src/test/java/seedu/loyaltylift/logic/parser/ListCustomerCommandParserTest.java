@@ -4,12 +4,15 @@ import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
 import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.loyaltylift.logic.commands.ListCustomerCommand;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.customer.Points.Tier;
 
 public class ListCustomerCommandParserTest {
 
@@ -25,17 +28,37 @@ public class ListCustomerCommandParserTest {
     @Test
     public void parse_validSortOption_success() {
         ListCustomerCommand expectedListSortNameCustomerCommand =
-                new ListCustomerCommand(Customer.SORT_POINTS, PREDICATE_SHOW_ALL_CUSTOMERS);
+                new ListCustomerCommand(Customer.SORT_POINTS, CustomerSegment.ALL);
         assertParseSuccess(parser, " " + PREFIX_SORT + "points", expectedListSortNameCustomerCommand);
     }
 
     @Test
     public void parser_validFilterOption_success() {
         ListCustomerCommand expectedListFilterMarkedCustomerCommand =
-                new ListCustomerCommand(Customer.SORT_NAME, Customer.FILTER_SHOW_MARKED);
+                new ListCustomerCommand(Customer.SORT_NAME, CustomerSegment.MARKED);
         assertParseSuccess(parser, " " + PREFIX_FILTER + "marked", expectedListFilterMarkedCustomerCommand);
     }
 
+    @Test
+    public void parse_validFilterExpression_success() {
+        CustomerSegment expectedSegment = CustomerSegment.MARKED
+                .and(CustomerSegment.ofType(CustomerType.ENTERPRISE).not())
+                .or(CustomerSegment.ofTier(Tier.GOLD).and(CustomerSegment.withPointsAtLeast(501)));
+        assertParseSuccess(parser, " " + PREFIX_FILTER + "MARKED and not ent or (gold and pts>500)",
+                new ListCustomerCommand(Customer.SORT_NAME, expectedSegment));
+
+        // not binds tighter than and, and tighter than or
+        expectedSegment = CustomerSegment.PENDING.not()
+                .and(CustomerSegment.withPointsBelow(101).or(CustomerSegment.ofTier(Tier.NONE)));
+        assertParseSuccess(parser, " " + PREFIX_FILTER + "not pending and (pts<=100 or none)",
+                new ListCustomerCommand(Customer.SORT_NAME, expectedSegment));
+
+        // any tier by name
+        expectedSegment = CustomerSegment.ofTier("ruby").or(CustomerSegment.ofTier(Tier.GOLD));
+        assertParseSuccess(parser, " " + PREFIX_FILTER + "tier:Ruby or tier:gold",
+                new ListCustomerCommand(Customer.SORT_NAME, expectedSegment));
+    }
+
     @Test
     public void parse_invalidSortOption_failure() {
         assertParseFailure(parser, " " + PREFIX_SORT + "invalid", ListCustomerCommand.MESSAGE_INVALID_SORT);
@@ -43,4 +66,23 @@ public class ListCustomerCommandParserTest {
         assertParseFailure(parser, " " + PREFIX_FILTER + "invalid", ListCustomerCommand.MESSAGE_INVALID_FILTER);
     }
 
+    @Test
+    public void parse_invalidFilterExpression_failure() {
+        // dangling operator
+        assertParseFailure(parser, " " + PREFIX_FILTER + "marked and", ListCustomerCommand.MESSAGE_INVALID_FILTER);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, " " + PREFIX_FILTER + "(marked or ind", ListCustomerCommand.MESSAGE_INVALID_FILTER);
+        assertParseFailure(parser, " " + PREFIX_FILTER + "marked)", ListCustomerCommand.MESSAGE_INVALID_FILTER);
+
+        // missing operator
+        assertParseFailure(parser, " " + PREFIX_FILTER + "marked ind", ListCustomerCommand.MESSAGE_INVALID_FILTER);
+
+        // invalid tier name
+        assertParseFailure(parser, " " + PREFIX_FILTER + "tier:", ListCustomerCommand.MESSAGE_INVALID_FILTER);
+
+        // points out of range
+        assertParseFailure(parser, " " + PREFIX_FILTER + "pts>=1000000", Points.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -1,16 +1,20 @@
 package seedu.loyaltylift.logic.parser;
 
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FILTER;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_SORT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_STAGE;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
-import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.loyaltylift.logic.commands.ListOrderCommand;
 import seedu.loyaltylift.model.order.Order;
-import seedu.loyaltylift.model.order.OrderStatusPredicate;
+import seedu.loyaltylift.model.order.OrderQuery;
 import seedu.loyaltylift.model.order.StatusValue;
 
 public class ListOrderCommandParserTest {
@@ -26,21 +30,48 @@ public class ListOrderCommandParserTest {
     @Test
     public void parse_validArgs_success() {
         ListOrderCommand expectedCommand;
-        OrderStatusPredicate pendingPredicate = new OrderStatusPredicate(StatusValue.PENDING);
+        OrderQuery pendingQuery = OrderQuery.ALL.withStatus(StatusValue.PENDING);
 
         // sort status
-        expectedCommand = new ListOrderCommand(Order.SORT_STATUS, PREDICATE_SHOW_ALL_ORDERS);
+        expectedCommand = new ListOrderCommand(Order.SORT_STATUS, OrderQuery.ALL);
         assertParseSuccess(parser, " " + PREFIX_SORT + "status", expectedCommand);
 
         // filter pending
-        expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE, pendingPredicate);
+        expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE, pendingQuery);
         assertParseSuccess(parser, " " + PREFIX_FILTER + "pending", expectedCommand);
 
         // sort status and filter pending
-        expectedCommand = new ListOrderCommand(Order.SORT_STATUS, pendingPredicate);
+        expectedCommand = new ListOrderCommand(Order.SORT_STATUS, pendingQuery);
         assertParseSuccess(parser, " " + PREFIX_SORT + "status " + PREFIX_FILTER + "pending", expectedCommand);
     }
 
+    @Test
+    public void parse_dateRange_success() {
+        LocalDate from = LocalDate.of(2023, 3, 1);
+        LocalDate to = LocalDate.of(2023, 3, 31);
+
+        // created between dates
+        ListOrderCommand expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE,
+                OrderQuery.ALL.withCreatedDateBetween(from, to));
+        assertParseSuccess(parser, " " + PREFIX_FROM + "2023/03/01 " + PREFIX_TO + "2023/03/31", expectedCommand);
+
+        // created since date
+        expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE,
+                OrderQuery.ALL.withCreatedDateBetween(from, null));
+        assertParseSuccess(parser, " " + PREFIX_FROM + "2023/03/01", expectedCommand);
+
+        // reached stage between dates, with status filter
+        expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE,
+                OrderQuery.ALL.withStatus(StatusValue.SHIPPED).withStageReachedBetween(StatusValue.PAID, from, to));
+        assertParseSuccess(parser, " " + PREFIX_FILTER + "shipped " + PREFIX_STAGE + "paid "
+                + PREFIX_FROM + "2023/03/01 " + PREFIX_TO + "2023/03/31", expectedCommand);
+
+        // reached stage at any date
+        expectedCommand = new ListOrderCommand(Order.SORT_CREATED_DATE,
+                OrderQuery.ALL.withStageReachedBetween(StatusValue.COMPLETED, null, null));
+        assertParseSuccess(parser, " " + PREFIX_STAGE + "completed", expectedCommand);
+    }
+
     @Test
     public void parse_invalidArgs_failure() {
         // invalid sort
@@ -48,6 +79,16 @@ public class ListOrderCommandParserTest {
 
         // invalid filter
         assertParseFailure(parser, " " + PREFIX_FILTER + "invalid", ListOrderCommand.MESSAGE_INVALID_FILTER);
+
+        // invalid stage
+        assertParseFailure(parser, " " + PREFIX_STAGE + "invalid", ListOrderCommand.MESSAGE_INVALID_STAGE);
+
+        // invalid date
+        assertParseFailure(parser, " " + PREFIX_FROM + "2023-03-01", ListOrderCommand.MESSAGE_INVALID_DATE);
+
+        // start after end
+        assertParseFailure(parser, " " + PREFIX_FROM + "2023/03/02 " + PREFIX_TO + "2023/03/01",
+                OrderQuery.MESSAGE_INVALID_DATE_RANGE);
     }
 
 }
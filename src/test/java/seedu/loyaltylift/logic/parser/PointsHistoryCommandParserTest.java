@@ -0,0 +1,45 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.loyaltylift.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.ListOrderCommand;
+import seedu.loyaltylift.logic.commands.PointsHistoryCommand;
+
+public class PointsHistoryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PointsHistoryCommand.MESSAGE_USAGE);
+
+    private PointsHistoryCommandParser parser = new PointsHistoryCommandParser();
+
+    @Test
+    public void parse_indexOnly_success() {
+        assertParseSuccess(parser, "1", new PointsHistoryCommand(INDEX_FIRST, null));
+    }
+
+    @Test
+    public void parse_indexAndDate_success() {
+        assertParseSuccess(parser, "1 " + PREFIX_TO + "2023/03/01",
+                new PointsHistoryCommand(INDEX_FIRST, LocalDate.of(2023, 3, 1)));
+    }
+
+    @Test
+    public void parse_invalidIndex_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a " + PREFIX_TO + "2023/03/01", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, "1 " + PREFIX_TO + "01-03-2023", ListOrderCommand.MESSAGE_INVALID_DATE);
+    }
+}
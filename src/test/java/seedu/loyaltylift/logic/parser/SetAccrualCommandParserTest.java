@@ -0,0 +1,42 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.SetAccrualCommand;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.points.AccrualRules;
+
+public class SetAccrualCommandParserTest {
+
+    private SetAccrualCommandParser parser = new SetAccrualCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " ct/ent pt/5", new SetAccrualCommand(CustomerType.ENTERPRISE, 5));
+        assertParseSuccess(parser, " pt/0 ct/individual", new SetAccrualCommand(CustomerType.INDIVIDUAL, 0));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetAccrualCommand.MESSAGE_USAGE);
+
+        // missing prefixes
+        assertParseFailure(parser, " ct/ind", expectedMessage);
+        assertParseFailure(parser, " pt/5", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " 1 ct/ind pt/5", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " ct/person pt/5", CustomerType.MESSAGE_FAIL_CONVERSION);
+        assertParseFailure(parser, " ct/ind pt/five", AccrualRules.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ct/ind pt/-1", AccrualRules.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ct/ind pt/1001", AccrualRules.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.SetPointsExpiryCommand;
+
+public class SetPointsExpiryCommandParserTest {
+
+    private SetPointsExpiryCommandParser parser = new SetPointsExpiryCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 365 ", new SetPointsExpiryCommand(365));
+        assertParseSuccess(parser, "0", new SetPointsExpiryCommand(0));
+        assertParseSuccess(parser, String.valueOf(SetPointsExpiryCommand.MAXIMUM_EXPIRY_DAYS),
+                new SetPointsExpiryCommand(SetPointsExpiryCommand.MAXIMUM_EXPIRY_DAYS));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetPointsExpiryCommand.MESSAGE_USAGE);
+
+        // no days
+        assertParseFailure(parser, "  ", expectedMessage);
+
+        // not a number
+        assertParseFailure(parser, " a year", expectedMessage);
+
+        // out of range
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, String.valueOf(SetPointsExpiryCommand.MAXIMUM_EXPIRY_DAYS + 1), expectedMessage);
+    }
+}
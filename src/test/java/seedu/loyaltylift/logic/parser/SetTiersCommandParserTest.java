@@ -0,0 +1,53 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.SetTiersCommand;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+
+public class SetTiersCommandParserTest {
+
+    private SetTiersCommandParser parser = new SetTiersCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        TierDefinitions expectedTierDefinitions = new TierDefinitions(List.of(Tier.BRONZE, new Tier("Ruby", 20000)));
+        assertParseSuccess(parser, " Bronze:1000   Ruby:20000 ", new SetTiersCommand(expectedTierDefinitions));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetTiersCommand.MESSAGE_USAGE);
+
+        // no tiers
+        assertParseFailure(parser, "  ", expectedMessage);
+
+        // missing points
+        assertParseFailure(parser, " Gold", expectedMessage);
+        assertParseFailure(parser, " Gold:", expectedMessage);
+
+        // negative points
+        assertParseFailure(parser, " Gold:-5", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTiers_failure() {
+        // invalid name
+        assertParseFailure(parser, " Gold2:1000", TierDefinitions.MESSAGE_CONSTRAINTS);
+
+        // duplicate names or points
+        assertParseFailure(parser, " Gold:1000 gold:2000", TierDefinitions.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Gold:1000 Silver:1000", TierDefinitions.MESSAGE_CONSTRAINTS);
+
+        // points out of range
+        assertParseFailure(parser, " Gold:0", TierDefinitions.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " Gold:99999999999", TierDefinitions.MESSAGE_CONSTRAINTS);
+    }
+}
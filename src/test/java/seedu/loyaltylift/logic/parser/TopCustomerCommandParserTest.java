@@ -0,0 +1,53 @@
+package seedu.loyaltylift.logic.parser;
+
+import static seedu.loyaltylift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.loyaltylift.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.logic.commands.TopCustomerCommand;
+import seedu.loyaltylift.model.customer.CustomerPointsRanking;
+import seedu.loyaltylift.model.customer.Points;
+
+public class TopCustomerCommandParserTest {
+
+    private TopCustomerCommandParser parser = new TopCustomerCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "  ", new TopCustomerCommand(TopCustomerCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validArgs_success() {
+        // count only
+        assertParseSuccess(parser, " 5", new TopCustomerCommand(5));
+
+        // points range only
+        assertParseSuccess(parser, " " + PREFIX_FROM + "500 " + PREFIX_TO + "2000",
+                new TopCustomerCommand(TopCustomerCommand.DEFAULT_COUNT, 500, 2000));
+
+        // count and maximum points
+        assertParseSuccess(parser, " 3 " + PREFIX_TO + "100",
+                new TopCustomerCommand(3, Points.MINIMUM_POINTS, 100));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCustomerCommand.MESSAGE_USAGE);
+
+        // invalid count
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " top", expectedMessage);
+
+        // invalid points
+        assertParseFailure(parser, " " + PREFIX_FROM + "-1", Points.MESSAGE_CONSTRAINTS);
+
+        // minimum more than maximum
+        assertParseFailure(parser, " " + PREFIX_FROM + "200 " + PREFIX_TO + "100",
+                CustomerPointsRanking.MESSAGE_INVALID_POINTS_RANGE);
+    }
+}
@@ -7,23 +7,49 @@ import static seedu.loyaltylift.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB
 import static seedu.loyaltylift.testutil.Assert.assertThrows;
 import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
 import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
 import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_B;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_C;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_D;
 
+import java.time.LocalDate;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.loyaltylift.model.DashboardStatistics.PendingAge;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.customer.exceptions.CustomerNotFoundException;
 import seedu.loyaltylift.model.customer.exceptions.DuplicateCustomerException;
+import seedu.loyaltylift.model.event.ModelChangeEvent;
+import seedu.loyaltylift.model.event.ModelChangeEvent.Batch;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerUpdated;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderStatusChanged;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderUpdated;
 import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.StatusValue;
 import seedu.loyaltylift.model.order.exceptions.DuplicateOrderException;
 import seedu.loyaltylift.testutil.CustomerBuilder;
+import seedu.loyaltylift.testutil.OrderBuilder;
 
 public class AddressBookTest {
 
@@ -34,6 +60,75 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getCustomerList());
     }
 
+    @Test
+    public void setCustomer_customerWithOrders_publishesChangesInOneBatch() {
+        addressBook.addCustomer(ALICE);
+        Order order = new OrderBuilder(ORDER_A).withCustomer(ALICE).build();
+        addressBook.addOrder(order);
+        List<Batch> batches = new ArrayList<>();
+        addressBook.getChangeBus().subscribe(Batch.class, batches::add);
+
+        Customer editedAlice = new CustomerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setCustomer(ALICE, editedAlice);
+
+        assertEquals(1, batches.size());
+        List<ModelChangeEvent> events = batches.get(0).getEvents();
+        assertEquals(2, events.size());
+        assertEquals(editedAlice, ((CustomerUpdated) events.get(0)).getNewCustomer());
+        OrderUpdated orderUpdated = (OrderUpdated) events.get(1);
+        assertFalse(orderUpdated instanceof OrderStatusChanged);
+        assertEquals(editedAlice, orderUpdated.getNewOrder().getCustomer());
+    }
+
+    @Test
+    public void setOrder_statusChanged_publishesOrderStatusChanged() throws Exception {
+        addressBook.addCustomer(ALICE);
+        addressBook.addOrder(ORDER_A);
+        List<OrderStatusChanged> events = new ArrayList<>();
+        addressBook.getChangeBus().subscribe(OrderStatusChanged.class, events::add);
+
+        addressBook.setOrder(ORDER_A, ORDER_A.advance());
+
+        assertEquals(1, events.size());
+        assertEquals(StatusValue.PAID, events.get(0).getOldStatusValue());
+        assertEquals(StatusValue.SHIPPED, events.get(0).getNewStatusValue());
+    }
+
+    @Test
+    public void removeCustomer_customerWithOrders_publishesOrdersRemovedFirst() {
+        addressBook.addCustomer(ALICE);
+        Order order = new OrderBuilder(ORDER_A).withCustomer(ALICE).build();
+        addressBook.addOrder(order);
+        List<ModelChangeEvent> events = new ArrayList<>();
+        addressBook.getChangeBus().subscribe(ModelChangeEvent.class, events::add);
+
+        addressBook.removeCustomer(ALICE);
+
+        // the removed order, the removed customer, then the batch of both
+        assertEquals(3, events.size());
+        assertEquals(order, ((OrderRemoved) events.get(0)).getOrder());
+        assertEquals(ALICE, ((CustomerRemoved) events.get(1)).getCustomer());
+        assertEquals(events.subList(0, 2), ((Batch) events.get(2)).getEvents());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addCustomer(ALICE);
+        Order order = new OrderBuilder(ORDER_A).withCustomer(ALICE).build();
+        addressBook.addOrder(order);
+        Tier aliceTier = ALICE.getPoints().getLoyaltyTier(TierDefinitions.DEFAULT);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        AddressBook copy = new AddressBook(addressBook);
+
+        addressBook.removeCustomer(ALICE);
+        addressBook.addCustomer(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getCustomers());
+        assertEquals(List.of(order), snapshot.getOrders());
+        assertEquals(List.of(ALICE), snapshot.getCustomerList());
+        assertEquals(1, snapshot.getLoyaltyTierAggregate().getCount(aliceTier));
+        assertEquals(copy, new AddressBook(snapshot));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -105,6 +200,42 @@ public class AddressBookTest {
         assertTrue(addressBook.getOrderList().stream().allMatch(o -> o.getCustomer().equals(newAlice)));
     }
 
+    @Test
+    public void setCustomer_invalidEdit_indexesUnchanged() {
+        addressBook.addCustomer(ALICE);
+        addressBook.addCustomer(BENSON);
+        Predicate<Customer> isMarked = addressBook.getCustomerSegmentPredicate(CustomerSegment.MARKED);
+        int aliceRank = addressBook.getCustomerRank(ALICE);
+
+        // editing Alice into another customer named Benson
+        Customer aliceAsBenson = new CustomerBuilder(ALICE).withName(BENSON.getName().fullName)
+                .withPoints(5000, 5000).withMarked(true).build();
+        assertThrows(DuplicateCustomerException.class, () -> addressBook.setCustomer(ALICE, aliceAsBenson));
+        assertFalse(isMarked.test(ALICE));
+        assertEquals(aliceRank, addressBook.getCustomerRank(ALICE));
+        assertEquals(0, addressBook.getCustomerRank(aliceAsBenson));
+
+        // editing a customer not in the address book
+        Customer markedCarl = new CustomerBuilder(CARL).withMarked(true).build();
+        assertThrows(CustomerNotFoundException.class, () -> addressBook.setCustomer(CARL, markedCarl));
+        assertFalse(isMarked.test(markedCarl));
+        assertEquals(0, addressBook.getCustomerRank(markedCarl));
+    }
+
+    @Test
+    public void setOrder_duplicateOrder_indexesUnchanged() throws Exception {
+        addressBook.addCustomer(ALICE);
+        addressBook.addOrder(ORDER_A); // belongs to ALICE
+        addressBook.addOrder(ORDER_B); // belongs to ALICE
+        Map<StatusValue, Integer> statusCounts = Map.copyOf(addressBook.getOrderStatusCounts());
+
+        // editing the pending order B into a cancelled copy of order A
+        Order cancelledOrderA = ORDER_A.cancel();
+        assertThrows(DuplicateOrderException.class, () -> addressBook.setOrder(ORDER_B, cancelledOrderA));
+        assertEquals(statusCounts, addressBook.getOrderStatusCounts());
+        assertEquals(Set.of(ORDER_B), addressBook.findOrders(OrderQuery.ALL.withStatus(StatusValue.PENDING)));
+    }
+
     @Test
     public void deleteCustomer_ordersRemoved_success() {
         addressBook.addCustomer(ALICE);
@@ -115,6 +246,65 @@ public class AddressBookTest {
         assertEquals(0, addressBook.getOrderList().size());
     }
 
+    @Test
+    public void findOrders_dateRangeQuery_readFromIndexes() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        OrderQuery createdQuery = OrderQuery.ALL
+                .withCreatedDateBetween(LocalDate.of(2022, 12, 12), LocalDate.of(2022, 12, 20));
+        assertEquals(Set.of(ORDER_B, ORDER_C, ORDER_D), typicalAddressBook.findOrders(createdQuery));
+        assertEquals(Set.of(ORDER_B, ORDER_D),
+                typicalAddressBook.findOrders(createdQuery.withStatus(StatusValue.PENDING)));
+
+        OrderQuery stageQuery = OrderQuery.ALL
+                .withStageReachedBetween(StatusValue.PAID, LocalDate.of(2023, 1, 1), null);
+        assertEquals(Set.of(ORDER_C), typicalAddressBook.findOrders(stageQuery));
+        assertTrue(typicalAddressBook.getOrderQueryPredicate(stageQuery).test(ORDER_C));
+        assertFalse(typicalAddressBook.getOrderQueryPredicate(stageQuery).test(ORDER_A));
+    }
+
+    @Test
+    public void setTierDefinitions_onlyChangedCustomersRetiered() {
+        Customer bronzeAlice = new CustomerBuilder(ALICE).withPoints(100, 2000).build();
+        Customer goldBenson = new CustomerBuilder(BENSON).withPoints(100, 30000).build();
+        addressBook.setCustomers(Arrays.asList(bronzeAlice, goldBenson));
+        Predicate<Customer> isBronze = addressBook.getCustomerSegmentPredicate(CustomerSegment.ofTier(Tier.BRONZE));
+        assertTrue(isBronze.test(bronzeAlice));
+
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(new Tier("Bronze", 3000), Tier.GOLD));
+        assertEquals(List.of(bronzeAlice), addressBook.setTierDefinitions(tierDefinitions));
+        assertEquals(tierDefinitions, addressBook.getTierDefinitions());
+        assertFalse(isBronze.test(bronzeAlice));
+        assertEquals(1, addressBook.getLoyaltyTierAggregate().getCount(Tier.NONE));
+
+        // customers added later are placed in the new tiers
+        addressBook.addCustomer(new CustomerBuilder(CARL).withPoints(0, 4000).build());
+        assertEquals(1, addressBook.getLoyaltyTierAggregate().getCount(Tier.BRONZE));
+    }
+
+    @Test
+    public void getDashboardStatistics_readFromAggregates() {
+        Customer silverCarl = new CustomerBuilder(CARL).withPoints(50, 6000).build();
+        addressBook.setCustomers(Arrays.asList(ALICE, silverCarl));
+        // ORDER_B was created on the Tuesday and is dated pending after it, ORDER_D has been pending since October
+        addressBook.setOrders(Arrays.asList(ORDER_B, ORDER_D));
+
+        DashboardStatistics statistics = addressBook.getDashboardStatistics(LocalDate.of(2022, 12, 20));
+        assertEquals(TierDefinitions.DEFAULT.getTiers(), new ArrayList<>(statistics.getCustomersPerTier().keySet()));
+        assertEquals(Map.of(Tier.NONE, 1, Tier.BRONZE, 0, Tier.SILVER, 1, Tier.GOLD, 0),
+                statistics.getCustomersPerTier());
+        assertEquals(2, (int) statistics.getOrdersPerStatus().get(StatusValue.PENDING));
+        assertEquals(0, (int) statistics.getOrdersPerStatus().get(StatusValue.PAID));
+        assertEquals(1, statistics.getOrdersCreatedToday());
+        assertEquals(1, statistics.getOrdersCreatedThisWeek());
+        assertEquals(Map.of(PendingAge.TODAY, 1, PendingAge.UP_TO_THREE_DAYS, 0, PendingAge.UP_TO_A_WEEK, 0,
+                PendingAge.UP_TO_A_MONTH, 0, PendingAge.OVER_A_MONTH, 1), statistics.getPendingOrdersPerAge());
+        assertEquals(List.of(silverCarl, ALICE), statistics.getTopCustomers());
+
+        // a week later, only the orders created that week are counted
+        statistics = addressBook.getDashboardStatistics(LocalDate.of(2022, 12, 27));
+        assertEquals(0, statistics.getOrdersCreatedThisWeek());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose customers list can violate interface constraints.
      */
@@ -136,6 +326,11 @@ public class AddressBookTest {
         public ObservableList<Order> getOrderList() {
             return orders;
         }
+
+        @Override
+        public ReadOnlyLoyaltyTierAggregate getLoyaltyTierAggregate() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
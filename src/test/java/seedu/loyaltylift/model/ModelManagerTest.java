@@ -2,25 +2,53 @@ package seedu.loyaltylift.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.loyaltylift.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
 import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.DANIEL;
 import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_B;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_C;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_D;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.loyaltylift.commons.core.GuiSettings;
+import seedu.loyaltylift.model.customer.Customer;
 import seedu.loyaltylift.model.customer.CustomerNameContainsKeywordsPredicate;
+import seedu.loyaltylift.model.customer.CustomerSegment;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.model.order.OrderQuery;
+import seedu.loyaltylift.model.order.StatusValue;
+import seedu.loyaltylift.model.points.AccrualRules;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
 import seedu.loyaltylift.testutil.AddressBookBuilder;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+import seedu.loyaltylift.testutil.OrderBuilder;
 
 public class ModelManagerTest {
 
+    private static final AccrualRules ACCRUE_TEN_PER_UNIT = AccrualRules.NONE
+            .withPointsPerUnit(CustomerType.INDIVIDUAL, 10)
+            .withPointsPerUnit(CustomerType.ENTERPRISE, 10);
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -121,6 +149,379 @@ public class ModelManagerTest {
                 UnsupportedOperationException.class, () -> modelManager.getFilteredCustomerOrderList().remove(0));
     }
 
+    @Test
+    public void updateFilteredCustomerList_segment_followsEditedCustomers() {
+        Customer unmarkedBenson = new CustomerBuilder(BENSON).withMarked(false).build();
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withCustomer(ALICE)
+                .withCustomer(unmarkedBenson).build(), new UserPrefs());
+        Customer markedAlice = new CustomerBuilder(ALICE).withMarked(true).build();
+        modelManager.setCustomer(ALICE, markedAlice);
+        modelManager.updateFilteredCustomerList(CustomerSegment.MARKED);
+        assertEquals(Arrays.asList(markedAlice), modelManager.getFilteredCustomerList());
+
+        // customer still in segment after edit
+        Customer renamedAlice = new CustomerBuilder(markedAlice).withName("Alicia").build();
+        modelManager.setCustomer(markedAlice, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice), modelManager.getFilteredCustomerList());
+
+        // customer leaves segment after edit
+        modelManager.setCustomer(renamedAlice, new CustomerBuilder(renamedAlice).withMarked(false).build());
+        assertEquals(Arrays.asList(), modelManager.getFilteredCustomerList());
+    }
+
+    @Test
+    public void updateFilteredCustomerListToTop_customerOvertakes_displacedCustomerLeaves() {
+        Customer alice = ALICE.newCustomerWithPoints(new Points(40, 40));
+        Customer benson = BENSON.newCustomerWithPoints(new Points(30, 30));
+        Customer carl = CARL.newCustomerWithPoints(new Points(20, 20));
+        Customer daniel = DANIEL.newCustomerWithPoints(new Points(10, 10));
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withCustomer(alice)
+                .withCustomer(benson).withCustomer(carl).withCustomer(daniel).build(), new UserPrefs());
+        modelManager.updateFilteredCustomerListToTop(3, Points.MINIMUM_POINTS, Points.MAXIMUM_POINTS);
+        assertEquals(Set.of(alice, benson, carl), Set.copyOf(modelManager.getFilteredCustomerList()));
+
+        Customer richerDaniel = daniel.newCustomerWithPoints(new Points(50, 50));
+        modelManager.setCustomer(daniel, richerDaniel);
+        assertEquals(Set.of(richerDaniel, alice, benson), Set.copyOf(modelManager.getFilteredCustomerList()));
+    }
+
+    @Test
+    public void updateFilteredOrderList_statusQuery_followsEditedOrders() {
+        Order pendingOrder = new OrderBuilder(ORDER_A).withInitialStatus("2022/12/01").build();
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withCustomer(ALICE)
+                .withOrder(pendingOrder).build(), new UserPrefs());
+        modelManager.updateFilteredOrderList(OrderQuery.ALL.withStatus(StatusValue.PAID));
+        assertEquals(Arrays.asList(), modelManager.getFilteredOrderList());
+        assertEquals(Integer.valueOf(1), modelManager.getOrderStatusCounts().get(StatusValue.PENDING));
+
+        Order paidOrder = new OrderBuilder(pendingOrder).withNextStatus("2022/12/02").build();
+        modelManager.setOrder(pendingOrder, paidOrder);
+        assertEquals(Arrays.asList(paidOrder), modelManager.getFilteredOrderList());
+        assertEquals(Integer.valueOf(0), modelManager.getOrderStatusCounts().get(StatusValue.PENDING));
+        assertEquals(Integer.valueOf(1), modelManager.getOrderStatusCounts().get(StatusValue.PAID));
+    }
+
+    @Test
+    public void updateFilteredOrderList_dateQuery_followsEditedOrders() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredOrderList(OrderQuery.ALL
+                .withCreatedDateBetween(LocalDate.of(2022, 12, 12), LocalDate.of(2022, 12, 20)));
+        assertEquals(Set.of(ORDER_B, ORDER_C, ORDER_D), Set.copyOf(modelManager.getFilteredOrderList()));
+
+        // an order edited out of the date range leaves the list, and one edited into it joins the list
+        Order laterOrderD = new OrderBuilder(ORDER_D).withCreatedDate("2023/01/05").build();
+        modelManager.setOrder(ORDER_D, laterOrderD);
+        Order earlierOrderA = new OrderBuilder(ORDER_A).withCreatedDate("2022/12/15").build();
+        modelManager.setOrder(ORDER_A, earlierOrderA);
+        assertEquals(Set.of(earlierOrderA, ORDER_B, ORDER_C), Set.copyOf(modelManager.getFilteredOrderList()));
+    }
+
+    @Test
+    public void recordPointsChange_recordsChangeInLedger() {
+        modelManager.addCustomer(ALICE);
+        Customer aliceWithPoints = ALICE.newCustomerWithPoints(new Points(100, 100));
+        modelManager.recordPointsChange(ALICE, aliceWithPoints, Reason.ADD_POINTS);
+
+        assertTrue(modelManager.hasCustomer(aliceWithPoints));
+        assertEquals(new Points(100, 100), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+        assertEquals(1, modelManager.getPointsLedger().getEntries().size());
+    }
+
+    @Test
+    public void recordPointsChange_pointsNotInLedger_recordsAdjustment() {
+        Customer aliceWithPoints = ALICE.newCustomerWithPoints(new Points(50, 80));
+        modelManager.addCustomer(aliceWithPoints);
+        Customer editedAlice = ALICE.newCustomerWithPoints(new Points(70, 100));
+        modelManager.recordPointsChange(aliceWithPoints, editedAlice, Reason.ADD_POINTS);
+
+        List<PointsLedgerEntry> entries = modelManager.getPointsLedger().getEntries();
+        assertEquals(Reason.ADJUSTMENT, entries.get(0).getReason());
+        assertEquals(Reason.ADD_POINTS, entries.get(1).getReason());
+        assertEquals(20, entries.get(1).getDelta());
+        assertEquals(editedAlice.getPoints(), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+    }
+
+    @Test
+    public void setCustomer_renamed_movesLedgerHistory() {
+        modelManager.addCustomer(ALICE);
+        Customer aliceWithPoints = ALICE.newCustomerWithPoints(new Points(100, 100));
+        modelManager.recordPointsChange(ALICE, aliceWithPoints, Reason.ADD_POINTS);
+        Customer renamedAlice = new CustomerBuilder(aliceWithPoints).withName("Alice Tan").build();
+        modelManager.setCustomer(aliceWithPoints, renamedAlice);
+
+        assertFalse(modelManager.getPointsLedger().hasHistory(ALICE.getUid()));
+        assertEquals(new Points(100, 100), modelManager.getPointsLedger().getBalance(renamedAlice.getUid()));
+
+        modelManager.deleteCustomer(renamedAlice);
+        assertFalse(modelManager.getPointsLedger().hasHistory(renamedAlice.getUid()));
+    }
+
+    @Test
+    public void constructor_pointsDifferFromLedger_usesLedgerPoints() {
+        PointsLedger pointsLedger = new PointsLedger(List.of(new PointsLedgerEntry(ALICE.getUid(),
+                LocalDateTime.of(2023, 3, 1, 9, 0), 100, 100, Reason.ADD_POINTS, "")));
+        AddressBook addressBook = new AddressBookBuilder().withCustomer(ALICE).build();
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), pointsLedger);
+
+        assertTrue(model.hasCustomer(ALICE));
+        assertEquals(new Points(100, 100), model.getAddressBook().getCustomerList().get(0).getPoints());
+    }
+
+    @Test
+    public void expirePoints_duePoints_deductsAndRecordsExpiry() {
+        PointsLedger pointsLedger = new PointsLedger(List.of(
+                new PointsLedgerEntry(ALICE.getUid(), LocalDateTime.of(2023, 1, 1, 9, 0), 100, 100,
+                        Reason.ADD_POINTS, ""),
+                new PointsLedgerEntry(BENSON.getUid(), LocalDateTime.of(2023, 1, 10, 9, 0), 50, 50,
+                        Reason.ADD_POINTS, "")));
+        AddressBook addressBook = new AddressBookBuilder().withCustomer(ALICE).withCustomer(BENSON).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPointsExpiryDays(30);
+        ModelManager model = new ModelManager(addressBook, userPrefs, pointsLedger);
+
+        assertEquals(0, model.expirePoints(LocalDate.of(2023, 1, 30)));
+        assertEquals(1, model.expirePoints(LocalDate.of(2023, 1, 31)));
+        AddressBook expiredAddressBook = new AddressBook(model.getAddressBook());
+        assertEquals(new Points(0, 100), expiredAddressBook.getCustomer(ALICE.getUid()).getPoints());
+        assertEquals(new Points(50, 50), expiredAddressBook.getCustomer(BENSON.getUid()).getPoints());
+        assertEquals(Reason.EXPIRED, pointsLedger.getEntries().get(2).getReason());
+
+        // expired points do not expire again
+        assertEquals(0, model.expirePoints(LocalDate.of(2023, 1, 31)));
+    }
+
+    @Test
+    public void setPointsExpiryDays_reschedulesGrantedPoints() {
+        modelManager.addCustomer(ALICE);
+        modelManager.recordPointsChange(ALICE, ALICE.newCustomerWithPoints(new Points(100, 100)),
+                Reason.ADD_POINTS);
+        LocalDate today = LocalDate.now();
+        assertEquals(0, modelManager.expirePoints(today.plusYears(10)));
+
+        modelManager.setPointsExpiryDays(1);
+        assertEquals(1, modelManager.getPointsExpiryDays());
+        assertEquals(0, modelManager.expirePoints(today));
+        assertEquals(1, modelManager.expirePoints(today.plusDays(1)));
+    }
+
+    @Test
+    public void applyPendingAccruals_completedOrder_creditedOnce() throws Exception {
+        modelManager.setAccrualRules(ACCRUE_TEN_PER_UNIT);
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A.advance());
+
+        // shipped -> completed
+        advanceOnlyOrder(modelManager);
+        assertEquals(1, modelManager.applyPendingAccruals());
+        assertEquals(new Points(50, 50), getCustomer(modelManager, ALICE).getPoints());
+        assertEquals(Reason.ACCRUED, modelManager.getPointsLedger().getEntries().get(0).getReason());
+        assertEquals(0, modelManager.applyPendingAccruals());
+
+        // completed -> shipped -> completed
+        Order completedOrder = modelManager.getFilteredOrderList().get(0);
+        modelManager.setOrder(completedOrder, completedOrder.revert());
+        advanceOnlyOrder(modelManager);
+        assertEquals(0, modelManager.applyPendingAccruals());
+        assertEquals(new Points(50, 50), getCustomer(modelManager, ALICE).getPoints());
+    }
+
+    @Test
+    public void applyPendingAccruals_ordersOfSameCustomer_creditedTogether() throws Exception {
+        modelManager.setAccrualRules(ACCRUE_TEN_PER_UNIT);
+        modelManager.addCustomer(ALICE);
+        Order firstOrder = new OrderBuilder().withQuantity("1").build();
+        Order secondOrder = new OrderBuilder().withQuantity("3").build();
+        modelManager.addOrder(firstOrder);
+        modelManager.addOrder(secondOrder);
+        for (Order order : List.of(firstOrder, secondOrder)) {
+            Order completedOrder = order.advance().advance().advance();
+            modelManager.setOrder(order, completedOrder);
+        }
+
+        assertEquals(2, modelManager.applyPendingAccruals());
+        assertEquals(new Points(40, 40), getCustomer(modelManager, ALICE).getPoints());
+    }
+
+    @Test
+    public void applyPendingAccruals_noPointsEarned_notRecorded() throws Exception {
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A.advance());
+        advanceOnlyOrder(modelManager);
+
+        assertEquals(0, modelManager.applyPendingAccruals());
+        assertEquals(List.of(), modelManager.getPointsLedger().getEntries());
+    }
+
+    @Test
+    public void undoRedo_addCustomer_removesAndRestoresCustomer() {
+        assertFalse(modelManager.canUndo());
+        modelManager.getChangeBus().beginBatch();
+        modelManager.addCustomer(ALICE);
+        modelManager.setCustomerToDisplay(ALICE);
+        modelManager.getChangeBus().endBatch();
+
+        assertTrue(modelManager.canUndo());
+        modelManager.undo();
+        assertFalse(modelManager.hasCustomer(ALICE));
+        assertNull(modelManager.getCustomerToDisplay());
+        assertFalse(modelManager.canUndo());
+
+        assertTrue(modelManager.canRedo());
+        modelManager.redo();
+        assertTrue(modelManager.hasCustomer(ALICE));
+        assertEquals(ALICE, modelManager.getCustomerToDisplay());
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void undo_editedCustomer_restoresCustomerAndOrders() {
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A);
+        modelManager.getChangeBus().beginBatch();
+        Customer editedAlice = new CustomerBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setCustomer(ALICE, editedAlice);
+        modelManager.setCustomerToDisplay(editedAlice);
+        modelManager.getChangeBus().endBatch();
+
+        modelManager.undo();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addCustomer(ALICE);
+        expectedModel.addOrder(ORDER_A);
+        assertEquals(expectedModel.getAddressBook(), modelManager.getAddressBook());
+
+        modelManager.redo();
+        assertEquals(editedAlice, modelManager.getAddressBook().getOrderList().get(0).getCustomer());
+        assertEquals(editedAlice, modelManager.getCustomerToDisplay());
+    }
+
+    @Test
+    public void undo_deletedCustomer_restoresCustomerAndOrders() {
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A);
+        modelManager.setOrderToDisplay(ORDER_A);
+        modelManager.deleteCustomer(ALICE);
+
+        modelManager.undo();
+        assertTrue(modelManager.hasCustomer(ALICE));
+        assertTrue(modelManager.hasOrder(ORDER_A));
+        assertEquals(ORDER_A, modelManager.getOrderToDisplay());
+    }
+
+    @Test
+    public void undo_deletedCustomerInSegment_shownInFilteredList() {
+        Customer markedAlice = new CustomerBuilder(ALICE).withMarked(true).build();
+        modelManager.addCustomer(markedAlice);
+        modelManager.updateFilteredCustomerList(CustomerSegment.MARKED);
+        modelManager.deleteCustomer(markedAlice);
+        assertEquals(Arrays.asList(), modelManager.getFilteredCustomerList());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(markedAlice), modelManager.getFilteredCustomerList());
+    }
+
+    @Test
+    public void undoRedo_orderInStatusQuery_shownInFilteredList() {
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A);
+        modelManager.updateFilteredOrderList(
+                OrderQuery.ALL.withStatus(ORDER_A.getStatus().getLatestStatus().getStatusValue()));
+        modelManager.deleteOrder(ORDER_A);
+        assertEquals(Arrays.asList(), modelManager.getFilteredOrderList());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(ORDER_A), modelManager.getFilteredOrderList());
+
+        modelManager.undo();
+        modelManager.redo();
+        assertEquals(Arrays.asList(ORDER_A), modelManager.getFilteredOrderList());
+    }
+
+    @Test
+    public void undo_pointsChange_restoresPointsInLedger() {
+        modelManager.addCustomer(ALICE);
+        Customer aliceWithPoints = ALICE.newCustomerWithPoints(new Points(100, 100));
+        modelManager.recordPointsChange(ALICE, aliceWithPoints, Reason.ADD_POINTS);
+
+        modelManager.undo();
+        assertEquals(ALICE.getPoints(), getCustomer(modelManager, ALICE).getPoints());
+        List<PointsLedgerEntry> entries = modelManager.getPointsLedger().getEntries();
+        assertEquals(Reason.RESTORED, entries.get(entries.size() - 1).getReason());
+        assertEquals(ALICE.getPoints(), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+
+        modelManager.redo();
+        assertEquals(new Points(100, 100), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+    }
+
+    @Test
+    public void undo_completedOrder_creditedOnceWhenCompletedAgain() throws Exception {
+        modelManager.setAccrualRules(ACCRUE_TEN_PER_UNIT);
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A.advance());
+        completeOnlyOrderInBatch(modelManager);
+        assertEquals(new Points(50, 50), getCustomer(modelManager, ALICE).getPoints());
+
+        modelManager.undo();
+        assertEquals(ALICE.getPoints(), getCustomer(modelManager, ALICE).getPoints());
+
+        completeOnlyOrderInBatch(modelManager);
+        assertEquals(new Points(50, 50), getCustomer(modelManager, ALICE).getPoints());
+        assertEquals(new Points(50, 50), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+    }
+
+    @Test
+    public void redo_completedOrder_notCreditedAgain() throws Exception {
+        modelManager.setAccrualRules(ACCRUE_TEN_PER_UNIT);
+        modelManager.addCustomer(ALICE);
+        modelManager.addOrder(ORDER_A.advance());
+        completeOnlyOrderInBatch(modelManager);
+
+        modelManager.undo();
+        modelManager.redo();
+        assertEquals(0, modelManager.applyPendingAccruals());
+        assertEquals(new Points(50, 50), getCustomer(modelManager, ALICE).getPoints());
+        assertEquals(new Points(50, 50), modelManager.getPointsLedger().getBalance(ALICE.getUid()));
+    }
+
+    @Test
+    public void undo_thenNewChange_cannotRedo() {
+        modelManager.addCustomer(ALICE);
+        modelManager.undo();
+        modelManager.addCustomer(BENSON);
+
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void setAddressBook_clearsHistory() {
+        modelManager.addCustomer(ALICE);
+        modelManager.setAddressBook(new AddressBook());
+
+        assertFalse(modelManager.canUndo());
+    }
+
+    private static void advanceOnlyOrder(Model model) throws Exception {
+        Order order = model.getFilteredOrderList().get(0);
+        model.setOrder(order, order.advance());
+    }
+
+    /**
+     * Completes the only order and credits the points it earns as one batch, as a command completing it would.
+     */
+    private static void completeOnlyOrderInBatch(Model model) throws Exception {
+        model.getChangeBus().beginBatch();
+        try {
+            advanceOnlyOrder(model);
+            model.applyPendingAccruals();
+        } finally {
+            model.getChangeBus().endBatch();
+        }
+    }
+
+    private static Customer getCustomer(Model model, Customer customer) {
+        return new AddressBook(model.getAddressBook()).getCustomer(customer.getUid());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCustomer(ALICE).withCustomer(BENSON).build();
@@ -18,4 +18,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setTierDefinitions_nullTierDefinitions_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setTierDefinitions(null));
+    }
+
+    @Test
+    public void setPointsExpiryDays_negativeDays_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setPointsExpiryDays(-1));
+    }
+
+    @Test
+    public void setCommandAliases_nullAliases_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCommandAliases(null));
+    }
+
 }
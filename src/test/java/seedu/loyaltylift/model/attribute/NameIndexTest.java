@@ -0,0 +1,80 @@
+package seedu.loyaltylift.model.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.DANIEL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ELLE;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class NameIndexTest {
+
+    private NameIndex<Customer> nameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex = new NameIndex<>(Customer::getName);
+        nameIndex.setAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+    }
+
+    @Test
+    public void getWords() {
+        assertEquals(Arrays.asList("alice", "pauline"), NameIndex.getWords("  Alice   PAULINE "));
+        assertEquals(List.of(), NameIndex.getWords("  "));
+    }
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.find(null, false, 1));
+    }
+
+    @Test
+    public void find_fullKeywords_returnsEntitiesContainingAnyKeyword() {
+        assertEquals(Arrays.asList(BENSON, DANIEL), nameIndex.find(List.of("MEIER"), false, 10));
+        assertEquals(Arrays.asList(CARL, ALICE), nameIndex.find(List.of("kurz", "alice"), false, 10));
+        assertEquals(List.of(), nameIndex.find(List.of("mei"), false, 10));
+    }
+
+    @Test
+    public void find_lastKeywordPrefix_returnsEntitiesWithWordsStartingWithIt() {
+        // Meier before Meyer
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), nameIndex.find(List.of("me"), true, 10));
+        assertEquals(Arrays.asList(CARL, BENSON, DANIEL, ELLE), nameIndex.find(List.of("carl", "me"), true, 10));
+        assertEquals(Arrays.asList(CARL), nameIndex.find(List.of("me", "car"), true, 10));
+    }
+
+    @Test
+    public void find_limit_stopsAtLimit() {
+        assertEquals(Arrays.asList(BENSON, DANIEL), nameIndex.find(List.of("me"), true, 2));
+        assertEquals(List.of(), nameIndex.find(List.of("me"), true, 0));
+    }
+
+    @Test
+    public void completeName_returnsDistinctNamesStartingWithPrefix() {
+        nameIndex.add(new CustomerBuilder().withName("benson meier").withPhone("90000000").build());
+        assertEquals(List.of("Benson Meier"), nameIndex.completeName("BENSON m", 10));
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), nameIndex.completeName("", 2));
+        assertEquals(List.of(), nameIndex.completeName("meier", 10));
+    }
+
+    @Test
+    public void setAndRemove_updatesWords() {
+        Customer editedCarl = new CustomerBuilder(CARL).withName("Carl Meier").build();
+        nameIndex.set(CARL, editedCarl);
+        assertEquals(List.of(), nameIndex.find(List.of("kurz"), false, 10));
+        assertEquals(Arrays.asList(BENSON, DANIEL, editedCarl), nameIndex.find(List.of("meier"), false, 10));
+
+        nameIndex.remove(BENSON);
+        assertEquals(Arrays.asList(DANIEL, editedCarl), nameIndex.find(List.of("meier"), false, 10));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.loyaltylift.model.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class NoteIndexTest {
+
+    private static final Customer ALICE = new CustomerBuilder().withName("Alice")
+            .withNote("Prefers no eggs in her cakes").build();
+    private static final Customer BOB = new CustomerBuilder().withName("Bob")
+            .withNote("Allergic to eggs, no nuts either").build();
+    private static final Customer CARL = new CustomerBuilder().withName("Carl").withNote("").build();
+
+    private NoteIndex<Customer> noteIndex;
+
+    @BeforeEach
+    public void setUp() {
+        noteIndex = new NoteIndex<>(Customer::getNote);
+        noteIndex.add(ALICE);
+        noteIndex.add(BOB);
+        noteIndex.add(CARL);
+    }
+
+    @Test
+    public void tokenize() {
+        assertEquals(Arrays.asList("no", "eggs", "2", "cakes"), NoteIndex.tokenize("  No EGGS, 2 cakes!"));
+        assertTrue(NoteIndex.tokenize(" ,.! ").isEmpty());
+    }
+
+    @Test
+    public void search_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> noteIndex.search(null));
+    }
+
+    @Test
+    public void search_keywords_returnsEntitiesContainingAllKeywords() {
+        assertEquals(Arrays.asList(ALICE, BOB), search("eggs"));
+        assertEquals(Arrays.asList(BOB), search("EGGS", "nuts"));
+        assertEquals(Arrays.asList(), search("eggs", "unknown"));
+    }
+
+    @Test
+    public void search_phrase_returnsEntitiesWithConsecutiveTokens() {
+        assertEquals(Arrays.asList(ALICE), search("no eggs"));
+        assertEquals(Arrays.asList(BOB), search("eggs no"));
+        assertEquals(Arrays.asList(), search("eggs cakes"));
+    }
+
+    @Test
+    public void search_snippet_highlightsFirstPhrase() {
+        List<NoteMatch<Customer>> matches = noteIndex.search(new NoteQuery(Arrays.asList("no eggs")));
+        assertEquals("Prefers [no eggs] in her cakes", matches.get(0).getSnippet());
+
+        Customer longNote = new CustomerBuilder().withName("Dan")
+                .withNote("This customer has a very long note that goes on and on, but somewhere in the middle "
+                        + "it mentions a birthday cake that should be delivered on time to the office").build();
+        noteIndex.add(longNote);
+        matches = noteIndex.search(new NoteQuery(Arrays.asList("birthday")));
+        assertEquals("...e in the middle it mentions a [birthday] cake that should be delivered...",
+                matches.get(0).getSnippet());
+    }
+
+    @Test
+    public void set_noteAppended_indexesAppendedTokens() {
+        Customer editedAlice = new CustomerBuilder(ALICE).withNote(ALICE.getNote().value + " and cupcakes").build();
+        noteIndex.set(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), search("cakes and cupcakes"));
+        assertEquals(Arrays.asList(editedAlice, BOB), search("eggs"));
+
+        // appended text continues the last token
+        Customer editedBob = new CustomerBuilder(BOB).withNote(BOB.getNote().value + "s").build();
+        noteIndex.set(BOB, editedBob);
+        assertEquals(Arrays.asList(editedBob), search("nuts eithers"));
+        assertEquals(Arrays.asList(), search("either"));
+    }
+
+    @Test
+    public void set_noteReplaced_reindexesNote() {
+        Customer editedAlice = new CustomerBuilder(ALICE).withNote("Loves chocolate").build();
+        noteIndex.set(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BOB), search("eggs"));
+        assertEquals(Arrays.asList(editedAlice), search("chocolate"));
+    }
+
+    @Test
+    public void set_noteUnchanged_keepsEntityMatchable() {
+        Customer editedCarl = new CustomerBuilder(CARL).withNote("birthday").build();
+        noteIndex.set(CARL, editedCarl);
+        Customer renamedCarl = new CustomerBuilder(editedCarl).withPhone("99999999").build();
+        noteIndex.set(editedCarl, renamedCarl);
+        assertEquals(Arrays.asList(renamedCarl), search("birthday"));
+    }
+
+    @Test
+    public void remove_entity_noLongerMatches() {
+        noteIndex.remove(ALICE);
+        assertEquals(Arrays.asList(BOB), search("eggs"));
+        assertEquals(2, noteIndex.size());
+
+        // freed slots are reused
+        noteIndex.add(ALICE);
+        assertEquals(3, noteIndex.size());
+        assertEquals(Arrays.asList(ALICE, BOB), search("eggs"));
+    }
+
+    private List<Customer> search(String... phrases) {
+        return noteIndex.search(new NoteQuery(Arrays.asList(phrases))).stream()
+                .map(NoteMatch::getEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.loyaltylift.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.DANIEL;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class CumulativePointsIndexTest {
+
+    private static final Customer NONE_ALICE = new CustomerBuilder(ALICE).withPoints(500, 500).build();
+    private static final Customer BRONZE_BENSON = new CustomerBuilder(BENSON).withPoints(100, 3000).build();
+    private static final Customer SILVER_CARL = new CustomerBuilder(CARL).withPoints(0, 7000).build();
+    private static final Customer GOLD_DANIEL = new CustomerBuilder(DANIEL).withPoints(2000, 20000).build();
+
+    private final CumulativePointsIndex index = new CumulativePointsIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setAll(Arrays.asList(NONE_ALICE, BRONZE_BENSON, SILVER_CARL, GOLD_DANIEL));
+    }
+
+    @Test
+    public void getCustomersChangingTier_sameDefinitions_noCustomers() {
+        assertEquals(List.of(), index.getCustomersChangingTier(TierDefinitions.DEFAULT, TierDefinitions.DEFAULT));
+    }
+
+    @Test
+    public void getCustomersChangingTier_thresholdRaised_onlyCustomersBetweenThresholds() {
+        // silver from 5000 to 8000: only customers with 5000 to 7999 cumulative points move
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(Tier.BRONZE, new Tier("Silver", 8000),
+                Tier.GOLD));
+        assertEquals(List.of(SILVER_CARL), index.getCustomersChangingTier(TierDefinitions.DEFAULT, tierDefinitions));
+    }
+
+    @Test
+    public void getCustomersChangingTier_tierAddedAndRemoved() {
+        // bronze removed, platinum added from 15000
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(Tier.SILVER, Tier.GOLD,
+                new Tier("Platinum", 15000)));
+        assertEquals(Set.of(BRONZE_BENSON, GOLD_DANIEL),
+                new HashSet<>(index.getCustomersChangingTier(TierDefinitions.DEFAULT, tierDefinitions)));
+    }
+
+    @Test
+    public void set_cumulativePointsChanged_customerMoved() {
+        Customer goldAlice = new CustomerBuilder(ALICE).withPoints(500, 12000).build();
+        index.set(NONE_ALICE, goldAlice);
+        index.remove(GOLD_DANIEL);
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(Tier.BRONZE, Tier.SILVER));
+        assertEquals(List.of(goldAlice), index.getCustomersChangingTier(TierDefinitions.DEFAULT, tierDefinitions));
+    }
+}
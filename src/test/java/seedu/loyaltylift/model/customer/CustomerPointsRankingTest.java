@@ -0,0 +1,87 @@
+package seedu.loyaltylift.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+import static seedu.loyaltylift.testutil.TypicalCustomers.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class CustomerPointsRankingTest {
+
+    private static final Customer ALICE_WITH_POINTS = new CustomerBuilder(ALICE).withPoints(500, 800).build();
+    private static final Customer BENSON_WITH_POINTS = new CustomerBuilder(BENSON).withPoints(2000, 2000).build();
+    private static final Customer CARL_WITH_POINTS = new CustomerBuilder(CARL).withPoints(500, 500).build();
+
+    private final CustomerPointsRanking ranking = new CustomerPointsRanking();
+
+    @BeforeEach
+    public void setUp() {
+        ranking.setAll(Arrays.asList(ALICE_WITH_POINTS, BENSON_WITH_POINTS, CARL_WITH_POINTS, DANIEL));
+    }
+
+    @Test
+    public void getRank_rankedByPointsThenCumulativePoints() {
+        assertEquals(1, ranking.getRank(BENSON_WITH_POINTS));
+        assertEquals(2, ranking.getRank(ALICE_WITH_POINTS));
+        assertEquals(3, ranking.getRank(CARL_WITH_POINTS));
+        assertEquals(4, ranking.getRank(DANIEL));
+    }
+
+    @Test
+    public void getRank_customerNotRanked_returnsZero() {
+        assertEquals(0, ranking.getRank(ALICE));
+    }
+
+    @Test
+    public void getTop() {
+        assertEquals(List.of(BENSON_WITH_POINTS, ALICE_WITH_POINTS), ranking.getTop(2));
+        assertEquals(List.of(BENSON_WITH_POINTS, ALICE_WITH_POINTS, CARL_WITH_POINTS, DANIEL), ranking.getTop(10));
+        assertEquals(List.of(), ranking.getTop(0));
+    }
+
+    @Test
+    public void getTop_pointsRange_onlyCustomersInRange() {
+        assertEquals(List.of(ALICE_WITH_POINTS, CARL_WITH_POINTS), ranking.getTop(10, 500, 1999));
+        assertEquals(List.of(ALICE_WITH_POINTS), ranking.getTop(1, 1, 500));
+        assertEquals(List.of(), ranking.getTop(10, 501, 1999));
+        assertThrows(IllegalArgumentException.class, () -> ranking.getTop(10, 2, 1));
+    }
+
+    @Test
+    public void set_pointsChanged_rankUpdated() {
+        Customer editedCarl = new CustomerBuilder(CARL).withPoints(3000, 3000).build();
+        ranking.set(CARL_WITH_POINTS, editedCarl);
+        assertEquals(1, ranking.getRank(editedCarl));
+        assertEquals(0, ranking.getRank(CARL_WITH_POINTS));
+        assertEquals(2, ranking.getRank(BENSON_WITH_POINTS));
+    }
+
+    @Test
+    public void set_targetNotRanked_nothingChanges() {
+        ranking.set(ALICE, CARL);
+        assertEquals(4, ranking.size());
+        assertEquals(0, ranking.getRank(CARL));
+    }
+
+    @Test
+    public void asTopPredicate_followsChanges() {
+        Predicate<Customer> topCustomer = ranking.asTopPredicate(1, Points.MINIMUM_POINTS, Points.MAXIMUM_POINTS);
+        assertTrue(topCustomer.test(BENSON_WITH_POINTS));
+
+        ranking.remove(BENSON_WITH_POINTS);
+        assertFalse(topCustomer.test(BENSON_WITH_POINTS));
+        assertTrue(topCustomer.test(ALICE_WITH_POINTS));
+    }
+}
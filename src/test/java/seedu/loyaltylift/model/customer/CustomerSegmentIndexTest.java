@@ -0,0 +1,138 @@
+package seedu.loyaltylift.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+import seedu.loyaltylift.testutil.OrderBuilder;
+
+public class CustomerSegmentIndexTest {
+
+    private static final Customer ANN = new CustomerBuilder().withName("Ann")
+            .withCustomerType(CustomerType.INDIVIDUAL).withPoints(50, 50).withMarked(true).build();
+    private static final Customer BEN = new CustomerBuilder().withName("Ben")
+            .withCustomerType(CustomerType.ENTERPRISE).withPoints(750, 6000).build();
+    private static final Customer CAT = new CustomerBuilder().withName("Cat")
+            .withCustomerType(CustomerType.INDIVIDUAL).withPoints(120000, 120000).build();
+
+    private CustomerSegmentIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new CustomerSegmentIndex();
+        index.setCustomers(Arrays.asList(ANN, BEN, CAT));
+    }
+
+    @Test
+    public void resolve_attributes() {
+        assertEquals(slots(0, 1, 2), CustomerSegment.ALL.resolve(index));
+        assertEquals(slots(0), CustomerSegment.MARKED.resolve(index));
+        assertEquals(slots(0, 2), CustomerSegment.ofType(CustomerType.INDIVIDUAL).resolve(index));
+        assertEquals(slots(1), CustomerSegment.ofTier(Tier.SILVER).resolve(index));
+        assertEquals(slots(), CustomerSegment.ofTier(Tier.BRONZE).resolve(index));
+    }
+
+    @Test
+    public void resolve_points() {
+        assertEquals(slots(1, 2), CustomerSegment.withPointsAtLeast(500).resolve(index));
+        assertEquals(slots(1, 2), CustomerSegment.withPointsAtLeast(750).resolve(index));
+        assertEquals(slots(2), CustomerSegment.withPointsAtLeast(751).resolve(index));
+        assertEquals(slots(0, 1, 2), CustomerSegment.withPointsAtLeast(0).resolve(index));
+        assertEquals(slots(0), CustomerSegment.withPointsBelow(51).resolve(index));
+        assertEquals(slots(0, 1), CustomerSegment.withPointsBelow(100000).resolve(index));
+    }
+
+    @Test
+    public void resolve_compoundSegment() {
+        CustomerSegment segment = CustomerSegment.ofType(CustomerType.INDIVIDUAL)
+                .and(CustomerSegment.MARKED.not())
+                .or(CustomerSegment.ofTier(Tier.SILVER));
+        assertEquals(slots(1, 2), segment.resolve(index));
+    }
+
+    @Test
+    public void setCustomer_keepsSlotAndReindexesAttributes() {
+        Customer markedBen = new CustomerBuilder(BEN).withMarked(true).withPoints(10, 6000).build();
+        index.setCustomer(BEN, markedBen);
+        assertEquals(slots(0, 1), CustomerSegment.MARKED.resolve(index));
+        assertEquals(slots(0, 1), CustomerSegment.withPointsBelow(100).resolve(index));
+    }
+
+    @Test
+    public void removeCustomer_slotReused() {
+        index.removeCustomer(ANN);
+        assertEquals(slots(1, 2), CustomerSegment.ALL.resolve(index));
+        assertEquals(slots(), CustomerSegment.MARKED.resolve(index));
+
+        Customer dan = new CustomerBuilder().withName("Dan").build();
+        index.addCustomer(dan);
+        assertEquals(3, index.size());
+        assertEquals(slots(0, 1, 2), CustomerSegment.ALL.resolve(index));
+    }
+
+    @Test
+    public void orders_trackPendingCustomers() {
+        Order pendingOrder = new OrderBuilder().withCustomer(BEN).build();
+        Order otherPendingOrder = new OrderBuilder().withCustomer(BEN).withName("Cake").build();
+        index.setOrders(Arrays.asList(pendingOrder, otherPendingOrder));
+        assertEquals(slots(1), CustomerSegment.PENDING.resolve(index));
+
+        // advancing one order keeps the other pending
+        index.setOrder(pendingOrder, new OrderBuilder(pendingOrder).withNextStatus("2022/12/21").build());
+        assertEquals(slots(1), CustomerSegment.PENDING.resolve(index));
+
+        // pending orders follow an edited customer
+        Customer editedBen = new CustomerBuilder(BEN).withName("Benjamin").build();
+        index.setCustomer(BEN, editedBen);
+        index.setOrder(otherPendingOrder, new OrderBuilder(otherPendingOrder).withCustomer(editedBen).build());
+        assertEquals(slots(1), CustomerSegment.PENDING.resolve(index));
+
+        index.removeOrder(new OrderBuilder(otherPendingOrder).withCustomer(editedBen).build());
+        assertEquals(slots(), CustomerSegment.PENDING.resolve(index));
+    }
+
+    @Test
+    public void asPredicate_followsChanges() {
+        Predicate<Customer> isMarked = index.asPredicate(CustomerSegment.MARKED);
+        assertTrue(isMarked.test(ANN));
+        assertFalse(isMarked.test(BEN));
+
+        Customer markedBen = new CustomerBuilder(BEN).withMarked(true).build();
+        index.setCustomer(BEN, markedBen);
+        assertTrue(isMarked.test(markedBen));
+
+        // customers that are not indexed never match
+        assertFalse(isMarked.test(new CustomerBuilder().withName("Zed").withMarked(true).build()));
+    }
+
+    @Test
+    public void setTierDefinitions_changedCustomersMoved() {
+        Predicate<Customer> isRuby = index.asPredicate(CustomerSegment.ofTier("ruby"));
+        assertFalse(isRuby.test(CAT));
+
+        // only Cat reaches the new tier, so only Cat is moved
+        index.setTierDefinitions(new TierDefinitions(List.of(Tier.SILVER, new Tier("Ruby", 100000))),
+                List.of(CAT));
+        assertTrue(isRuby.test(CAT));
+        assertEquals(slots(2), CustomerSegment.ofTier("RUBY").resolve(index));
+        assertEquals(slots(1), CustomerSegment.ofTier(Tier.SILVER).resolve(index));
+        assertEquals(slots(), CustomerSegment.ofTier(Tier.GOLD).resolve(index));
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet bitSet = new BitSet();
+        Arrays.stream(slots).forEach(bitSet::set);
+        return bitSet;
+    }
+}
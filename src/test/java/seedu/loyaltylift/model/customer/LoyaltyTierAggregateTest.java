@@ -0,0 +1,80 @@
+package seedu.loyaltylift.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CHOCOLATE_FACTORY;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+
+public class LoyaltyTierAggregateTest {
+
+    private static final Customer GOLD_ALICE = new CustomerBuilder(ALICE).withPoints(300, 12000).build();
+    private static final Customer BRONZE_BENSON = new CustomerBuilder(BENSON).withPoints(1500, 1500).build();
+    private static final Customer GOLD_FACTORY = new CustomerBuilder(CHOCOLATE_FACTORY)
+            .withPoints(10000, 10000).build();
+
+    private final LoyaltyTierAggregate aggregate = new LoyaltyTierAggregate();
+
+    @BeforeEach
+    public void setUp() {
+        aggregate.setAll(Arrays.asList(GOLD_ALICE, BRONZE_BENSON, GOLD_FACTORY));
+    }
+
+    @Test
+    public void setAll_countsAndTotalsPerTierAndType() {
+        assertEquals(2, aggregate.getCount(Tier.GOLD));
+        assertEquals(1, aggregate.getCount(Tier.GOLD, CustomerType.ENTERPRISE));
+        assertEquals(10300, aggregate.getTotalPoints(Tier.GOLD));
+        assertEquals(1, aggregate.getCount(Tier.BRONZE));
+        assertEquals(0, aggregate.getCount(Tier.SILVER));
+        assertEquals(2, aggregate.getCount(CustomerType.INDIVIDUAL));
+        assertEquals(1800, aggregate.getTotalPoints(CustomerType.INDIVIDUAL));
+    }
+
+    @Test
+    public void set_tierChanged_customerMovesBetweenTiers() {
+        Customer silverBenson = new CustomerBuilder(BENSON).withPoints(6000, 6000).build();
+        aggregate.set(BRONZE_BENSON, silverBenson);
+        assertEquals(0, aggregate.getCount(Tier.BRONZE));
+        assertEquals(0, aggregate.getTotalPoints(Tier.BRONZE));
+        assertEquals(1, aggregate.getCount(Tier.SILVER, CustomerType.INDIVIDUAL));
+        assertEquals(6000, aggregate.getTotalPoints(Tier.SILVER));
+    }
+
+    @Test
+    public void remove_totalsReduced() {
+        aggregate.remove(GOLD_FACTORY);
+        assertEquals(1, aggregate.getCount(Tier.GOLD));
+        assertEquals(300, aggregate.getTotalPoints(Tier.GOLD));
+        assertEquals(0, aggregate.getCount(CustomerType.ENTERPRISE));
+    }
+
+    @Test
+    public void setTierDefinitions_changedCustomersMoved() {
+        // gold raised above Alice's cumulative points, and bronze removed
+        Tier gold = new Tier("Gold", 11000);
+        aggregate.setTierDefinitions(new TierDefinitions(List.of(Tier.SILVER, gold)),
+                Arrays.asList(BRONZE_BENSON, GOLD_FACTORY));
+        assertEquals(1, aggregate.getCount(Tier.GOLD));
+        assertEquals(1, aggregate.getCount(Tier.SILVER, CustomerType.ENTERPRISE));
+        assertEquals(10000, aggregate.getTotalPoints(Tier.SILVER));
+        assertEquals(1, aggregate.getCount(Tier.NONE));
+        assertEquals(0, aggregate.getCount(Tier.BRONZE));
+        assertEquals(3, aggregate.getCount(CustomerType.INDIVIDUAL) + aggregate.getCount(CustomerType.ENTERPRISE));
+    }
+
+    @Test
+    public void setAll_replacesTotals() {
+        aggregate.setAll(Arrays.asList(ALICE));
+        assertEquals(1, aggregate.getCount(Tier.NONE));
+        assertEquals(0, aggregate.getCount(Tier.GOLD));
+    }
+}
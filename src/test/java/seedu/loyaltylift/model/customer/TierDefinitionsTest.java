@@ -0,0 +1,86 @@
+package seedu.loyaltylift.model.customer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Points.Tier;
+
+public class TierDefinitionsTest {
+
+    private static final Tier RUBY = new Tier("Ruby", 50000);
+
+    @Test
+    public void constructor_invalidTiers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TierDefinitions(List.of(new Tier("Gold", 0))));
+    }
+
+    @Test
+    public void isValidTiers() {
+        // valid tiers
+        assertTrue(TierDefinitions.isValidTiers(List.of()));
+        assertTrue(TierDefinitions.isValidTiers(List.of(Tier.GOLD, Tier.BRONZE, RUBY)));
+
+        // invalid name
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("Gold 2", 100))));
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("", 100))));
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("None", 100))));
+
+        // invalid minimum cumulative points
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("Gold", 0))));
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("Gold", Points.MAXIMUM_POINTS + 1))));
+
+        // duplicate name, ignoring case, or duplicate minimum cumulative points
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("Gold", 100), new Tier("GOLD", 200))));
+        assertFalse(TierDefinitions.isValidTiers(List.of(new Tier("Gold", 100), new Tier("Silver", 100))));
+    }
+
+    @Test
+    public void getTier_boundaries() {
+        TierDefinitions tierDefinitions = TierDefinitions.DEFAULT;
+        assertEquals(Tier.NONE, tierDefinitions.getTier(0));
+        assertEquals(Tier.NONE, tierDefinitions.getTier(999));
+        assertEquals(Tier.BRONZE, tierDefinitions.getTier(1000));
+        assertEquals(Tier.SILVER, tierDefinitions.getTier(9999));
+        assertEquals(Tier.GOLD, tierDefinitions.getTier(Points.MAXIMUM_POINTS));
+    }
+
+    @Test
+    public void getTiers_sortedFromLowest() {
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(RUBY, Tier.BRONZE));
+        assertEquals(Arrays.asList(Tier.NONE, Tier.BRONZE, RUBY), tierDefinitions.getTiers());
+        assertEquals(List.of(0, 1000, 50000), List.copyOf(tierDefinitions.getBoundaries()));
+    }
+
+    @Test
+    public void findTier() {
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(RUBY));
+        assertEquals(Optional.of(RUBY), tierDefinitions.findTier("rUBY"));
+        assertEquals(Optional.of(Tier.NONE), tierDefinitions.findTier("none"));
+        assertEquals(Optional.empty(), tierDefinitions.findTier("gold"));
+    }
+
+    @Test
+    public void equals() {
+        TierDefinitions tierDefinitions = new TierDefinitions(List.of(Tier.GOLD, Tier.SILVER, Tier.BRONZE));
+
+        // same tiers in any order -> returns true
+        assertEquals(TierDefinitions.DEFAULT, tierDefinitions);
+        assertEquals(TierDefinitions.DEFAULT.hashCode(), tierDefinitions.hashCode());
+
+        // different minimum cumulative points -> returns false
+        assertNotEquals(TierDefinitions.DEFAULT,
+                new TierDefinitions(List.of(Tier.BRONZE, Tier.SILVER, new Tier("Gold", 20000))));
+
+        // different tiers -> returns false
+        assertNotEquals(TierDefinitions.DEFAULT, new TierDefinitions(List.of(Tier.BRONZE, Tier.SILVER)));
+    }
+}
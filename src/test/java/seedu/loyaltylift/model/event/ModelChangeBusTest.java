@@ -0,0 +1,128 @@
+package seedu.loyaltylift.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.event.ModelChangeEvent.Batch;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderStatusChanged;
+import seedu.loyaltylift.model.event.ModelChangeEvent.OrderUpdated;
+
+public class ModelChangeBusTest {
+
+    private final ModelChangeBus changeBus = new ModelChangeBus();
+
+    @Test
+    public void publish_subscribedType_receivedIncludingSubtypes() throws Exception {
+        List<ModelChangeEvent> customerEvents = new ArrayList<>();
+        List<ModelChangeEvent> orderEvents = new ArrayList<>();
+        changeBus.subscribe(CustomerAdded.class, customerEvents::add);
+        changeBus.subscribe(OrderUpdated.class, orderEvents::add);
+
+        CustomerAdded customerAdded = new CustomerAdded(ALICE);
+        OrderStatusChanged statusChanged = new OrderStatusChanged(ORDER_A, ORDER_A.advance());
+        changeBus.publish(customerAdded);
+        changeBus.publish(new CustomerRemoved(ALICE));
+        changeBus.publish(statusChanged);
+
+        assertEquals(List.of(customerAdded), customerEvents);
+        assertEquals(List.of(statusChanged), orderEvents);
+    }
+
+    @Test
+    public void publish_outsideBatch_deliveredAsBatchOfOne() {
+        List<Batch> batches = new ArrayList<>();
+        changeBus.subscribe(Batch.class, batches::add);
+
+        CustomerAdded customerAdded = new CustomerAdded(ALICE);
+        changeBus.publish(customerAdded);
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of(customerAdded), batches.get(0).getEvents());
+    }
+
+    @Test
+    public void endBatch_nestedBatches_deliveredOnceAtOutermostEnd() {
+        List<Batch> batches = new ArrayList<>();
+        List<ModelChangeEvent> events = new ArrayList<>();
+        changeBus.subscribe(Batch.class, batches::add);
+        changeBus.subscribe(CustomerAdded.class, events::add);
+
+        CustomerAdded aliceAdded = new CustomerAdded(ALICE);
+        CustomerAdded bensonAdded = new CustomerAdded(BENSON);
+        changeBus.beginBatch();
+        changeBus.publish(aliceAdded);
+        changeBus.beginBatch();
+        changeBus.publish(bensonAdded);
+        changeBus.endBatch();
+
+        // events are received as they are published, but the batch only once it ends
+        assertEquals(List.of(aliceAdded, bensonAdded), events);
+        assertTrue(batches.isEmpty());
+        assertTrue(changeBus.isInBatch());
+
+        changeBus.endBatch();
+        assertFalse(changeBus.isInBatch());
+        assertEquals(1, batches.size());
+        assertEquals(List.of(aliceAdded, bensonAdded), batches.get(0).getEvents());
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, changeBus::endBatch);
+    }
+
+    @Test
+    public void publish_batch_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> changeBus.publish(new Batch(List.of())));
+    }
+
+    @Test
+    public void unsubscribe_subscriber_stopsReceiving() {
+        List<ModelChangeEvent> events = new ArrayList<>();
+        ModelChangeBus.Subscription<CustomerAdded> subscription = changeBus.subscribe(CustomerAdded.class, events::add);
+
+        subscription.unsubscribe();
+        changeBus.publish(new CustomerAdded(ALICE));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void subscribeAsync_concurrentExecutor_receivedInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<ModelChangeEvent> events = new ArrayList<>();
+        changeBus.subscribeAsync(ModelChangeEvent.class, events::add, executor);
+
+        List<ModelChangeEvent> expectedEvents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            CustomerAdded event = new CustomerAdded(i % 2 == 0 ? ALICE : BENSON);
+            expectedEvents.add(event);
+            changeBus.beginBatch();
+            changeBus.publish(event);
+            changeBus.endBatch();
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        // each event is followed by the batch containing it
+        assertEquals(200, events.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expectedEvents.get(i), events.get(2 * i));
+            assertEquals(List.of(expectedEvents.get(i)), ((Batch) events.get(2 * i + 1)).getEvents());
+        }
+    }
+}
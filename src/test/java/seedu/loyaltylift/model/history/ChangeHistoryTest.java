@@ -0,0 +1,96 @@
+package seedu.loyaltylift.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalCustomers.ALICE;
+import static seedu.loyaltylift.testutil.TypicalCustomers.BENSON;
+import static seedu.loyaltylift.testutil.TypicalCustomers.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.event.ModelChangeEvent;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerAdded;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerRemoved;
+import seedu.loyaltylift.model.event.ModelChangeEvent.CustomerUpdated;
+
+public class ChangeHistoryTest {
+
+    private final ChangeHistory history = new ChangeHistory(2);
+    private final List<ModelChangeEvent> applied = new ArrayList<>();
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(0));
+    }
+
+    @Test
+    public void endStep_noChanges_nothingToUndo() {
+        history.endStep(null, null);
+        assertFalse(history.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> history.undo(applied::addAll));
+    }
+
+    @Test
+    public void undo_appliesInverseChangesInReverseOrder() {
+        history.record(new CustomerAdded(ALICE), null, null);
+        history.record(new CustomerUpdated(ALICE, BENSON), null, null);
+        history.endStep(BENSON, null);
+
+        HistoryStep step = history.undo(applied::addAll);
+        assertEquals(BENSON, step.getCustomerDisplayedAfter());
+        assertEquals(2, applied.size());
+        CustomerUpdated inverseUpdate = (CustomerUpdated) applied.get(0);
+        assertEquals(BENSON, inverseUpdate.getOldCustomer());
+        assertEquals(ALICE, inverseUpdate.getNewCustomer());
+        assertEquals(ALICE, ((CustomerRemoved) applied.get(1)).getCustomer());
+
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+        applied.clear();
+        history.redo(applied::addAll);
+        assertEquals(step.getEvents(), applied);
+    }
+
+    @Test
+    public void record_whileRestoring_notRecorded() {
+        history.record(new CustomerAdded(ALICE), null, null);
+        history.endStep(null, null);
+
+        history.undo(changes -> history.record(new CustomerRemoved(ALICE), null, null));
+        history.endStep(null, null);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void endStep_overCapacity_dropsOldestStep() {
+        for (ModelChangeEvent event : List.of(new CustomerAdded(ALICE), new CustomerAdded(BENSON),
+                new CustomerAdded(CARL))) {
+            history.record(event, null, null);
+            history.endStep(null, null);
+        }
+
+        history.undo(applied::addAll);
+        history.undo(applied::addAll);
+        assertFalse(history.canUndo());
+        assertEquals(CARL, ((CustomerRemoved) applied.get(0)).getCustomer());
+        assertEquals(BENSON, ((CustomerRemoved) applied.get(1)).getCustomer());
+    }
+
+    @Test
+    public void clear_forgetsStepsAndCurrentChanges() {
+        history.record(new CustomerAdded(ALICE), null, null);
+        history.endStep(null, null);
+        history.record(new CustomerAdded(BENSON), null, null);
+        history.clear();
+        history.endStep(null, null);
+
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.loyaltylift.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_B;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_C;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_D;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.testutil.OrderBuilder;
+
+public class OrderDateIndexTest {
+
+    private final OrderDateIndex orderDateIndex = new OrderDateIndex();
+
+    @BeforeEach
+    public void setUp() {
+        orderDateIndex.setAll(Arrays.asList(ORDER_A, ORDER_B, ORDER_C, ORDER_D));
+    }
+
+    @Test
+    public void getOrdersCreatedBetween_boundsInclusive() {
+        assertEquals(Set.of(ORDER_B, ORDER_C, ORDER_D),
+                orderDateIndex.getOrdersCreatedBetween(date("2022/12/12"), date("2022/12/20")));
+        assertEquals(Set.of(ORDER_B, ORDER_C),
+                orderDateIndex.getOrdersCreatedBetween(date("2022/12/13"), date("2022/12/20")));
+    }
+
+    @Test
+    public void countCreatedBetween() {
+        assertEquals(3, orderDateIndex.countCreatedBetween(date("2022/12/12"), date("2022/12/20")));
+        assertEquals(2, orderDateIndex.countCreatedBetween(date("2022/12/20"), date("2022/12/20")));
+        assertEquals(4, orderDateIndex.countCreatedBetween(null, null));
+        assertEquals(0, orderDateIndex.countCreatedBetween(date("2024/01/01"), null));
+    }
+
+    @Test
+    public void getOrdersCreatedBetween_openBounds() {
+        assertEquals(Set.of(ORDER_A), orderDateIndex.getOrdersCreatedBetween(date("2023/01/01"), null));
+        assertEquals(Set.of(ORDER_D), orderDateIndex.getOrdersCreatedBetween(null, date("2022/12/19")));
+        assertEquals(Set.of(ORDER_A, ORDER_B, ORDER_C, ORDER_D), orderDateIndex.getOrdersCreatedBetween(null, null));
+    }
+
+    @Test
+    public void getOrdersReachingStageBetween_onlyThatStageMatches() {
+        assertEquals(Set.of(ORDER_C),
+                orderDateIndex.getOrdersReachingStageBetween(StatusValue.SHIPPED, date("2023/02/01"), null));
+        assertEquals(Set.of(ORDER_B, ORDER_C),
+                orderDateIndex.getOrdersReachingStageBetween(StatusValue.PENDING, date("2022/12/01"), null));
+        assertEquals(Set.of(), orderDateIndex.getOrdersReachingStageBetween(StatusValue.COMPLETED, null, null));
+    }
+
+    @Test
+    public void set_statusAdvanced_stageDateIndexed() {
+        Order advancedOrder = new OrderBuilder(ORDER_B).withNextStatus("2023/03/01").build();
+        orderDateIndex.set(ORDER_B, advancedOrder);
+        assertEquals(Set.of(advancedOrder),
+                orderDateIndex.getOrdersReachingStageBetween(StatusValue.PAID, date("2023/03/01"), date("2023/03/01")));
+        assertTrue(orderDateIndex.hasReachedStageBetween(advancedOrder, StatusValue.PAID, date("2023/03/01"), null));
+        assertFalse(orderDateIndex.hasReachedStageBetween(ORDER_B, StatusValue.PENDING, null, null));
+    }
+
+    @Test
+    public void set_targetNotIndexed_nothingChanges() {
+        Order order = new OrderBuilder().withName("Unknown").build();
+        orderDateIndex.set(order, ORDER_A);
+        assertEquals(Set.of(ORDER_A, ORDER_B, ORDER_C, ORDER_D), orderDateIndex.getOrdersCreatedBetween(null, null));
+    }
+
+    @Test
+    public void remove_orderNoLongerMatches() {
+        orderDateIndex.remove(ORDER_C);
+        assertFalse(orderDateIndex.isCreatedBetween(ORDER_C, null, null));
+        assertEquals(Set.of(ORDER_B), orderDateIndex.getOrdersCreatedBetween(date("2022/12/20"), date("2022/12/20")));
+        assertEquals(Set.of(), orderDateIndex.getOrdersReachingStageBetween(StatusValue.SHIPPED, null, null));
+    }
+
+    @Test
+    public void isCreatedBetween() {
+        assertTrue(orderDateIndex.isCreatedBetween(ORDER_A, date("2023/01/09"), date("2023/01/09")));
+        assertFalse(orderDateIndex.isCreatedBetween(ORDER_A, null, date("2023/01/08")));
+    }
+
+    @Test
+    public void getOrdersReachingStageBetween_nullStage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> orderDateIndex.getOrdersReachingStageBetween(null, null, null));
+    }
+
+    private static LocalDate date(String date) {
+        return LocalDate.parse(date, CreatedDate.DATE_FORMATTER);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.loyaltylift.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_A;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_B;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_C;
+import static seedu.loyaltylift.testutil.TypicalOrders.ORDER_D;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.MapChangeListener;
+import seedu.loyaltylift.testutil.OrderBuilder;
+
+public class OrderStatusIndexTest {
+
+    private final OrderStatusIndex orderStatusIndex = new OrderStatusIndex();
+
+    @BeforeEach
+    public void setUp() {
+        orderStatusIndex.setAll(Arrays.asList(ORDER_A, ORDER_B, ORDER_C, ORDER_D));
+    }
+
+    @Test
+    public void setAll_ordersGroupedByLatestStatus() {
+        assertEquals(Set.of(ORDER_A), orderStatusIndex.getOrders(StatusValue.PAID));
+        assertEquals(Set.of(ORDER_B, ORDER_D), orderStatusIndex.getOrders(StatusValue.PENDING));
+        assertEquals(Set.of(ORDER_C), orderStatusIndex.getOrders(StatusValue.SHIPPED));
+        assertEquals(0, orderStatusIndex.count(StatusValue.COMPLETED));
+        assertEquals(Integer.valueOf(2), orderStatusIndex.asUnmodifiableObservableCounts().get(StatusValue.PENDING));
+    }
+
+    @Test
+    public void set_statusAdvanced_orderMovesToNewStatus() {
+        Order advancedOrder = new OrderBuilder(ORDER_B).withNextStatus("2023/01/01").build();
+        orderStatusIndex.set(ORDER_B, advancedOrder);
+        assertEquals(Set.of(ORDER_D), orderStatusIndex.getOrders(StatusValue.PENDING));
+        assertEquals(Set.of(ORDER_A, advancedOrder), orderStatusIndex.getOrders(StatusValue.PAID));
+    }
+
+    @Test
+    public void countReachedBetween_countsLatestStatusByDateReached() {
+        assertEquals(2, orderStatusIndex.countReachedBetween(StatusValue.PENDING, null, null));
+        assertEquals(1, orderStatusIndex.countReachedBetween(StatusValue.PENDING,
+                LocalDate.of(2023, 2, 9), LocalDate.of(2023, 2, 9)));
+        assertEquals(1, orderStatusIndex.countReachedBetween(StatusValue.PENDING, null, LocalDate.of(2023, 2, 8)));
+        // ORDER_C was pending on this date, but is now shipped
+        assertEquals(0, orderStatusIndex.countReachedBetween(StatusValue.PENDING,
+                LocalDate.of(2022, 12, 9), LocalDate.of(2022, 12, 9)));
+
+        Order advancedOrder = new OrderBuilder(ORDER_B).withNextStatus("2023/03/01").build();
+        orderStatusIndex.set(ORDER_B, advancedOrder);
+        assertEquals(0, orderStatusIndex.countReachedBetween(StatusValue.PENDING, LocalDate.of(2023, 1, 1), null));
+        assertEquals(2, orderStatusIndex.countReachedBetween(StatusValue.PAID, null, null));
+    }
+
+    @Test
+    public void set_targetNotIndexed_nothingChanges() {
+        Order order = new OrderBuilder().withName("Unknown").build();
+        orderStatusIndex.set(order, ORDER_A);
+        assertEquals(2, orderStatusIndex.count(StatusValue.PENDING));
+        assertEquals(1, orderStatusIndex.count(StatusValue.PAID));
+    }
+
+    @Test
+    public void remove_countsUpdatedAndObserved() {
+        List<StatusValue> changedStatuses = new ArrayList<>();
+        orderStatusIndex.asUnmodifiableObservableCounts().addListener(
+                (MapChangeListener<StatusValue, Integer>) change -> changedStatuses.add(change.getKey()));
+
+        orderStatusIndex.remove(ORDER_C);
+        assertEquals(0, orderStatusIndex.count(StatusValue.SHIPPED));
+        assertEquals(List.of(StatusValue.SHIPPED), changedStatuses);
+
+        // removing an order that is not indexed does not fire any change
+        orderStatusIndex.remove(ORDER_C);
+        assertEquals(List.of(StatusValue.SHIPPED), changedStatuses);
+    }
+
+    @Test
+    public void getOrders_modifyView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                orderStatusIndex.getOrders(StatusValue.PENDING).remove(ORDER_B));
+        assertThrows(UnsupportedOperationException.class, () ->
+                orderStatusIndex.asUnmodifiableObservableCounts().put(StatusValue.PENDING, 0));
+    }
+}
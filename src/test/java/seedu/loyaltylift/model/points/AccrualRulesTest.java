@@ -0,0 +1,57 @@
+package seedu.loyaltylift.model.points;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.order.Quantity;
+
+public class AccrualRulesTest {
+
+    @Test
+    public void constructor_invalidPointsPerUnit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AccrualRules.MESSAGE_CONSTRAINTS, () ->
+                new AccrualRules(Map.of(CustomerType.INDIVIDUAL, -1)));
+        assertThrows(IllegalArgumentException.class, AccrualRules.MESSAGE_CONSTRAINTS, () ->
+                new AccrualRules(Map.of(CustomerType.INDIVIDUAL, AccrualRules.MAXIMUM_POINTS_PER_UNIT + 1)));
+    }
+
+    @Test
+    public void getPoints() {
+        AccrualRules rules = AccrualRules.NONE.withPointsPerUnit(CustomerType.ENTERPRISE, 3);
+
+        assertEquals(0, rules.getPoints(CustomerType.INDIVIDUAL, new Quantity(10)));
+        assertEquals(30, rules.getPoints(CustomerType.ENTERPRISE, new Quantity(10)));
+
+        // capped to the maximum points
+        AccrualRules generousRules = AccrualRules.NONE
+                .withPointsPerUnit(CustomerType.INDIVIDUAL, AccrualRules.MAXIMUM_POINTS_PER_UNIT);
+        assertEquals((int) Points.MAXIMUM_POINTS,
+                generousRules.getPoints(CustomerType.INDIVIDUAL, new Quantity(1000000)));
+    }
+
+    @Test
+    public void equals() {
+        AccrualRules rules = AccrualRules.NONE.withPointsPerUnit(CustomerType.INDIVIDUAL, 5);
+
+        // same values -> returns true
+        assertTrue(rules.equals(new AccrualRules(Map.of(CustomerType.INDIVIDUAL, 5))));
+        assertEquals(rules.hashCode(), new AccrualRules(Map.of(CustomerType.INDIVIDUAL, 5)).hashCode());
+
+        // missing points per unit are the same as no points -> returns true
+        assertTrue(AccrualRules.NONE.equals(new AccrualRules(Map.of(CustomerType.ENTERPRISE, 0))));
+
+        // null -> returns false
+        assertFalse(rules.equals(null));
+
+        // different points per unit -> returns false
+        assertFalse(rules.equals(AccrualRules.NONE));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.loyaltylift.model.points;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+
+public class PointsExpiryScheduleTest {
+
+    private static final String ALICE = "Alice Pauline";
+    private static final String BENSON = "Benson Meier";
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+    private static final int EXPIRY_DAYS = 30;
+
+    private final PointsExpirySchedule schedule = new PointsExpirySchedule(EXPIRY_DAYS);
+
+    @Test
+    public void constructor_negativeExpiryDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PointsExpirySchedule(-1));
+    }
+
+    @Test
+    public void getDue_grants_dueAfterExpiryDays() {
+        schedule.accept(change(ALICE, 0, 100, Reason.ADD_POINTS));
+        schedule.accept(change(BENSON, 5, 40, Reason.SET_POINTS));
+
+        assertEquals(Map.of(), schedule.getDue(START.plusDays(EXPIRY_DAYS - 1)));
+        assertEquals(Map.of(ALICE, 100), schedule.getDue(START.plusDays(EXPIRY_DAYS)));
+        assertEquals(Map.of(ALICE, 100, BENSON, 40), schedule.getDue(START.plusDays(EXPIRY_DAYS + 5)));
+    }
+
+    @Test
+    public void getDue_spentPoints_spentFromOldestGrant() {
+        schedule.accept(change(ALICE, 0, 100, Reason.ADD_POINTS));
+        schedule.accept(change(ALICE, 10, 50, Reason.ADD_POINTS));
+        schedule.accept(change(ALICE, 15, -120, Reason.ADD_POINTS));
+
+        // the first grant was spent entirely, and 30 points of the second grant remain
+        assertEquals(Map.of(), schedule.getDue(START.plusDays(EXPIRY_DAYS)));
+        assertEquals(Map.of(ALICE, 30), schedule.getDue(START.plusDays(EXPIRY_DAYS + 10)));
+    }
+
+    @Test
+    public void accept_expired_removesDueGrants() {
+        schedule.accept(change(ALICE, 0, 100, Reason.ADD_POINTS));
+        schedule.accept(change(ALICE, 10, 50, Reason.ADD_POINTS));
+        LocalDate firstExpiry = START.plusDays(EXPIRY_DAYS);
+        schedule.accept(new PointsLedgerEntry(ALICE, firstExpiry.atStartOfDay(), -100, 0, Reason.EXPIRED,
+                firstExpiry.toString()));
+
+        assertEquals(Map.of(), schedule.getDue(firstExpiry));
+        assertEquals(Map.of(ALICE, 50), schedule.getDue(START.plusDays(EXPIRY_DAYS + 10)));
+    }
+
+    @Test
+    public void accept_renamedAndRemoved_movesAndDropsGrants() {
+        schedule.accept(change(ALICE, 0, 100, Reason.ADD_POINTS));
+        schedule.accept(new PointsLedgerEntry(BENSON, START.plusDays(1).atStartOfDay(), 0, 0, Reason.RENAMED,
+                ALICE));
+        assertEquals(Map.of(BENSON, 100), schedule.getDue(START.plusDays(EXPIRY_DAYS)));
+
+        schedule.accept(new PointsLedgerEntry(BENSON, START.plusDays(2).atStartOfDay(), 0, 0, Reason.REMOVED, ""));
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    public void accept_noExpiry_neverDue() {
+        PointsExpirySchedule noExpirySchedule = new PointsExpirySchedule(PointsExpirySchedule.NO_EXPIRY);
+        noExpirySchedule.accept(change(ALICE, 0, 100, Reason.ADD_POINTS));
+        assertTrue(noExpirySchedule.isEmpty());
+        assertEquals(Map.of(), noExpirySchedule.getDue(START.plusYears(100)));
+    }
+
+    private static PointsLedgerEntry change(String uid, int days, int points, Reason reason) {
+        LocalDateTime timestamp = START.plusDays(days).atTime(12, 0);
+        return new PointsLedgerEntry(uid, timestamp, points, Math.max(points, 0), reason, "");
+    }
+}
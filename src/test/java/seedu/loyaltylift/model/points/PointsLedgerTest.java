@@ -0,0 +1,138 @@
+package seedu.loyaltylift.model.points;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.model.customer.Points;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+
+public class PointsLedgerTest {
+
+    private static final String ALICE = "Alice Pauline";
+    private static final String BENSON = "Benson Meier";
+    private static final LocalDateTime START = LocalDateTime.of(2023, 3, 1, 9, 0);
+
+    private final PointsLedger pointsLedger = new PointsLedger();
+
+    @Test
+    public void constructor() {
+        assertEquals(List.of(), pointsLedger.getEntries());
+        assertFalse(pointsLedger.hasHistory(ALICE));
+        assertEquals(new Points(0, 0), pointsLedger.getBalance(ALICE));
+    }
+
+    @Test
+    public void append_outOfOrder_throwsIllegalArgumentException() {
+        pointsLedger.append(entry(ALICE, 1, 100));
+        assertThrows(IllegalArgumentException.class, PointsLedger.MESSAGE_OUT_OF_ORDER, () ->
+                pointsLedger.append(entry(ALICE, 0, 100)));
+    }
+
+    @Test
+    public void append_changes_updatesBalance() {
+        pointsLedger.append(entry(ALICE, 0, 100));
+        pointsLedger.append(entry(BENSON, 1, 50));
+        pointsLedger.append(entry(ALICE, 2, -30));
+
+        assertEquals(new Points(70, 100), pointsLedger.getBalance(ALICE));
+        assertEquals(new Points(50, 50), pointsLedger.getBalance(BENSON));
+        assertEquals(3, pointsLedger.getEntries().size());
+    }
+
+    @Test
+    public void append_renamed_movesHistory() {
+        pointsLedger.append(entry(ALICE, 0, 100));
+        pointsLedger.append(new PointsLedgerEntry(BENSON, START.plusMinutes(1), 0, 0, Reason.RENAMED, ALICE));
+
+        assertFalse(pointsLedger.hasHistory(ALICE));
+        assertEquals(new Points(100, 100), pointsLedger.getBalance(BENSON));
+        assertEquals(1, pointsLedger.getHistoryAsOf(BENSON, START.plusMinutes(1)).size());
+    }
+
+    @Test
+    public void append_removed_dropsHistory() {
+        pointsLedger.append(entry(ALICE, 0, 100));
+        pointsLedger.append(new PointsLedgerEntry(ALICE, START.plusMinutes(1), 0, 0, Reason.REMOVED, ""));
+
+        assertFalse(pointsLedger.hasHistory(ALICE));
+        assertEquals(new Points(0, 0), pointsLedger.getBalance(ALICE));
+        // the entries themselves are kept
+        assertEquals(2, pointsLedger.getEntries().size());
+    }
+
+    @Test
+    public void hasAccrued_accruedOrder_followsRename() {
+        pointsLedger.append(new PointsLedgerEntry(ALICE, START, 20, 20, Reason.ACCRUED, "Cake|2023-03-01|2"));
+        assertTrue(pointsLedger.hasAccrued(ALICE, "Cake|2023-03-01|2"));
+        assertFalse(pointsLedger.hasAccrued(ALICE, "Cake|2023-03-01|3"));
+        assertFalse(pointsLedger.hasAccrued(BENSON, "Cake|2023-03-01|2"));
+
+        pointsLedger.append(new PointsLedgerEntry(BENSON, START.plusMinutes(1), 0, 0, Reason.RENAMED, ALICE));
+        assertTrue(pointsLedger.hasAccrued(BENSON, "Cake|2023-03-01|2"));
+        assertFalse(pointsLedger.hasAccrued(ALICE, "Cake|2023-03-01|2"));
+    }
+
+    @Test
+    public void getBalanceAsOf_acrossCheckpoints_matchesReplay() {
+        int entryCount = PointsLedger.CHECKPOINT_INTERVAL * 3 + 5;
+        for (int i = 0; i < entryCount; i++) {
+            pointsLedger.append(entry(ALICE, i, i + 1));
+        }
+
+        for (int i = 0; i < entryCount; i++) {
+            // i + 1 entries, adding 1, 2, ..., i + 1 points, are recorded up to minute i
+            int expectedPoints = (i + 1) * (i + 2) / 2;
+            assertEquals(new Points(expectedPoints, expectedPoints),
+                    pointsLedger.getBalanceAsOf(ALICE, START.plusMinutes(i)));
+            assertEquals(i + 1, pointsLedger.getHistoryAsOf(ALICE, START.plusMinutes(i)).size());
+        }
+        assertEquals(new Points(0, 0), pointsLedger.getBalanceAsOf(ALICE, START.minusMinutes(1)));
+        assertEquals(pointsLedger.getBalance(ALICE), pointsLedger.getBalanceAsOf(ALICE, START.plusDays(1)));
+    }
+
+    @Test
+    public void getBalanceAsOf_sameTimestamp_includesAllEntries() {
+        pointsLedger.append(entry(ALICE, 0, 100));
+        pointsLedger.append(entry(ALICE, 0, 20));
+        assertEquals(new Points(120, 120), pointsLedger.getBalanceAsOf(ALICE, START));
+    }
+
+    @Test
+    public void nextTimestamp() {
+        assertEquals(START, pointsLedger.nextTimestamp(START));
+        pointsLedger.append(entry(ALICE, 5, 100));
+        assertEquals(START.plusMinutes(5), pointsLedger.nextTimestamp(START));
+        assertEquals(START.plusMinutes(6), pointsLedger.nextTimestamp(START.plusMinutes(6)));
+    }
+
+    @Test
+    public void getEntries_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> pointsLedger.getEntries().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        PointsLedger otherLedger = new PointsLedger(List.of(entry(ALICE, 0, 100)));
+        pointsLedger.append(entry(ALICE, 0, 100));
+
+        assertTrue(pointsLedger.equals(otherLedger));
+        assertTrue(pointsLedger.equals(pointsLedger));
+        assertFalse(pointsLedger.equals(null));
+        assertFalse(pointsLedger.equals(new PointsLedger()));
+    }
+
+    /**
+     * Returns an entry adding {@code points} to the customer with {@code uid}, {@code minutes} after the start.
+     */
+    private static PointsLedgerEntry entry(String uid, int minutes, int points) {
+        return new PointsLedgerEntry(uid, START.plusMinutes(minutes), points, Math.max(points, 0),
+                Reason.ADD_POINTS, "");
+    }
+}
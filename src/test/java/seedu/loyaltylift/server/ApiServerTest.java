@@ -0,0 +1,181 @@
+package seedu.loyaltylift.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.loyaltylift.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.loyaltylift.logic.parser.CliSyntax.PREFIX_POINTS;
+import static seedu.loyaltylift.testutil.TypicalCustomers.AMY;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.loyaltylift.commons.util.JsonUtil;
+import seedu.loyaltylift.logic.LogicManager;
+import seedu.loyaltylift.logic.commands.AddCustomerCommand;
+import seedu.loyaltylift.logic.commands.AddPointsCommand;
+import seedu.loyaltylift.logic.commands.ClearCommand;
+import seedu.loyaltylift.model.Model;
+import seedu.loyaltylift.model.ModelManager;
+import seedu.loyaltylift.storage.JsonAddressBookStorage;
+import seedu.loyaltylift.storage.JsonPointsLedgerStorage;
+import seedu.loyaltylift.storage.JsonUserPrefsStorage;
+import seedu.loyaltylift.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonPointsLedgerStorage(temporaryFolder.resolve("pointsLedger.jsonl")));
+        server = new ApiServer(new LogicManager(model, storage), 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void postCommands_validBatch_executesInOrder() throws Exception {
+        String addCommand = AddCustomerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        String addPointsCommand = AddPointsCommand.COMMAND_WORD + " 1 " + PREFIX_POINTS + "100";
+        String body = JsonUtil.toCompactJsonString(Map.of("commands", List.of(addCommand, addPointsCommand)));
+
+        HttpURLConnection connection = request("POST", ApiServer.COMMANDS_PATH, body);
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(2, ((List<?>) readJson(connection).get("results")).size());
+        assertEquals(100, (int) model.getFilteredCustomerList().get(0).getPoints().value);
+
+        connection = request("GET", ApiServer.ADDRESS_BOOK_PATH, null);
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(readJson(connection).get("customers").toString().contains(VALID_NAME_AMY));
+    }
+
+    @Test
+    public void postCommands_failingCommand_returnsBadRequest() throws Exception {
+        String body = JsonUtil.toCompactJsonString(Map.of("commands", List.of("deletec 1")));
+        HttpURLConnection connection = request("POST", ApiServer.COMMANDS_PATH, body);
+        assertEquals(400, connection.getResponseCode());
+    }
+
+    @Test
+    public void postCommands_laterCommandFails_returnsResultsOfEarlierCommands() throws Exception {
+        String addCommand = AddCustomerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        String body = JsonUtil.toCompactJsonString(Map.of("commands", List.of(addCommand, "deletec 2", "deletec 1")));
+
+        HttpURLConnection connection = request("POST", ApiServer.COMMANDS_PATH, body);
+        assertEquals(400, connection.getResponseCode());
+        Map<?, ?> response = readJson(connection);
+        assertEquals(1, ((List<?>) response.get("results")).size());
+        assertEquals(1, response.get("failedCommand"));
+        // the command before the failed command stays executed, and the command after it is not executed
+        assertEquals(1, model.getFilteredCustomerList().size());
+    }
+
+    @Test
+    public void postCommands_invalidBody_returnsBadRequest() throws Exception {
+        HttpURLConnection connection = request("POST", ApiServer.COMMANDS_PATH, "not json");
+        assertEquals(400, connection.getResponseCode());
+        assertEquals(ApiServer.MESSAGE_INVALID_BATCH, readJson(connection).get("error"));
+    }
+
+    @Test
+    public void request_wrongMethodOrPath_returnsError() throws Exception {
+        assertEquals(405, request("GET", ApiServer.COMMANDS_PATH, null).getResponseCode());
+        assertEquals(404, request("GET", ApiServer.ADDRESS_BOOK_PATH + "/1", null).getResponseCode());
+    }
+
+    @Test
+    public void postCommands_fromBrowser_rejected() throws Exception {
+        model.addCustomer(AMY);
+        String body = JsonUtil.toCompactJsonString(Map.of("commands", List.of(ClearCommand.COMMAND_WORD)));
+        String requestLine = "POST " + ApiServer.COMMANDS_PATH + " HTTP/1.1";
+
+        // a simple request, which browsers send to other sites without asking them first
+        assertEquals(415, sendRaw(body, requestLine, "Host: localhost", "Content-Type: text/plain"));
+        assertEquals(403, sendRaw(body, requestLine, "Host: localhost", "Content-Type: application/json",
+                "Origin: http://example.com"));
+        // a host name that a web page made resolve to the loopback address
+        assertEquals(403, sendRaw(body, requestLine, "Host: example.com:" + server.getPort(),
+                "Content-Type: application/json"));
+        assertEquals(1, model.getFilteredCustomerList().size());
+
+        assertEquals(200, sendRaw(body, requestLine, "Host: 127.0.0.1:" + server.getPort(),
+                "Content-Type: application/json; charset=utf-8"));
+        assertEquals(0, model.getFilteredCustomerList().size());
+    }
+
+    private HttpURLConnection request(String method, String path, String body) throws IOException {
+        URL url = new URL("http", "localhost", server.getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Sends {@code body} after {@code requestLines} over a socket, as any client could, and returns the status of the
+     * response. Unlike {@code HttpURLConnection}, this can send any {@code Host} and {@code Origin}.
+     */
+    private int sendRaw(String body, String... requestLines) throws IOException {
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        String head = String.join("\r\n", requestLines) + "\r\nContent-Length: " + bodyBytes.length
+                + "\r\nConnection: close\r\n\r\n";
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream request = socket.getOutputStream();
+            request.write(head.getBytes(StandardCharsets.US_ASCII));
+            request.write(bodyBytes);
+            request.flush();
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII)).readLine();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private static Map<?, ?> readJson(HttpURLConnection connection) throws IOException {
+        InputStream responseBody = connection.getResponseCode() < 400
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        try (responseBody) {
+            return JsonUtil.fromJsonString(new String(responseBody.readAllBytes(), StandardCharsets.UTF_8),
+                    Map.class);
+        }
+    }
+}
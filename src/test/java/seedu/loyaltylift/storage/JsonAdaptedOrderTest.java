@@ -21,6 +21,7 @@ import seedu.loyaltylift.model.attribute.Address;
 import seedu.loyaltylift.model.attribute.Name;
 import seedu.loyaltylift.model.attribute.Note;
 import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.ReadOnlyLoyaltyTierAggregate;
 import seedu.loyaltylift.model.customer.exceptions.CustomerNotFoundException;
 import seedu.loyaltylift.model.order.CreatedDate;
 import seedu.loyaltylift.model.order.Order;
@@ -195,5 +196,10 @@ public class JsonAdaptedOrderTest {
         public ObservableList<Order> getOrderList() {
             return orders;
         }
+
+        @Override
+        public ReadOnlyLoyaltyTierAggregate getLoyaltyTierAggregate() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
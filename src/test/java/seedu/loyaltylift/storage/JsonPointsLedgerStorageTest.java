@@ -0,0 +1,133 @@
+package seedu.loyaltylift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.loyaltylift.commons.exceptions.DataConversionException;
+import seedu.loyaltylift.commons.util.FileUtil;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
+
+public class JsonPointsLedgerStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonPointsLedgerStorageTest");
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 3, 1, 9, 0);
+    private static final PointsLedgerEntry ADD_ALICE =
+            new PointsLedgerEntry("Alice Pauline", START, 100, 100, Reason.ADD_POINTS, "");
+    private static final PointsLedgerEntry SET_ALICE =
+            new PointsLedgerEntry("Alice Pauline", START.plusMinutes(5), -40, 0, Reason.SET_POINTS, "");
+    private static final PointsLedgerEntry RENAME_ALICE =
+            new PointsLedgerEntry("Alice Tan", START.plusMinutes(10), 0, 0, Reason.RENAMED, "Alice Pauline");
+
+    @TempDir
+    public Path testFolder;
+
+    private PointsLedger readPointsLedger(String fileInTestDataFolder) throws Exception {
+        return new JsonPointsLedgerStorage(TEST_DATA_FOLDER.resolve(fileInTestDataFolder)).readPointsLedger().get();
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonPointsLedgerStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.jsonl"))
+                .readPointsLedger().isPresent());
+    }
+
+    @Test
+    public void read_invalidEntry_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readPointsLedger("invalidEntryPointsLedger.jsonl"));
+    }
+
+    @Test
+    public void read_outOfOrderEntries_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readPointsLedger("outOfOrderPointsLedger.jsonl"));
+    }
+
+    @Test
+    public void readAndAppend_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempPointsLedger.jsonl");
+        JsonPointsLedgerStorage storage = new JsonPointsLedgerStorage(filePath);
+
+        // Append to new file and read back
+        storage.appendPointsLedgerEntries(List.of(ADD_ALICE));
+        assertEquals(new PointsLedger(List.of(ADD_ALICE)), storage.readPointsLedger().get());
+
+        // Append more entries and read back
+        storage.appendPointsLedgerEntries(List.of(SET_ALICE, RENAME_ALICE));
+        assertEquals(new PointsLedger(List.of(ADD_ALICE, SET_ALICE, RENAME_ALICE)), storage.readPointsLedger().get());
+
+        // Appending nothing leaves the ledger unchanged
+        storage.appendPointsLedgerEntries(List.of());
+        assertEquals(3, storage.readPointsLedger().get().getEntries().size());
+    }
+
+    @Test
+    public void read_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TornPointsLedger.jsonl");
+        JsonPointsLedgerStorage storage = new JsonPointsLedgerStorage(filePath);
+        storage.appendPointsLedgerEntries(List.of(ADD_ALICE));
+        FileUtil.appendToFile(filePath, "{\"customer\":\"Alice Pauline\",\"times");
+
+        assertEquals(new PointsLedger(List.of(ADD_ALICE)), storage.readPointsLedger().get());
+
+        // entries appended afterwards are not corrupted by the discarded entry
+        storage.appendPointsLedgerEntries(List.of(SET_ALICE));
+        assertEquals(new PointsLedger(List.of(ADD_ALICE, SET_ALICE)), storage.readPointsLedger().get());
+    }
+
+    @Test
+    public void appendPointsLedgerEntries_failsMidway_retryLeavesEachEntryOnce() throws Exception {
+        Path filePath = testFolder.resolve("FailingPointsLedger.jsonl");
+        FailingOnceStorage storage = new FailingOnceStorage(filePath);
+        storage.appendPointsLedgerEntries(List.of(ADD_ALICE));
+        String contentBeforeFailure = FileUtil.readFromFile(filePath);
+
+        // the first entry and part of the second are written before the append fails
+        storage.isFailing = true;
+        assertThrows(IOException.class, () -> storage.appendPointsLedgerEntries(List.of(SET_ALICE, RENAME_ALICE)));
+        assertEquals(contentBeforeFailure, FileUtil.readFromFile(filePath));
+
+        storage.appendPointsLedgerEntries(List.of(SET_ALICE, RENAME_ALICE));
+        assertEquals(new PointsLedger(List.of(ADD_ALICE, SET_ALICE, RENAME_ALICE)), storage.readPointsLedger().get());
+    }
+
+    @Test
+    public void appendPointsLedgerEntries_nullEntries_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonPointsLedgerStorage(testFolder.resolve("NullPointsLedger.jsonl"))
+                        .appendPointsLedgerEntries(null));
+    }
+
+    /**
+     * A storage whose next append can be made to fail after writing part of the entries, as when the disk fills.
+     */
+    private static class FailingOnceStorage extends JsonPointsLedgerStorage {
+        private boolean isFailing = false;
+
+        FailingOnceStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        void appendLines(String lines) throws IOException {
+            if (!isFailing) {
+                super.appendLines(lines);
+                return;
+            }
+            isFailing = false;
+            int secondLineStart = lines.indexOf('\n') + 1;
+            super.appendLines(lines.substring(0, secondLineStart + (lines.length() - secondLineStart) / 2));
+            throw new IOException("dummy exception");
+        }
+    }
+}
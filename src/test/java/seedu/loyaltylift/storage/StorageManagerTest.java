@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.loyaltylift.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,9 @@ import seedu.loyaltylift.commons.core.GuiSettings;
 import seedu.loyaltylift.model.AddressBook;
 import seedu.loyaltylift.model.ReadOnlyAddressBook;
 import seedu.loyaltylift.model.UserPrefs;
+import seedu.loyaltylift.model.points.PointsLedger;
+import seedu.loyaltylift.model.points.PointsLedgerEntry;
+import seedu.loyaltylift.model.points.PointsLedgerEntry.Reason;
 
 public class StorageManagerTest {
 
@@ -26,7 +31,8 @@ public class StorageManagerTest {
     public void setUp() {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        JsonPointsLedgerStorage pointsLedgerStorage = new JsonPointsLedgerStorage(getTempFilePath("ledger"));
+        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, pointsLedgerStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -65,4 +71,22 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void pointsLedgerReadAppend() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonPointsLedgerStorage} class.
+         * More extensive testing of points ledger reading/appending is done in {@link JsonPointsLedgerStorageTest}.
+         */
+        PointsLedgerEntry entry = new PointsLedgerEntry("Alice Pauline", LocalDateTime.of(2023, 3, 1, 9, 30),
+                100, 100, Reason.ADD_POINTS, "");
+        storageManager.appendPointsLedgerEntries(List.of(entry));
+        assertEquals(new PointsLedger(List.of(entry)), storageManager.readPointsLedger().get());
+    }
+
+    @Test
+    public void getPointsLedgerFilePath() {
+        assertNotNull(storageManager.getPointsLedgerFilePath());
+    }
+
 }
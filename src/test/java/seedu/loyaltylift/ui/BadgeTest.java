@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import javafx.scene.paint.Color;
+import seedu.loyaltylift.model.customer.TierDefinitions;
 
 public class BadgeTest {
 
@@ -16,7 +17,7 @@ public class BadgeTest {
 
     @Test
     public void createPointsBadge_nullPoints_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> Badge.createPointsBadge(null));
+        assertThrows(NullPointerException.class, () -> Badge.createPointsBadge(null, TierDefinitions.DEFAULT));
     }
 
     @Test
@@ -0,0 +1,62 @@
+package seedu.loyaltylift.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.loyaltylift.testutil.Assert.assertThrows;
+
+import java.net.URL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.loyaltylift.MainApp;
+
+public class FxmlTemplateCacheTest {
+
+    private static final String VALID_FILE_PATH = "/view/UiPartTest/validFile.fxml";
+    private static final String INVALID_FILE_PATH = "/view/UiPartTest/invalidFile.fxml";
+    private static final TestFxmlObject VALID_FILE_ROOT = new TestFxmlObject("Hello World!");
+
+    // loads the documents on the calling thread
+    private final FxmlTemplateCache cache = new FxmlTemplateCache(Runnable::run);
+
+    @Test
+    public void preload_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> cache.preload(getTestFileUrl(VALID_FILE_PATH), 0));
+    }
+
+    @Test
+    public void take_notPreloaded_returnsNull() {
+        assertNull(cache.take(getTestFileUrl(VALID_FILE_PATH)));
+    }
+
+    @Test
+    public void take_preloaded_returnsLoadedHierarchy() {
+        URL location = getTestFileUrl(VALID_FILE_PATH);
+        cache.preload(location, 1);
+
+        FxmlTemplateCache.LoadedFxml loadedFxml = cache.take(location);
+        assertEquals(VALID_FILE_ROOT, loadedFxml.getRoot());
+        assertSame(loadedFxml.getRoot(), loadedFxml.getNamespace().get("validFileRoot"));
+
+        // loaded again for the next take
+        FxmlTemplateCache.LoadedFxml nextLoadedFxml = cache.take(location);
+        assertNotNull(nextLoadedFxml);
+        assertNotSame(loadedFxml.getRoot(), nextLoadedFxml.getRoot());
+    }
+
+    @Test
+    public void take_invalidFilePreloaded_returnsNull() {
+        URL location = getTestFileUrl(INVALID_FILE_PATH);
+        cache.preload(location, 1);
+        assertNull(cache.take(location));
+    }
+
+    private URL getTestFileUrl(String testFilePath) {
+        URL testFileUrl = MainApp.class.getResource(testFilePath);
+        assertNotNull(testFileUrl, testFilePath + " does not exist.");
+        return testFileUrl;
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.loyaltylift.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import seedu.loyaltylift.model.customer.Customer;
+import seedu.loyaltylift.model.customer.CustomerType;
+import seedu.loyaltylift.model.customer.TierDefinitions;
+import seedu.loyaltylift.model.order.Order;
+import seedu.loyaltylift.testutil.CustomerBuilder;
+import seedu.loyaltylift.testutil.OrderBuilder;
+
+/**
+ * Measures the time taken to lay out the customer and order lists in each frame while they are scrolled, which is
+ * dominated by the cells displaying the items scrolled into view.
+ * Run with {@code gradlew scrollBenchmark}; it opens a window for each list and prints the frame times.
+ */
+public class ListScrollBenchmark {
+
+    private static final int ITEM_COUNT = 5000;
+    private static final int ROWS_PER_FRAME = 7;
+    private static final int WARM_UP_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 600;
+
+    public static void main(String[] args) {
+        // the toolkit is kept running between the windows, and exits after the last list is measured
+        Platform.setImplicitExit(false);
+        Platform.startup(() -> {
+            List<Customer> customers = new ArrayList<>();
+            List<Order> orders = new ArrayList<>();
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                Customer customer = new CustomerBuilder().withName("Customer " + i)
+                        .withPhone(String.valueOf(80000000 + i))
+                        .withCustomerType(i % 2 == 0 ? CustomerType.INDIVIDUAL : CustomerType.ENTERPRISE)
+                        .withPoints(i % 1000, i)
+                        .withMarked(i % 3 == 0)
+                        .build();
+                customers.add(customer);
+                orders.add(new OrderBuilder().withCustomer(customer).withName("Order " + i).build());
+            }
+
+            CustomerListPanel customerListPanel = new CustomerListPanel(FXCollections.observableArrayList(customers),
+                    new SimpleObjectProperty<>(TierDefinitions.DEFAULT), customer -> { });
+            OrderListPanel orderListPanel = new OrderListPanel(FXCollections.observableArrayList(orders), order -> { });
+
+            scroll("Customer list", customerListPanel.getRoot(), "#customerListView", () ->
+                    scroll("Order list", orderListPanel.getRoot(), "#orderListView", Platform::exit));
+        });
+    }
+
+    /**
+     * Scrolls the list in {@code root} through its items one frame at a time, prints the frame times, and then
+     * runs {@code onFinish}.
+     */
+    private static void scroll(String title, Region root, String listViewSelector, Runnable onFinish) {
+        Stage stage = new Stage();
+        stage.setTitle(title);
+        stage.setScene(new Scene(root, 600, 800));
+        stage.show();
+
+        ListView<?> listView = (ListView<?>) root.lookup(listViewSelector);
+        long[] layoutNanos = new long[MEASURED_FRAMES];
+        long[] frameNanos = new long[MEASURED_FRAMES];
+
+        new AnimationTimer() {
+            private int frame = 0;
+            private long lastFrameStart = 0;
+
+            @Override
+            public void handle(long now) {
+                int row = (frame * ROWS_PER_FRAME) % listView.getItems().size();
+                long start = System.nanoTime();
+                listView.scrollTo(row);
+                listView.layout();
+                long layoutTime = System.nanoTime() - start;
+
+                int measuredFrame = frame - WARM_UP_FRAMES;
+                if (measuredFrame >= 0) {
+                    layoutNanos[measuredFrame] = layoutTime;
+                    frameNanos[measuredFrame] = now - lastFrameStart;
+                }
+                lastFrameStart = now;
+                frame++;
+
+                if (measuredFrame + 1 == MEASURED_FRAMES) {
+                    stop();
+                    stage.close();
+                    System.out.println(title + ": " + MEASURED_FRAMES + " frames, "
+                            + ROWS_PER_FRAME + " rows per frame");
+                    System.out.println("  layout: " + describe(layoutNanos));
+                    System.out.println("  frame:  " + describe(frameNanos));
+                    onFinish.run();
+                }
+            }
+        }.start();
+    }
+
+    private static String describe(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        return String.format("mean %.2f ms, p50 %.2f ms, p95 %.2f ms, max %.2f ms", mean / 1e6,
+                sorted[sorted.length / 2] / 1e6, sorted[sorted.length * 95 / 100] / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+}